@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.mediators.cors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.mediators.AbstractMediator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sets the CORS response headers from the configuration the CORS request handler resolved, e.g.
+ * <pre>
+ * &lt;class name="org.wso2.am.mediators.cors.CorsHeadersMediator"/&gt;
+ * </pre>
+ * It sets the same headers the filters of the _cors_request_handler_ sequence used to, without evaluating an XPath
+ * expression per message. When the message is a preflight the {@link CorsPreflightHandler} could not answer from its
+ * cache, the header set is cached unless the request failed.
+ */
+public class CorsHeadersMediator extends AbstractMediator {
+
+    private static final Log log = LogFactory.getLog(CorsHeadersMediator.class);
+    private static final String HTTP_METHOD = "api.ut.HTTP_METHOD";
+    private static final String OPTIONS = "OPTIONS";
+    private static final String ERROR_CODE = "ERROR_CODE";
+
+    @Override
+    public boolean mediate(MessageContext synCtx) {
+
+        CorsHeaderSet headerSet = CorsHeaderSet.fromContext(synCtx);
+        if (!headerSet.isEnabled()) {
+            return true;
+        }
+        headerSet.apply(getTransportHeaders(synCtx), OPTIONS.equals(CorsHeaderSet.getProperty(synCtx, HTTP_METHOD)));
+
+        Object pending = synCtx.getProperty(CorsPreflightHandler.PENDING_PREFLIGHT);
+        if (pending instanceof CorsPreflightCache.PendingPreflight) {
+            synCtx.getPropertyKeySet().remove(CorsPreflightHandler.PENDING_PREFLIGHT);
+            if (!synCtx.isResponse() && synCtx.getProperty(ERROR_CODE) == null) {
+                ((CorsPreflightCache.PendingPreflight) pending).complete(headerSet);
+                if (log.isDebugEnabled()) {
+                    log.debug("Cached the CORS headers of the preflight to " + synCtx.getProperty(
+                            CorsPreflightHandler.SUB_REQUEST_PATH));
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the transport headers of a message, which are created if the message has none, as the property
+     * mediator does
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> getTransportHeaders(MessageContext synCtx) {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) synCtx).getAxis2MessageContext();
+        Object headers = axis2MessageContext.getProperty(
+                org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
+        if (headers instanceof Map) {
+            return (Map<String, Object>) headers;
+        }
+        Map<String, Object> transportHeaders = new HashMap<>();
+        axis2MessageContext.setProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS, transportHeaders);
+        return transportHeaders;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.mediators.cors;
+
+import org.apache.axis2.Constants;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.api.API;
+import org.apache.synapse.api.Resource;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.rest.AbstractHandler;
+import org.apache.synapse.rest.RESTConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.Utils;
+
+import java.util.Map;
+
+/**
+ * Answers a CORS preflight request from the header set an identical preflight to the API was answered with, without
+ * entering the authentication, throttling and CORS handlers or the _cors_request_handler_ sequence. The first
+ * preflight of each resource path, origin, requested method and requested headers is answered by the CORS request
+ * handler as before, and the {@link CorsHeadersMediator} caches the header set it responded with.
+ * <p>
+ * The handler is the first handler of each API, so the cache is dropped when the API is redeployed. Preflights of an
+ * API with an OPTIONS resource reach its backend and are never cached.
+ */
+public class CorsPreflightHandler extends AbstractHandler {
+
+    private static final Log log = LogFactory.getLog(CorsPreflightHandler.class);
+
+    static final String PENDING_PREFLIGHT = "CORS_PENDING_PREFLIGHT";
+    static final String SUB_REQUEST_PATH = RESTConstants.REST_SUB_REQUEST_PATH;
+    private static final String OPTIONS = "OPTIONS";
+    private static final String ORIGIN = "Origin";
+    private static final String REQUEST_METHOD = "Access-Control-Request-Method";
+    private static final String REQUEST_HEADERS = "Access-Control-Request-Headers";
+    private static final int MAX_ENTRIES = 1000;
+
+    private final CorsPreflightCache cache = new CorsPreflightCache(MAX_ENTRIES);
+    private volatile Boolean cacheable;
+
+    @Override
+    public boolean handleRequest(MessageContext messageContext) {
+
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        if (!OPTIONS.equals(axis2MessageContext.getProperty(Constants.Configuration.HTTP_METHOD))) {
+            return true;
+        }
+        Map<String, Object> transportHeaders = CorsHeadersMediator.getTransportHeaders(messageContext);
+        Object origin = transportHeaders.get(ORIGIN);
+        Object requestMethod = transportHeaders.get(REQUEST_METHOD);
+        Object path = messageContext.getProperty(SUB_REQUEST_PATH);
+        if (origin == null || requestMethod == null || path == null || !isCacheable(messageContext)) {
+            return true;
+        }
+        Object requestHeaders = transportHeaders.get(REQUEST_HEADERS);
+        String key = CorsPreflightCache.key(path.toString(), origin.toString(), requestMethod.toString(),
+                requestHeaders != null ? requestHeaders.toString() : null);
+        CorsHeaderSet headerSet = cache.get(key);
+        if (headerSet == null) {
+            messageContext.setProperty(PENDING_PREFLIGHT, new CorsPreflightCache.PendingPreflight(cache, key));
+            return true;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Answering the preflight to " + path + " from " + origin + " from the cache");
+        }
+        headerSet.apply(transportHeaders, true);
+        Utils.send(messageContext, HttpStatus.SC_OK);
+        return false;
+    }
+
+    @Override
+    public boolean handleResponse(MessageContext messageContext) {
+
+        return true;
+    }
+
+    /**
+     * @return whether none of the resources of the API accepts OPTIONS requests
+     */
+    private boolean isCacheable(MessageContext messageContext) {
+
+        Boolean isCacheable = cacheable;
+        if (isCacheable == null) {
+            Object apiName = messageContext.getProperty(RESTConstants.SYNAPSE_REST_API);
+            API api = apiName != null ? messageContext.getConfiguration().getAPI(apiName.toString()) : null;
+            if (api == null) {
+                return false;
+            }
+            isCacheable = Boolean.TRUE;
+            for (Resource resource : api.getResources()) {
+                String[] methods = resource.getMethods();
+                // a resource without methods accepts any method
+                if (methods == null || methods.length == 0) {
+                    isCacheable = Boolean.FALSE;
+                    break;
+                }
+                for (String method : methods) {
+                    if (OPTIONS.equals(method)) {
+                        isCacheable = Boolean.FALSE;
+                    }
+                }
+            }
+            cacheable = isCacheable;
+        }
+        return isCacheable;
+    }
+}
@@ -0,0 +1,120 @@
+#!/bin/sh
+# ----------------------------------------------------------------------------
+#  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+#
+#  Licensed under the Apache License, Version 2.0 (the "License");
+#  you may not use this file except in compliance with the License.
+#  You may obtain a copy of the License at
+#
+#      http://www.apache.org/licenses/LICENSE-2.0
+#
+#  Unless required by applicable law or agreed to in writing, software
+#  distributed under the License is distributed on an "AS IS" BASIS,
+#  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  See the License for the specific language governing permissions and
+#  limitations under the License.
+
+# ----------------------------------------------------------------------------
+# ----------------------------------------------------------------------------
+# Class data sharing archives, sourced by the server startup script.
+#
+# A training run records the classes loaded while the server starts into a
+# dynamic class data sharing archive of the profile it is started with:
+#
+#   sh api-manager.sh --cds-train -Dprofile=<profile>
+#
+# The server is stopped CDS_TRAIN_WARMUP seconds (30 by default) after it has
+# started, so classes loaded by the first requests are recorded too, and the
+# JVM writes the archive to repository/resources/cds/<profile>.jsa as it
+# exits. Later starts of the same profile map the archive when the JDK and the
+# jars of the class path are the ones it was recorded with, and start without
+# it otherwise. CDS_ARCHIVE=false disables the archive, and CDS_LOG=<file>
+# logs where each class is loaded from to <file> when the archive is used,
+# classes loaded from the archive coming from "shared objects file (top)".
+#
+# Only the classes of the JDK and of the class path of the launcher can be
+# archived, the JVM does not share the classes of the OSGi bundles. Archives
+# require JDK 13 or later.
+# ----------------------------------------------------------------------------
+
+cds_profile_name() {
+    profile=default
+    for arg in "$@"; do
+        case "$arg" in
+            -Dprofile=*)
+                profile=${arg#-Dprofile=}
+                ;;
+        esac
+    done
+    echo "$profile"
+}
+
+# Identifies the JDK and the jars of the class path an archive is valid for.
+cds_stamp() {
+    {
+        "$JAVACMD" -version 2>&1
+        echo "$CARBON_CLASSPATH:$CARBON_XBOOTCLASSPATH" | tr ':' '\n' | while read -r jar; do
+            if [ -n "$jar" ]; then
+                ls -lL "$jar" 2>/dev/null
+            fi
+        done
+    } | cksum | awk '{ print $1 "-" $2 }'
+}
+
+# Stops the server once it has started, unless the launcher with process id $1
+# exits first or the server does not start within CDS_TRAIN_TIMEOUT seconds.
+cds_stop_after_startup() {
+    carbon_log="$CARBON_HOME/repository/logs/wso2carbon.log"
+    offset=0
+    if [ -f "$carbon_log" ]; then
+        offset=`wc -l < "$carbon_log"`
+    fi
+    waited=0
+    while kill -0 "$1" 2>/dev/null && [ "$waited" -lt "${CDS_TRAIN_TIMEOUT:-600}" ]; do
+        if [ -f "$carbon_log" ] && tail -n +$((offset + 1)) "$carbon_log" | grep -q "WSO2 Carbon started in"; then
+            sleep "${CDS_TRAIN_WARMUP:-30}"
+            echo "Stopping the server to write the class data sharing archive"
+            kill -TERM `cat "$CARBON_HOME/wso2carbon.pid"`
+            return 0
+        fi
+        sleep 2
+        waited=$((waited + 2))
+    done
+    echo "Error: the server did not start within ${CDS_TRAIN_TIMEOUT:-600} seconds, no class data sharing archive is recorded"
+}
+
+# Sets CDS_OPTS to record the archive of the profile selected in the server
+# arguments following $1 when $1 is true, or to map the archive when it is
+# present and valid. CDS_OPTS is empty otherwise.
+cds_configure() {
+    CDS_OPTS=""
+    train=$1
+    shift
+    cds_dir="$CARBON_HOME/repository/resources/cds"
+    archive="$cds_dir/`cds_profile_name "$@"`.jsa"
+    if [ "$java_version_formatted" -lt 1300 ]; then
+        if [ "$train" = true ]; then
+            echo "Error: class data sharing archives require JDK 13 or later"
+            exit 1
+        fi
+        return 0
+    fi
+    if [ "$train" = true ]; then
+        mkdir -p "$cds_dir"
+        rm -f "$archive" "$archive.stamp"
+        cds_stamp > "$archive.stamp"
+        CDS_OPTS="-XX:ArchiveClassesAtExit=$archive"
+        echo "Recording the class data sharing archive $archive"
+        cds_stop_after_startup $$ &
+    elif [ "$CDS_ARCHIVE" != false ] && [ -f "$archive" ] && [ -f "$archive.stamp" ]; then
+        if [ "`cat "$archive.stamp"`" = "`cds_stamp`" ]; then
+            CDS_OPTS="-XX:SharedArchiveFile=$archive -Xshare:auto"
+            if [ -n "$CDS_LOG" ]; then
+                CDS_OPTS="$CDS_OPTS -Xlog:class+load=info:file=$CDS_LOG"
+            fi
+            echo "Using the class data sharing archive $archive"
+        else
+            echo "Not using the class data sharing archive $archive, the JDK or the libraries changed since it was recorded. Record it again with --cds-train"
+        fi
+    fi
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.mediators.fault;
+
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.Constants;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.SynapseException;
+import org.apache.synapse.commons.json.JsonUtil;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.mediators.AbstractMediator;
+
+/**
+ * Renders the error response of a default fault sequence, e.g.
+ * <pre>
+ * &lt;class name="org.wso2.am.mediators.fault.FaultResponseMediator"&gt;
+ *     &lt;property name="template" value="throttle-out"/&gt;
+ * &lt;/class&gt;
+ * </pre>
+ * A SOAP 1.1 fault is built when the request was a SOAP message, and a JSON body otherwise. POST, PUT and PATCH
+ * requests keep their message type, so that e.g. an XML POST gets the error as XML, unless the template always
+ * responds with JSON, as token-fault does. Both come from a
+ * {@link FaultTemplate} compiled when the sequence is deployed, so no XPath is evaluated per message, which matters
+ * when the gateway rejects traffic at a high rate.
+ */
+public class FaultResponseMediator extends AbstractMediator {
+
+    private static final Log log = LogFactory.getLog(FaultResponseMediator.class);
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String MESSAGE_FORMAT = "MESSAGE_FORMAT";
+    private static final String SOAP_FAULT_CODE = "SOAP_FAULT_CODE";
+    private static final String HTTP_SC = "HTTP_SC";
+    private static final String HTTP_METHOD = "HTTP_METHOD";
+
+    private FaultTemplate template;
+
+    /**
+     * @param templateName name of the {@link FaultTemplate} to render
+     */
+    public void setTemplate(String templateName) {
+
+        FaultTemplate faultTemplate = FaultTemplate.forName(templateName);
+        if (faultTemplate == null) {
+            throw new SynapseException("Unknown fault response template: " + templateName);
+        }
+        this.template = faultTemplate;
+    }
+
+    public String getTemplate() {
+
+        return template != null ? template.getTemplateName() : null;
+    }
+
+    @Override
+    public boolean mediate(MessageContext synCtx) {
+
+        if (template == null) {
+            handleException("The template of the fault response mediator is not set", synCtx);
+        }
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) synCtx).getAxis2MessageContext();
+        try {
+            SoapFaultTemplate soapFault = template.getSoapFault();
+            if (soapFault != null && isSoapMessage(synCtx)) {
+                synCtx.setProperty(SOAP_FAULT_CODE, soapFault.getFaultCode());
+                JsonUtil.removeJsonPayload(axis2MessageContext);
+                synCtx.setEnvelope(soapFault.render(synCtx));
+                axis2MessageContext.setProcessingFault(true);
+            } else {
+                JsonUtil.getNewJsonPayload(axis2MessageContext, template.getJson().render(synCtx), true, true);
+                if (soapFault == null || !hasEntityMethod(axis2MessageContext)) {
+                    axis2MessageContext.setProperty(Constants.Configuration.MESSAGE_TYPE, JSON_CONTENT_TYPE);
+                    axis2MessageContext.setProperty(Constants.Configuration.CONTENT_TYPE, JSON_CONTENT_TYPE);
+                }
+            }
+        } catch (AxisFault e) {
+            handleException("Error while building the " + template.getTemplateName() + " fault response", e,
+                    synCtx);
+        }
+        String statusCode = template.getStatusCode(synCtx);
+        if (statusCode != null) {
+            axis2MessageContext.setProperty(HTTP_SC, statusCode);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Built the response of the " + template.getTemplateName() + " fault template with status "
+                    + statusCode);
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent of the {@code get-property('MESSAGE_FORMAT')} filter with the regex soap1[1-2].
+     */
+    private static boolean isSoapMessage(MessageContext synCtx) {
+
+        Object messageFormat = synCtx.getProperty(MESSAGE_FORMAT);
+        return "soap11".equals(messageFormat) || "soap12".equals(messageFormat);
+    }
+
+    /**
+     * Negation of the {@code $axis2:HTTP_METHOD} filter with the regex ^(?!.*(POST|PUT|PATCH)).*$.
+     */
+    private static boolean hasEntityMethod(org.apache.axis2.context.MessageContext axis2MessageContext) {
+
+        Object httpMethod = axis2MessageContext.getProperty(HTTP_METHOD);
+        return httpMethod != null && (httpMethod.toString().contains("POST") || httpMethod.toString().contains("PUT")
+                || httpMethod.toString().contains("PATCH"));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.mediators.fault;
+
+import org.apache.synapse.MessageContext;
+
+/**
+ * The error responses of the default fault sequences. Each renders the same JSON body and SOAP fault the
+ * {@code payloadFactory} and {@code makefault} mediators of its sequence used to, and sets the same status code.
+ */
+public enum FaultTemplate {
+
+    /**
+     * The _throttle_out_handler_ sequence. The status code is set by the throttle handler.
+     */
+    THROTTLE_OUT("throttle-out",
+            JsonFaultTemplate.builder()
+                    .property("code", FaultTemplate.ERROR_CODE)
+                    .property("message", FaultTemplate.ERROR_MESSAGE)
+                    .property("description", FaultTemplate.ERROR_DETAIL)
+                    .optionalProperty("nextAccessTime", "NEXT_ACCESS_UTC_TIME")
+                    .build(),
+            new SoapFaultTemplate("Server", null, FaultTemplate.ERROR_MESSAGE, FaultTemplate.ERROR_DETAIL),
+            null, null),
+
+    /**
+     * The _auth_failure_handler_ sequence.
+     */
+    AUTH_FAILURE("auth-failure", FaultTemplate.errorBody(),
+            new SoapFaultTemplate("Client", "Authentication Failure", null, FaultTemplate.ERROR_MESSAGE),
+            "HTTP_RESPONSE_STATUS_CODE", "401"),
+
+    /**
+     * The _backend_failure_handler_ sequence, which responds the way the _auth_failure_handler_ does.
+     */
+    BACKEND_FAILURE("backend-failure", FaultTemplate.errorBody(),
+            new SoapFaultTemplate("Client", "Authentication Failure", null, FaultTemplate.ERROR_MESSAGE),
+            "HTTP_RESPONSE_STATUS_CODE", "401"),
+
+    /**
+     * The fault sequence.
+     */
+    FAULT("fault", FaultTemplate.runtimeErrorBody(),
+            new SoapFaultTemplate("Server", null, FaultTemplate.ERROR_MESSAGE, null),
+            "CUSTOM_HTTP_SC", "500"),
+
+    /**
+     * The _token_fault_ sequence, which always responds with JSON.
+     */
+    TOKEN_FAULT("token-fault", FaultTemplate.runtimeErrorBody(), null, "CUSTOM_HTTP_SC", "500");
+
+    static final String ERROR_CODE = "ERROR_CODE";
+    static final String ERROR_MESSAGE = "ERROR_MESSAGE";
+    static final String ERROR_DETAIL = "ERROR_DETAIL";
+
+    private final String templateName;
+    private final JsonFaultTemplate json;
+    private final SoapFaultTemplate soapFault;
+    private final String statusCodeProperty;
+    private final String defaultStatusCode;
+
+    FaultTemplate(String templateName, JsonFaultTemplate json, SoapFaultTemplate soapFault,
+                  String statusCodeProperty, String defaultStatusCode) {
+
+        this.templateName = templateName;
+        this.json = json;
+        this.soapFault = soapFault;
+        this.statusCodeProperty = statusCodeProperty;
+        this.defaultStatusCode = defaultStatusCode;
+    }
+
+    private static JsonFaultTemplate errorBody() {
+
+        return JsonFaultTemplate.builder()
+                .property("code", ERROR_CODE)
+                .property("message", ERROR_MESSAGE)
+                .property("description", ERROR_DETAIL)
+                .build();
+    }
+
+    private static JsonFaultTemplate runtimeErrorBody() {
+
+        return JsonFaultTemplate.builder()
+                .property("code", ERROR_CODE)
+                .constant("type", "Status report")
+                .constant("message", "Runtime Error")
+                .property("description", ERROR_MESSAGE)
+                .build();
+    }
+
+    /**
+     * Looks up a template by the name the fault sequences refer to it with.
+     *
+     * @param templateName name of the template, e.g. throttle-out
+     * @return the template, or null if there is no template of that name
+     */
+    public static FaultTemplate forName(String templateName) {
+
+        for (FaultTemplate template : values()) {
+            if (template.templateName.equals(templateName)) {
+                return template;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the value of a property as a string, or an empty string if it is not set
+     */
+    static String getProperty(MessageContext synCtx, String property) {
+
+        Object value = synCtx.getProperty(property);
+        return value == null ? "" : value.toString();
+    }
+
+    public String getTemplateName() {
+
+        return templateName;
+    }
+
+    public JsonFaultTemplate getJson() {
+
+        return json;
+    }
+
+    /**
+     * @return the SOAP fault, or null if the template always responds with JSON
+     */
+    public SoapFaultTemplate getSoapFault() {
+
+        return soapFault;
+    }
+
+    /**
+     * @return the status code of the response, or null if the template does not set one
+     */
+    public String getStatusCode(MessageContext synCtx) {
+
+        if (statusCodeProperty != null) {
+            String statusCode = getProperty(synCtx, statusCodeProperty);
+            if (!statusCode.isEmpty()) {
+                return statusCode;
+            }
+        }
+        return defaultStatusCode;
+    }
+}
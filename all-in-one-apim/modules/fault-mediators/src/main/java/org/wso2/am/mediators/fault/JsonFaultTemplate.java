@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.mediators.fault;
+
+import org.apache.synapse.MessageContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A JSON error body made of string fields, each either a constant or the value of a message context property. The
+ * template is compiled once: the key of every field, and the whole of every constant field, are encoded up front,
+ * so rendering a body only looks up and escapes the property values.
+ * <p>
+ * A property that is not set renders as an empty string, the way a {@code $ctx:} argument of the payload factory
+ * mediator does. An optional field is left out when its property is not set or empty.
+ */
+public final class JsonFaultTemplate {
+
+    private final Field[] fields;
+    private final int estimatedLength;
+
+    private JsonFaultTemplate(List<Field> fields) {
+
+        this.fields = fields.toArray(new Field[0]);
+        int length = 2;
+        for (Field field : this.fields) {
+            length += field.prefix.length() + 32;
+        }
+        this.estimatedLength = length;
+    }
+
+    private static final class Field {
+
+        private final String prefix;
+        private final String property;
+        private final boolean optional;
+
+        Field(String prefix, String property, boolean optional) {
+
+            this.prefix = prefix;
+            this.property = property;
+            this.optional = optional;
+        }
+    }
+
+    public static Builder builder() {
+
+        return new Builder();
+    }
+
+    /**
+     * Renders the body for a message.
+     *
+     * @param synCtx message the properties are read from
+     * @return the JSON body
+     */
+    public String render(MessageContext synCtx) {
+
+        StringBuilder json = new StringBuilder(estimatedLength);
+        json.append('{');
+        boolean first = true;
+        for (Field field : fields) {
+            String value = null;
+            if (field.property != null) {
+                value = FaultTemplate.getProperty(synCtx, field.property);
+                if (field.optional && value.isEmpty()) {
+                    continue;
+                }
+            }
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append(field.prefix);
+            if (value != null) {
+                appendEscaped(json, value);
+                json.append('"');
+            }
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Appends a value as the content of a JSON string.
+     */
+    static void appendEscaped(StringBuilder json, String value) {
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+    }
+
+    private static String quote(String value) {
+
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        appendEscaped(quoted, value);
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Builds a template, field by field in the order they are rendered.
+     */
+    public static final class Builder {
+
+        private final List<Field> fields = new ArrayList<>();
+
+        private Builder() {
+
+        }
+
+        /**
+         * Adds a field with a constant value.
+         */
+        public Builder constant(String key, String value) {
+
+            fields.add(new Field(quote(key) + ':' + quote(value), null, false));
+            return this;
+        }
+
+        /**
+         * Adds a field with the value of a message context property.
+         */
+        public Builder property(String key, String property) {
+
+            fields.add(new Field(quote(key) + ":\"", property, false));
+            return this;
+        }
+
+        /**
+         * Adds a field with the value of a message context property, which is left out when the property is not set.
+         */
+        public Builder optionalProperty(String key, String property) {
+
+            fields.add(new Field(quote(key) + ":\"", property, true));
+            return this;
+        }
+
+        public JsonFaultTemplate build() {
+
+            return new JsonFaultTemplate(fields);
+        }
+    }
+}
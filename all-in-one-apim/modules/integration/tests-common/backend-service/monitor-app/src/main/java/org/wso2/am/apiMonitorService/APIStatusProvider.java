@@ -18,6 +18,8 @@
 package org.wso2.am.apiMonitorService;
 
 import org.apache.axis2.AxisFault;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.am.apiMonitorService.beans.APIStatusData;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.base.ServerConfiguration;
@@ -26,14 +28,29 @@ import org.wso2.carbon.rest.api.stub.types.carbon.APIData;
 import org.wso2.carbon.utils.CarbonUtils;
 
 import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class APIStatusProvider {
 
+    private static final Log log = LogFactory.getLog(APIStatusProvider.class);
     private static final String CARBON_XML_HOSTNAME = "HostName";
+    private static final String API_NAME_VERSION_SEPARATOR = ":v";
+    private static final String PROVIDER_SEPARATOR = "--";
+    private static final long STATUS_POLL_INTERVAL = 100;
+    private static final long MAX_WAIT_TIMEOUT = 120 * 1000;
+
+    // RestApiAdminStub creation sets up a new HTTPS service client, so a stub is kept per set of credentials.
+    private final Map<String, RestApiAdminStub> restApiAdminStubs = new ConcurrentHashMap<>();
+    // Deployed API name to the name of the file it was deployed from, which does not change for a given API name.
+    private final Map<String, String> apiFileNames = new ConcurrentHashMap<>();
 
     public String[] getAllApisDeployed(String user, String password) {
         try {
-            return this.getRestAPIAdmin(user, password).getApiNames();
+            return getApiNames(user, password);
         } catch (RemoteException e) {
             e.printStackTrace();
         }
@@ -41,48 +58,168 @@ public class APIStatusProvider {
     }
 
     public int getDeployedApiCount(String user,String password) {
+        RestApiAdminStub restApiAdminStub = null;
         try {
-            return this.getRestAPIAdmin(user, password).getAPICount();
+            restApiAdminStub = this.getRestAPIAdmin(user, password);
+            synchronized (restApiAdminStub) {
+                return restApiAdminStub.getAPICount();
+            }
         } catch (RemoteException e) {
+            evictRestAPIAdmin(user, password, restApiAdminStub);
             e.printStackTrace();
         }
         return -1;
     }
 
     public APIStatusData getApiDataOfApi(String user,String password, String apiName, String version){
-        APIStatusData apistatusData = new APIStatusData();
-        String[] apiNameList;
-        boolean deployed = false;
+        List<String[]> apis = new ArrayList<>(1);
+        apis.add(new String[]{apiName, version});
+        return getApiDataOfApis(user, password, apis).get(0);
+    }
+
+    /**
+     * Returns the deployment status of several APIs using a single lookup of the deployed API names.
+     *
+     * @param user     user name of the tenant admin
+     * @param password password of the tenant admin
+     * @param apis     name and version pairs of the APIs
+     * @return status of each API, in the order of the given pairs
+     */
+    public List<APIStatusData> getApiDataOfApis(String user, String password, List<String[]> apis) {
+        List<APIStatusData> statusList = new ArrayList<>(apis.size());
+        Map<String, String> apiIndex = null;
         try {
-            apiNameList = this.getRestAPIAdmin(user, password).getApiNames();
-            if (apiNameList != null) {
-                for (String currentApi : apiNameList) {
-                    if (currentApi.contains(apiName + ":v" + version)) {
-                        APIData apiData = this.getRestAPIAdmin(user, password).getApiByName(currentApi);
+            apiIndex = getDeployedApiIndex(user, password);
+        } catch (RemoteException e) {
+            e.printStackTrace();
+        }
+        for (String[] api : apis) {
+            APIStatusData apistatusData = new APIStatusData();
+            apistatusData.setIsApiExists(false);
+            if (apiIndex != null) {
+                String deployedName = apiIndex.get(api[0] + API_NAME_VERSION_SEPARATOR + api[1]);
+                if (deployedName != null) {
+                    try {
+                        apistatusData.setProviderName(getApiFileName(user, password, deployedName));
+                        apistatusData.setApiName(api[0]);
+                        apistatusData.setVersion(api[1]);
                         apistatusData.setIsApiExists(true);
-                        apistatusData.setApiName(apiName);
-                        apistatusData.setProviderName(apiData.getFileName());
-                        apistatusData.setVersion(version);
-                        deployed = true;
-                        break;
-                    } else {
-                        continue;
+                    } catch (RemoteException e) {
+                        e.printStackTrace();
                     }
                 }
             }
-            apistatusData.setIsApiExists(deployed);
+            statusList.add(apistatusData);
+        }
+        return statusList;
+    }
+
+    /**
+     * Blocks until the given API is deployed, or undeployed, or until the timeout elapses. The deployed API names are
+     * checked locally at a short interval, so the caller is answered in a single round trip as soon as the expected
+     * state is reached.
+     *
+     * @param user          user name of the tenant admin
+     * @param password      password of the tenant admin
+     * @param apiName       name of the API
+     * @param version       version of the API
+     * @param exists        whether to wait for the API to be deployed or undeployed
+     * @param timeoutMillis maximum time to wait, capped to two minutes
+     * @return the status of the API when the wait ended
+     */
+    public APIStatusData waitForApiStatus(String user, String password, String apiName, String version,
+                                          boolean exists, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + Math.min(Math.max(timeoutMillis, 0), MAX_WAIT_TIMEOUT);
+        while (true) {
+            APIStatusData apiStatusData = getApiDataOfApi(user, password, apiName, version);
+            if (apiStatusData.getIsApiExists() == exists || System.currentTimeMillis() >= deadline) {
+                return apiStatusData;
+            }
+            try {
+                Thread.sleep(STATUS_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return apiStatusData;
+            }
+        }
+    }
+
+    /**
+     * Indexes the deployed APIs by their {@code name:vversion} suffix, which is how the tests identify them. The
+     * deployed names carry the provider as a {@code provider--} prefix.
+     */
+    private Map<String, String> getDeployedApiIndex(String user, String password) throws RemoteException {
+        String[] apiNames = getApiNames(user, password);
+        if (apiNames == null) {
+            return new HashMap<>();
+        }
+        Map<String, String> apiIndex = new HashMap<>(apiNames.length * 2);
+        for (String deployedName : apiNames) {
+            int providerEnd = deployedName.lastIndexOf(PROVIDER_SEPARATOR);
+            String key = providerEnd < 0 ? deployedName :
+                    deployedName.substring(providerEnd + PROVIDER_SEPARATOR.length());
+            apiIndex.putIfAbsent(key, deployedName);
+        }
+        return apiIndex;
+    }
+
+    private String[] getApiNames(String user, String password) throws RemoteException {
+        RestApiAdminStub restApiAdminStub = null;
+        try {
+            restApiAdminStub = this.getRestAPIAdmin(user, password);
+            synchronized (restApiAdminStub) {
+                return restApiAdminStub.getApiNames();
+            }
         } catch (RemoteException e) {
-            e.printStackTrace();
+            evictRestAPIAdmin(user, password, restApiAdminStub);
+            throw e;
+        }
+    }
+
+    private String getApiFileName(String user, String password, String deployedName) throws RemoteException {
+        String fileName = apiFileNames.get(deployedName);
+        if (fileName != null) {
+            return fileName;
+        }
+        RestApiAdminStub restApiAdminStub = null;
+        try {
+            restApiAdminStub = this.getRestAPIAdmin(user, password);
+            APIData apiData;
+            synchronized (restApiAdminStub) {
+                apiData = restApiAdminStub.getApiByName(deployedName);
+            }
+            if (apiData != null && apiData.getFileName() != null) {
+                apiFileNames.put(deployedName, apiData.getFileName());
+                return apiData.getFileName();
+            }
+            return null;
+        } catch (RemoteException e) {
+            evictRestAPIAdmin(user, password, restApiAdminStub);
+            throw e;
         }
-        return apistatusData;
     }
 
     private RestApiAdminStub getRestAPIAdmin(String username, String password) throws AxisFault {
+        String key = username + ':' + password;
+        RestApiAdminStub restApiAdminStub = restApiAdminStubs.get(key);
+        if (restApiAdminStub != null) {
+            return restApiAdminStub;
+        }
         int port = 9443 + getPortOffset();
-        RestApiAdminStub restApiAdminStub = new RestApiAdminStub(null, "https://" + getServiceHostname() + ':' + port +
+        restApiAdminStub = new RestApiAdminStub(null, "https://" + getServiceHostname() + ':' + port +
                 "/services/RestApiAdmin");
         CarbonUtils.setBasicAccessSecurityHeaders(username, password, true, restApiAdminStub._getServiceClient());
-        return restApiAdminStub;
+        RestApiAdminStub existing = restApiAdminStubs.putIfAbsent(key, restApiAdminStub);
+        return existing != null ? existing : restApiAdminStub;
+    }
+
+    /**
+     * Drops a cached stub after a failed call, so that the next call starts with a fresh service client.
+     */
+    private void evictRestAPIAdmin(String username, String password, RestApiAdminStub restApiAdminStub) {
+        if (restApiAdminStub != null && restApiAdminStubs.remove(username + ':' + password, restApiAdminStub)) {
+            log.debug("Discarded the RestApiAdmin stub of " + username);
+        }
     }
 
     private static int getPortOffset() {
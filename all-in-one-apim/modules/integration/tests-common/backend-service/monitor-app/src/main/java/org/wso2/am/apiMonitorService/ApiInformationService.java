@@ -20,15 +20,20 @@ package org.wso2.am.apiMonitorService;
 import org.apache.commons.codec.binary.Base64;
 import org.wso2.am.apiMonitorService.beans.APIStats;
 import org.wso2.am.apiMonitorService.beans.APIStatusData;
+import org.wso2.am.apiMonitorService.beans.APIStatusList;
 
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.StringTokenizer;
 
 @Path("/apiInformation/")
@@ -111,6 +116,71 @@ public class ApiInformationService {
             return apiStatusProvider.getApiDataOfApi(username, password, apiName, version);
 
     }
+    @Path("api/status")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    /**
+     * Provide the status of several APIs, each given as an api=name:version query parameter.
+     */
+    public APIStatusList getApiStatusList(@QueryParam("api") List<String> apis, @Context HttpHeaders httpHeaders) {
+        String authorization =getCredentials(httpHeaders.getRequestHeader(HttpHeaders.AUTHORIZATION).get(0));
+        StringTokenizer stringTokenizer = new StringTokenizer(authorization,":");
+        String username = stringTokenizer.nextToken();
+        String password = stringTokenizer.nextToken();
+        APIStatusList apiStatusList = new APIStatusList();
+        apiStatusList.setApiStatus(apiStatusProvider.getApiDataOfApis(username, password, toNameVersionPairs(apis)));
+        return apiStatusList;
+    }
+
+    @Path("api/{tenatDomain}/{tenantId}/status")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    /**
+     * Provide the status of several APIs of the tenant, each given as an api=name:version query parameter.
+     */
+    public APIStatusList getApiStatusListForTenant(@PathParam("tenatDomain") String tenantDomain,
+                                                   @PathParam("tenantId") int tenantId,
+                                                   @QueryParam("api") List<String> apis,
+                                                   @Context HttpHeaders httpHeaders) {
+        return getApiStatusList(apis, httpHeaders);
+    }
+
+    @Path("api/{tenatDomain}/{tenantId}/{apiName}/{version}/wait")
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    /**
+     * Provide the status of the API once it is deployed, or undeployed when exists=false, or once the timeout in
+     * milliseconds elapses.
+     */
+    public APIStatusData waitForApiStatusForTenant(@PathParam("tenatDomain") String tenantDomain,
+                                                   @PathParam("tenantId") int tenantId,
+                                                   @PathParam("apiName") String apiName,
+                                                   @PathParam("version") String version,
+                                                   @QueryParam("exists") @DefaultValue("true") boolean exists,
+                                                   @QueryParam("timeout") @DefaultValue("30000") long timeout,
+                                                   @Context HttpHeaders httpHeaders) {
+        String authorization =getCredentials(httpHeaders.getRequestHeader(HttpHeaders.AUTHORIZATION).get(0));
+        StringTokenizer stringTokenizer = new StringTokenizer(authorization,":");
+        String username = stringTokenizer.nextToken();
+        String password = stringTokenizer.nextToken();
+        return apiStatusProvider.waitForApiStatus(username, password, apiName, version, exists, timeout);
+    }
+
+    private List<String[]> toNameVersionPairs(List<String> apis) {
+        List<String[]> pairs = new ArrayList<>();
+        if (apis == null) {
+            return pairs;
+        }
+        for (String api : apis) {
+            // API names can not contain a colon, so the first one separates the name from the version
+            int separator = api.indexOf(':');
+            if (separator > 0) {
+                pairs.add(new String[]{api.substring(0, separator), api.substring(separator + 1)});
+            }
+        }
+        return pairs;
+    }
+
     private String getCredentials(String authCredentials)  {
 
         final String encodedUserPassword = authCredentials.replaceFirst("Basic"
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.services.perf;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency injected by the performance backend before it responds. A distribution is described as
+ * {@code <type>:<parameters>} where the type is one of
+ * <ul>
+ * <li>{@code fixed:<millis>}, or just {@code <millis>}</li>
+ * <li>{@code uniform:<min>,<max>}</li>
+ * <li>{@code exponential:<mean>}</li>
+ * <li>{@code normal:<mean>,<standard deviation>}</li>
+ * </ul>
+ * Sampled values are clamped to the range [0, {@link #MAX_LATENCY_MILLIS}].
+ */
+abstract class LatencyDistribution {
+
+    static final long MAX_LATENCY_MILLIS = 60000;
+    static final LatencyDistribution NONE = fixed(0);
+
+    /**
+     * @return the latency to inject in milliseconds
+     */
+    abstract long sample();
+
+    static LatencyDistribution parse(String description) {
+
+        if (description == null || description.trim().isEmpty()) {
+            return NONE;
+        }
+        String[] typeAndParameters = description.trim().split(":", 2);
+        if (typeAndParameters.length == 1) {
+            return fixed(parseMillis(typeAndParameters[0]));
+        }
+        String[] parameters = typeAndParameters[1].split(",");
+        switch (typeAndParameters[0].trim().toLowerCase(Locale.ENGLISH)) {
+            case "fixed":
+                requireParameters(description, parameters, 1);
+                return fixed(parseMillis(parameters[0]));
+            case "uniform":
+                requireParameters(description, parameters, 2);
+                return uniform(parseMillis(parameters[0]), parseMillis(parameters[1]));
+            case "exponential":
+                requireParameters(description, parameters, 1);
+                return exponential(parseMillis(parameters[0]));
+            case "normal":
+                requireParameters(description, parameters, 2);
+                return normal(parseMillis(parameters[0]), parseMillis(parameters[1]));
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution " + description);
+        }
+    }
+
+    private static LatencyDistribution fixed(final long millis) {
+
+        return new LatencyDistribution() {
+            @Override
+            long sample() {
+
+                return millis;
+            }
+        };
+    }
+
+    private static LatencyDistribution uniform(final long min, final long max) {
+
+        if (max < min) {
+            throw new IllegalArgumentException("Invalid uniform latency range " + min + "," + max);
+        }
+        return new LatencyDistribution() {
+            @Override
+            long sample() {
+
+                return min + ThreadLocalRandom.current().nextLong(max - min + 1);
+            }
+        };
+    }
+
+    private static LatencyDistribution exponential(final long mean) {
+
+        return new LatencyDistribution() {
+            @Override
+            long sample() {
+
+                return clamp(-mean * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+            }
+        };
+    }
+
+    private static LatencyDistribution normal(final long mean, final long standardDeviation) {
+
+        return new LatencyDistribution() {
+            @Override
+            long sample() {
+
+                return clamp(mean + standardDeviation * ThreadLocalRandom.current().nextGaussian());
+            }
+        };
+    }
+
+    private static long clamp(double millis) {
+
+        return Math.max(0, Math.min(MAX_LATENCY_MILLIS, Math.round(millis)));
+    }
+
+    private static long parseMillis(String value) {
+
+        long millis = Long.parseLong(value.trim());
+        if (millis < 0 || millis > MAX_LATENCY_MILLIS) {
+            throw new IllegalArgumentException("Latency " + millis + " is out of the range 0-" + MAX_LATENCY_MILLIS);
+        }
+        return millis;
+    }
+
+    private static void requireParameters(String description, String[] parameters, int count) {
+
+        if (parameters.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " parameters in latency distribution "
+                    + description);
+        }
+    }
+}
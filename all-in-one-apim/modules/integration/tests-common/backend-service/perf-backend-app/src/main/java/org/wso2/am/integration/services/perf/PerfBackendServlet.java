@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.services.perf;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Backend used to measure the throughput of the gateway. Every request is served asynchronously with non-blocking
+ * reads and writes, and injected latencies are served by a scheduler, so a small number of threads can keep a large
+ * number of slow requests in flight and the backend does not become the bottleneck of a measurement.
+ * <p>
+ * The response is controlled through request headers, so one deployment serves every scenario of a run:
+ * <ul>
+ * <li>{@value #MODE_HEADER}: {@code echo} returns the request body with its content type, {@code payload} returns a
+ * JSON payload of {@value #PAYLOAD_SIZE_HEADER} bytes. Defaults to {@code echo} for requests with a body.</li>
+ * <li>{@value #PAYLOAD_SIZE_HEADER}: size of the generated payload in bytes, {@value #DEFAULT_PAYLOAD_SIZE} by
+ * default.</li>
+ * <li>{@value #LATENCY_HEADER}: latency injected before responding, e.g. {@code 20}, {@code uniform:10,50},
+ * {@code exponential:20} or {@code normal:20,5}. See {@link LatencyDistribution}.</li>
+ * <li>{@value #ERROR_RATE_HEADER}: fraction of the requests, between 0 and 1, answered with the
+ * {@value #ERROR_STATUS_HEADER} status, 500 by default.</li>
+ * <li>{@value #CHUNK_SIZE_HEADER}: writes the response with chunked transfer encoding in chunks of the given size.</li>
+ * <li>{@value #CHUNK_INTERVAL_HEADER}: milliseconds between chunks, which turns the response into a stream.</li>
+ * </ul>
+ */
+public class PerfBackendServlet extends HttpServlet {
+
+    public static final String MODE_HEADER = "X-Perf-Mode";
+    public static final String PAYLOAD_SIZE_HEADER = "X-Perf-Payload-Size";
+    public static final String LATENCY_HEADER = "X-Perf-Latency";
+    public static final String ERROR_RATE_HEADER = "X-Perf-Error-Rate";
+    public static final String ERROR_STATUS_HEADER = "X-Perf-Error-Status";
+    public static final String CHUNK_SIZE_HEADER = "X-Perf-Chunk-Size";
+    public static final String CHUNK_INTERVAL_HEADER = "X-Perf-Chunk-Interval";
+    public static final String MODE_ECHO = "echo";
+    public static final String MODE_PAYLOAD = "payload";
+    static final int DEFAULT_PAYLOAD_SIZE = 1024;
+    private static final int MAX_BODY_BYTES = 64 * 1024 * 1024;
+    private static final int MAX_CACHED_PAYLOADS = 64;
+    private static final long MAX_CHUNK_INTERVAL_MILLIS = 10000;
+    private static final long ASYNC_TIMEOUT_MILLIS = 5 * 60 * 1000;
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final byte[] INJECTED_ERROR = "{\"error\":\"injected\"}".getBytes(StandardCharsets.UTF_8);
+    private static final Log log = LogFactory.getLog(PerfBackendServlet.class);
+
+    private final Map<Integer, byte[]> payloads = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    @Override
+    public void init() {
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "perf-backend-scheduler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        ResponseSettings settings;
+        try {
+            settings = new ResponseSettings(request);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(ASYNC_TIMEOUT_MILLIS);
+        if (settings.echo) {
+            String contentType = request.getContentType();
+            new RequestBodyReader(asyncContext, MAX_BODY_BYTES,
+                    body -> respond(asyncContext, settings, body, contentType)).start();
+        } else {
+            respond(asyncContext, settings, getPayload(settings.payloadSize), JSON_CONTENT_TYPE);
+        }
+    }
+
+    private void respond(AsyncContext asyncContext, ResponseSettings settings, byte[] body, String contentType) {
+
+        long latency = settings.latency.sample();
+        if (latency <= 0) {
+            send(asyncContext, settings, body, contentType);
+            return;
+        }
+        try {
+            scheduler.schedule(() -> send(asyncContext, settings, body, contentType), latency, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The web app is being undeployed
+            asyncContext.complete();
+        }
+    }
+
+    private void send(AsyncContext asyncContext, ResponseSettings settings, byte[] body, String contentType) {
+
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        if (settings.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < settings.errorRate) {
+            response.setStatus(settings.errorStatus);
+            body = INJECTED_ERROR;
+            contentType = JSON_CONTENT_TYPE;
+        }
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        if (settings.chunkSize <= 0 || settings.chunkSize >= body.length) {
+            response.setContentLength(body.length);
+        }
+        try {
+            new ResponseWriter(asyncContext, scheduler, body, settings.chunkSize, settings.chunkIntervalMillis)
+                    .start();
+        } catch (IOException e) {
+            log.warn("Error while writing response: " + e.getMessage());
+            asyncContext.complete();
+        }
+    }
+
+    /**
+     * Returns a JSON payload of exactly the given size. Payloads are shared between requests, since the same few
+     * sizes are requested over and over during a run.
+     */
+    private byte[] getPayload(int size) {
+
+        byte[] payload = payloads.get(size);
+        if (payload != null) {
+            return payload;
+        }
+        payload = createPayload(size);
+        if (payloads.size() < MAX_CACHED_PAYLOADS) {
+            payloads.putIfAbsent(size, payload);
+        }
+        return payload;
+    }
+
+    private static byte[] createPayload(int size) {
+
+        byte[] prefix = "{\"payload\":\"".getBytes(StandardCharsets.UTF_8);
+        byte[] suffix = "\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[size];
+        if (size < prefix.length + suffix.length) {
+            Arrays.fill(payload, (byte) 'x');
+            return payload;
+        }
+        System.arraycopy(prefix, 0, payload, 0, prefix.length);
+        for (int i = prefix.length; i < size - suffix.length; i++) {
+            payload[i] = (byte) ('a' + i % 26);
+        }
+        System.arraycopy(suffix, 0, payload, size - suffix.length, suffix.length);
+        return payload;
+    }
+
+    /**
+     * Response behaviour requested through the headers of a request.
+     */
+    private static class ResponseSettings {
+
+        private final boolean echo;
+        private final int payloadSize;
+        private final LatencyDistribution latency;
+        private final double errorRate;
+        private final int errorStatus;
+        private final int chunkSize;
+        private final long chunkIntervalMillis;
+
+        ResponseSettings(HttpServletRequest request) {
+
+            String mode = request.getHeader(MODE_HEADER);
+            if (mode == null) {
+                echo = request.getContentLengthLong() > 0 || request.getHeader("Transfer-Encoding") != null;
+            } else if (MODE_ECHO.equalsIgnoreCase(mode.trim()) || MODE_PAYLOAD.equalsIgnoreCase(mode.trim())) {
+                echo = MODE_ECHO.equalsIgnoreCase(mode.trim());
+            } else {
+                throw new IllegalArgumentException("Unknown " + MODE_HEADER + " " + mode);
+            }
+            payloadSize = (int) parseLong(request, PAYLOAD_SIZE_HEADER, DEFAULT_PAYLOAD_SIZE, 0, MAX_BODY_BYTES);
+            latency = LatencyDistribution.parse(request.getHeader(LATENCY_HEADER));
+            errorRate = parseErrorRate(request.getHeader(ERROR_RATE_HEADER));
+            errorStatus = (int) parseLong(request, ERROR_STATUS_HEADER, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                    400, 599);
+            chunkSize = (int) parseLong(request, CHUNK_SIZE_HEADER, 0, 0, MAX_BODY_BYTES);
+            chunkIntervalMillis = parseLong(request, CHUNK_INTERVAL_HEADER, 0, 0, MAX_CHUNK_INTERVAL_MILLIS);
+            if (chunkIntervalMillis > 0 && chunkSize == 0) {
+                throw new IllegalArgumentException(CHUNK_INTERVAL_HEADER + " requires " + CHUNK_SIZE_HEADER);
+            }
+        }
+
+        private static long parseLong(HttpServletRequest request, String header, long defaultValue, long min,
+                                      long max) {
+
+            String value = request.getHeader(header);
+            if (value == null) {
+                return defaultValue;
+            }
+            long parsed = Long.parseLong(value.trim());
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(header + " " + parsed + " is out of the range " + min + "-" + max);
+            }
+            return parsed;
+        }
+
+        private static double parseErrorRate(String value) {
+
+            if (value == null) {
+                return 0;
+            }
+            double errorRate = Double.parseDouble(value.trim());
+            if (!(errorRate >= 0 && errorRate <= 1)) {
+                throw new IllegalArgumentException(ERROR_RATE_HEADER + " " + value + " is out of the range 0-1");
+            }
+            return errorRate;
+        }
+    }
+}
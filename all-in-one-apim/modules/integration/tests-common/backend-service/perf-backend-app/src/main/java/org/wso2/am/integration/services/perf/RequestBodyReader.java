@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.services.perf;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.Consumer;
+import javax.servlet.AsyncContext;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Reads a request body without blocking the container threads and hands the complete body over once it has been
+ * read. Bodies larger than the given limit are rejected with a 413 response.
+ */
+class RequestBodyReader implements ReadListener {
+
+    private static final Log log = LogFactory.getLog(RequestBodyReader.class);
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final AsyncContext asyncContext;
+    private final ServletInputStream inputStream;
+    private final Consumer<byte[]> bodyConsumer;
+    private final int maxBodyBytes;
+    private final byte[] buffer = new byte[READ_BUFFER_SIZE];
+    private final ByteArrayOutputStream body;
+    private boolean rejected;
+
+    RequestBodyReader(AsyncContext asyncContext, int maxBodyBytes, Consumer<byte[]> bodyConsumer)
+            throws IOException {
+
+        this.asyncContext = asyncContext;
+        this.inputStream = asyncContext.getRequest().getInputStream();
+        this.bodyConsumer = bodyConsumer;
+        this.maxBodyBytes = maxBodyBytes;
+        int contentLength = asyncContext.getRequest().getContentLength();
+        this.body = new ByteArrayOutputStream(contentLength > 0 && contentLength <= maxBodyBytes ? contentLength
+                : READ_BUFFER_SIZE);
+    }
+
+    /**
+     * Starts reading the body. The container calls {@link #onDataAvailable()} once the listener is registered.
+     */
+    void start() {
+
+        inputStream.setReadListener(this);
+    }
+
+    @Override
+    public void onDataAvailable() throws IOException {
+
+        int read;
+        while (inputStream.isReady() && (read = inputStream.read(buffer)) != -1) {
+            if (rejected) {
+                // Drain the rest of the body so the connection can be reused
+                continue;
+            }
+            if (body.size() + read > maxBodyBytes) {
+                rejected = true;
+                body.reset();
+                continue;
+            }
+            body.write(buffer, 0, read);
+        }
+    }
+
+    @Override
+    public void onAllDataRead() throws IOException {
+
+        if (rejected) {
+            HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    "Request body exceeds " + maxBodyBytes + " bytes");
+            asyncContext.complete();
+            return;
+        }
+        bodyConsumer.accept(body.toByteArray());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Error while reading request", throwable);
+        }
+        asyncContext.complete();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.services.perf;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+/**
+ * Writes a response body without blocking the container threads. The body is written as a whole, or in chunks that
+ * are flushed one by one when a chunk size is given. With a chunk interval the chunks are spread over time, which
+ * makes the response a stream whose pauses are served by the scheduler instead of a sleeping thread.
+ */
+class ResponseWriter implements WriteListener {
+
+    private static final Log log = LogFactory.getLog(ResponseWriter.class);
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream outputStream;
+    private final ScheduledExecutorService scheduler;
+    private final byte[] body;
+    private final int chunkSize;
+    private final long chunkIntervalNanos;
+    private int offset;
+    private long nextChunkTime;
+    private boolean resumeScheduled;
+    private boolean completed;
+
+    ResponseWriter(AsyncContext asyncContext, ScheduledExecutorService scheduler, byte[] body, int chunkSize,
+                   long chunkIntervalMillis) throws IOException {
+
+        this.asyncContext = asyncContext;
+        this.outputStream = asyncContext.getResponse().getOutputStream();
+        this.scheduler = scheduler;
+        this.body = body;
+        this.chunkSize = chunkSize > 0 ? chunkSize : body.length;
+        this.chunkIntervalNanos = TimeUnit.MILLISECONDS.toNanos(chunkIntervalMillis);
+    }
+
+    /**
+     * Starts writing the body. The container calls {@link #onWritePossible()} once the listener is registered.
+     */
+    void start() {
+
+        outputStream.setWriteListener(this);
+    }
+
+    @Override
+    public synchronized void onWritePossible() throws IOException {
+
+        while (!completed && outputStream.isReady()) {
+            if (offset >= body.length) {
+                complete();
+                return;
+            }
+            long delay = nextChunkTime - System.nanoTime();
+            if (offset > 0 && delay > 0) {
+                scheduleResume(delay);
+                return;
+            }
+            int length = Math.min(chunkSize, body.length - offset);
+            outputStream.write(body, offset, length);
+            offset += length;
+            nextChunkTime = System.nanoTime() + chunkIntervalNanos;
+            if (chunkSize < body.length && outputStream.isReady()) {
+                // Flushing ends the chunk, otherwise the container may coalesce chunks into a single write
+                outputStream.flush();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable throwable) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Error while writing response", throwable);
+        }
+        complete();
+    }
+
+    private void scheduleResume(long delayNanos) {
+
+        if (resumeScheduled) {
+            return;
+        }
+        resumeScheduled = true;
+        try {
+            scheduler.schedule(this::resume, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // The web app is being undeployed
+            complete();
+        }
+    }
+
+    private synchronized void resume() {
+
+        resumeScheduled = false;
+        try {
+            onWritePossible();
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    private void complete() {
+
+        if (!completed) {
+            completed = true;
+            asyncContext.complete();
+        }
+    }
+}
@@ -44,6 +44,7 @@ public class APIMCarbonServerExtension extends ExecutionListenerExtension {
     private static final Log log = LogFactory.getLog(APIMCarbonServerExtension.class);
     private TestServerManager serverManager;
     private String executionEnvironment;
+    private final StartupProfiler startupProfiler = new StartupProfiler();
     private static final String CUSTOM_AUTH_HANDLER_JAR = "CustomAPIAuthenticationHandler-1.0.0.jar";
     protected static final String CARBON_HOME = FrameworkPathUtil.getCarbonHome();
 
@@ -70,6 +71,8 @@ public class APIMCarbonServerExtension extends ExecutionListenerExtension {
             if (executionEnvironment.equalsIgnoreCase(ExecutionEnvironment.STANDALONE.name())) {
                 String carbonHome = serverManager.startServer();
                 System.setProperty(ExtensionConstants.CARBON_HOME, carbonHome);
+                ServerStateManager.register(new ServerStateManager(serverManager, carbonHome, getParameters()));
+                profileStartup(carbonHome);
             }
         } catch (Exception e) {
             handleException("Fail to start carbon server ", e);
@@ -86,6 +89,19 @@ public class APIMCarbonServerExtension extends ExecutionListenerExtension {
         } catch (Exception e) {
             handleException("Fail to stop carbon server ", e);
         }
+        startupProfiler.complete();
+    }
+
+    private void profileStartup(String carbonHome) {
+
+        if (!StartupProfiler.isEnabled()) {
+            return;
+        }
+        try {
+            startupProfiler.profile(carbonHome);
+        } catch (IOException e) {
+            log.warn("Unable to profile the server startup", e);
+        }
     }
 
     private void configureProduct() {
@@ -204,6 +220,9 @@ public class APIMCarbonServerExtension extends ExecutionListenerExtension {
                     WebAppDeploymentUtil.copyWebApp(relativeResourcePath + File.separator + "war" + File.separator
                                     + APIMIntegrationConstants.AM_MONITORING_WEB_APP_NAME + ".war",
                             webappsPath + APIMIntegrationConstants.AM_MONITORING_WEB_APP_NAME);
+                    WebAppDeploymentUtil.copyWebApp(relativeResourcePath + File.separator + "war" + File.separator
+                                    + APIMIntegrationConstants.PERF_BACKEND_WEB_APP_NAME + ".war",
+                            webappsPath + APIMIntegrationConstants.PERF_BACKEND_WEB_APP_NAME);
                     WebAppDeploymentUtil.copyWebApp(relativeResourcePath + File.separator + "war" + File.separator
                                     + APIMIntegrationConstants.GRAPHQL_API_WEB_APP_NAME + ".war",
                             webappsPath + APIMIntegrationConstants.GRAPHQL_API_WEB_APP_NAME);
@@ -221,6 +240,8 @@ public class APIMCarbonServerExtension extends ExecutionListenerExtension {
                                     + APIMIntegrationConstants.BPMN_PROCESS_ENGINE_WEB_APP_NAME + ".war",
                             webappsPath + APIMIntegrationConstants.BPMN_PROCESS_ENGINE_WEB_APP_NAME);
                     log.info("Web Apps Deployed");
+                    // The server is launched right after it is configured, so unpacking is not part of the startup
+                    startupProfiler.markLaunch();
                 } catch (IOException e) {
                     throw new AutomationFrameworkException(e.getMessage(), e);
                 }
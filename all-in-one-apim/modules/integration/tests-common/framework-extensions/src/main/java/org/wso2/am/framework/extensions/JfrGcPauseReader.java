@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.framework.extensions;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Adds the garbage collection pauses of a JFR recording of the server to the phases of a {@link StartupTimeline}.
+ * The recording is read with the {@code jfr} tool of the JDK running the tests, so the test JVM itself does not need
+ * the JFR consumer API.
+ */
+class JfrGcPauseReader {
+
+    private static final Pattern START_TIME =
+            Pattern.compile("startTime = (\\d{2}:\\d{2}:\\d{2}(?:\\.\\d+)?)(?: \\((\\d{4}-\\d{2}-\\d{2})\\))?");
+    private static final Pattern SUM_OF_PAUSES = Pattern.compile("sumOfPauses = ([\\d.]+) (ns|us|ms|s)\\b");
+    private static final long JFR_TIMEOUT_SECONDS = 120;
+
+    private final File recording;
+
+    JfrGcPauseReader(File recording) {
+
+        this.recording = recording;
+    }
+
+    /**
+     * @return the jfr tool of the running JDK, or null if the JDK does not have one
+     */
+    static File findJfrTool() {
+
+        File javaHome = new File(System.getProperty("java.home"));
+        for (File home : new File[]{javaHome, javaHome.getParentFile()}) {
+            if (home == null) {
+                continue;
+            }
+            for (String name : new String[]{"jfr", "jfr.exe"}) {
+                File tool = new File(home, "bin" + File.separator + name);
+                if (tool.canExecute()) {
+                    return tool;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sums the pauses of the jdk.GarbageCollection events that started within each complete phase.
+     *
+     * @param timeline timeline to add the pauses to
+     * @throws IOException if the recording could not be read
+     */
+    void addGcPauses(StartupTimeline timeline) throws IOException {
+
+        File jfr = findJfrTool();
+        if (jfr == null) {
+            throw new IOException("The JDK at " + System.getProperty("java.home") + " does not have the jfr tool");
+        }
+        Process process = new ProcessBuilder(jfr.getAbsolutePath(), "print", "--events", "jdk.GarbageCollection",
+                recording.getAbsolutePath()).redirectErrorStream(true).start();
+        String output;
+        try (InputStream in = process.getInputStream()) {
+            output = IOUtils.toString(in, StandardCharsets.UTF_8);
+        }
+        try {
+            if (!process.waitFor(JFR_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                process.destroyForcibly();
+                throw new IOException("Unable to read " + recording + ": " + output);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading " + recording, e);
+        }
+
+        for (StartupTimeline.PhaseTiming timing : timeline.getPhases().values()) {
+            if (timing.isComplete()) {
+                timing.setGcPauseMillis(0);
+            }
+        }
+        // The date is only printed for events that did not happen on the day the recording is read
+        LocalDate launchDate = Instant.ofEpochMilli(timeline.getLaunchTime()).atZone(ZoneId.systemDefault())
+                .toLocalDate();
+        long eventStart = StartupTimeline.UNKNOWN;
+        for (String line : output.split("\\r?\\n")) {
+            Matcher startTime = START_TIME.matcher(line);
+            if (startTime.find()) {
+                LocalDate date = startTime.group(2) == null ? launchDate : LocalDate.parse(startTime.group(2));
+                eventStart = LocalTime.parse(startTime.group(1)).atDate(date)
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                continue;
+            }
+            Matcher pauses = SUM_OF_PAUSES.matcher(line);
+            if (pauses.find() && eventStart != StartupTimeline.UNKNOWN) {
+                double pauseMillis = toMillis(Double.parseDouble(pauses.group(1)), pauses.group(2));
+                for (StartupTimeline.PhaseTiming timing : timeline.getPhases().values()) {
+                    if (timing.isComplete() && eventStart >= timing.getStartTime()
+                            && eventStart <= timing.getEndTime()) {
+                        timing.setGcPauseMillis(timing.getGcPauseMillis() + pauseMillis);
+                    }
+                }
+                eventStart = StartupTimeline.UNKNOWN;
+            }
+        }
+    }
+
+    private static double toMillis(double value, String unit) {
+
+        switch (unit) {
+            case "ns":
+                return value / 1_000_000;
+            case "us":
+                return value / 1_000;
+            case "s":
+                return value * 1_000;
+            default:
+                return value;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.framework.extensions;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.automation.engine.exceptions.AutomationFrameworkException;
+import org.wso2.carbon.automation.engine.frameworkutils.FrameworkPathUtil;
+import org.wso2.carbon.automation.extensions.servers.carbonserver.TestServerManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Switches the server between deployment.toml configurations on behalf of the {@link ServerConfiguration} annotated
+ * test classes, with as few restarts as possible.
+ * <p>
+ * A configuration is identified by its fingerprint, the digest of the toml without comments and blank lines, so
+ * applying a configuration that is already active costs nothing. When the server leaves the configuration it was
+ * started with, that configuration is captured along with the state of the server: the H2 databases, including the
+ * registry and user store in WSO2CARBON_DB, the tenant artifacts and the deployed synapse configurations. Restoring
+ * puts both back during a single stop, so the test classes that follow see the server as if the annotated classes
+ * had never run. Switching between two annotated configurations goes through the captured state as well. The
+ * snapshot is kept next to the Carbon home, in the build directory of the run.
+ * <p>
+ * The paths captured can be extended with the comma separated, Carbon home relative paths of the
+ * {@value #STATE_PATHS_PROPERTY} system property, and the state restore can be turned off with
+ * {@value #STATE_RESTORE_PROPERTY}, in which case only the deployment.toml is restored.
+ */
+public class ServerStateManager {
+
+    public static final String STATE_PATHS_PROPERTY = "server.state.snapshot.paths";
+    public static final String STATE_RESTORE_PROPERTY = "server.state.restore.enabled";
+    static final String DEPLOYMENT_TOML = "repository" + File.separator + "conf" + File.separator + "deployment.toml";
+    static final List<String> DEFAULT_STATE_PATHS = Arrays.asList(
+            "repository" + File.separator + "database" + File.separator + "WSO2CARBON_DB.mv.db",
+            "repository" + File.separator + "database" + File.separator + "WSO2AM_DB.mv.db",
+            "repository" + File.separator + "database" + File.separator + "WSO2SHARED_DB.mv.db",
+            "repository" + File.separator + "deployment" + File.separator + "server" + File.separator
+                    + "synapse-configs",
+            "repository" + File.separator + "tenants");
+
+    private static final Log log = LogFactory.getLog(ServerStateManager.class);
+    private static volatile ServerStateManager instance;
+
+    private final TestServerManager serverManager;
+    private final File carbonHome;
+    private final Map<String, String> startupParameters;
+    private final File snapshotDirectory;
+    private final List<String> snapshotPaths;
+    private ServerStateSnapshot rollbackSnapshot;
+    private String appliedFingerprint;
+    private int restartCount;
+
+    ServerStateManager(TestServerManager serverManager, String carbonHome, Map<String, String> startupParameters) {
+
+        this.serverManager = serverManager;
+        this.carbonHome = new File(carbonHome);
+        this.startupParameters = Collections.unmodifiableMap(new HashMap<>(startupParameters));
+        // the Carbon home is extracted into the build directory, so concurrent builds keep separate snapshots
+        this.snapshotDirectory = new File(this.carbonHome.getAbsoluteFile().getParentFile(), "server-state-snapshot");
+        this.snapshotPaths = new ArrayList<>();
+        snapshotPaths.add(DEPLOYMENT_TOML);
+        if (Boolean.parseBoolean(System.getProperty(STATE_RESTORE_PROPERTY, "true"))) {
+            snapshotPaths.addAll(DEFAULT_STATE_PATHS);
+            String extraPaths = System.getProperty(STATE_PATHS_PROPERTY);
+            if (extraPaths != null) {
+                for (String path : extraPaths.split(",")) {
+                    if (!path.trim().isEmpty()) {
+                        snapshotPaths.add(path.trim());
+                    }
+                }
+            }
+        }
+    }
+
+    static void register(ServerStateManager serverStateManager) {
+
+        instance = serverStateManager;
+    }
+
+    /**
+     * @return whether the server is managed by this run, which is not the case on a platform execution environment
+     */
+    public static boolean isAvailable() {
+
+        return instance != null;
+    }
+
+    /**
+     * @return the manager of the server started for this run
+     * @throws IllegalStateException if no server was started for this run
+     */
+    public static ServerStateManager getInstance() {
+
+        ServerStateManager serverStateManager = instance;
+        if (serverStateManager == null) {
+            throw new IllegalStateException("The server is not managed by the APIMCarbonServerExtension");
+        }
+        return serverStateManager;
+    }
+
+    /**
+     * Resolves the deployment.toml declared by a test class.
+     *
+     * @param serverConfiguration annotation of the test class
+     * @return the deployment.toml in the artifacts/AM test resource directory
+     */
+    public static File resolve(ServerConfiguration serverConfiguration) {
+
+        return new File(FrameworkPathUtil.getSystemResourceLocation() + "artifacts" + File.separator + "AM"
+                + File.separator + serverConfiguration.value().replace('/', File.separatorChar));
+    }
+
+    /**
+     * Computes the fingerprint of a deployment.toml, which ignores comments, blank lines and indentation.
+     *
+     * @param deploymentToml the toml file
+     * @return hex encoded SHA-256 digest of the significant lines
+     * @throws IOException if the file could not be read
+     */
+    public static String fingerprint(File deploymentToml) throws IOException {
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+        }
+        for (String line : Files.readAllLines(deploymentToml.toPath(), StandardCharsets.UTF_8)) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            digest.update(trimmed.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Runs the server with the given deployment.toml, restarting it only if the configuration differs from the
+     * active one.
+     *
+     * @param deploymentToml the toml to apply
+     * @return whether the server was restarted
+     * @throws AutomationFrameworkException if the configuration could not be applied or the server restarted
+     */
+    public synchronized boolean applyConfiguration(File deploymentToml) throws AutomationFrameworkException {
+
+        String fingerprint;
+        String activeFingerprint;
+        try {
+            fingerprint = fingerprint(deploymentToml);
+            activeFingerprint = getActiveFingerprint();
+        } catch (IOException e) {
+            throw new AutomationFrameworkException("Unable to read the configuration " + deploymentToml, e);
+        }
+        if (fingerprint.equals(activeFingerprint)) {
+            log.info("Configuration " + deploymentToml.getName() + " [" + shorten(fingerprint)
+                    + "] is already active, skipping the restart");
+            if (!fingerprint.equals(appliedFingerprint)) {
+                appliedFingerprint = null;
+            }
+            return false;
+        }
+        boolean leavingUnmanagedConfiguration = appliedFingerprint == null
+                || !appliedFingerprint.equals(activeFingerprint);
+        restart("applying " + deploymentToml + " [" + shorten(fingerprint) + "]", () -> {
+            if (leavingUnmanagedConfiguration) {
+                rollbackSnapshot = ServerStateSnapshot.capture(carbonHome, snapshotDirectory, snapshotPaths);
+                log.info("Captured the server state (" + rollbackSnapshot.getSizeInBytes() / 1024 + " KB) of "
+                        + rollbackSnapshot.getPaths());
+            } else {
+                rollbackSnapshot.restore();
+            }
+            FileUtils.copyFile(deploymentToml, new File(carbonHome, DEPLOYMENT_TOML));
+        });
+        appliedFingerprint = fingerprint;
+        return true;
+    }
+
+    /**
+     * Returns the server to the configuration and state it had before the first {@link #applyConfiguration(File)},
+     * if a configuration applied by this manager is still active. A configuration changed by other means, such as
+     * the ServerConfigurationManager, is left as it is.
+     *
+     * @return whether the server was restarted
+     * @throws AutomationFrameworkException if the state could not be restored or the server restarted
+     */
+    public synchronized boolean restoreConfiguration() throws AutomationFrameworkException {
+
+        if (appliedFingerprint == null) {
+            return false;
+        }
+        try {
+            if (!appliedFingerprint.equals(getActiveFingerprint())) {
+                log.warn("The configuration applied by the server state manager was changed outside of it, "
+                        + "leaving the current configuration in place");
+                appliedFingerprint = null;
+                return false;
+            }
+        } catch (IOException e) {
+            throw new AutomationFrameworkException("Unable to read the active configuration", e);
+        }
+        restart("restoring the original configuration", rollbackSnapshot::restore);
+        appliedFingerprint = null;
+        return true;
+    }
+
+    /**
+     * @return the fingerprint of the deployment.toml the server currently runs with
+     * @throws IOException if the deployment.toml could not be read
+     */
+    public String getActiveFingerprint() throws IOException {
+
+        return fingerprint(new File(carbonHome, DEPLOYMENT_TOML));
+    }
+
+    /**
+     * @return the Carbon home of the server
+     */
+    public File getCarbonHome() {
+
+        return carbonHome;
+    }
+
+    /**
+     * @return the arguments the startup script of the server is run with, such as the port offset, by name. An
+     * argument without a value maps to an empty string.
+     */
+    public Map<String, String> getStartupParameters() {
+
+        return startupParameters;
+    }
+
+    /**
+     * Restarts the server, leaving its configuration as it is.
+     *
+     * @param reason description of the restart for the log
+     * @param action work to do while the server is down
+     * @throws AutomationFrameworkException if the action failed or the server could not be started
+     */
+    public synchronized void restartServer(String reason, StoppedServerAction action)
+            throws AutomationFrameworkException {
+
+        restart(reason, action);
+    }
+
+    /**
+     * @return the number of restarts done by this manager
+     */
+    public synchronized int getRestartCount() {
+
+        return restartCount;
+    }
+
+    private void restart(String reason, StoppedServerAction action) throws AutomationFrameworkException {
+
+        log.info("Restarting the server, " + reason);
+        long start = System.currentTimeMillis();
+        serverManager.stopServer();
+        long switchStart = System.currentTimeMillis();
+        IOException switchFailure = null;
+        try {
+            action.run();
+        } catch (IOException e) {
+            switchFailure = e;
+        }
+        long switchEnd = System.currentTimeMillis();
+        try {
+            serverManager.startServer();
+        } catch (Exception e) {
+            throw new AutomationFrameworkException("Unable to start the server after " + reason, e);
+        }
+        restartCount++;
+        if (switchFailure != null) {
+            throw new AutomationFrameworkException("Unable to update the server state while " + reason,
+                    switchFailure);
+        }
+        log.info("Server restarted in " + (System.currentTimeMillis() - start) + "ms, of which "
+                + (switchEnd - switchStart) + "ms were spent switching the configuration and state");
+    }
+
+    private static String shorten(String fingerprint) {
+
+        return fingerprint.substring(0, 12);
+    }
+
+    /**
+     * Work done while the server is down.
+     */
+    public interface StoppedServerAction {
+
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.framework.extensions;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Copy of a set of files and directories of the Carbon home, taken while the server is stopped. Restoring the
+ * snapshot puts every path back as it was when the snapshot was taken, and removes the paths that did not exist then.
+ * <p>
+ * The H2 databases are plain files while the server is down, so copying them is a consistent backup.
+ */
+class ServerStateSnapshot {
+
+    private final File carbonHome;
+    private final File snapshotDirectory;
+    private final List<String> paths;
+    private final List<String> capturedPaths = new ArrayList<>();
+
+    private ServerStateSnapshot(File carbonHome, File snapshotDirectory, List<String> paths) {
+
+        this.carbonHome = carbonHome;
+        this.snapshotDirectory = snapshotDirectory;
+        this.paths = Collections.unmodifiableList(new ArrayList<>(paths));
+    }
+
+    /**
+     * Copies the given paths of the Carbon home to the snapshot directory, replacing any earlier snapshot in it.
+     *
+     * @param carbonHome        Carbon home of the stopped server
+     * @param snapshotDirectory directory to keep the copies in
+     * @param paths             paths relative to the Carbon home
+     * @return the snapshot
+     * @throws IOException if a path could not be copied
+     */
+    static ServerStateSnapshot capture(File carbonHome, File snapshotDirectory, List<String> paths)
+            throws IOException {
+
+        ServerStateSnapshot snapshot = new ServerStateSnapshot(carbonHome, snapshotDirectory, paths);
+        FileUtils.deleteDirectory(snapshotDirectory);
+        FileUtils.forceMkdir(snapshotDirectory);
+        for (String path : snapshot.paths) {
+            File source = new File(carbonHome, path);
+            if (!source.exists()) {
+                continue;
+            }
+            File target = new File(snapshotDirectory, path);
+            if (source.isDirectory()) {
+                FileUtils.copyDirectory(source, target);
+            } else {
+                FileUtils.copyFile(source, target);
+            }
+            snapshot.capturedPaths.add(path);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Puts the captured paths back into the Carbon home. The server must be stopped.
+     *
+     * @throws IOException if a path could not be restored
+     */
+    void restore() throws IOException {
+
+        for (String path : paths) {
+            File target = new File(carbonHome, path);
+            FileUtils.deleteQuietly(target);
+            if (target.exists()) {
+                throw new IOException("Unable to remove " + target + " before restoring it");
+            }
+            if (!capturedPaths.contains(path)) {
+                continue;
+            }
+            File source = new File(snapshotDirectory, path);
+            if (source.isDirectory()) {
+                FileUtils.copyDirectory(source, target);
+            } else {
+                FileUtils.copyFile(source, target);
+            }
+        }
+    }
+
+    long getSizeInBytes() {
+
+        return snapshotDirectory.exists() ? FileUtils.sizeOfDirectory(snapshotDirectory) : 0;
+    }
+
+    List<String> getPaths() {
+
+        return paths;
+    }
+}
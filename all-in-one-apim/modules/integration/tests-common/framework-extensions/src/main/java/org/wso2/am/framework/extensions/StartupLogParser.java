@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.framework.extensions;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds a {@link StartupTimeline} from wso2carbon.log, written with the {@code [%d] %5p {%c} - %m} layout of the
+ * CARBON_LOGFILE appender. Lines logged before the launch of the server being profiled, i.e. by an earlier run
+ * sharing the log, and continuation lines such as stack traces are skipped.
+ */
+class StartupLogParser {
+
+    private static final Pattern LOG_LINE =
+            Pattern.compile("\\[(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2},\\d{3})]\\s+[A-Z]+\\s+(\\{.*)$");
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss,SSS");
+
+    private static class LogLine {
+
+        private final long timestamp;
+        private final String text;
+
+        LogLine(long timestamp, String text) {
+
+            this.timestamp = timestamp;
+            this.text = text;
+        }
+    }
+
+    private final List<LogLine> lines = new ArrayList<>();
+    private final long launchTime;
+
+    /**
+     * @param carbonLog  the wso2carbon.log of the server
+     * @param launchTime time the server was launched, in milliseconds since the epoch, or
+     *                   {@link StartupTimeline#UNKNOWN} to start from the first line of the log
+     * @throws IOException if the log could not be read
+     */
+    StartupLogParser(Path carbonLog, long launchTime) throws IOException {
+
+        try (BufferedReader reader = Files.newBufferedReader(carbonLog, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = LOG_LINE.matcher(line);
+                if (!matcher.find()) {
+                    continue;
+                }
+                long timestamp;
+                try {
+                    timestamp = LocalDateTime.parse(matcher.group(1), TIMESTAMP_FORMAT)
+                            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                } catch (DateTimeParseException e) {
+                    continue;
+                }
+                if (launchTime == StartupTimeline.UNKNOWN || timestamp >= launchTime) {
+                    lines.add(new LogLine(timestamp, matcher.group(2)));
+                }
+            }
+        }
+        this.launchTime = launchTime != StartupTimeline.UNKNOWN || lines.isEmpty() ? launchTime
+                : lines.get(0).timestamp;
+    }
+
+    /**
+     * @return whether the line ending the given phase has been logged yet
+     */
+    boolean hasEnded(StartupPhase phase) {
+
+        return find(phase.getEndMarker(), phase.getEndOccurrence(), lines.size()) >= 0;
+    }
+
+    StartupTimeline parse() {
+
+        StartupTimeline timeline = new StartupTimeline(launchTime);
+        for (StartupPhase phase : StartupPhase.values()) {
+            int end = find(phase.getEndMarker(), phase.getEndOccurrence(), lines.size());
+            long startTime;
+            if (phase.getStartOccurrence() == StartupPhase.Occurrence.LAUNCH) {
+                startTime = launchTime;
+            } else {
+                int start = find(phase.getStartMarker(), phase.getStartOccurrence(),
+                        end < 0 ? lines.size() : end);
+                startTime = start < 0 ? StartupTimeline.UNKNOWN : lines.get(start).timestamp;
+            }
+            timeline.addPhase(phase, new StartupTimeline.PhaseTiming(startTime,
+                    end < 0 ? StartupTimeline.UNKNOWN : lines.get(end).timestamp));
+        }
+        return timeline;
+    }
+
+    /**
+     * @return index of the line delimiting a phase, or -1 if no line matches or the phase has no marker
+     */
+    private int find(Pattern marker, StartupPhase.Occurrence occurrence, int before) {
+
+        if (marker == null) {
+            return -1;
+        }
+        switch (occurrence) {
+            case FIRST:
+                for (int i = 0; i < lines.size(); i++) {
+                    if (marker.matcher(lines.get(i).text).find()) {
+                        return i;
+                    }
+                }
+                return -1;
+            case LAST:
+            case LAST_BEFORE_END:
+                int last = occurrence == StartupPhase.Occurrence.LAST ? lines.size() : before;
+                for (int i = last - 1; i >= 0; i--) {
+                    if (marker.matcher(lines.get(i).text).find()) {
+                        return i;
+                    }
+                }
+                return -1;
+            default:
+                return -1;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.framework.extensions;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Phases of the server startup, each delimited by the wso2carbon.log lines that start and end it. The markers are
+ * matched against the {@code {logger} - message} part of a log line, and can be replaced with the
+ * {@code startup.profile.phase.<phase>.start} and {@code startup.profile.phase.<phase>.end} system properties, e.g.
+ * {@code -Dstartup.profile.phase.transport_listener_start.end=...}, when the product changes its log messages.
+ * <p>
+ * The gateway does not log a fixed pair of lines around the synchronization of the deployed artifacts, hence
+ * {@link #ARTIFACT_SYNC} has no markers of its own and is only measured when both of its markers are given with
+ * {@code -Dstartup.profile.phase.artifact_sync.start=...} and {@code -Dstartup.profile.phase.artifact_sync.end=...}.
+ */
+public enum StartupPhase {
+
+    OSGI_BUNDLE_RESOLUTION("OSGi bundle resolution",
+            null, Occurrence.LAUNCH,
+            "Starting WSO2 Carbon", Occurrence.FIRST),
+    AXIS2_SYNAPSE_INIT("Axis2 and Synapse initialization",
+            "\\{org\\.wso2\\.carbon\\.core\\.init\\.CarbonServerManager\\}", Occurrence.FIRST,
+            "\\{org\\.apache\\.synapse\\.ServerManager\\} - .*(?i:ready for processing)", Occurrence.FIRST),
+    WEBAPP_DEPLOYMENT_PUBLISHER("Publisher webapp deployment",
+            "Deployed webapp: ", Occurrence.LAST_BEFORE_END,
+            "Deployed webapp: .*StandardContext\\[/publisher\\]", Occurrence.FIRST),
+    WEBAPP_DEPLOYMENT_DEVPORTAL("Developer portal webapp deployment",
+            "Deployed webapp: ", Occurrence.LAST_BEFORE_END,
+            "Deployed webapp: .*StandardContext\\[/devportal\\]", Occurrence.FIRST),
+    WEBAPP_DEPLOYMENT_ADMIN("Admin portal webapp deployment",
+            "Deployed webapp: ", Occurrence.LAST_BEFORE_END,
+            "Deployed webapp: .*StandardContext\\[/admin\\]", Occurrence.FIRST),
+    ARTIFACT_SYNC("Artifact synchronization from the control plane",
+            null, Occurrence.FIRST,
+            null, Occurrence.LAST),
+    TRANSPORT_LISTENER_START("Transport listener start",
+            "(?i:Starting Pass-?through HTTPS? Listener)", Occurrence.FIRST,
+            "(?i:Pass-?through HTTPS? Listener started)", Occurrence.LAST),
+    TOTAL("Total startup",
+            null, Occurrence.LAUNCH,
+            "WSO2 Carbon started in", Occurrence.FIRST);
+
+    /**
+     * Which of the lines matching a marker delimits the phase.
+     */
+    enum Occurrence {
+        /**
+         * The time the server process was launched, which has no log line
+         */
+        LAUNCH,
+        FIRST,
+        LAST,
+        /**
+         * The last matching line before the end of the phase, for phases that follow each other without a start line
+         */
+        LAST_BEFORE_END
+    }
+
+    private final String description;
+    private final Pattern startMarker;
+    private final Occurrence startOccurrence;
+    private final Pattern endMarker;
+    private final Occurrence endOccurrence;
+
+    StartupPhase(String description, String startMarker, Occurrence startOccurrence, String endMarker,
+                 Occurrence endOccurrence) {
+
+        String property = "startup.profile.phase." + name().toLowerCase(Locale.ENGLISH);
+        this.description = description;
+        this.startOccurrence = startOccurrence;
+        this.endOccurrence = endOccurrence;
+        String start = System.getProperty(property + ".start", startMarker);
+        String end = System.getProperty(property + ".end", endMarker);
+        this.startMarker = start == null ? null : Pattern.compile(start);
+        this.endMarker = end == null ? null : Pattern.compile(end);
+    }
+
+    public String getDescription() {
+
+        return description;
+    }
+
+    Pattern getStartMarker() {
+
+        return startMarker;
+    }
+
+    Occurrence getStartOccurrence() {
+
+        return startOccurrence;
+    }
+
+    Pattern getEndMarker() {
+
+        return endMarker;
+    }
+
+    Occurrence getEndOccurrence() {
+
+        return endOccurrence;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.framework.extensions;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONObject;
+import org.wso2.carbon.automation.engine.exceptions.AutomationFrameworkException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Profiles the startup of the server started by the {@link APIMCarbonServerExtension} when
+ * {@code -D}{@value #ENABLED_PROPERTY}{@code =true} is given. The per phase timeline is
+ * read from wso2carbon.log once the server is up and written to {@value #REPORT_FILE} and {@value #TABLE_FILE} in
+ * the {@value #REPORT_DIR_PROPERTY} directory, {@code <java.io.tmpdir>/startup-profile} by default.
+ * <p>
+ * When the server JVM records a JFR file, e.g. with {@code -XX:StartFlightRecording=filename=...} in JAVA_OPTS, and
+ * its path is given with {@value #JFR_PROPERTY}, the garbage collection pauses of each phase are added to the
+ * report once the server has stopped and the recording is complete.
+ * <p>
+ * Given the report of an earlier run with {@value #BASELINE_PROPERTY}, the run fails when a phase takes
+ * {@value #THRESHOLD_PERCENT_PROPERTY} percent (25 by default) and {@value #THRESHOLD_MILLIS_PROPERTY} milliseconds
+ * (1000 by default) longer than it did in the baseline.
+ */
+public class StartupProfiler {
+
+    public static final String ENABLED_PROPERTY = "startup.profile.enabled";
+    public static final String REPORT_DIR_PROPERTY = "startup.profile.report.dir";
+    public static final String JFR_PROPERTY = "startup.profile.jfr";
+    public static final String BASELINE_PROPERTY = "startup.profile.baseline";
+    public static final String THRESHOLD_PERCENT_PROPERTY = "startup.profile.threshold.percent";
+    public static final String THRESHOLD_MILLIS_PROPERTY = "startup.profile.threshold.millis";
+    public static final String REPORT_FILE = "startup-timeline.json";
+    public static final String TABLE_FILE = "startup-timeline.txt";
+
+    private static final Log log = LogFactory.getLog(StartupProfiler.class);
+    private static final long LOG_WAIT_MILLIS = 30000;
+    private static final long LOG_POLL_MILLIS = 500;
+
+    private final Path reportDirectory;
+    private long launchTime = StartupTimeline.UNKNOWN;
+    private StartupTimeline timeline;
+
+    public StartupProfiler() {
+
+        this(Paths.get(System.getProperty(REPORT_DIR_PROPERTY,
+                Paths.get(System.getProperty("java.io.tmpdir"), "startup-profile").toString())));
+    }
+
+    /**
+     * @param reportDirectory directory the report is written to, e.g. to keep the reports of restarts profiled by a
+     *                        test apart from the one of the first start
+     */
+    public StartupProfiler(Path reportDirectory) {
+
+        this.reportDirectory = reportDirectory;
+    }
+
+    /**
+     * @return the directory the report is written to
+     */
+    public Path getReportDirectory() {
+
+        return reportDirectory;
+    }
+
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "false"));
+    }
+
+    /**
+     * Records the launch of the server, which is the start of the first phase.
+     */
+    public void markLaunch() {
+
+        launchTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Reads the timeline of the startup from the log of the server and writes the report. The line ending the
+     * startup is waited for a short while, in case the log has not been flushed when the server accepts logins.
+     *
+     * @param carbonHome Carbon home of the started server
+     * @return the timeline
+     * @throws IOException if the log could not be read or the report written
+     */
+    public StartupTimeline profile(String carbonHome) throws IOException {
+
+        Path carbonLog = Paths.get(carbonHome, "repository", "logs", "wso2carbon.log");
+        long deadline = System.currentTimeMillis() + LOG_WAIT_MILLIS;
+        StartupLogParser parser = new StartupLogParser(carbonLog, launchTime);
+        while (!parser.hasEnded(StartupPhase.TOTAL) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOG_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            parser = new StartupLogParser(carbonLog, launchTime);
+        }
+        timeline = parser.parse();
+        writeReport();
+        log.info("Server startup timeline:" + System.lineSeparator() + timeline);
+        return timeline;
+    }
+
+    /**
+     * @return the timeline of the profiled startup, or null if the startup was not profiled
+     */
+    public StartupTimeline getTimeline() {
+
+        return timeline;
+    }
+
+    /**
+     * Adds the JFR recording to the report, if one was requested, and compares the timeline with the baseline.
+     * Called once the server has stopped.
+     *
+     * @throws AutomationFrameworkException if a phase regressed past the threshold
+     */
+    public void complete() throws AutomationFrameworkException {
+
+        if (timeline == null) {
+            return;
+        }
+        String recording = System.getProperty(JFR_PROPERTY);
+        if (recording != null) {
+            try {
+                new JfrGcPauseReader(new File(recording)).addGcPauses(timeline);
+                writeReport();
+                log.info("Server startup timeline with GC pauses:" + System.lineSeparator() + timeline);
+            } catch (IOException e) {
+                log.warn("Unable to add the JFR recording " + recording + " to the startup report", e);
+            }
+        }
+
+        String baselineReport = System.getProperty(BASELINE_PROPERTY);
+        if (baselineReport == null) {
+            return;
+        }
+        StartupTimeline baseline;
+        try {
+            baseline = StartupTimeline.fromJson(new JSONObject(
+                    new String(Files.readAllBytes(Paths.get(baselineReport)), StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new AutomationFrameworkException("Unable to read the startup baseline " + baselineReport, e);
+        }
+        List<String> regressions = findRegressions(baseline, timeline,
+                Double.parseDouble(System.getProperty(THRESHOLD_PERCENT_PROPERTY, "25")),
+                Long.parseLong(System.getProperty(THRESHOLD_MILLIS_PROPERTY, "1000")));
+        if (!regressions.isEmpty()) {
+            throw new AutomationFrameworkException("Server startup regressed compared to " + baselineReport + ": "
+                    + String.join("; ", regressions));
+        }
+        log.info("Server startup is within the thresholds of the baseline " + baselineReport);
+    }
+
+    /**
+     * Compares the phases measured in both timelines.
+     *
+     * @param baseline         timeline to compare with
+     * @param current          timeline of this run
+     * @param thresholdPercent allowed increase of a phase, in percent of its baseline duration
+     * @param thresholdMillis  allowed increase of a phase in milliseconds, so short phases do not fail on noise
+     * @return a description of each phase that exceeds both thresholds
+     */
+    static List<String> findRegressions(StartupTimeline baseline, StartupTimeline current, double thresholdPercent,
+                                        long thresholdMillis) {
+
+        List<String> regressions = new ArrayList<>();
+        for (StartupPhase phase : StartupPhase.values()) {
+            long before = baseline.getDurationMillis(phase);
+            long now = current.getDurationMillis(phase);
+            if (before == StartupTimeline.UNKNOWN || now == StartupTimeline.UNKNOWN) {
+                continue;
+            }
+            if (now - before > thresholdMillis && now > before * (1 + thresholdPercent / 100)) {
+                regressions.add(phase.getDescription() + " took " + now + "ms against " + before + "ms");
+            }
+        }
+        return regressions;
+    }
+
+    private void writeReport() throws IOException {
+
+        Files.createDirectories(reportDirectory);
+        Files.write(reportDirectory.resolve(REPORT_FILE), timeline.toJson().toString(2)
+                .getBytes(StandardCharsets.UTF_8));
+        Files.write(reportDirectory.resolve(TABLE_FILE), timeline.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.framework.extensions;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Start and end times of the {@link StartupPhase}s of a single server startup, along with the garbage collection
+ * pauses within each phase when a JFR recording of the startup was available.
+ */
+public class StartupTimeline {
+
+    public static final long UNKNOWN = -1;
+
+    private final long launchTime;
+    private final Map<StartupPhase, PhaseTiming> phases = new EnumMap<>(StartupPhase.class);
+
+    StartupTimeline(long launchTime) {
+
+        this.launchTime = launchTime;
+    }
+
+    /**
+     * Timing of a single phase. Times are in milliseconds since the epoch, or {@link #UNKNOWN} when the marker of
+     * the phase was not found in the log.
+     */
+    public static class PhaseTiming {
+
+        private final long startTime;
+        private final long endTime;
+        private double gcPauseMillis = UNKNOWN;
+
+        PhaseTiming(long startTime, long endTime) {
+
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        public long getStartTime() {
+
+            return startTime;
+        }
+
+        public long getEndTime() {
+
+            return endTime;
+        }
+
+        public boolean isComplete() {
+
+            return startTime != UNKNOWN && endTime != UNKNOWN && endTime >= startTime;
+        }
+
+        public long getDurationMillis() {
+
+            return isComplete() ? endTime - startTime : UNKNOWN;
+        }
+
+        /**
+         * @return the garbage collection pauses within the phase, or {@link #UNKNOWN} without a JFR recording
+         */
+        public double getGcPauseMillis() {
+
+            return gcPauseMillis;
+        }
+
+        void setGcPauseMillis(double gcPauseMillis) {
+
+            this.gcPauseMillis = gcPauseMillis;
+        }
+    }
+
+    void addPhase(StartupPhase phase, PhaseTiming timing) {
+
+        phases.put(phase, timing);
+    }
+
+    public long getLaunchTime() {
+
+        return launchTime;
+    }
+
+    /**
+     * @return the timing of the phase, or null if the phase was not measured
+     */
+    public PhaseTiming getPhase(StartupPhase phase) {
+
+        return phases.get(phase);
+    }
+
+    public Map<StartupPhase, PhaseTiming> getPhases() {
+
+        return Collections.unmodifiableMap(phases);
+    }
+
+    /**
+     * @return the duration of the phase in milliseconds, or {@link #UNKNOWN} if the phase was not measured
+     */
+    public long getDurationMillis(StartupPhase phase) {
+
+        PhaseTiming timing = phases.get(phase);
+        return timing == null ? UNKNOWN : timing.getDurationMillis();
+    }
+
+    public JSONObject toJson() {
+
+        JSONArray phaseArray = new JSONArray();
+        for (Map.Entry<StartupPhase, PhaseTiming> entry : phases.entrySet()) {
+            PhaseTiming timing = entry.getValue();
+            JSONObject phase = new JSONObject();
+            phase.put("phase", entry.getKey().name());
+            phase.put("description", entry.getKey().getDescription());
+            phase.put("startOffsetMillis",
+                    timing.getStartTime() == UNKNOWN ? UNKNOWN : timing.getStartTime() - launchTime);
+            phase.put("durationMillis", timing.getDurationMillis());
+            phase.put("gcPauseMillis", timing.getGcPauseMillis());
+            phaseArray.put(phase);
+        }
+        JSONObject timeline = new JSONObject();
+        timeline.put("launchTime", launchTime);
+        timeline.put("phases", phaseArray);
+        return timeline;
+    }
+
+    /**
+     * Reads a timeline written by {@link #toJson()}, such as the report of an earlier run used as a baseline.
+     * Phases that are no longer known are skipped.
+     */
+    public static StartupTimeline fromJson(JSONObject json) {
+
+        StartupTimeline timeline = new StartupTimeline(json.getLong("launchTime"));
+        JSONArray phaseArray = json.getJSONArray("phases");
+        for (int i = 0; i < phaseArray.length(); i++) {
+            JSONObject phase = phaseArray.getJSONObject(i);
+            StartupPhase startupPhase;
+            try {
+                startupPhase = StartupPhase.valueOf(phase.getString("phase"));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            long startOffset = phase.getLong("startOffsetMillis");
+            long duration = phase.getLong("durationMillis");
+            long startTime = startOffset == UNKNOWN ? UNKNOWN : timeline.launchTime + startOffset;
+            long endTime = startTime == UNKNOWN || duration == UNKNOWN ? UNKNOWN : startTime + duration;
+            PhaseTiming timing = new PhaseTiming(startTime, endTime);
+            timing.setGcPauseMillis(phase.optDouble("gcPauseMillis", UNKNOWN));
+            timeline.addPhase(startupPhase, timing);
+        }
+        return timeline;
+    }
+
+    /**
+     * @return the phases as a table, in the order they started
+     */
+    @Override
+    public String toString() {
+
+        StringBuilder table = new StringBuilder(String.format("%-50s %10s %10s %10s%n", "Phase", "Start (ms)",
+                "Took (ms)", "GC (ms)"));
+        phases.entrySet().stream()
+                .sorted((a, b) -> Long.compare(a.getValue().getStartTime(), b.getValue().getStartTime()))
+                .forEach(entry -> {
+                    PhaseTiming timing = entry.getValue();
+                    table.append(String.format("%-50s %10s %10s %10s%n", entry.getKey().getDescription(),
+                            timing.getStartTime() == UNKNOWN ? "-" : timing.getStartTime() - launchTime,
+                            timing.isComplete() ? timing.getDurationMillis() : "-",
+                            timing.getGcPauseMillis() == UNKNOWN ? "-"
+                                    : String.format("%.1f", timing.getGcPauseMillis())));
+                });
+        return table.toString();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.am.integration.test.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.am.integration.clients.publisher.api.JSON;
+import org.wso2.am.integration.clients.publisher.api.v1.dto.APIDTO;
+import org.wso2.am.integration.clients.publisher.api.v1.dto.APIOperationsDTO;
+import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
+import org.wso2.am.integration.test.utils.bean.APICreationRequestBean;
+import org.wso2.am.integration.test.utils.bean.APIRequest;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the API creation requests used by the publisher helpers, from the request beans up to the JSON
+ * body that is written to the wire.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiRequestBenchmark {
+
+    private static final String API_VERSION = "1.0.0";
+
+    private URL endpointUrl;
+    private APIRequest apiRequest;
+    private APICreationRequestBean apiCreationRequestBean;
+    private JSON json;
+
+    @Setup
+    public void setup() throws MalformedURLException, APIManagerIntegrationTestException {
+
+        endpointUrl = new URL("http://localhost:8280/am/sample/pizzashack/v1/api/menu");
+        apiRequest = createApiRequest();
+        apiCreationRequestBean = new APICreationRequestBean("BenchmarkAPI", "benchmark", API_VERSION, "admin",
+                endpointUrl);
+        json = new JSON();
+    }
+
+    @Benchmark
+    public APIRequest createApiRequest() throws APIManagerIntegrationTestException {
+
+        APIRequest request = new APIRequest("BenchmarkAPI", "benchmark", endpointUrl);
+        request.setVersion(API_VERSION);
+        request.setProvider("admin");
+        return request;
+    }
+
+    @Benchmark
+    public String generateApiCreationRequestParameters() throws Exception {
+
+        return apiCreationRequestBean.generateRequestParameters();
+    }
+
+    @Benchmark
+    public String serializeApiRequest() {
+
+        return json.serialize(toApiDto(apiRequest));
+    }
+
+    /**
+     * Maps the request the same way RestAPIPublisherImpl#addAPI does for a plain HTTP API.
+     */
+    private static APIDTO toApiDto(APIRequest request) {
+
+        APIOperationsDTO operation = new APIOperationsDTO().verb("GET").target("/*")
+                .authType("Application & Application User").throttlingPolicy("Unlimited");
+        return new APIDTO()
+                .name(request.getName())
+                .context(request.getContext())
+                .version(request.getVersion())
+                .provider(request.getProvider())
+                .visibility(APIDTO.VisibilityEnum.PUBLIC)
+                .operations(Collections.singletonList(operation))
+                .tags(Arrays.asList(request.getTags().split(",")))
+                .endpointConfig(request.getEndpointConfig())
+                .policies(Arrays.asList(request.getTiersCollection().split(",")));
+    }
+}
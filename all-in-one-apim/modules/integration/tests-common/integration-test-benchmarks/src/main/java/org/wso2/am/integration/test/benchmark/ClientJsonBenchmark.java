@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.am.integration.test.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.am.integration.clients.admin.api.dto.SubscriptionThrottlePolicyDTO;
+import org.wso2.am.integration.clients.admin.api.dto.ThrottleLimitDTO;
+import org.wso2.am.integration.clients.publisher.api.v1.dto.APIDTO;
+import org.wso2.am.integration.clients.publisher.api.v1.dto.APIOperationsDTO;
+import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationDTO;
+import org.wso2.am.integration.test.impl.DtoFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generated gson {@code JSON} (de)serializers of the publisher, store and admin REST clients with
+ * payloads shaped like the ones the integration tests exchange with the server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientJsonBenchmark {
+
+    private org.wso2.am.integration.clients.publisher.api.JSON publisherJson;
+    private org.wso2.am.integration.clients.store.api.JSON storeJson;
+    private org.wso2.am.integration.clients.admin.JSON adminJson;
+
+    private APIDTO api;
+    private ApplicationDTO application;
+    private SubscriptionThrottlePolicyDTO subscriptionPolicy;
+    private String apiJson;
+    private String applicationJson;
+    private String subscriptionPolicyJson;
+
+    @Setup
+    public void setup() {
+
+        publisherJson = new org.wso2.am.integration.clients.publisher.api.JSON();
+        storeJson = new org.wso2.am.integration.clients.store.api.JSON();
+        adminJson = new org.wso2.am.integration.clients.admin.JSON();
+
+        List<APIOperationsDTO> operations = new ArrayList<>();
+        for (String verb : Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH")) {
+            operations.add(new APIOperationsDTO().verb(verb).target("/menu").authType("Application & Application User")
+                    .throttlingPolicy("Unlimited"));
+        }
+        api = new APIDTO().id("2f2d0e9a-7c1b-4b8e-9f0a-1c7bb8e3c8f1").name("PizzaShackAPI").context("/pizzashack")
+                .version("1.0.0").provider("admin").visibility(APIDTO.VisibilityEnum.PUBLIC)
+                .tags(Arrays.asList("pizza", "food")).policies(Arrays.asList("Gold", "Unlimited"))
+                .operations(operations);
+        application = new ApplicationDTO().applicationId("8c7a2b91-3f7e-4a1f-bf2e-6d0c1b2d9a11").name("DefaultApp")
+                .throttlingPolicy("Unlimited").description("Benchmark application")
+                .tokenType(ApplicationDTO.TokenTypeEnum.JWT).status("APPROVED");
+        subscriptionPolicy = DtoFactory.createSubscriptionThrottlePolicyDTO("Gold", "Gold", "Allows 5000 requests",
+                true, DtoFactory.createThrottleLimitDTO(ThrottleLimitDTO.TypeEnum.REQUESTCOUNTLIMIT,
+                        DtoFactory.createRequestCountLimitDTO("min", 1, 5000L), null), 0, 0, 0, null,
+                new ArrayList<>(), true, "FREE", 0, null);
+
+        apiJson = publisherJson.serialize(api);
+        applicationJson = storeJson.serialize(application);
+        subscriptionPolicyJson = adminJson.serialize(subscriptionPolicy);
+    }
+
+    @Benchmark
+    public String serializePublisherApi() {
+
+        return publisherJson.serialize(api);
+    }
+
+    @Benchmark
+    public APIDTO deserializePublisherApi() {
+
+        return publisherJson.deserialize(apiJson, APIDTO.class);
+    }
+
+    @Benchmark
+    public String serializeStoreApplication() {
+
+        return storeJson.serialize(application);
+    }
+
+    @Benchmark
+    public ApplicationDTO deserializeStoreApplication() {
+
+        return storeJson.deserialize(applicationJson, ApplicationDTO.class);
+    }
+
+    @Benchmark
+    public String serializeAdminSubscriptionPolicy() {
+
+        return adminJson.serialize(subscriptionPolicy);
+    }
+
+    @Benchmark
+    public SubscriptionThrottlePolicyDTO deserializeAdminSubscriptionPolicy() {
+
+        return adminJson.deserialize(subscriptionPolicyJson, SubscriptionThrottlePolicyDTO.class);
+    }
+}
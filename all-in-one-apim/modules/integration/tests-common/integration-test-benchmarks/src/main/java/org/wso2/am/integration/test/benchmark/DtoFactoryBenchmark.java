@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.am.integration.clients.admin.api.dto.ApplicationThrottlePolicyDTO;
+import org.wso2.am.integration.clients.admin.api.dto.RequestCountLimitDTO;
+import org.wso2.am.integration.clients.admin.api.dto.SubscriptionThrottlePolicyDTO;
+import org.wso2.am.integration.clients.admin.api.dto.ThrottleLimitDTO;
+import org.wso2.am.integration.clients.publisher.api.v1.dto.APIProductDTO;
+import org.wso2.am.integration.clients.publisher.api.v1.dto.ProductAPIDTO;
+import org.wso2.am.integration.test.impl.DtoFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the DTO construction helpers of {@link DtoFactory} which the throttling and API product tests call for
+ * every policy and product they create.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoFactoryBenchmark {
+
+    private List<ProductAPIDTO> productApis;
+    private List<String> policies;
+
+    @Setup
+    public void setup() {
+
+        productApis = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            productApis.add(new ProductAPIDTO().apiId("api-" + i).name("API" + i));
+        }
+        policies = Collections.singletonList("Unlimited");
+    }
+
+    @Benchmark
+    public ThrottleLimitDTO createRequestCountThrottleLimit() {
+
+        RequestCountLimitDTO requestCountLimit = DtoFactory.createRequestCountLimitDTO("min", 1, 100L);
+        return DtoFactory.createThrottleLimitDTO(ThrottleLimitDTO.TypeEnum.REQUESTCOUNTLIMIT, requestCountLimit,
+                null);
+    }
+
+    @Benchmark
+    public ApplicationThrottlePolicyDTO createApplicationThrottlePolicy() {
+
+        return DtoFactory.createApplicationThrottlePolicyDTO("TestPolicy", "Test Policy", "Benchmark policy", false,
+                createRequestCountThrottleLimit());
+    }
+
+    @Benchmark
+    public SubscriptionThrottlePolicyDTO createSubscriptionThrottlePolicy() {
+
+        return DtoFactory.createSubscriptionThrottlePolicyDTO("TestPolicy", "Test Policy", "Benchmark policy", false,
+                createRequestCountThrottleLimit(), 0, 0, 10, "min", new ArrayList<>(), true, "FREE", 0, null);
+    }
+
+    @Benchmark
+    public APIProductDTO createApiProduct() {
+
+        return DtoFactory.createApiProductDTO("admin", "TestProduct", "/testProduct", "1.0.0", productApis, policies);
+    }
+}
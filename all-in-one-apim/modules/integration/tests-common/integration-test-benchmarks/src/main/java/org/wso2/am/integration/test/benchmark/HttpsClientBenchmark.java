@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.am.integration.test.benchmark;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.am.integration.test.utils.http.HTTPSClientUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+/**
+ * Measures GET requests sent over TLS to a local HTTPS endpoint with {@link HTTPSClientUtils}, through the shared
+ * pooled client that reuses connections and TLS sessions, against a client created and closed for every request,
+ * which pays the TCP and TLS handshakes each time. The endpoint answers every request of a kept alive connection
+ * with a small JSON body, using a self signed certificate generated with keytool, which is made the trust store of
+ * the benchmark JVM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpsClientBenchmark {
+
+    private static final String PASSWORD = "password";
+    private static final String ALIAS = "localhost";
+    private static final String BODY = "{\"status\":\"ok\"}";
+    private static final byte[] RESPONSE = ("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: "
+            + BODY.length() + "\r\n\r\n" + BODY).getBytes(StandardCharsets.US_ASCII);
+
+    private final Map<String, String> headers = Collections.singletonMap("Accept", "application/json");
+    private Path keyStoreDirectory;
+    private ServerSocket serverSocket;
+    private ExecutorService serverExecutor;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+
+        keyStoreDirectory = Files.createTempDirectory("https-client-benchmark");
+        KeyStore keyStore = generateKeyStore(keyStoreDirectory.resolve("server.p12"));
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        trustStore.setCertificateEntry(ALIAS, keyStore.getCertificate(ALIAS));
+        Path trustStoreFile = keyStoreDirectory.resolve("truststore.p12");
+        try (OutputStream out = Files.newOutputStream(trustStoreFile)) {
+            trustStore.store(out, PASSWORD.toCharArray());
+        }
+        // The clients of HTTPSClientUtils trust the default trust store of the JVM
+        System.setProperty("javax.net.ssl.trustStore", trustStoreFile.toString());
+        System.setProperty("javax.net.ssl.trustStorePassword", PASSWORD);
+        System.setProperty("javax.net.ssl.trustStoreType", "PKCS12");
+
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, PASSWORD.toCharArray());
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+        serverSocket = sslContext.getServerSocketFactory().createServerSocket(0, 50,
+                InetAddress.getLoopbackAddress());
+        serverExecutor = Executors.newCachedThreadPool();
+        serverExecutor.execute(this::acceptConnections);
+        url = "https://" + serverSocket.getInetAddress().getHostAddress() + ":" + serverSocket.getLocalPort() + "/";
+    }
+
+    private void acceptConnections() {
+
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                serverExecutor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                // the server socket was closed
+            }
+        }
+    }
+
+    private static void serve(Socket socket) {
+
+        try (Socket connection = socket) {
+            connection.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(),
+                    StandardCharsets.US_ASCII));
+            OutputStream out = connection.getOutputStream();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    out.write(RESPONSE);
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // the client closed the connection
+        }
+    }
+
+    private static KeyStore generateKeyStore(Path keyStoreFile)
+            throws IOException, InterruptedException, GeneralSecurityException {
+
+        Path keytoolOutput = keyStoreFile.resolveSibling("keytool.log");
+        Process keytool = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "keytool").toString(),
+                "-genkeypair", "-alias", ALIAS, "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+                "-dname", "CN=localhost", "-ext", "SAN=ip:127.0.0.1,dns:localhost", "-storetype", "PKCS12",
+                "-keystore", keyStoreFile.toString(), "-storepass", PASSWORD, "-keypass", PASSWORD)
+                .redirectErrorStream(true).redirectOutput(keytoolOutput.toFile()).start();
+        if (keytool.waitFor() != 0) {
+            throw new IOException("Unable to generate the key store of the HTTPS endpoint: "
+                    + new String(Files.readAllBytes(keytoolOutput), StandardCharsets.UTF_8));
+        }
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(keyStoreFile)) {
+            keyStore.load(in, PASSWORD.toCharArray());
+        }
+        return keyStore;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws IOException {
+
+        HTTPSClientUtils.closePooledClients();
+        serverSocket.close();
+        serverExecutor.shutdownNow();
+        try (Stream<Path> files = Files.walk(keyStoreDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int pooledClient() throws IOException {
+
+        return HTTPSClientUtils.doGet(url, headers).getResponseCode();
+    }
+
+    @Benchmark
+    public int clientPerRequest() throws IOException {
+
+        try (CloseableHttpClient httpClient = HTTPSClientUtils.getHttpsClient()) {
+            HttpGet get = new HttpGet(url);
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                get.addHeader(header.getKey(), header.getValue());
+            }
+            try (CloseableHttpResponse response = httpClient.execute(get)) {
+                EntityUtils.consume(response.getEntity());
+                return response.getStatusLine().getStatusCode();
+            }
+        }
+    }
+}
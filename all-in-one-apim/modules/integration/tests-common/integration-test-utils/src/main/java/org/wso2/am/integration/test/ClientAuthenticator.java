@@ -24,8 +24,10 @@ import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
@@ -42,9 +44,26 @@ public class ClientAuthenticator {
     private static TrustManager trustAll;
     private static String consumerKey = null;
     private static String consumerSecret = null;
-    private static Map<String, ApplicationKeyBean> applicationKeyMap = new HashMap<>();
+    private static Map<String, ApplicationKeyBean> applicationKeyMap = new ConcurrentHashMap<>();
     private static final String TLS_PROTOCOL = "TLS";
-    private static int count = 0;
+    private static final AtomicInteger count = new AtomicInteger();
+    /**
+     * Set to true to share access tokens between clients. Tokens are requested for every client by default, since the
+     * feature tests change the roles of users and delete users through admin clients that a cached token would not
+     * follow. Runs that leave their users as they are, such as the benchmarks, enable it.
+     */
+    public static final String TOKEN_CACHE_ENABLED_PROPERTY = "client.token.cache.enabled";
+    /**
+     * Upper bound in seconds on how long a token is shared, so that clients created after a user's roles changed
+     * eventually get a token with the new scopes.
+     */
+    public static final String TOKEN_CACHE_MAX_AGE_PROPERTY = "client.token.cache.max.age";
+    private static final long DEFAULT_TOKEN_CACHE_MAX_AGE = 300;
+    // A cached token is replaced once less than this fraction of its lifetime is left
+    private static final double TOKEN_REFRESH_THRESHOLD = 0.2;
+    private static final Map<String, CachedToken> tokenCache = new ConcurrentHashMap<>();
+    private static final Map<String, Object> tokenLocks = new ConcurrentHashMap<>();
+    private static final Map<String, ApplicationKeyBean> dcrCache = new ConcurrentHashMap<>();
     static {
         JAVA_VERSION = Double.parseDouble(System.getProperty("java.specification.version"));
 
@@ -64,8 +83,42 @@ public class ClientAuthenticator {
         };
     }
 
+    /**
+     * Returns an access token for the given user and scopes. When {@link #TOKEN_CACHE_ENABLED_PROPERTY} is set,
+     * tokens are shared by all clients requesting the same user, tenant, grant type, scopes, application and token
+     * endpoint, and are replaced before they expire.
+     */
     public static String getAccessToken(String scopeList, String appName, String callBackURL, String tokenScope, String appOwner,
                                         String grantType, String dcrEndpoint, String username, String password, String tenantDomain, String tokenEndpoint) {
+        if (!Boolean.getBoolean(TOKEN_CACHE_ENABLED_PROPERTY)) {
+            return requestAccessToken(scopeList, appName, grantType, username, password, tenantDomain, tokenEndpoint)
+                    .token;
+        }
+        String cacheKey = String.join("|", tokenEndpoint, appName, grantType, tenantDomain, username, scopeList);
+        CachedToken cachedToken = tokenCache.get(cacheKey);
+        if (cachedToken != null && cachedToken.isFresh()) {
+            return cachedToken.token;
+        }
+        // Only one of the clients asking for the same token at the same time calls the token endpoint. The lock is
+        // dropped once released; a client that takes a new lock for the key finds the token in the cache.
+        Object lock = tokenLocks.computeIfAbsent(cacheKey, key -> new Object());
+        try {
+            synchronized (lock) {
+                cachedToken = tokenCache.get(cacheKey);
+                if (cachedToken == null || !cachedToken.isFresh()) {
+                    cachedToken = requestAccessToken(scopeList, appName, grantType, username, password, tenantDomain,
+                            tokenEndpoint);
+                    tokenCache.put(cacheKey, cachedToken);
+                }
+                return cachedToken.token;
+            }
+        } finally {
+            tokenLocks.remove(cacheKey, lock);
+        }
+    }
+
+    private static CachedToken requestAccessToken(String scopeList, String appName, String grantType, String username,
+                                                  String password, String tenantDomain, String tokenEndpoint) {
         URL url;
         HttpsURLConnection urlConn = null;
         //calling token endpoint
@@ -91,7 +144,7 @@ public class ClientAuthenticator {
                 postParams = "grant_type=client_credentials";
             }
             if (!scopeList.isEmpty()) {
-                postParams += "&scope=" + scopeList+" device_"+count;
+                postParams += "&scope=" + scopeList+" device_"+count.get();
             }
             urlConn.setHostnameVerifier(new HostnameVerifier() {
 
@@ -109,8 +162,9 @@ public class ClientAuthenticator {
                 String responseStr = getResponseString(urlConn.getInputStream());
                 JsonParser parser = new JsonParser();
                 JsonObject obj = parser.parse(responseStr).getAsJsonObject();
-                count++;
-                return obj.get("access_token").getAsString();
+                count.incrementAndGet();
+                long expiresIn = obj.has("expires_in") ? obj.get("expires_in").getAsLong() : 0;
+                return new CachedToken(obj.get("access_token").getAsString(), expiresIn);
             } else {
                 throw new RuntimeException("Error occurred while getting token. Status code: " + responseCode);
             }
@@ -127,6 +181,15 @@ public class ClientAuthenticator {
     public static ApplicationKeyBean makeDCRRequest(DCRParamRequest dcrParamRequest) {
 
         String applicationName = dcrParamRequest.getAppName();
+        // Registering the same application again returns the keys issued the first time, so reuse them
+        String dcrKey = String.join("|", dcrParamRequest.getDcrEndpoint(), applicationName,
+                String.valueOf(dcrParamRequest.getTenantDomain()), dcrParamRequest.getUsername(),
+                dcrParamRequest.getGrantType(), dcrParamRequest.getTokenScope());
+        ApplicationKeyBean registeredKeys = dcrCache.get(dcrKey);
+        if (registeredKeys != null) {
+            applicationKeyMap.put(applicationName, registeredKeys);
+            return registeredKeys;
+        }
         try {
             //Create json payload for DCR endpoint
             JsonObject json = new JsonObject();
@@ -170,6 +233,7 @@ public class ClientAuthenticator {
                         applicationKeyBean.setConsumerKey(jObj.getAsJsonPrimitive("clientId").getAsString());
                         applicationKeyBean.setConsumerSecret(jObj.getAsJsonPrimitive("clientSecret").getAsString());
                         applicationKeyMap.put(dcrParamRequest.getAppName(), applicationKeyBean);
+                        dcrCache.put(dcrKey, applicationKeyBean);
                         return applicationKeyBean;
                     }
                 } else { //If DCR call fails
@@ -193,4 +257,25 @@ public class ClientAuthenticator {
             return file;
         }
     }
+
+    /**
+     * Access token shared between clients, along with the time it should be replaced at.
+     */
+    private static class CachedToken {
+
+        private final String token;
+        private final long refreshAt;
+
+        CachedToken(String token, long expiresInSeconds) {
+            this.token = token;
+            long maxAge = Long.getLong(TOKEN_CACHE_MAX_AGE_PROPERTY, DEFAULT_TOKEN_CACHE_MAX_AGE);
+            long lifetime = expiresInSeconds > 0 ?
+                    Math.min((long) (expiresInSeconds * (1 - TOKEN_REFRESH_THRESHOLD)), maxAge) : 0;
+            this.refreshAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(lifetime);
+        }
+
+        boolean isFresh() {
+            return System.nanoTime() - refreshAt < 0;
+        }
+    }
 }
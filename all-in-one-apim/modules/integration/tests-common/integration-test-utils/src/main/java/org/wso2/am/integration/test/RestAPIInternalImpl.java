@@ -6,6 +6,7 @@ import org.wso2.am.integration.clients.internal.api.RetrievingWebhooksSubscripti
 import org.wso2.am.integration.clients.internal.api.RevokeJwt_Api;
 import org.wso2.am.integration.clients.internal.api.dto.RevokedEventsDTO;
 import org.wso2.am.integration.clients.internal.api.dto.WebhooksSubscriptionsListDTO;
+import org.wso2.am.integration.test.utils.http.ClientObservabilityInterceptor;
 
 import javax.xml.bind.DatatypeConverter;
 import java.nio.charset.StandardCharsets;
@@ -20,7 +21,7 @@ public class RestAPIInternalImpl {
         String basicEncoded =
                 DatatypeConverter.printBase64Binary((username + ':' + password).getBytes(StandardCharsets.UTF_8));
         apiClient.addDefaultHeader("Authorization", "Basic " + basicEncoded);
-        apiClient.setDebugging(true);
+        apiClient.setDebugging(ClientObservabilityInterceptor.isWireLoggingEnabled());
         apiClient.setBasePath("https://localhost:9943/internal/data/v1");
         apiClient.setReadTimeout(600000);
         apiClient.setConnectTimeout(600000);
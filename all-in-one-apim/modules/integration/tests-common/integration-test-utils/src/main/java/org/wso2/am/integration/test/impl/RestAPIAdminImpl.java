@@ -26,6 +26,7 @@ import org.wso2.am.integration.clients.admin.api.dto.*;
 import org.wso2.am.integration.test.ClientAuthenticator;
 import org.wso2.am.integration.test.Constants;
 import org.wso2.am.integration.test.HttpResponse;
+import org.wso2.am.integration.test.utils.http.ClientObservabilityInterceptor;
 
 import java.io.File;
 import java.util.Arrays;
@@ -124,7 +125,7 @@ public class RestAPIAdminImpl {
 
         apiAdminClient.addDefaultHeader("Authorization", "Bearer " + accessToken);
         apiAdminClient.setBasePath(adminURl + "api/am/admin/v4");
-        apiAdminClient.setDebugging(true);
+        apiAdminClient.setHttpClient(ClientObservabilityInterceptor.install(apiAdminClient.getHttpClient()));
         apiAdminClient.setReadTimeout(600000);
         apiAdminClient.setConnectTimeout(600000);
         apiAdminClient.setWriteTimeout(600000);
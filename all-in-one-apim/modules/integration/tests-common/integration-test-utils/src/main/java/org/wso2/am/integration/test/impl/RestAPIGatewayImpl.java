@@ -36,6 +36,7 @@ import org.wso2.am.integration.clients.gateway.api.v2.dto.SequencesDTO;
 import org.wso2.am.integration.clients.gateway.api.v2.dto.SubscriptionDTO;
 import org.wso2.am.integration.clients.gateway.api.v2.dto.SubscriptionListDTO;
 import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
+import org.wso2.am.integration.test.utils.http.ClientObservabilityInterceptor;
 
 import java.nio.charset.StandardCharsets;
 import javax.xml.bind.DatatypeConverter;
@@ -53,7 +54,7 @@ public class RestAPIGatewayImpl {
         String basicEncoded =
                 DatatypeConverter.printBase64Binary((username + ':' + password).getBytes(StandardCharsets.UTF_8));
         apiClient.addDefaultHeader("Authorization", "Basic " + basicEncoded);
-        apiClient.setDebugging(true);
+        apiClient.setDebugging(ClientObservabilityInterceptor.isWireLoggingEnabled());
         apiClient.setBasePath("https://localhost:9943/api/am/gateway/v2");
         apiClient.setReadTimeout(600000);
         apiClient.setConnectTimeout(600000);
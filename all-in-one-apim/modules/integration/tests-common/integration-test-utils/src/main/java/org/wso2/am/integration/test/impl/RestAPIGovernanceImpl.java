@@ -33,6 +33,7 @@ import org.wso2.am.integration.clients.governance.api.dto.PolicyAdherenceDetails
 import org.wso2.am.integration.clients.governance.api.dto.RulesetInfoDTO;
 import org.wso2.am.integration.clients.governance.api.dto.RulesetListDTO;
 import org.wso2.am.integration.test.ClientAuthenticator;
+import org.wso2.am.integration.test.utils.http.ClientObservabilityInterceptor;
 
 import java.io.File;
 
@@ -79,7 +80,7 @@ public class RestAPIGovernanceImpl {
 
         apiGovernanceClient.addDefaultHeader("Authorization", "Bearer " + accessToken);
         apiGovernanceClient.setBasePath(url + "api/am/governance/v1");
-        apiGovernanceClient.setDebugging(true);
+        apiGovernanceClient.setHttpClient(ClientObservabilityInterceptor.install(apiGovernanceClient.getHttpClient()));
         apiGovernanceClient.setReadTimeout(600000);
         apiGovernanceClient.setConnectTimeout(600000);
         apiGovernanceClient.setWriteTimeout(600000);
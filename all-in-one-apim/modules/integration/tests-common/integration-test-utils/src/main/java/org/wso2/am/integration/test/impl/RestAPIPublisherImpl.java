@@ -112,6 +112,7 @@ import org.wso2.am.integration.test.Constants;
 import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
 import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
 import org.wso2.am.integration.test.utils.bean.*;
+import org.wso2.am.integration.test.utils.http.ClientObservabilityInterceptor;
 import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
 import java.io.File;
 import java.io.IOException;
@@ -198,7 +199,7 @@ public class RestAPIPublisherImpl {
 
         apiPublisherClient.addDefaultHeader("Authorization", "Bearer " + accessToken);
         apiPublisherClient.setBasePath(publisherURL + "api/am/publisher/v4");
-        apiPublisherClient.setDebugging(true);
+        apiPublisherClient.setHttpClient(ClientObservabilityInterceptor.install(apiPublisherClient.getHttpClient()));
         apiPublisherClient.setReadTimeout(600000);
         apiPublisherClient.setConnectTimeout(600000);
         apiPublisherClient.setWriteTimeout(600000);
@@ -24,6 +24,7 @@ import org.wso2.am.integration.clients.service.catalog.api.v1.dto.APIListDTO;
 import org.wso2.am.integration.clients.service.catalog.api.v1.dto.ServiceDTO;
 import org.wso2.am.integration.clients.service.catalog.api.v1.dto.ServiceInfoListDTO;
 import org.wso2.am.integration.clients.service.catalog.api.v1.dto.ServiceListDTO;
+import org.wso2.am.integration.test.utils.http.ClientObservabilityInterceptor;
 
 import javax.xml.bind.DatatypeConverter;
 import java.io.File;
@@ -39,7 +40,7 @@ public class RestAPIServiceCatalogImpl {
         String basicEncoded =
                 DatatypeConverter.printBase64Binary((username + ':' + password).getBytes(StandardCharsets.UTF_8));
         apiClient.addDefaultHeader("Authorization", "Basic " + basicEncoded);
-        apiClient.setDebugging(true);
+        apiClient.setHttpClient(ClientObservabilityInterceptor.install(apiClient.getHttpClient()));
         apiClient.setBasePath("https://localhost:9943/api/am/service-catalog/v1");
         apiClient.setReadTimeout(600000);
         apiClient.setConnectTimeout(600000);
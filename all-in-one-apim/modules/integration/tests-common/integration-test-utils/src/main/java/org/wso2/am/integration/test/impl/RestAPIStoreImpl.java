@@ -78,6 +78,7 @@ import org.wso2.am.integration.clients.store.api.v1.dto.WebhookSubscriptionListD
 import org.wso2.am.integration.test.ClientAuthenticator;
 import org.wso2.am.integration.test.Constants;
 import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
+import org.wso2.am.integration.test.utils.http.ClientObservabilityInterceptor;
 import org.wso2.am.integration.test.utils.http.HTTPSClientUtils;
 import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
 
@@ -136,7 +137,6 @@ public class RestAPIStoreImpl {
                 .getAccessToken(scopes, appName, callBackURL, tokenScope, appOwner, grantType, dcrURL, username,
                         password, tenantDomain, tokenURL);
 
-        apiStoreClient.setDebugging(Boolean.valueOf(System.getProperty("okHttpLogs")));
         apiStoreClient.addDefaultHeader("Authorization", "Bearer " + accessToken);
         apiStoreClient.setBasePath(storeURL + "api/am/devportal/v3");
         apiStoreClient.setReadTimeout(600000);
@@ -157,7 +157,7 @@ public class RestAPIStoreImpl {
         graphQlPoliciesApi.setApiClient(apiStoreClient);
         usersApi.setApiClient(apiStoreClient);
         throttlingPoliciesApi.setApiClient(apiStoreClient);
-        apiStoreClient.setDebugging(true);
+        apiStoreClient.setHttpClient(ClientObservabilityInterceptor.install(apiStoreClient.getHttpClient()));
         this.storeURL = storeURL;
         this.tenantDomain = tenantDomain;
         this.restAPIGateway = new RestAPIGatewayImpl(this.username, this.password, tenantDomain);
@@ -165,9 +165,8 @@ public class RestAPIStoreImpl {
 
     public RestAPIStoreImpl(String tenantDomain, String storeURL) {
 
-        apiStoreClient.setDebugging(Boolean.valueOf(System.getProperty("okHttpLogs")));
         apiStoreClient.setBasePath(storeURL + "api/am/devportal/v3");
-        apiStoreClient.setDebugging(true);
+        apiStoreClient.setHttpClient(ClientObservabilityInterceptor.install(apiStoreClient.getHttpClient()));
         apIsApi.setApiClient(apiStoreClient);
         applicationsApi.setApiClient(apiStoreClient);
         subscriptionIndividualApi.setApiClient(apiStoreClient);
@@ -20,10 +20,10 @@ package org.wso2.am.integration.test.utils;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.am.integration.test.utils.lease.ResourceLeaseService;
 
 import java.io.IOException;
 import java.net.Socket;
-import java.util.Random;
 
 public class MockServerUtils {
     private static final Log log = LogFactory.getLog(MockServerUtils.class);
@@ -33,14 +33,6 @@ public class MockServerUtils {
     public static final int httpsPortLowerRange = 9950;
     public static final int httpsPortUpperRange = 9999;
     private static final int[] reservedPorts = new int[]{ 9960 };
-    private static int httpOffset = 0;
-    private static int httpsOffset = 0;
-    static {
-        Random random = new Random();
-        httpOffset = random.nextInt(httpPortUpperRange - httpPortLowerRange + 1) + httpPortLowerRange;
-        httpsOffset = random.nextInt(httpsPortUpperRange - httpsPortLowerRange + 1) + httpsPortLowerRange;
-    }
-    private static final Object lock = new Object();
 
     /**
      * Check whether give port is available
@@ -72,42 +64,22 @@ public class MockServerUtils {
     }
 
     /**
-     * Find a free port to start backend WebSocket server in given port range
+     * Find a free port to start backend WebSocket server in given port range. The port is reserved through the
+     * {@link ResourceLeaseService}, so test JVMs running in parallel are not handed the same port.
      *
      * @param isHttps
      * @return Available Port Number
      */
     public static int getAvailablePort(String host, boolean isHttps) {
-        synchronized (lock) {
-            int offset;
-            int upperPortLimit;
-            int lowerPortLimit;
-            if (isHttps) {
-                offset = httpsOffset;
-                upperPortLimit = httpsPortUpperRange;
-                lowerPortLimit = httpsPortLowerRange;
-            } else {
-                offset = httpOffset;
-                upperPortLimit = httpPortUpperRange;
-                lowerPortLimit = httpPortLowerRange;
-            }
-            int portRangeLen = upperPortLimit - lowerPortLimit;
-            int targetPort = lowerPortLimit + (offset % (portRangeLen + 1));
-            for (int i = 0; i < portRangeLen; i++) {
-                if (MockServerUtils.isPortFree(targetPort, host)) {
-                    if (isHttps) {
-                        httpsOffset = (httpsOffset + i + 1) % (portRangeLen + 1);
-                    } else {
-                        httpOffset = (httpOffset + i + 1) % (portRangeLen + 1);
-                    }
-                    log.info("Port " + targetPort + " selected for mock server.");
-                    return targetPort;
-                }
-                targetPort ++;
-                if (targetPort > upperPortLimit) {
-                    targetPort = lowerPortLimit;
-                }
-            }
+        int upperPortLimit = isHttps ? httpsPortUpperRange : httpPortUpperRange;
+        int lowerPortLimit = isHttps ? httpsPortLowerRange : httpPortLowerRange;
+        try {
+            int port = ResourceLeaseService.getInstance().reservePort(lowerPortLimit, upperPortLimit,
+                    candidate -> isPortFree(candidate, host));
+            log.info("Port " + port + " selected for mock server.");
+            return port;
+        } catch (APIManagerIntegrationTestException e) {
+            log.error(e.getMessage());
             return -1;
         }
     }
@@ -59,7 +59,8 @@ import org.wso2.am.integration.test.utils.clients.APIPublisherRestClient;
 import org.wso2.am.integration.test.utils.clients.APIStoreRestClient;
 import org.wso2.am.integration.test.utils.clients.AdminDashboardRestClient;
 import org.wso2.am.integration.test.utils.generic.APIMTestCaseUtils;
-import org.wso2.am.integration.test.utils.http.HttpRequestUtil;
+import org.wso2.am.integration.test.utils.http.HTTPSClientUtils;
+import org.wso2.am.integration.test.utils.readiness.DeploymentReadinessWaiter;
 import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
 import org.wso2.carbon.automation.engine.context.AutomationContext;
 import org.wso2.carbon.automation.engine.context.ContextXpathConstants;
@@ -88,6 +89,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import javax.ws.rs.core.Response;
 import javax.xml.stream.XMLStreamException;
@@ -111,6 +113,11 @@ public class APIMIntegrationBaseTest {
     protected APIMURLBean storeUrls, publisherUrls, gatewayUrlsMgt, gatewayUrlsWrk, keyMangerUrl, backEndServerUrl, adminUrls;
     protected User user;
     private static final long WAIT_TIME = 60 * 1000;
+    public static final String DEPLOYMENT_READINESS_DISABLED_PROPERTY = "deployment.readiness.disabled";
+    public static final String DEPLOYMENT_SETTLE_TIME_PROPERTY = "deployment.readiness.settle.time";
+    private static final long DEFAULT_DEPLOYMENT_SETTLE_TIME = 15000;
+    private static final long API_STATUS_LONG_POLL_TIMEOUT = 10000;
+    private final List<PendingDeployment> pendingDeployments = new ArrayList<>();
     protected APIPublisherRestClient apiPublisher;
     protected APIStoreRestClient apiStore;
     protected AdminDashboardRestClient apiAdmin;
@@ -139,6 +146,7 @@ public class APIMIntegrationBaseTest {
     protected String keymanagerSuperTenantSessionCookie;
     protected  RestAPIInternalImpl restAPIInternal;
     protected final int inboundWebSocketPort = 9099;
+    protected final int inboundSecureWebSocketPort = 8099;
     protected final int portOffset = 500;  //This need to be properly fixed rather than hard coding
 
     /**
@@ -518,6 +526,15 @@ public class APIMIntegrationBaseTest {
         return url;
     }
 
+    protected String getSecureWebSocketAPIInvocationURL(String apiContext, String version)
+            throws XPathExpressionException {
+        String url = gatewayContextWrk.getContextUrls().getServiceUrl().replace("/services", "").
+                replace("http", "wss");
+        url = url.substring(0, url.lastIndexOf(":") + 1) + (inboundSecureWebSocketPort + portOffset) + "/"
+                + apiContext + "/" + version;
+        return url;
+    }
+
     protected String getAPIInvocationURLHttps(String apiContext) throws XPathExpressionException {
         return gatewayContextWrk.getContextUrls().getSecureServiceUrl().replace("/services", "") + "/" + apiContext;
     }
@@ -586,11 +603,54 @@ public class APIMIntegrationBaseTest {
     }
 
     /**
-     * This method can be used to wait for API deployment sync in distributed and clustered environment
-     * APIStatusMonitor will be invoked to get API related data and then verify that data matches with
-     * expected response provided.
+     * This method can be used to wait for API deployment sync in distributed and clustered environment.
+     * The APIs deployed through {@link #createAPIRevisionAndDeployUsingRest(String, RestAPIPublisherImpl)} since the
+     * previous call are awaited through the APIStatusMonitor. The monitor does not report the subscription, key
+     * manager and throttle policy events published along with them, so the wait lasts at least as long as the fixed
+     * delay did, unless {@link #DEPLOYMENT_SETTLE_TIME_PROPERTY} sets a shorter time, and longer while the APIs are
+     * not live yet. If no such deployment is pending, one of them replaced an already deployed revision, or readiness
+     * checks are disabled through {@link #DEPLOYMENT_READINESS_DISABLED_PROPERTY}, the fixed delay is used instead.
+     * The monitor only reports whether an API exists, which holds for the previous revision while a new one is still
+     * being deployed.
      */
     protected void waitForAPIDeployment() {
+        List<PendingDeployment> deployments;
+        synchronized (pendingDeployments) {
+            deployments = new ArrayList<>(pendingDeployments);
+            pendingDeployments.clear();
+        }
+        if (deployments.isEmpty() || deployments.stream().anyMatch(deployment -> deployment.redeploy)
+                || Boolean.getBoolean(DEPLOYMENT_READINESS_DISABLED_PROPERTY)) {
+            waitForDeploymentPropagation();
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            if (!awaitAPIsDeployed(deployments)) {
+                waitForDeploymentPropagation();
+                return;
+            }
+            // Gives the subscription, key and policy events published along with the deployment time to reach the
+            // gateway
+            long settleTime = Long.getLong(DEPLOYMENT_SETTLE_TIME_PROPERTY,
+                    executionMode.equalsIgnoreCase(String.valueOf(ExecutionEnvironment.PLATFORM)) ? WAIT_TIME
+                            : DEFAULT_DEPLOYMENT_SETTLE_TIME);
+            long remaining = settleTime - (System.currentTimeMillis() - start);
+            if (remaining > 0) {
+                Thread.sleep(remaining);
+            }
+        } catch (APIManagerIntegrationTestException | XPathExpressionException e) {
+            log.warn("Unable to check the deployment status of APIs, falling back to a fixed wait", e);
+            waitForDeploymentPropagation();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sleeps for the fixed time given for an artifact to be propagated to the gateway.
+     */
+    private void waitForDeploymentPropagation() {
         try {
             if (executionMode.equalsIgnoreCase(String.valueOf(ExecutionEnvironment.PLATFORM))) {
                 Thread.sleep(WAIT_TIME);
@@ -617,47 +677,7 @@ public class APIMIntegrationBaseTest {
                                             String expectedResponse)
             throws APIManagerIntegrationTestException, XPathExpressionException {
 
-        long currentTime = System.currentTimeMillis();
-        long waitTime = currentTime + WAIT_TIME;
-        String colonSeparatedHeader =
-                keyManagerContext.getContextTenant().getTenantAdmin().getUserName() + ":" + keyManagerContext
-                        .getContextTenant().getTenantAdmin().getPassword();
-        String authorizationHeader = "Basic "+new String(Base64.encodeBase64(colonSeparatedHeader.getBytes()));
-        Map headerMap = new HashMap();
-        headerMap.put("Authorization",authorizationHeader);
-        String tenantIdentifier = getTenantIdentifier(apiProvider);
-
-        while (waitTime > System.currentTimeMillis()) {
-            HttpResponse response = null;
-            try {
-                response = HttpRequestUtil.doGet(getGatewayURLHttp() +
-                                                          "APIStatusMonitor/apiInformation/api/" +
-                                                          tenantIdentifier +
-                                                          apiName + "/" + apiVersion, headerMap);
-            } catch (IOException ignored) {
-                log.warn("WebAPP:" + " APIStatusMonitor not yet deployed or" + " API :" + apiName + " not yet " +
-                        "deployed " + " with provider: " + apiProvider);
-            }
-
-            log.info("WAIT for availability of API: " + apiName + " with version: " + apiVersion
-                     + " with provider: " + apiProvider + " with Tenant Identifier: " + tenantIdentifier
-                     + " with expected response : " + expectedResponse);
-
-            if (response != null) {
-                log.info("Data: " + response.getData());
-                if (response.getData().contains(expectedResponse)) {
-                    log.info("API :" + apiName + " with version: " + apiVersion +
-                             " with expected response " + expectedResponse + " found");
-                    break;
-                } else {
-                    try {
-                        Thread.sleep(500);
-                    } catch (InterruptedException ignored) {
-
-                    }
-                }
-            }
-        }
+        awaitAPIStatus(apiProvider, apiName, apiVersion, expectedResponse, true);
     }
 
     /**
@@ -675,42 +695,113 @@ public class APIMIntegrationBaseTest {
                                               String expectedResponse)
             throws APIManagerIntegrationTestException {
 
-        long currentTime = System.currentTimeMillis();
-        long waitTime = currentTime + WAIT_TIME;
+        try {
+            awaitAPIStatus(apiProvider, apiName, apiVersion, expectedResponse, false);
+        } catch (XPathExpressionException e) {
+            throw new APIManagerIntegrationTestException("Error while reading tenant admin credentials", e);
+        }
+    }
 
-        String tenantIdentifier = getTenantIdentifier(apiProvider);
-        String colonSeparatedHeader = user.getUserName()+":"+user.getPassword();
-        String authorizationHeader = "Basic "+Base64.encodeBase64(colonSeparatedHeader.getBytes()).toString();
-        Map headerMap = new HashMap();
-        headerMap.put("Authorization",authorizationHeader);
-        while (waitTime > System.currentTimeMillis()) {
-            HttpResponse response = null;
-            try{
-                response = HttpRequestUtil.doGet(getGatewayURLHttp() +
-                                                          "APIStatusMonitor/apiInformation/api/" +
-                                                          tenantIdentifier +
-                                                          apiName + "/" + apiVersion, headerMap);
-                } catch (IOException ignored) {
-                    log.warn("WebAPP:" + " APIStatusMonitor not yet deployed or" + " API :" + apiName + " not yet deployed " + " with provider: " + apiProvider);
-                }
+    /**
+     * Polls the APIStatusMonitor with exponential backoff until its response about the given API contains, or no
+     * longer contains, the expected text.
+     *
+     * @return true if the expected state was reached before the timeout
+     */
+    private boolean awaitAPIStatus(String apiProvider, String apiName, String apiVersion, String expectedResponse,
+                                   boolean present) throws APIManagerIntegrationTestException, XPathExpressionException {
 
-            log.info("WAIT for meta data sync of API :" + apiName + " with version: " + apiVersion + " with provider: " + apiProvider +
-                     " without entry : " + expectedResponse);
+        Map<String, String> headerMap = getAPIStatusMonitorHeaders();
+        String tenantIdentifier = getTenantIdentifier(apiProvider);
+        String statusUrl = getGatewayURLHttp() + "APIStatusMonitor/apiInformation/api/" + tenantIdentifier + apiName
+                + "/" + apiVersion;
+        log.info("WAIT for " + (present ? "availability" : "meta data sync") + " of API: " + apiName
+                + " with version: " + apiVersion + " with provider: " + apiProvider + " with Tenant Identifier: "
+                + tenantIdentifier + (present ? " with expected response : " : " without entry : ") + expectedResponse);
+
+        // The monitor can hold the request until the API reaches the awaited state when that state is its existence
+        String waitUrl = null;
+        if (APIMIntegrationConstants.IS_API_EXISTS.equals(expectedResponse)) {
+            waitUrl = statusUrl + "/wait?timeout=" + API_STATUS_LONG_POLL_TIMEOUT + "&exists=" + present;
+        } else if (APIMIntegrationConstants.IS_API_NOT_EXISTS.equals(expectedResponse)) {
+            waitUrl = statusUrl + "/wait?timeout=" + API_STATUS_LONG_POLL_TIMEOUT + "&exists=" + !present;
+        }
+        AtomicReference<String> pollUrl = new AtomicReference<>(waitUrl != null ? waitUrl : statusUrl);
+        long elapsed = new DeploymentReadinessWaiter(WAIT_TIME).await(present ? "api" : "api-undeploy",
+                "API :" + apiName + " with version: " + apiVersion, () -> {
+                    HttpResponse response = HTTPSClientUtils.doGet(pollUrl.get(), headerMap);
+                    if (response.getResponseCode() == HttpStatus.SC_NOT_FOUND && !statusUrl.equals(pollUrl.get())) {
+                        // APIStatusMonitor without the long polling endpoint
+                        pollUrl.set(statusUrl);
+                        return false;
+                    }
+                    return response.getData() != null && response.getData().contains(expectedResponse) == present;
+                });
+        return elapsed != DeploymentReadinessWaiter.NOT_READY;
+    }
 
-            if (response != null) {
-                if (!response.getData().contains(expectedResponse)) {
-                    log.info("API :" + apiName + " with version: " + apiVersion +
-                             " with expected response " + expectedResponse + " not found");
-                    break;
-                } else {
-                    try {
-                        Thread.sleep(500);
-                    } catch (InterruptedException ignored) {
+    /**
+     * Waits for several APIs to be deployed, checking all APIs of a tenant with a single APIStatusMonitor call.
+     *
+     * @return true if all APIs were deployed before the timeout
+     */
+    private boolean awaitAPIsDeployed(List<PendingDeployment> deployments)
+            throws APIManagerIntegrationTestException, XPathExpressionException {
 
-                    }
+        Map<String, String> headerMap = getAPIStatusMonitorHeaders();
+        Map<String, List<PendingDeployment>> deploymentsByTenant = new HashMap<>();
+        for (PendingDeployment deployment : deployments) {
+            deploymentsByTenant.computeIfAbsent(getTenantIdentifier(deployment.provider), key -> new ArrayList<>())
+                    .add(deployment);
+        }
+        for (Map.Entry<String, List<PendingDeployment>> entry : deploymentsByTenant.entrySet()) {
+            StringBuilder statusUrl = new StringBuilder(getGatewayURLHttp())
+                    .append("APIStatusMonitor/apiInformation/api/").append(entry.getKey()).append("status");
+            char separator = '?';
+            try {
+                for (PendingDeployment deployment : entry.getValue()) {
+                    statusUrl.append(separator).append("api=")
+                            .append(URLEncoder.encode(deployment.name + ":" + deployment.version, "UTF-8"));
+                    separator = '&';
                 }
+            } catch (UnsupportedEncodingException e) {
+                throw new APIManagerIntegrationTestException("Error while encoding API names", e);
+            }
+            int apiCount = entry.getValue().size();
+            String url = statusUrl.toString();
+            long elapsed = new DeploymentReadinessWaiter(WAIT_TIME).await("api",
+                    apiCount + " APIs of " + entry.getKey(), () -> {
+                        HttpResponse response = HTTPSClientUtils.doGet(url, headerMap);
+                        return response.getResponseCode() == HttpStatus.SC_OK
+                                && countOccurrences(response.getData(), APIMIntegrationConstants.IS_API_EXISTS)
+                                == apiCount;
+                    });
+            if (elapsed == DeploymentReadinessWaiter.NOT_READY) {
+                return false;
             }
         }
+        return true;
+    }
+
+    private static int countOccurrences(String text, String token) {
+        int count = 0;
+        if (text == null) {
+            return count;
+        }
+        for (int index = text.indexOf(token); index >= 0; index = text.indexOf(token, index + token.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private Map<String, String> getAPIStatusMonitorHeaders() throws XPathExpressionException {
+        String colonSeparatedHeader =
+                keyManagerContext.getContextTenant().getTenantAdmin().getUserName() + ":" + keyManagerContext
+                        .getContextTenant().getTenantAdmin().getPassword();
+        String authorizationHeader = "Basic " + new String(Base64.encodeBase64(colonSeparatedHeader.getBytes()));
+        Map<String, String> headerMap = new HashMap<>();
+        headerMap.put("Authorization", authorizationHeader);
+        return headerMap;
     }
 
     /**
@@ -769,84 +860,30 @@ public class APIMIntegrationBaseTest {
     protected void waitForKeyManagerDeployment(String tenantDomain, String keyManagerName)
             throws XPathExpressionException, UnsupportedEncodingException {
 
-        long currentTime = System.currentTimeMillis();
-        long waitTime = currentTime + WAIT_TIME;
-        String colonSeparatedHeader =
-                keyManagerContext.getContextTenant().getTenantAdmin().getUserName() + ":" + keyManagerContext
-                        .getContextTenant().getTenantAdmin().getPassword();
-        String authorizationHeader = "Basic " + new String(Base64.encodeBase64(colonSeparatedHeader.getBytes()));
-        Map headerMap = new HashMap();
-        keyManagerName = URLEncoder.encode(keyManagerName, "utf8").replaceAll("\\+", "%20");
-        headerMap.put("Authorization", authorizationHeader);
-
-        while (waitTime > System.currentTimeMillis()) {
-            HttpResponse response = null;
-            try {
-                response = HttpRequestUtil.doGet(getGatewayURLHttp() +
-                        "APIStatusMonitor/keyManagerInformation/" + tenantDomain + "/" + keyManagerName, headerMap);
-            } catch (IOException ignored) {
-                log.warn("WebAPP:" + " APIStatusMonitor not yet deployed or" + " KeyManager :" + keyManagerName +
-                        " not yet " +
-                        "deployed " + " in tenantDomain " + tenantDomain);
-            }
-
-            log.info("WAIT for availability of KeyManager: " + keyManagerName + " in tenant Domain : " + tenantDomain);
-            if (response != null) {
-                log.info("Status Code: " + response.getResponseCode());
-                if (response.getResponseCode() == 200) {
-                    log.info("Key Manager :" + keyManagerName + " Exist in tenant" + tenantDomain);
-                    break;
-                } else {
-                    try {
-                        Thread.sleep(500);
-                    } catch (InterruptedException ignored) {
-
-                    }
-                }
-            }
-        }
+        awaitKeyManagerStatus(tenantDomain, keyManagerName, HttpStatus.SC_OK);
     }
 
     protected void waitForKeyManagerUnDeployment(String tenantDomain, String keyManagerName)
             throws XPathExpressionException, UnsupportedEncodingException {
 
-        long currentTime = System.currentTimeMillis();
-        long waitTime = currentTime + WAIT_TIME;
-        String colonSeparatedHeader =
-                keyManagerContext.getContextTenant().getTenantAdmin().getUserName() + ":" + keyManagerContext
-                        .getContextTenant().getTenantAdmin().getPassword();
-        String authorizationHeader = "Basic " + new String(Base64.encodeBase64(colonSeparatedHeader.getBytes()));
-        Map headerMap = new HashMap();
-        keyManagerName = URLEncoder.encode(keyManagerName, "utf8").replaceAll("\\+", "%20");
-        headerMap.put("Authorization", authorizationHeader);
-
-        while (waitTime > System.currentTimeMillis()) {
-            HttpResponse response = null;
-            try {
-                response = HttpRequestUtil.doGet(getGatewayURLHttp() +
-                        "APIStatusMonitor/keyManagerInformation/" + tenantDomain + "/" + keyManagerName, headerMap);
-            } catch (IOException ignored) {
-                log.warn("WebAPP:" + " APIStatusMonitor not yet deployed or" + " KeyManager :" + keyManagerName +
-                        " not yet " +
-                        "deployed " + " in tenantDomain " + tenantDomain);
-            }
+        awaitKeyManagerStatus(tenantDomain, keyManagerName, HttpStatus.SC_NOT_FOUND);
+    }
 
-            log.info("WAIT for availability of KeyManager: " + keyManagerName + " in tenant Domain : " + tenantDomain);
-            if (response != null) {
-                log.info("Status Code: " + response.getResponseCode());
-                if (response.getResponseCode() == 404) {
-                    log.info("Key Manager :" + keyManagerName + " not exist in tenant" + tenantDomain);
-                    break;
-                } else {
-                    try {
-                        Thread.sleep(500);
-                    } catch (InterruptedException ignored) {
+    private void awaitKeyManagerStatus(String tenantDomain, String keyManagerName, int expectedStatusCode)
+            throws XPathExpressionException, UnsupportedEncodingException {
 
-                    }
-                }
-            }
-        }
+        Map<String, String> headerMap = getAPIStatusMonitorHeaders();
+        String encodedName = URLEncoder.encode(keyManagerName, "utf8").replaceAll("\\+", "%20");
+        String statusUrl = getGatewayURLHttp() + "APIStatusMonitor/keyManagerInformation/" + tenantDomain + "/"
+                + encodedName;
+        log.info("WAIT for " + (expectedStatusCode == HttpStatus.SC_OK ? "availability" : "removal")
+                + " of KeyManager: " + keyManagerName + " in tenant Domain : " + tenantDomain);
+        new DeploymentReadinessWaiter(WAIT_TIME).await(
+                expectedStatusCode == HttpStatus.SC_OK ? "keymanager" : "keymanager-undeploy",
+                "Key Manager :" + keyManagerName + " in tenant " + tenantDomain,
+                () -> HTTPSClientUtils.doGet(statusUrl, headerMap).getResponseCode() == expectedStatusCode);
     }
+
     /**
      * Create API Revision and Deploy to gateway using REST API.
      *
@@ -873,6 +910,7 @@ public class APIMIntegrationBaseTest {
                     "Create API Response Code is invalid." + apiRevisionResponse.getData());
             JSONObject jsonObject = new JSONObject(apiRevisionResponse.getData());
             revisionUUID = jsonObject.getString("id");
+            boolean redeploy = hasDeployedRevision(apiId, restAPIPublisher);
 
             // Deploy Revision to gateway
             List<APIRevisionDeployUndeployRequest> apiRevisionDeployRequestList = new ArrayList<>();
@@ -885,6 +923,7 @@ public class APIMIntegrationBaseTest {
                     apiRevisionDeployRequestList, "API");
             assertEquals(apiRevisionsDeployResponse.getResponseCode(), HTTP_RESPONSE_CODE_CREATED,
                     "Unable to deploy API Revisions:" +apiRevisionsDeployResponse.getData());
+            addPendingDeployment(apiId, restAPIPublisher, redeploy);
             return  revisionUUID;
         } else {
             JSONObject jsonObject = new JSONObject(apiRevisionResponse.getData());
@@ -919,6 +958,7 @@ public class APIMIntegrationBaseTest {
                     "Create API Response Code is invalid." + apiRevisionResponse.getData());
             JSONObject jsonObject = new JSONObject(apiRevisionResponse.getData());
             revisionUUID = jsonObject.getString("id");
+            boolean redeploy = hasDeployedRevision(apiId, restAPIPublisher);
 
             // Deploy Revision to gateway
             List<APIRevisionDeployUndeployRequest> apiRevisionDeployRequestList = new ArrayList<>();
@@ -935,6 +975,9 @@ public class APIMIntegrationBaseTest {
                     apiRevisionDeployRequestList, "API");
             assertEquals(apiRevisionsDeployResponse.getResponseCode(), HTTP_RESPONSE_CODE_CREATED,
                     "Unable to deploy API Revisions:" +apiRevisionsDeployResponse.getData());
+            if (Constants.GATEWAY_ENVIRONMENT.equals(apiRevisionDeployRequest.getName())) {
+                addPendingDeployment(apiId, restAPIPublisher, redeploy);
+            }
             return  revisionUUID;
         } else {
             JSONObject jsonObject = new JSONObject(apiRevisionResponse.getData());
@@ -1062,7 +1105,7 @@ public class APIMIntegrationBaseTest {
         assertEquals(apiRevisionsDeployResponse.getResponseCode(), HTTP_RESPONSE_CODE_CREATED,
                 "Unable to deploy API Product Revisions:" +apiRevisionsDeployResponse.getData());
         //Waiting for API deployment
-        waitForAPIDeployment();
+        waitForDeploymentPropagation();
         return  revisionUUID;
     }
 
@@ -1129,9 +1172,47 @@ public class APIMIntegrationBaseTest {
         }
 
         //Waiting for API un-deployment
-        waitForAPIDeployment();
+        waitForDeploymentPropagation();
         return  revisionUUID;
     }
+    /**
+     * Checks whether a revision of the API is already deployed, in which case deploying a new revision replaces it
+     * while the API keeps being reported as deployed by the APIStatusMonitor.
+     *
+     * @return true if a revision is deployed, or if the revisions could not be retrieved
+     */
+    private boolean hasDeployedRevision(String apiId, RestAPIPublisherImpl restAPIPublisher) {
+        try {
+            HttpResponse response = restAPIPublisher.getAPIRevisions(apiId, "deployed:true");
+            if (response == null || response.getResponseCode() != HttpStatus.SC_OK) {
+                return true;
+            }
+            return new JSONObject(response.getData()).getJSONArray("list").length() > 0;
+        } catch (ApiException | JSONException e) {
+            log.warn("Unable to retrieve the deployed revisions of API " + apiId, e);
+            return true;
+        }
+    }
+
+    /**
+     * Remembers the name and version of a deployed API, so that the next {@link #waitForAPIDeployment()} call waits
+     * for it to become live instead of sleeping for a fixed time.
+     *
+     * @param redeploy whether the deployment replaced a revision that was already deployed
+     */
+    private void addPendingDeployment(String apiId, RestAPIPublisherImpl restAPIPublisher, boolean redeploy) {
+        try {
+            HttpResponse response = restAPIPublisher.getAPI(apiId);
+            APIDTO apiDto = new Gson().fromJson(response.getData(), APIDTO.class);
+            synchronized (pendingDeployments) {
+                pendingDeployments.add(new PendingDeployment(apiDto.getProvider(), apiDto.getName(),
+                        apiDto.getVersion(), redeploy));
+            }
+        } catch (Exception e) {
+            log.warn("Unable to retrieve API " + apiId + ", its deployment will not be tracked", e);
+        }
+    }
+
     /**
      * Find a free port to start backend WebSocket server in given port range
      *
@@ -1222,4 +1303,22 @@ public class APIMIntegrationBaseTest {
             }
         }
     }
+
+    /**
+     * API deployed to the gateway which has not been awaited yet.
+     */
+    private static class PendingDeployment {
+
+        private final String provider;
+        private final String name;
+        private final String version;
+        private final boolean redeploy;
+
+        PendingDeployment(String provider, String name, String version, boolean redeploy) {
+            this.provider = provider;
+            this.name = name;
+            this.version = version;
+            this.redeploy = redeploy;
+        }
+    }
 }
@@ -76,6 +76,7 @@ public class APIMIntegrationConstants {
     public static final String ETCD_WEB_APP_NAME = "etcdmock";
     public static final String WILDCARD_WEB_APP_NAME = "wildcard";
     public static final String DUPLICATE_HEADER_BACKEND_WEB_APP_NAME = "duplicate-header-backend";
+    public static final String PERF_BACKEND_WEB_APP_NAME = "perf-backend";
 
     public static final String RESOURCE_AUTH_TYPE_APPLICATION_AND_APPLICATION_USER = "Application & Application User";
     public static final String RESOURCE_AUTH_TYPE_APPLICATION = "Application";
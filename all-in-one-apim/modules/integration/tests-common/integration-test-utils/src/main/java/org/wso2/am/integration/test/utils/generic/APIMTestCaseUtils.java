@@ -40,6 +40,8 @@ import org.wso2.am.integration.clients.publisher.api.v1.dto.APIInfoDTO;
 import org.wso2.am.integration.clients.publisher.api.v1.dto.APIListDTO;
 import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
 import org.wso2.am.integration.test.utils.bean.APIBean;
+import org.wso2.am.integration.test.utils.jwt.JwtVerifier;
+import org.wso2.am.integration.test.utils.readiness.DeploymentReadinessWaiter;
 import org.wso2.carbon.apimgt.api.model.APIIdentifier;
 import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
 import org.wso2.carbon.endpoint.stub.types.EndpointAdminEndpointAdminException;
@@ -65,16 +67,12 @@ import java.io.FileWriter;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.rmi.RemoteException;
-import java.security.KeyStore;
-import java.security.MessageDigest;
-import java.security.Signature;
-import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
-import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
 import static org.testng.Assert.assertTrue;
@@ -426,32 +424,8 @@ public class APIMTestCaseUtils {
         EndPointAdminClient endPointAdminClient = new EndPointAdminClient(backEndUrl,
                                                                           sessionCookie);
         log.info("waiting " + SERVICE_DEPLOYMENT_DELAY + " millis for Endpoint " + endpointName);
-        boolean isEndpointExist = false;
-        Calendar startTime = Calendar.getInstance();
-        long time;
-        while ((time = (Calendar.getInstance().getTimeInMillis() - startTime.getTimeInMillis())) <
-               SERVICE_DEPLOYMENT_DELAY) {
-            String[] endpoints = endPointAdminClient.getEndpointNames();
-            if (endpoints != null && endpoints.length > 0) {
-                for (String endpoint : endpoints) {
-
-                    if (endpointName.equals(endpoint)) {
-                        isEndpointExist = true;
-                        log.info(endpointName + " Endpoint Found in " + time + " millis");
-                        break;
-                    }
-                }
-            }
-            if (isEndpointExist) {
-                break;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                //ignore
-            }
-        }
-        return isEndpointExist;
+        return awaitDeployment("endpoint", endpointName + " Endpoint",
+                () -> ArrayUtils.contains(endPointAdminClient.getEndpointNames(), endpointName));
     }
 
     public static boolean isSequenceDeployed(String backEndUrl, String sessionCookie, String sequenceName)
@@ -460,32 +434,8 @@ public class APIMTestCaseUtils {
                 new SequenceAdminServiceClient(backEndUrl,
                                                sessionCookie);
         log.info("waiting " + SERVICE_DEPLOYMENT_DELAY + " millis for Sequence " + sequenceName);
-        boolean isSequenceExist = false;
-        Calendar startTime = Calendar.getInstance();
-        long time;
-        while ((time = (Calendar.getInstance().getTimeInMillis() - startTime.getTimeInMillis())) <
-               SERVICE_DEPLOYMENT_DELAY) {
-            String[] sequences = sequenceAdminServiceClient.getSequences();
-            if (sequences != null && sequences.length > 0) {
-                for (String sequence : sequences) {
-
-                    if (sequence.equals(sequenceName)) {
-                        isSequenceExist = true;
-                        log.info(sequenceName + " Sequence Found in " + time + " millis");
-                        break;
-                    }
-                }
-            }
-            if (isSequenceExist) {
-                break;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                //ignore
-            }
-        }
-        return isSequenceExist;
+        return awaitDeployment("sequence", sequenceName + " Sequence",
+                () -> ArrayUtils.contains(sequenceAdminServiceClient.getSequences(), sequenceName));
     }
 
     public static boolean isSequenceTemplateDeployed(String backEndUrl, String sessionCookie,
@@ -494,33 +444,9 @@ public class APIMTestCaseUtils {
                 new SequenceTemplateAdminServiceClient(backEndUrl, sessionCookie);
         log.info("waiting " + SERVICE_DEPLOYMENT_DELAY + " millis for Sequence Template " +
                  sequenceTemplateName);
-        boolean isSequenceTmpFound = false;
-        Calendar startTime = Calendar.getInstance();
-        long time;
-        while ((time = (Calendar.getInstance().getTimeInMillis() - startTime.getTimeInMillis())) <
-               SERVICE_DEPLOYMENT_DELAY) {
-            String[] templates = sequenceTemplateAdminServiceClient.getSequenceTemplates();
-            if (templates != null && templates.length > 0) {
-                for (String tmpl : templates) {
-
-                    if (tmpl.equals(sequenceTemplateName)) {
-                        isSequenceTmpFound = true;
-                        log.info(sequenceTemplateName + " Sequence Template Found in " + time +
-                                 " millis");
-                        break;
-                    }
-                }
-            }
-            if (isSequenceTmpFound) {
-                break;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                //ignore
-            }
-        }
-        return isSequenceTmpFound;
+        return awaitDeployment("sequence-template", sequenceTemplateName + " Sequence Template",
+                () -> ArrayUtils.contains(sequenceTemplateAdminServiceClient.getSequenceTemplates(),
+                        sequenceTemplateName));
     }
 
     public static boolean isEndpointTemplateDeployed(String backEndUrl, String sessionCookie,
@@ -529,65 +455,17 @@ public class APIMTestCaseUtils {
                 new EndpointTemplateAdminServiceClient(backEndUrl, sessionCookie);
         log.info("waiting " + SERVICE_DEPLOYMENT_DELAY + " millis for Endpoint Template " +
                  endpointTemplateName);
-        boolean isEndpointTmpFound = false;
-        Calendar startTime = Calendar.getInstance();
-        long time;
-        while ((time = (Calendar.getInstance().getTimeInMillis() - startTime.getTimeInMillis())) <
-               SERVICE_DEPLOYMENT_DELAY) {
-            String[] templates = endpointTemplateAdminServiceClient.getEndpointTemplates();
-            if (templates != null && templates.length > 0) {
-                for (String tmpl : templates) {
-
-                    if (tmpl.equals(endpointTemplateName)) {
-                        isEndpointTmpFound = true;
-                        log.info(endpointTemplateName + " Endpoint Template Found in " + time +
-                                 " millis");
-                        break;
-                    }
-                }
-            }
-            if (isEndpointTmpFound) {
-                break;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                //ignore
-            }
-        }
-        return isEndpointTmpFound;
+        return awaitDeployment("endpoint-template", endpointTemplateName + " Endpoint Template",
+                () -> ArrayUtils.contains(endpointTemplateAdminServiceClient.getEndpointTemplates(),
+                        endpointTemplateName));
     }
 
     public static boolean isApiDeployed(String backEndUrl, String sessionCookie, String apiName)
             throws RemoteException, RestApiAdminAPIException {
         RestApiAdminClient apiAdminClient = new RestApiAdminClient(backEndUrl, sessionCookie);
         log.info("waiting " + SERVICE_DEPLOYMENT_DELAY + " millis for API " + apiName);
-        boolean isApiFound = false;
-        Calendar startTime = Calendar.getInstance();
-        long time;
-        while ((time = (Calendar.getInstance().getTimeInMillis() - startTime.getTimeInMillis())) <
-               SERVICE_DEPLOYMENT_DELAY) {
-            String[] apiList = apiAdminClient.getApiNames();
-            if (apiList != null && apiList.length > 0) {
-                for (String restApi : apiList) {
-
-                    if (restApi.equals(apiName)) {
-                        isApiFound = true;
-                        log.info(apiName + " API Found in " + time + " millis");
-                        break;
-                    }
-                }
-            }
-            if (isApiFound) {
-                break;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                //ignore
-            }
-        }
-        return isApiFound;
+        return awaitDeployment("synapse-api", apiName + " API",
+                () -> ArrayUtils.contains(apiAdminClient.getApiNames(), apiName));
     }
 
     public static boolean isPriorityExecutorDeployed(String backEndUrl, String sessionCookie,
@@ -597,57 +475,44 @@ public class APIMTestCaseUtils {
                 new PriorityMediationAdminClient(backEndUrl, sessionCookie);
         log.info("waiting " + SERVICE_DEPLOYMENT_DELAY + " millis for Priority Executor " +
                  executorName);
-        boolean isExecutorFound = false;
-        Calendar startTime = Calendar.getInstance();
-        long time;
-        while ((time = (Calendar.getInstance().getTimeInMillis() - startTime.getTimeInMillis())) <
-               SERVICE_DEPLOYMENT_DELAY) {
-            String[] executorList = priorityMediationAdminClient.getExecutorList();
-            if (executorList != null && executorList.length > 0) {
-                for (String executor : executorList) {
-
-                    if (executor.equals(executorName)) {
-                        isExecutorFound = true;
-                        log.info(executorName + " Priority Executor Found in " + time + " millis");
-                        break;
-                    }
-                }
-            }
-            if (isExecutorFound) {
-                break;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                //ignore
-            }
-        }
-        return isExecutorFound;
+        return awaitDeployment("priority-executor", executorName + " Priority Executor",
+                () -> ArrayUtils.contains(priorityMediationAdminClient.getExecutorList(), executorName));
     }
 
     public static boolean isScheduleTaskDeployed(String backEndUrl, String sessionCookie, String taskName)
             throws RemoteException, TaskManagementException {
         log.info("waiting " + SERVICE_DEPLOYMENT_DELAY + " millis for Task deployment " + taskName);
 
-        boolean isTaskDeployed = false;
         TaskAdminClient taskAdminClient = new TaskAdminClient(backEndUrl, sessionCookie);
-        Calendar startTime = Calendar.getInstance();
-        long time;
-        while ((time = (Calendar.getInstance().getTimeInMillis() - startTime.getTimeInMillis())) <
-               SERVICE_DEPLOYMENT_DELAY) {
-            if (taskAdminClient.getScheduleTaskList().contains(taskName)) {
-                isTaskDeployed = true;
-                log.info(taskName + " Task Deployed in " + time + " millis");
-                break;
-            }
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException ignored) {
+        return awaitDeployment("task", taskName + " Task",
+                () -> taskAdminClient.getScheduleTaskList().contains(taskName));
+    }
 
+    /**
+     * Re-checks the given condition with exponential backoff, reusing the admin client the condition was built
+     * with, until it holds or the service deployment delay elapses.
+     *
+     * @throws RemoteException if the artifact is not deployed in time and the last check could not reach the admin
+     *                         service, so an unreachable server is not reported as a failed deployment
+     */
+    private static boolean awaitDeployment(String category, String artifact,
+                                           DeploymentReadinessWaiter.ReadinessCondition condition)
+            throws RemoteException {
+        AtomicReference<RemoteException> failure = new AtomicReference<>();
+        boolean deployed = new DeploymentReadinessWaiter(SERVICE_DEPLOYMENT_DELAY).await(category, artifact, () -> {
+            try {
+                boolean ready = condition.isReady();
+                failure.set(null);
+                return ready;
+            } catch (RemoteException e) {
+                failure.set(e);
+                throw e;
             }
+        }) != DeploymentReadinessWaiter.NOT_READY;
+        if (!deployed && failure.get() != null) {
+            throw new RemoteException("Unable to check the deployment of " + artifact, failure.get());
         }
-
-        return isTaskDeployed;
+        return deployed;
     }
 
     public static boolean isLocalEntryExist(String backEndUrl, String sessionCookie, String localEntryName)
@@ -1269,48 +1134,20 @@ public class APIMTestCaseUtils {
         return  jwtTokenArray[0].trim() + "." + jwtTokenArray[1].trim();
     }
 
+    /**
+     * Verifies the signature of a JWT against the certificates of the client truststore. The truststore is indexed
+     * once by certificate thumbprint, see {@link JwtVerifier} for verifying many tokens.
+     *
+     * @param jwtAssertion encoded header and payload of the token
+     * @param jwtSignature decoded signature of the token
+     * @param jsonHeader   decoded header of the token
+     * @return whether the signature is valid
+     */
     public static boolean isJwtSignatureValid(String jwtAssertion, byte[] jwtSignature, String jsonHeader) throws UnsupportedEncodingException {
-        KeyStore keyStore = null;
-        String thumbPrint = null;
-        String signatureAlgorithm = null;
-        JSONObject jsonHeaderObject = null;
         try {
-            jsonHeaderObject = new JSONObject(jsonHeader);
-            thumbPrint = new String(Base64.decodeBase64(jsonHeaderObject.get("x5t").toString().getBytes()));
-            signatureAlgorithm = (String) jsonHeaderObject.get("alg");
-        } catch (JSONException e) {
-            log.error("Error while parsing json" + e);
-        }
-
-        if("RS256".equals(signatureAlgorithm)){
-            signatureAlgorithm = "SHA256withRSA";
-        } else if("RS515".equals(signatureAlgorithm)){
-            signatureAlgorithm = "SHA512withRSA";
-        } else if("RS384".equals(signatureAlgorithm)){
-            signatureAlgorithm = "SHA384withRSA";
-        } else {
-            //Default algorithm
-            signatureAlgorithm = "SHA256withRSA";
-        }
-
-        if(jwtAssertion != null && jwtSignature != null && thumbPrint != null) {
-            try {
-                String trustStore = TestConfigurationProvider.getTrustStoreLocation();
-                String trustStorePassword = TestConfigurationProvider.getTrustStorePassword();
-                keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
-                keyStore.load(new FileInputStream(trustStore), trustStorePassword.toCharArray());
-                String alias = getAliasForX509CertThumb(thumbPrint.getBytes(), keyStore);
-                Certificate certificate = keyStore.getCertificate(alias);
-                Signature signature = Signature.getInstance(signatureAlgorithm);
-                signature.initVerify(certificate);
-                signature.update(jwtAssertion.getBytes());
-                return signature.verify(jwtSignature);
-            } catch (Exception e) {
-                log.error("Error occurred while validating signature", e);
-                return false;
-            }
-        } else {
-            log.debug("JWT Signature is empty");
+            return JwtVerifier.forTrustStore().verify(jwtAssertion, jwtSignature, jsonHeader);
+        } catch (IOException e) {
+            log.error("Error occurred while validating signature", e);
             return false;
         }
     }
@@ -1486,44 +1323,6 @@ public class APIMTestCaseUtils {
         return "grant_type=password&username=" + username + "&password=" + password;
     }
 
-    private static String getAliasForX509CertThumb(byte[] thumb, KeyStore keyStore) {
-        Certificate cert = null;
-        MessageDigest sha = null;
-        try {
-            sha = MessageDigest.getInstance("SHA-1");
-            for (Enumeration e = keyStore.aliases(); e.hasMoreElements();) {
-                String alias = (String) e.nextElement();
-                Certificate[] certs = keyStore.getCertificateChain(alias);
-                if (certs == null || certs.length == 0) {
-                    cert = keyStore.getCertificate(alias);
-                    if (cert == null) {
-                        return null;
-                    }
-                } else {
-                    cert = certs[0];
-                }
-                sha.update(cert.getEncoded());
-                byte[] data = sha.digest();
-                if (new String(thumb).equals(hexify(data))) {
-                    return alias;
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error while getting the alias", e);
-        }
-        return null;
-    }
-
-    private static String hexify(byte bytes[]) {
-        char[] hexDigits = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
-        StringBuilder buf = new StringBuilder(bytes.length * 2);
-        for (byte aByte : bytes) {
-            buf.append(hexDigits[(aByte & 0xf0) >> 4]);
-            buf.append(hexDigits[aByte & 0x0f]);
-        }
-        return buf.toString();
-    }
-
     /**
      * Check  the given API is available in the APIIdentifier List. it will match for API Name,API Version and API Provider
      *
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.http;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.am.integration.test.utils.loadgen.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Observes the calls made through the generated REST clients without logging every request and response body.
+ * <p>
+ * The time taken by each call is recorded per method and resource path, with identifiers in the path replaced by
+ * {@code {id}}. Request and response bodies are logged only when a call fails, for a sampled fraction of the
+ * successful calls, or for every call when wire logging is enabled through {@link #WIRE_LOGS_PROPERTY}. Logged bodies
+ * are truncated to {@link #MAX_BODY_BYTES_PROPERTY} bytes.
+ */
+public class ClientObservabilityInterceptor implements Interceptor {
+
+    public static final String WIRE_LOGS_PROPERTY = "okHttpLogs";
+    public static final String SAMPLE_RATE_PROPERTY = "okHttpLogs.sampleRate";
+    public static final String MAX_BODY_BYTES_PROPERTY = "okHttpLogs.maxBodyBytes";
+    private static final long DEFAULT_MAX_BODY_BYTES = 8 * 1024;
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+)(?=/|$)");
+    private static final Log log = LogFactory.getLog(ClientObservabilityInterceptor.class);
+    private static final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private static final ClientObservabilityInterceptor INSTANCE = new ClientObservabilityInterceptor();
+
+    private final boolean wireLogs = Boolean.getBoolean(WIRE_LOGS_PROPERTY);
+    private final double sampleRate = parseSampleRate(System.getProperty(SAMPLE_RATE_PROPERTY));
+    private final long maxBodyBytes = Long.getLong(MAX_BODY_BYTES_PROPERTY, DEFAULT_MAX_BODY_BYTES);
+
+    private ClientObservabilityInterceptor() {
+
+    }
+
+    /**
+     * Returns a copy of the given client with the interceptor installed.
+     *
+     * @param httpClient HTTP client of a generated REST client
+     * @return client that observes its calls
+     */
+    public static OkHttpClient install(OkHttpClient httpClient) {
+
+        if (httpClient.interceptors().contains(INSTANCE)) {
+            return httpClient;
+        }
+        return httpClient.newBuilder().addInterceptor(INSTANCE).build();
+    }
+
+    /**
+     * @return whether every request and response body should be logged
+     */
+    public static boolean isWireLoggingEnabled() {
+
+        return INSTANCE.wireLogs;
+    }
+
+    /**
+     * @return the call latencies in milliseconds recorded per method and resource path, sorted by resource
+     */
+    public static Map<String, LatencyHistogram> getLatencies() {
+
+        return Collections.unmodifiableMap(new TreeMap<>(latencies));
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+
+        Request request = chain.request();
+        String resource = request.method() + " " + ID_SEGMENT.matcher(request.url().encodedPath()).replaceAll("/{id}");
+        long startTime = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            log.warn(resource + " failed after " + elapsedMillis(startTime) + " ms: " + e.getMessage()
+                    + "\n" + describeRequest(request));
+            throw e;
+        }
+        long elapsed = elapsedMillis(startTime);
+        latencies.computeIfAbsent(resource, key -> new LatencyHistogram()).recordValue(elapsed);
+        if (!response.isSuccessful()) {
+            log.warn(resource + " returned " + response.code() + " in " + elapsed + " ms\n"
+                    + describeRequest(request) + "\n" + describeResponse(response));
+        } else if (wireLogs || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            log.info(resource + " returned " + response.code() + " in " + elapsed + " ms\n"
+                    + describeRequest(request) + "\n" + describeResponse(response));
+        } else if (log.isDebugEnabled()) {
+            log.debug(resource + " returned " + response.code() + " in " + elapsed + " ms");
+        }
+        return response;
+    }
+
+    private String describeRequest(Request request) {
+
+        StringBuilder description = new StringBuilder("--> ").append(request.method()).append(' ')
+                .append(request.url());
+        RequestBody body = request.body();
+        if (body == null) {
+            return description.toString();
+        }
+        try {
+            if (body.isOneShot() || body.isDuplex()) {
+                return description.append(" (body not replayable)").toString();
+            }
+            Buffer buffer = new Buffer();
+            body.writeTo(buffer);
+            long size = buffer.size();
+            description.append(" (").append(size).append("-byte body)\n")
+                    .append(buffer.readString(Math.min(size, maxBodyBytes), StandardCharsets.UTF_8));
+            if (size > maxBodyBytes) {
+                description.append("... (truncated)");
+            }
+        } catch (IOException e) {
+            description.append(" (body could not be read: ").append(e.getMessage()).append(')');
+        }
+        return description.toString();
+    }
+
+    private String describeResponse(Response response) {
+
+        StringBuilder description = new StringBuilder("<-- ").append(response.code()).append(' ')
+                .append(response.message());
+        try {
+            // Peeking leaves the body intact for the generated client to deserialize
+            String body = response.peekBody(maxBodyBytes + 1).string();
+            if (body.length() > maxBodyBytes) {
+                body = body.substring(0, (int) maxBodyBytes) + "... (truncated)";
+            }
+            description.append('\n').append(body);
+        } catch (IOException e) {
+            description.append(" (body could not be read: ").append(e.getMessage()).append(')');
+        }
+        return description.toString();
+    }
+
+    private static long elapsedMillis(long startTime) {
+
+        return (System.nanoTime() - startTime) / 1000000L;
+    }
+
+    private static double parseSampleRate(String sampleRate) {
+
+        if (sampleRate == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Math.min(1, Double.parseDouble(sampleRate.trim())));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid " + SAMPLE_RATE_PROPERTY + " value " + sampleRate);
+            return 0;
+        }
+    }
+}
@@ -28,13 +28,19 @@ import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLContexts;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 
 import javax.net.ssl.SSLContext;
 import java.io.BufferedReader;
@@ -44,6 +50,7 @@ import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
@@ -55,13 +62,36 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * This class is high level implementation for the HTTP client for Secure connection
+ * This class is high level implementation for the HTTP client for Secure connection.
+ * <p>
+ * The doGet/doPost/doPut operations share a pooled client so that consecutive requests to the same host reuse the
+ * established TCP connections and TLS sessions. The pool size can be tuned with the
+ * {@value #MAX_CONNECTIONS_PROPERTY} and {@value #MAX_CONNECTIONS_PER_ROUTE_PROPERTY} system properties.
  */
 public class HTTPSClientUtils {
     private static Log log = LogFactory.getLog(HttpRequestUtil.class);
 
+    public static final String MAX_CONNECTIONS_PROPERTY = "https.client.max.connections";
+    public static final String MAX_CONNECTIONS_PER_ROUTE_PROPERTY = "https.client.max.connections.per.route";
+    private static final int DEFAULT_MAX_CONNECTIONS = 200;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 100;
+    private static final int TIMEOUT = 7;
+    private static final String KEYSTORE_PASSWORD = "password";
+
+    private static final Object poolLock = new Object();
+    private static volatile CloseableHttpClient pooledHttpsClient;
+    private static volatile ExecutorService asyncExecutor;
+    private static final Map<String, SSLContext> mutualSSLContexts = new ConcurrentHashMap<>();
+    private static final Map<String, CloseableHttpClient> mutualSSLHttpsClients = new ConcurrentHashMap<>();
+
     /**
      * do HTTP GET operation for the given URL
      *
@@ -73,7 +103,7 @@ public class HTTPSClientUtils {
     public static org.wso2.carbon.automation.test.utils.http.client.HttpResponse doGet(String url,
             Map<String, String> headers) throws IOException {
 
-        CloseableHttpClient httpClient = getHttpsClient();
+        CloseableHttpClient httpClient = getPooledHttpsClient();
         HttpResponse response = sendGetRequest(httpClient, url, headers);
         return constructResponse(response);
     }
@@ -90,7 +120,7 @@ public class HTTPSClientUtils {
      */
     public static org.wso2.carbon.automation.test.utils.http.client.HttpResponse doPost(String url,
             Map<String, String> headers, List<NameValuePair> urlParameters) throws IOException {
-        CloseableHttpClient httpClient = getHttpsClient();
+        CloseableHttpClient httpClient = getPooledHttpsClient();
         HttpResponse response = sendPOSTMessage(httpClient, url, headers, urlParameters);
         return constructResponse(response);
     }
@@ -107,7 +137,7 @@ public class HTTPSClientUtils {
             Map<String, String> headers)
             throws IOException, NoSuchAlgorithmException, KeyStoreException, KeyManagementException,
             UnrecoverableKeyException {
-        CloseableHttpClient httpClient = getMutualSSLHttpsClient(path);
+        CloseableHttpClient httpClient = getPooledMutualSSLHttpsClient(path);
         HttpResponse response = sendGetRequest(httpClient, url, headers);
         return constructResponse(response);
     }
@@ -123,7 +153,7 @@ public class HTTPSClientUtils {
      */
     public static org.wso2.carbon.automation.test.utils.http.client.HttpResponse doPost(String url,
                                     Map<String, String> headers, String payload) throws IOException {
-        CloseableHttpClient httpClient = getHttpsClient();
+        CloseableHttpClient httpClient = getPooledHttpsClient();
         HttpResponse response = sendPOSTMessage(httpClient, url, headers, payload);
         return constructResponse(response);
     }
@@ -138,7 +168,7 @@ public class HTTPSClientUtils {
      */
     public static org.wso2.carbon.automation.test.utils.http.client.HttpResponse doPut(String url,
                                    Map<String, String> headers, String payload) throws IOException {
-        CloseableHttpClient httpClient = getHttpsClient();
+        CloseableHttpClient httpClient = getPooledHttpsClient();
         HttpResponse response = sendPUTMessage(httpClient, url, headers, payload);
         return constructResponse(response);
     }
@@ -153,7 +183,7 @@ public class HTTPSClientUtils {
      */
     public static org.wso2.carbon.automation.test.utils.http.client.HttpResponse doPost(URL url,
             Map<String, String> headers, String json) throws IOException {
-        CloseableHttpClient httpClient = getHttpsClient();
+        CloseableHttpClient httpClient = getPooledHttpsClient();
         HttpResponse response = sendPOSTMessage(httpClient, url.toString(), headers, json);
         return constructResponse(response);
     }
@@ -184,24 +214,153 @@ public class HTTPSClientUtils {
         return doPost(url.toString(), headers, urlParameters);
     }
 
+    /**
+     * do HTTP GET operation for the given URL without blocking the caller. The request is executed over the shared
+     * pooled client, so the number of requests in flight at a time is bounded by the connection pool size.
+     *
+     * @param url     request URL
+     * @param headers headers to be send
+     * @return future completed with the response, or exceptionally if a connection issue occurred
+     */
+    public static CompletableFuture<org.wso2.carbon.automation.test.utils.http.client.HttpResponse> doGetAsync(
+            String url, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return doGet(url, headers);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, getAsyncExecutor());
+    }
+
+    /**
+     * do HTTP POST operation for the given URL without blocking the caller.
+     *
+     * @param url     request URL
+     * @param headers headers to be sent
+     * @param payload payload to be sent
+     * @return future completed with the response, or exceptionally if a connection issue occurred
+     * @see #doGetAsync(String, Map)
+     */
+    public static CompletableFuture<org.wso2.carbon.automation.test.utils.http.client.HttpResponse> doPostAsync(
+            String url, Map<String, String> headers, String payload) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return doPost(url, headers, payload);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, getAsyncExecutor());
+    }
+
     /**
      * get the HTTP Client
      *
      * @return CloseableHttpClient
      */
     public static CloseableHttpClient getHttpsClient() {
-        int timeout = 7;
-        RequestConfig config = RequestConfig.custom()
-                .setConnectTimeout(timeout * 10000)
-                .setConnectionRequestTimeout(timeout * 10000)
-                .setSocketTimeout(timeout * 10000).build();
         CloseableHttpClient httpClient = HttpClients.custom().disableRedirectHandling()
-                .setDefaultRequestConfig(config).setHostnameVerifier(SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER).build();
+                .setDefaultRequestConfig(getRequestConfig()).setHostnameVerifier(SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER).build();
         return httpClient;
     }
 
     /**
-     * To get the mutual SSL Https Client based on the specified keystore path.
+     * get the shared HTTP Client backed by a connection pool. Connections and TLS sessions of this client are reused
+     * across requests, hence the returned client must not be closed by the caller. Cookies are not retained between
+     * requests, as with a client created per request.
+     *
+     * @return CloseableHttpClient
+     */
+    public static CloseableHttpClient getPooledHttpsClient() {
+        CloseableHttpClient httpClient = pooledHttpsClient;
+        if (httpClient == null) {
+            synchronized (poolLock) {
+                httpClient = pooledHttpsClient;
+                if (httpClient == null) {
+                    httpClient = createPooledClient(new SSLConnectionSocketFactory(SSLContexts.createDefault(),
+                            SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER));
+                    pooledHttpsClient = httpClient;
+                }
+            }
+        }
+        return httpClient;
+    }
+
+    /**
+     * Closes the shared pooled clients and releases their connections. The clients are recreated on the next request.
+     */
+    public static void closePooledClients() {
+        synchronized (poolLock) {
+            closeQuietly(pooledHttpsClient);
+            pooledHttpsClient = null;
+            for (CloseableHttpClient httpClient : mutualSSLHttpsClients.values()) {
+                closeQuietly(httpClient);
+            }
+            mutualSSLHttpsClients.clear();
+            mutualSSLContexts.clear();
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdown();
+                asyncExecutor = null;
+            }
+        }
+    }
+
+    private static CloseableHttpClient createPooledClient(SSLConnectionSocketFactory sslSocketFactory) {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory).build();
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(Integer.getInteger(MAX_CONNECTIONS_PROPERTY, DEFAULT_MAX_CONNECTIONS));
+        connectionManager.setDefaultMaxPerRoute(
+                Integer.getInteger(MAX_CONNECTIONS_PER_ROUTE_PROPERTY, DEFAULT_MAX_CONNECTIONS_PER_ROUTE));
+        return HttpClients.custom().setConnectionManager(connectionManager).disableRedirectHandling()
+                .disableCookieManagement().setDefaultRequestConfig(getRequestConfig()).build();
+    }
+
+    private static ExecutorService getAsyncExecutor() {
+        ExecutorService executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (poolLock) {
+                executor = asyncExecutor;
+                if (executor == null) {
+                    AtomicInteger threadCount = new AtomicInteger();
+                    executor = Executors.newFixedThreadPool(
+                            Integer.getInteger(MAX_CONNECTIONS_PROPERTY, DEFAULT_MAX_CONNECTIONS), runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "https-client-async-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static RequestConfig getRequestConfig() {
+        return RequestConfig.custom()
+                .setConnectTimeout(TIMEOUT * 10000)
+                .setConnectionRequestTimeout(TIMEOUT * 10000)
+                .setSocketTimeout(TIMEOUT * 10000).build();
+    }
+
+    private static void closeQuietly(CloseableHttpClient httpClient) {
+        if (httpClient == null) {
+            return;
+        }
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Error while closing pooled http client", e);
+        }
+    }
+
+    /**
+     * To get the mutual SSL Https Client based on the specified keystore path. The client is pooled and shared by
+     * all requests using the same keystore, hence it must not be closed by the caller. A keystore that was modified
+     * since the client was created gets a new client.
      *
      * @param keyStorePath Path to the key store.
      * @return http client that can handle mutual SSL.
@@ -210,25 +369,56 @@ public class HTTPSClientUtils {
      * @throws KeyManagementException    Key Management Exception.
      * @throws UnrecoverableKeyException Un recoverable Key Exception.
      */
-    private static CloseableHttpClient getMutualSSLHttpsClient(String keyStorePath)
+    private static CloseableHttpClient getPooledMutualSSLHttpsClient(String keyStorePath)
             throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException, UnrecoverableKeyException {
-        int timeout = 7;
-        RequestConfig config = RequestConfig.custom().setConnectTimeout(timeout * 10000)
-                .setConnectionRequestTimeout(timeout * 10000).setSocketTimeout(timeout * 10000).build();
+        String cacheKey = getKeyStoreCacheKey(keyStorePath);
+        CloseableHttpClient httpClient = mutualSSLHttpsClients.get(cacheKey);
+        if (httpClient == null) {
+            synchronized (poolLock) {
+                httpClient = mutualSSLHttpsClients.get(cacheKey);
+                if (httpClient == null) {
+                    httpClient = createPooledClient(
+                            new SSLConnectionSocketFactory(getMutualSSLContext(keyStorePath)));
+                    mutualSSLHttpsClients.put(cacheKey, httpClient);
+                }
+            }
+        }
+        return httpClient;
+    }
 
+    /**
+     * To get the SSL context of the specified keystore. The context is cached per keystore path and modification
+     * time, so that the keystore is read from disk only once and the TLS sessions of the context can be resumed.
+     *
+     * @param keyStorePath Path to the key store.
+     * @return SSL context that trusts and presents the keys of the key store.
+     */
+    private static SSLContext getMutualSSLContext(String keyStorePath)
+            throws KeyStoreException, NoSuchAlgorithmException, KeyManagementException, UnrecoverableKeyException {
+        String cacheKey = getKeyStoreCacheKey(keyStorePath);
+        SSLContext sslcontext = mutualSSLContexts.get(cacheKey);
+        if (sslcontext != null) {
+            return sslcontext;
+        }
         KeyStore trustStore = KeyStore.getInstance("JKS");
         try (InputStream is = Files.newInputStream(Paths.get(keyStorePath))) {
-            trustStore.load(is, "password".toCharArray());
+            trustStore.load(is, KEYSTORE_PASSWORD.toCharArray());
         } catch (IOException | CertificateException e) {
             log.error("Error while loading keystore", e);
         }
-        SSLContext sslcontext = SSLContexts.custom().loadTrustMaterial(trustStore, new TrustSelfSignedStrategy())
-                .loadKeyMaterial(trustStore, "password".toCharArray()).build();
-        
-        SSLConnectionSocketFactory sslsf = new SSLConnectionSocketFactory(sslcontext);
-                
-        return HttpClients.custom().setSSLSocketFactory(sslsf).disableRedirectHandling().setDefaultRequestConfig(config)
-                .setHostnameVerifier(SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER).build();
+        sslcontext = SSLContexts.custom().loadTrustMaterial(trustStore, new TrustSelfSignedStrategy())
+                .loadKeyMaterial(trustStore, KEYSTORE_PASSWORD.toCharArray()).build();
+        mutualSSLContexts.put(cacheKey, sslcontext);
+        return sslcontext;
+    }
+
+    private static String getKeyStoreCacheKey(String keyStorePath) {
+        Path path = Paths.get(keyStorePath).toAbsolutePath().normalize();
+        try {
+            return path + "#" + Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return path.toString();
+        }
     }
 
     /**
@@ -327,7 +517,13 @@ public class HTTPSClientUtils {
     private static org.wso2.carbon.automation.test.utils.http.client.HttpResponse constructResponse(
             HttpResponse response) throws IOException {
         int code = response.getStatusLine().getStatusCode();
-        String body = getResponseBody(response);
+        String body;
+        try {
+            body = getResponseBody(response);
+        } finally {
+            // Releases the connection back to the pool even if the body could not be read
+            EntityUtils.consumeQuietly(response.getEntity());
+        }
         Header[] headers = response.getAllHeaders();
         Map<String, String> heads = new HashMap<String, String>();
         for (Header header : headers) {
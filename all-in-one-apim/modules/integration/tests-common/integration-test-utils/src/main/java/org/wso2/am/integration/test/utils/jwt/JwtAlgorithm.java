@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.jwt;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.util.Arrays;
+
+/**
+ * JWS signature algorithms a {@link JwtVerifier} can verify, with their JCA counterparts.
+ */
+public enum JwtAlgorithm {
+
+    RS256("SHA256withRSA", null, 0),
+    RS384("SHA384withRSA", null, 0),
+    RS512("SHA512withRSA", null, 0),
+    PS256("RSASSA-PSS", new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, 32, 1), 0),
+    PS384("RSASSA-PSS", new PSSParameterSpec("SHA-384", "MGF1", MGF1ParameterSpec.SHA384, 48, 1), 0),
+    PS512("RSASSA-PSS", new PSSParameterSpec("SHA-512", "MGF1", MGF1ParameterSpec.SHA512, 64, 1), 0),
+    ES256("SHA256withECDSA", null, 32),
+    ES384("SHA384withECDSA", null, 48),
+    ES512("SHA512withECDSA", null, 66);
+
+    private final String jcaName;
+    private final PSSParameterSpec pssParameters;
+    private final int coordinateLength;
+
+    JwtAlgorithm(String jcaName, PSSParameterSpec pssParameters, int coordinateLength) {
+
+        this.jcaName = jcaName;
+        this.pssParameters = pssParameters;
+        this.coordinateLength = coordinateLength;
+    }
+
+    /**
+     * @param alg value of the alg header, or the JCA name of the algorithm, e.g. SHA256withRSA
+     * @return the algorithm, or null if it is not supported
+     */
+    public static JwtAlgorithm of(String alg) {
+
+        if (alg == null) {
+            return null;
+        }
+        for (JwtAlgorithm algorithm : values()) {
+            if (algorithm.name().equals(alg) || (algorithm.pssParameters == null && algorithm.jcaName.equals(alg))) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+
+    public String getJcaName() {
+
+        return jcaName;
+    }
+
+    /**
+     * Verifies a JWS signature.
+     *
+     * @param key       public key of the signer
+     * @param content   signed content, i.e. the ASCII bytes of {@code <header>.<payload>}
+     * @param signature decoded signature. ECDSA signatures are in the JWS form, i.e. R and S concatenated
+     * @return whether the signature is valid
+     * @throws GeneralSecurityException if the key does not suit the algorithm
+     */
+    public boolean verify(PublicKey key, byte[] content, byte[] signature) throws GeneralSecurityException {
+
+        Signature verifier = Signature.getInstance(jcaName);
+        if (pssParameters != null) {
+            verifier.setParameter(pssParameters);
+        }
+        verifier.initVerify(key);
+        verifier.update(content);
+        if (coordinateLength > 0) {
+            if (signature.length != coordinateLength * 2) {
+                return false;
+            }
+            return verifier.verify(toDer(signature));
+        }
+        return verifier.verify(signature);
+    }
+
+    /**
+     * Converts a JWS ECDSA signature, R and S as fixed length unsigned integers, to the DER sequence the JCA expects.
+     */
+    private byte[] toDer(byte[] signature) {
+
+        byte[] r = new BigInteger(1, Arrays.copyOfRange(signature, 0, coordinateLength)).toByteArray();
+        byte[] s = new BigInteger(1, Arrays.copyOfRange(signature, coordinateLength, signature.length)).toByteArray();
+        ByteArrayOutputStream sequence = new ByteArrayOutputStream();
+        writeDer(sequence, 0x02, r);
+        writeDer(sequence, 0x02, s);
+        ByteArrayOutputStream der = new ByteArrayOutputStream();
+        writeDer(der, 0x30, sequence.toByteArray());
+        return der.toByteArray();
+    }
+
+    private static void writeDer(ByteArrayOutputStream out, int tag, byte[] value) {
+
+        out.write(tag);
+        if (value.length < 0x80) {
+            out.write(value.length);
+        } else if (value.length < 0x100) {
+            out.write(0x81);
+            out.write(value.length);
+        } else {
+            out.write(0x82);
+            out.write(value.length >> 8);
+            out.write(value.length & 0xff);
+        }
+        out.write(value, 0, value.length);
+    }
+}
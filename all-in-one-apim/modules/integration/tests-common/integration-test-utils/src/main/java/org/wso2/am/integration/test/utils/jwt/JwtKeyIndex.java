@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.jwt;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Public keys that JWTs can be verified with, indexed by the {@code kid}, {@code x5t} and {@code x5t#S256} headers a
+ * token identifies its signing key with. The index is built once, from a keystore or a JWKS document, so verifying a
+ * token is a map lookup instead of loading the keystore and hashing every certificate in it.
+ * <p>
+ * An {@code x5t} is matched whether it holds the SHA-1 thumbprint itself or, as API Manager issues it, the hex
+ * encoding of the thumbprint.
+ */
+public class JwtKeyIndex {
+
+    private static final Log log = LogFactory.getLog(JwtKeyIndex.class);
+    private static final Map<String, CachedIndex> KEYSTORE_INDEXES = new ConcurrentHashMap<>();
+
+    private final Map<String, PublicKey> keysById;
+    private final Map<String, PublicKey> keysBySha1;
+    private final Map<String, PublicKey> keysBySha256;
+
+    private JwtKeyIndex(Map<String, PublicKey> keysById, Map<String, PublicKey> keysBySha1,
+                        Map<String, PublicKey> keysBySha256) {
+
+        this.keysById = Collections.unmodifiableMap(keysById);
+        this.keysBySha1 = Collections.unmodifiableMap(keysBySha1);
+        this.keysBySha256 = Collections.unmodifiableMap(keysBySha256);
+    }
+
+    private static class CachedIndex {
+
+        private final long lastModified;
+        private final JwtKeyIndex index;
+
+        CachedIndex(long lastModified, JwtKeyIndex index) {
+
+            this.lastModified = lastModified;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Returns the index of a keystore file. The index is cached per file and only rebuilt when the file changes.
+     *
+     * @param location path of the keystore
+     * @param password password of the keystore
+     * @param type     keystore type, e.g. JKS
+     * @return index of the certificates in the keystore
+     * @throws IOException if the keystore could not be read
+     */
+    public static JwtKeyIndex forKeyStore(String location, String password, String type) throws IOException {
+
+        File file = new File(location);
+        String cacheKey = file.getAbsolutePath() + "|" + type;
+        long lastModified = file.lastModified();
+        CachedIndex cached = KEYSTORE_INDEXES.get(cacheKey);
+        if (cached != null && cached.lastModified == lastModified) {
+            return cached.index;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            KeyStore keyStore = KeyStore.getInstance(type);
+            keyStore.load(in, password.toCharArray());
+            JwtKeyIndex index = fromKeyStore(keyStore);
+            KEYSTORE_INDEXES.put(cacheKey, new CachedIndex(lastModified, index));
+            return index;
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Unable to load the keystore " + location, e);
+        }
+    }
+
+    /**
+     * Indexes the certificates of a keystore. The alias of an entry is indexed as its key id.
+     *
+     * @param keyStore loaded keystore
+     * @return index of the certificates in the keystore
+     * @throws GeneralSecurityException if the keystore could not be read
+     */
+    public static JwtKeyIndex fromKeyStore(KeyStore keyStore) throws GeneralSecurityException {
+
+        Map<String, PublicKey> keysById = new HashMap<>();
+        Map<String, PublicKey> keysBySha1 = new HashMap<>();
+        Map<String, PublicKey> keysBySha256 = new HashMap<>();
+        for (Enumeration<String> aliases = keyStore.aliases(); aliases.hasMoreElements(); ) {
+            String alias = aliases.nextElement();
+            Certificate[] chain = keyStore.getCertificateChain(alias);
+            Certificate certificate = chain != null && chain.length > 0 ? chain[0] : keyStore.getCertificate(alias);
+            if (certificate != null) {
+                keysById.put(alias, certificate.getPublicKey());
+                indexCertificate(certificate, keysBySha1, keysBySha256);
+            }
+        }
+        return new JwtKeyIndex(keysById, keysBySha1, keysBySha256);
+    }
+
+    /**
+     * Indexes the keys of a JWKS document, e.g. the response of the gateway's /jwks endpoint. RSA and EC keys are
+     * read from their parameters, and keys carrying an {@code x5c} chain are also indexed by its thumbprints.
+     *
+     * @param jwks JWKS document
+     * @return index of the keys in the document
+     * @throws GeneralSecurityException if a key could not be read
+     */
+    public static JwtKeyIndex fromJwks(String jwks) throws GeneralSecurityException {
+
+        Map<String, PublicKey> keysById = new HashMap<>();
+        Map<String, PublicKey> keysBySha1 = new HashMap<>();
+        Map<String, PublicKey> keysBySha256 = new HashMap<>();
+        try {
+            JSONArray keys = new JSONObject(jwks).getJSONArray("keys");
+            for (int i = 0; i < keys.length(); i++) {
+                JSONObject jwk = keys.getJSONObject(i);
+                PublicKey key = null;
+                if (jwk.has("x5c")) {
+                    Certificate certificate = CertificateFactory.getInstance("X.509").generateCertificate(
+                            new ByteArrayInputStream(Base64.decodeBase64(jwk.getJSONArray("x5c").getString(0))));
+                    key = certificate.getPublicKey();
+                    indexCertificate(certificate, keysBySha1, keysBySha256);
+                } else if ("RSA".equals(jwk.optString("kty"))) {
+                    key = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                            toBigInteger(jwk.getString("n")), toBigInteger(jwk.getString("e"))));
+                } else if ("EC".equals(jwk.optString("kty"))) {
+                    key = toEcPublicKey(jwk);
+                } else {
+                    log.warn("Skipping the JWK " + jwk.optString("kid") + " of unsupported type "
+                            + jwk.optString("kty"));
+                }
+                if (key != null && jwk.has("kid")) {
+                    keysById.put(jwk.getString("kid"), key);
+                }
+                if (key != null && jwk.has("x5t")) {
+                    keysBySha1.put(normalizeThumbprint(jwk.getString("x5t"), 20), key);
+                }
+                if (key != null && jwk.has("x5t#S256")) {
+                    keysBySha256.put(normalizeThumbprint(jwk.getString("x5t#S256"), 32), key);
+                }
+            }
+        } catch (JSONException e) {
+            throw new GeneralSecurityException("Invalid JWKS document", e);
+        }
+        return new JwtKeyIndex(keysById, keysBySha1, keysBySha256);
+    }
+
+    /**
+     * Finds the key a token was signed with, by its kid, x5t#S256 or x5t header, in that order.
+     *
+     * @param header decoded header of the token
+     * @return the signing key, or null if the index does not have it
+     */
+    public PublicKey getKey(JSONObject header) {
+
+        PublicKey key = null;
+        if (header.has("kid")) {
+            key = keysById.get(header.optString("kid"));
+        }
+        if (key == null && header.has("x5t#S256")) {
+            key = keysBySha256.get(normalizeThumbprint(header.optString("x5t#S256"), 32));
+        }
+        if (key == null && header.has("x5t")) {
+            key = keysBySha1.get(normalizeThumbprint(header.optString("x5t"), 20));
+        }
+        return key;
+    }
+
+    public int size() {
+
+        return keysById.size();
+    }
+
+    private static void indexCertificate(Certificate certificate, Map<String, PublicKey> keysBySha1,
+                                         Map<String, PublicKey> keysBySha256) throws GeneralSecurityException {
+
+        byte[] encoded = certificate.getEncoded();
+        keysBySha1.put(Hex.encodeHexString(MessageDigest.getInstance("SHA-1").digest(encoded)),
+                certificate.getPublicKey());
+        keysBySha256.put(Hex.encodeHexString(MessageDigest.getInstance("SHA-256").digest(encoded)),
+                certificate.getPublicKey());
+    }
+
+    /**
+     * Decodes a base64url thumbprint to lower case hex. The thumbprint is either the digest itself or its hex
+     * encoding, told apart by the decoded length.
+     */
+    private static String normalizeThumbprint(String thumbprint, int digestLength) {
+
+        byte[] decoded = Base64.decodeBase64(thumbprint);
+        if (decoded.length == digestLength) {
+            return Hex.encodeHexString(decoded);
+        }
+        return new String(decoded, StandardCharsets.US_ASCII).toLowerCase();
+    }
+
+    private static BigInteger toBigInteger(String base64Url) {
+
+        return new BigInteger(1, Base64.decodeBase64(base64Url));
+    }
+
+    private static PublicKey toEcPublicKey(JSONObject jwk) throws GeneralSecurityException, JSONException {
+
+        String curve;
+        switch (jwk.getString("crv")) {
+            case "P-256":
+                curve = "secp256r1";
+                break;
+            case "P-384":
+                curve = "secp384r1";
+                break;
+            case "P-521":
+                curve = "secp521r1";
+                break;
+            default:
+                throw new GeneralSecurityException("Unsupported curve " + jwk.getString("crv"));
+        }
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(curve));
+        ECPoint point = new ECPoint(toBigInteger(jwk.getString("x")), toBigInteger(jwk.getString("y")));
+        return KeyFactory.getInstance("EC").generatePublic(
+                new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.jwt;
+
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.wso2.am.integration.test.utils.generic.TestConfigurationProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.xml.xpath.XPathExpressionException;
+
+/**
+ * Verifies the signatures of JWTs, e.g. the backend JWTs the gateway passes to an API backend, against the keys of a
+ * {@link JwtKeyIndex}. Verification is stateless, so a verifier can be shared by threads and batches of tokens are
+ * verified in parallel.
+ * <pre>
+ * JwtVerifier verifier = JwtVerifier.forTrustStore();
+ * Assert.assertTrue(verifier.verify(jwtHeader.getValue()));
+ * </pre>
+ */
+public class JwtVerifier {
+
+    private static final Log log = LogFactory.getLog(JwtVerifier.class);
+
+    private final JwtKeyIndex keyIndex;
+
+    public JwtVerifier(JwtKeyIndex keyIndex) {
+
+        this.keyIndex = keyIndex;
+    }
+
+    /**
+     * @return a verifier trusting the certificates of the client truststore of the test framework
+     * @throws IOException if the truststore could not be read
+     */
+    public static JwtVerifier forTrustStore() throws IOException {
+
+        try {
+            return new JwtVerifier(JwtKeyIndex.forKeyStore(TestConfigurationProvider.getTrustStoreLocation(),
+                    TestConfigurationProvider.getTrustStorePassword(), TestConfigurationProvider.getTrustStoreType()));
+        } catch (XPathExpressionException e) {
+            throw new IOException("Unable to read the truststore configuration", e);
+        }
+    }
+
+    /**
+     * Verifies the signature of a serialized JWT, whose parts may be base64 or base64url encoded.
+     *
+     * @param jwt serialized token
+     * @return whether the token is signed by a key of the index with a supported algorithm
+     */
+    public boolean verify(String jwt) {
+
+        if (jwt == null) {
+            return false;
+        }
+        String[] parts = jwt.trim().split("\\.");
+        if (parts.length != 3) {
+            log.debug("Not a signed JWT, found " + parts.length + " parts");
+            return false;
+        }
+        String header = new String(Base64.decodeBase64(parts[0]), StandardCharsets.UTF_8);
+        return verify(parts[0] + "." + parts[1], Base64.decodeBase64(parts[2]), header);
+    }
+
+    /**
+     * Verifies a signature over the header and payload of a JWT.
+     *
+     * @param assertion  encoded {@code <header>.<payload>} of the token
+     * @param signature  decoded signature
+     * @param jsonHeader decoded header
+     * @return whether the signature is made by a key of the index with a supported algorithm
+     */
+    public boolean verify(String assertion, byte[] signature, String jsonHeader) {
+
+        if (assertion == null || signature == null || signature.length == 0 || jsonHeader == null) {
+            log.debug("JWT signature is empty");
+            return false;
+        }
+        try {
+            JSONObject header = new JSONObject(jsonHeader);
+            JwtAlgorithm algorithm = JwtAlgorithm.of(header.optString("alg", null));
+            if (algorithm == null) {
+                log.error("Unsupported JWT signature algorithm " + header.optString("alg", null));
+                return false;
+            }
+            PublicKey key = keyIndex.getKey(header);
+            if (key == null) {
+                log.error("No key found for the JWT with the header " + jsonHeader);
+                return false;
+            }
+            return algorithm.verify(key, assertion.getBytes(StandardCharsets.US_ASCII), signature);
+        } catch (JSONException e) {
+            log.error("Error while parsing the JWT header " + jsonHeader, e);
+            return false;
+        } catch (GeneralSecurityException e) {
+            log.error("Error occurred while validating the JWT signature", e);
+            return false;
+        }
+    }
+
+    /**
+     * Verifies a batch of serialized tokens in parallel.
+     *
+     * @param jwts serialized tokens
+     * @return the result of each token, in the iteration order of the batch
+     */
+    public List<Boolean> verifyAll(Collection<String> jwts) {
+
+        return jwts.parallelStream().map(this::verify).collect(Collectors.toList());
+    }
+
+    /**
+     * @return whether every token of the batch is validly signed
+     */
+    public boolean allValid(Collection<String> jwts) {
+
+        return jwts.parallelStream().allMatch(this::verify);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.am.integration.test.utils.lease;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+
+/**
+ * A leased temporary directory, which is deleted along with its content when the lease is released. Directories left
+ * behind by JVMs that exited without releasing their leases are deleted by the next {@link ResourceLeaseService}.
+ */
+public class DirectoryLease extends ResourceLease {
+
+    private static final Log log = LogFactory.getLog(DirectoryLease.class);
+
+    private final Path directory;
+
+    DirectoryLease(ResourceLeaseService service, Path directory, Path lockFile, FileChannel lockChannel,
+                   FileLock lock) {
+
+        super(service, ResourceLeaseService.DIRECTORY, directory.getFileName().toString(), lockFile, lockChannel,
+                lock);
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+
+        return directory;
+    }
+
+    @Override
+    void beforeRelease() {
+
+        try {
+            FileUtils.deleteDirectory(directory.toFile());
+        } catch (IOException e) {
+            log.warn("Unable to delete leased directory " + directory + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.am.integration.test.utils.lease;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Path;
+
+/**
+ * A leased port. The port is either only reserved, in which case the holder binds it, or already bound to a
+ * {@link ServerSocketChannel} handed over with the lease, which leaves no window for another process to take it.
+ */
+public class PortLease extends ResourceLease {
+
+    private static final Log log = LogFactory.getLog(PortLease.class);
+
+    private final int port;
+    private final ServerSocketChannel channel;
+
+    PortLease(ResourceLeaseService service, int port, ServerSocketChannel channel, Path lockFile,
+              FileChannel lockChannel, FileLock lock) {
+
+        super(service, ResourceLeaseService.PORT, String.valueOf(port), lockFile, lockChannel, lock);
+        this.port = port;
+        this.channel = channel;
+    }
+
+    public int getPort() {
+
+        return port;
+    }
+
+    /**
+     * @return the channel bound to the port, or null if the port was leased without binding it
+     */
+    public ServerSocketChannel getChannel() {
+
+        return channel;
+    }
+
+    @Override
+    void beforeRelease() {
+
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Error while closing the channel bound to port " + port, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.am.integration.test.utils.lease;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+
+/**
+ * A resource held exclusively by this JVM among all the JVMs sharing the lease directory of the
+ * {@link ResourceLeaseService}. The lease is backed by an OS file lock, so it is released by the OS as well when the
+ * JVM exits without closing it.
+ */
+public class ResourceLease implements AutoCloseable {
+
+    private static final Log log = LogFactory.getLog(ResourceLease.class);
+
+    private final ResourceLeaseService service;
+    private final String kind;
+    private final String name;
+    private final Path lockFile;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private volatile boolean released;
+
+    ResourceLease(ResourceLeaseService service, String kind, String name, Path lockFile, FileChannel lockChannel,
+                  FileLock lock) {
+
+        this.service = service;
+        this.kind = kind;
+        this.name = name;
+        this.lockFile = lockFile;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+    }
+
+    /**
+     * @return the kind of the resource, e.g. {@code port} or {@code tenant}
+     */
+    public String getKind() {
+
+        return kind;
+    }
+
+    /**
+     * @return the leased name, e.g. the port number or the tenant domain
+     */
+    public String getName() {
+
+        return name;
+    }
+
+    Path getLockFile() {
+
+        return lockFile;
+    }
+
+    public boolean isReleased() {
+
+        return released;
+    }
+
+    /**
+     * Releases the resource so that it can be leased again, by this or another JVM.
+     */
+    @Override
+    public void close() {
+
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+        }
+        try {
+            beforeRelease();
+        } finally {
+            try {
+                lock.release();
+                lockChannel.close();
+            } catch (IOException e) {
+                log.debug("Error while releasing the lease of " + kind + " " + name, e);
+            }
+            service.released(this);
+        }
+    }
+
+    /**
+     * Invoked before the lock of the lease is released, to clean up the leased resource.
+     */
+    void beforeRelease() {
+    }
+
+    @Override
+    public String toString() {
+
+        return kind + " " + name;
+    }
+}
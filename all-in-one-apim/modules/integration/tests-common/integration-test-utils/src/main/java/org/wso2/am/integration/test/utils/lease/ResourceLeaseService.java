@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.lease;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * Hands out ports, names and temporary directories that are unique among all the test JVMs running on the host, so
+ * that several surefire forks or suites can run in parallel without colliding. Each lease is backed by an OS file
+ * lock on a file in a lease directory shared by the JVMs, {@code <java.io.tmpdir>/apim-test-leases} by default or
+ * the directory set through {@link #LEASE_DIRECTORY_PROPERTY}.
+ * <p>
+ * A leased port is also checked to be bindable, and can be handed out already bound, see
+ * {@link #leaseBoundPort(int, int)}. Callers that only need a port number until they bind it, such as
+ * {@link org.wso2.am.integration.test.utils.MockServerUtils}, can use {@link #reservePort(int, int, IntPredicate)},
+ * whose lease is released as soon as the port is found bound, or after {@link #RESERVATION_TIMEOUT} otherwise.
+ */
+public class ResourceLeaseService {
+
+    public static final String LEASE_DIRECTORY_PROPERTY = "test.lease.dir";
+    public static final String PORT = "port";
+    public static final String TENANT = "tenant";
+    public static final String API_CONTEXT = "context";
+    public static final String DIRECTORY = "dir";
+    public static final long RESERVATION_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+    private static final long RESERVATION_CHECK_INTERVAL = 500;
+    private static final int MAX_NAME_INDEX = 100000;
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final Log log = LogFactory.getLog(ResourceLeaseService.class);
+    private static volatile ResourceLeaseService instance;
+
+    private final Path leaseDirectory;
+    private final Set<ResourceLease> activeLeases = ConcurrentHashMap.newKeySet();
+    private final Set<Path> heldLockFiles = ConcurrentHashMap.newKeySet();
+    private final Map<PortLease, Long> reservations = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reservationChecker;
+
+    ResourceLeaseService(Path leaseDirectory) throws IOException {
+
+        this.leaseDirectory = Files.createDirectories(leaseDirectory);
+        deleteStaleDirectories();
+        this.reservationChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resource-lease-reservations");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reservationChecker.scheduleWithFixedDelay(this::expireReservations, RESERVATION_CHECK_INTERVAL,
+                RESERVATION_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::releaseAll, "resource-lease-shutdown"));
+    }
+
+    /**
+     * @return the lease service of this JVM
+     */
+    public static ResourceLeaseService getInstance() {
+
+        ResourceLeaseService service = instance;
+        if (service == null) {
+            synchronized (ResourceLeaseService.class) {
+                service = instance;
+                if (service == null) {
+                    Path directory = Paths.get(System.getProperty(LEASE_DIRECTORY_PROPERTY,
+                            Paths.get(System.getProperty("java.io.tmpdir"), "apim-test-leases").toString()));
+                    try {
+                        service = new ResourceLeaseService(directory);
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Unable to create lease directory " + directory, e);
+                    }
+                    instance = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    /**
+     * Leases a free port in the given range, which is held until the lease is closed.
+     *
+     * @param lowerPort lowest port of the range
+     * @param upperPort highest port of the range
+     * @return the lease of the port
+     * @throws APIManagerIntegrationTestException if every port in the range is leased or in use
+     */
+    public PortLease leasePort(int lowerPort, int upperPort) throws APIManagerIntegrationTestException {
+
+        return leasePort(lowerPort, upperPort, false, port -> true);
+    }
+
+    /**
+     * Leases a free port in the given range along with a {@link ServerSocketChannel} bound to it. Closing the lease
+     * closes the channel.
+     *
+     * @see #leasePort(int, int)
+     */
+    public PortLease leaseBoundPort(int lowerPort, int upperPort) throws APIManagerIntegrationTestException {
+
+        return leasePort(lowerPort, upperPort, true, port -> true);
+    }
+
+    /**
+     * Reserves a free port in the given range for a caller that binds it right after. The reservation is released
+     * once the port is found bound, since the bound socket then keeps other JVMs away from it, or after
+     * {@link #RESERVATION_TIMEOUT} if the port is never bound.
+     *
+     * @param lowerPort  lowest port of the range
+     * @param upperPort  highest port of the range
+     * @param acceptable filter of the candidate ports, e.g. to skip reserved ports
+     * @return the reserved port
+     * @throws APIManagerIntegrationTestException if every port in the range is leased or in use
+     */
+    public int reservePort(int lowerPort, int upperPort, IntPredicate acceptable)
+            throws APIManagerIntegrationTestException {
+
+        PortLease lease = leasePort(lowerPort, upperPort, false, acceptable);
+        reservations.put(lease, System.currentTimeMillis() + RESERVATION_TIMEOUT);
+        return lease.getPort();
+    }
+
+    private PortLease leasePort(int lowerPort, int upperPort, boolean bind, IntPredicate acceptable)
+            throws APIManagerIntegrationTestException {
+
+        int rangeLength = upperPort - lowerPort + 1;
+        // Start at a random port so that concurrent JVMs rarely contend for the same lock
+        int offset = ThreadLocalRandom.current().nextInt(rangeLength);
+        for (int i = 0; i < rangeLength; i++) {
+            int port = lowerPort + (offset + i) % rangeLength;
+            if (!acceptable.test(port)) {
+                continue;
+            }
+            Path lockFile = leaseDirectory.resolve(PORT).resolve(port + LOCK_SUFFIX);
+            LockHandle handle = tryLock(lockFile);
+            if (handle == null) {
+                continue;
+            }
+            ServerSocketChannel channel = null;
+            boolean inUse;
+            if (bind) {
+                try {
+                    channel = ServerSocketChannel.open();
+                    channel.socket().setReuseAddress(true);
+                    channel.bind(new InetSocketAddress(port));
+                    inUse = false;
+                } catch (IOException e) {
+                    closeQuietly(channel);
+                    inUse = true;
+                }
+            } else {
+                inUse = isBound(port);
+            }
+            if (inUse) {
+                // The port is in use by a process that does not take part in the leases
+                handle.release();
+                heldLockFiles.remove(lockFile);
+                continue;
+            }
+            PortLease lease = new PortLease(this, port, channel, lockFile, handle.channel, handle.lock);
+            activeLeases.add(lease);
+            log.info("Leased port " + port);
+            return lease;
+        }
+        throw new APIManagerIntegrationTestException("No port could be leased in the range " + lowerPort + "-"
+                + upperPort);
+    }
+
+    /**
+     * Leases a tenant domain of the form {@code <prefix><n>.com}, which no other JVM uses at the same time.
+     */
+    public ResourceLease leaseTenantDomain(String prefix) throws APIManagerIntegrationTestException {
+
+        return leaseName(TENANT, prefix, ".com");
+    }
+
+    /**
+     * Leases an API context of the form {@code <prefix><n>}, which no other JVM uses at the same time.
+     */
+    public ResourceLease leaseApiContext(String prefix) throws APIManagerIntegrationTestException {
+
+        return leaseName(API_CONTEXT, prefix, "");
+    }
+
+    /**
+     * Leases the name {@code <prefix><n><suffix>} with the lowest {@code n} that is not leased by any JVM.
+     *
+     * @param kind   kind of the resource, names of different kinds do not conflict
+     * @param prefix start of the name
+     * @param suffix end of the name
+     * @return the lease of the name
+     * @throws APIManagerIntegrationTestException if no name could be leased
+     */
+    public ResourceLease leaseName(String kind, String prefix, String suffix)
+            throws APIManagerIntegrationTestException {
+
+        for (int index = 1; index <= MAX_NAME_INDEX; index++) {
+            String name = prefix + index + suffix;
+            Path lockFile = leaseDirectory.resolve(kind).resolve(name + LOCK_SUFFIX);
+            LockHandle handle = tryLock(lockFile);
+            if (handle != null) {
+                ResourceLease lease = new ResourceLease(this, kind, name, lockFile, handle.channel, handle.lock);
+                activeLeases.add(lease);
+                return lease;
+            }
+        }
+        throw new APIManagerIntegrationTestException("No " + kind + " name could be leased for " + prefix);
+    }
+
+    /**
+     * Leases a new temporary directory, which is deleted when the lease is released.
+     *
+     * @param prefix prefix of the directory name
+     * @return the lease of the directory
+     * @throws APIManagerIntegrationTestException if the directory could not be created
+     */
+    public DirectoryLease leaseTempDirectory(String prefix) throws APIManagerIntegrationTestException {
+
+        try {
+            Path parent = Files.createDirectories(leaseDirectory.resolve(DIRECTORY));
+            Path directory = Files.createTempDirectory(parent, prefix);
+            Path lockFile = parent.resolve(directory.getFileName() + LOCK_SUFFIX);
+            LockHandle handle = tryLock(lockFile);
+            if (handle == null) {
+                throw new APIManagerIntegrationTestException("Unable to lock new directory " + directory);
+            }
+            DirectoryLease lease = new DirectoryLease(this, directory, lockFile, handle.channel, handle.lock);
+            activeLeases.add(lease);
+            return lease;
+        } catch (IOException e) {
+            throw new APIManagerIntegrationTestException("Unable to create a temporary directory for " + prefix, e);
+        }
+    }
+
+    /**
+     * @return the leases of this JVM that are not released yet
+     */
+    public List<ResourceLease> getActiveLeases() {
+
+        return new ArrayList<>(activeLeases);
+    }
+
+    void released(ResourceLease lease) {
+
+        activeLeases.remove(lease);
+        heldLockFiles.remove(lease.getLockFile());
+        if (lease instanceof PortLease) {
+            reservations.remove(lease);
+        }
+    }
+
+    private LockHandle tryLock(Path lockFile) {
+
+        // File locks are held per JVM, so the leases of this JVM are tracked separately
+        if (!heldLockFiles.add(lockFile)) {
+            return null;
+        }
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(lockFile.getParent());
+            channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return new LockHandle(channel, lock);
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            log.debug("Unable to lock " + lockFile + ": " + e.getMessage());
+        }
+        closeQuietly(channel);
+        heldLockFiles.remove(lockFile);
+        return null;
+    }
+
+    private void expireReservations() {
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<PortLease, Long> reservation : reservations.entrySet()) {
+            PortLease lease = reservation.getKey();
+            if (now >= reservation.getValue() || isBound(lease.getPort())) {
+                lease.close();
+            }
+        }
+    }
+
+    private static boolean isBound(int port) {
+
+        try (ServerSocket probe = new ServerSocket()) {
+            probe.setReuseAddress(true);
+            probe.bind(new InetSocketAddress(port));
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private void deleteStaleDirectories() {
+
+        Path parent = leaseDirectory.resolve(DIRECTORY);
+        if (!Files.isDirectory(parent)) {
+            return;
+        }
+        try (DirectoryStream<Path> lockFiles = Files.newDirectoryStream(parent, "*" + LOCK_SUFFIX)) {
+            for (Path lockFile : lockFiles) {
+                LockHandle handle = tryLock(lockFile);
+                if (handle == null) {
+                    continue;
+                }
+                // The JVM that leased the directory has exited without releasing it
+                String name = lockFile.getFileName().toString();
+                FileUtils.deleteQuietly(parent.resolve(name.substring(0, name.length() - LOCK_SUFFIX.length()))
+                        .toFile());
+                Files.deleteIfExists(lockFile);
+                handle.release();
+                heldLockFiles.remove(lockFile);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to delete stale leased directories in " + parent + ": " + e.getMessage());
+        }
+    }
+
+    private void releaseAll() {
+
+        reservationChecker.shutdownNow();
+        for (ResourceLease lease : getActiveLeases()) {
+            lease.close();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.debug("Error while closing " + closeable, e);
+            }
+        }
+    }
+
+    private static class LockHandle {
+
+        private final FileChannel channel;
+        private final FileLock lock;
+
+        LockHandle(FileChannel channel, FileLock lock) {
+
+            this.channel = channel;
+            this.lock = lock;
+        }
+
+        void release() {
+
+            try {
+                lock.release();
+            } catch (IOException e) {
+                log.debug("Error while releasing lock", e);
+            }
+            closeQuietly(channel);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.loadgen;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator which fires requests at a scheduled arrival rate, independent of how fast the system
+ * under test responds. This is unlike a sequential invocation loop, whose request rate drops as soon as the gateway
+ * slows down and which can hence neither reach a throttle limit reliably nor measure throughput.
+ * <p>
+ * Requests are dispatched by the calling thread according to the {@link LoadStage}s and executed by a bounded worker
+ * pool. When all workers are busy, requests wait in a queue and the waiting time is included in the reported
+ * response time. See {@link LoadTestResult}.
+ * <pre>
+ * LoadTestResult result = new ConstantArrivalRateLoadGenerator(50).run(
+ *         LoadRequest.get(invokeURL, requestHeaders),
+ *         new LoadStage(10, 200, 10000), LoadStage.constant(200, 30000));
+ * </pre>
+ */
+public class ConstantArrivalRateLoadGenerator {
+
+    private static final Log log = LogFactory.getLog(ConstantArrivalRateLoadGenerator.class);
+    private static final long DEFAULT_DRAIN_TIMEOUT_MILLIS = 60000;
+
+    private final int maxConcurrency;
+    private long drainTimeoutMillis = DEFAULT_DRAIN_TIMEOUT_MILLIS;
+
+    /**
+     * @param maxConcurrency maximum number of requests in flight at a time. This should not exceed the connection
+     *                       pool size of the client used by the requests.
+     */
+    public ConstantArrivalRateLoadGenerator(int maxConcurrency) {
+
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @param drainTimeoutMillis time to wait for the requests still in flight once all requests were dispatched
+     */
+    public void setDrainTimeoutMillis(long drainTimeoutMillis) {
+
+        this.drainTimeoutMillis = drainTimeoutMillis;
+    }
+
+    public LoadTestResult run(LoadRequest request, LoadStage... stages) throws InterruptedException {
+
+        return run(request, Arrays.asList(stages));
+    }
+
+    /**
+     * Runs the load test and blocks until all requests completed or the drain timeout elapsed.
+     *
+     * @param request request to fire
+     * @param stages  arrival rate stages, run one after the other
+     * @return result of the load test
+     * @throws InterruptedException if the calling thread was interrupted
+     */
+    public LoadTestResult run(LoadRequest request, List<LoadStage> stages) throws InterruptedException {
+
+        LoadTestResult result = new LoadTestResult();
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService workers = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "load-generator-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        long runStart = System.nanoTime();
+        try {
+            long stageStart = runStart;
+            for (LoadStage stage : stages) {
+                dispatch(request, stage, stageStart, workers, result);
+                stageStart += TimeUnit.MILLISECONDS.toNanos(stage.getDurationMillis());
+            }
+        } finally {
+            workers.shutdown();
+        }
+        if (!workers.awaitTermination(drainTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            log.warn("Load test requests did not complete within " + drainTimeoutMillis + "ms");
+            workers.shutdownNow();
+        }
+        result.setDurationNanos(System.nanoTime() - runStart);
+        if (log.isDebugEnabled()) {
+            log.debug("Load test completed: " + result);
+        }
+        return result;
+    }
+
+    private void dispatch(LoadRequest request, LoadStage stage, long stageStart, ExecutorService workers,
+                          LoadTestResult result) throws InterruptedException {
+
+        long stageEnd = stageStart + TimeUnit.MILLISECONDS.toNanos(stage.getDurationMillis());
+        long offset;
+        for (long index = 0; (offset = stage.getIntendedOffsetNanos(index)) >= 0; index++) {
+            long intendedStart = stageStart + offset;
+            waitUntil(intendedStart);
+            result.recordScheduled();
+            workers.execute(() -> execute(request, intendedStart, result));
+        }
+        waitUntil(stageEnd);
+    }
+
+    private static void execute(LoadRequest request, long intendedStart, LoadTestResult result) {
+
+        long sendTime = System.nanoTime();
+        try {
+            int statusCode = request.send();
+            long end = System.nanoTime();
+            result.recordResponse(statusCode, toMicros(end - intendedStart), toMicros(end - sendTime));
+        } catch (Exception e) {
+            result.recordError(e, toMicros(System.nanoTime() - intendedStart));
+        }
+    }
+
+    private static void waitUntil(long nanoTime) throws InterruptedException {
+
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private static long toMicros(long nanos) {
+
+        return Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.loadgen;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Records latency values into fixed log-linear buckets and reports nearest-rank percentiles over them; the unit of
+ * the values is up to the caller.
+ * <p>
+ * Values below 128 are counted exactly, and every power of two above that is split into 64 linear buckets, so a
+ * percentile is reported with a relative error of at most 1/64 while the memory used does not grow with the number
+ * of samples. The exact maximum is kept as well, and a percentile is never reported above it.
+ * <p>
+ * Each recording thread counts into a recorder of its own, so the threads of a load test do not contend with each
+ * other, and the recorders are merged when the histogram is read.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+    private static final int LINEAR_BUCKET_BITS = SUB_BUCKET_BITS + 1;
+    private static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - 1 - LINEAR_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final Queue<Recorder> recorders = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Recorder> recorder = ThreadLocal.withInitial(() -> {
+        Recorder threadRecorder = new Recorder();
+        recorders.add(threadRecorder);
+        return threadRecorder;
+    });
+
+    public void recordValue(long value) {
+
+        if (value < 0) {
+            throw new IllegalArgumentException("Latency can not be negative: " + value);
+        }
+        recorder.get().record(value);
+    }
+
+    public int getCount() {
+
+        return Math.toIntExact(merge().count);
+    }
+
+    public long getTotal() {
+
+        return merge().total;
+    }
+
+    public long getMax() {
+
+        return merge().max;
+    }
+
+    /**
+     * Returns the smallest recorded value that is greater than or equal to the given percentage of all values, to
+     * the precision of its bucket.
+     *
+     * @param percentile percentile in the range (0, 100]
+     * @return value at the percentile, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+
+        return merge().getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+
+        Recorder merged = merge();
+        return "count=" + merged.count + ", total=" + merged.total + ", p50=" + merged.getValueAtPercentile(50)
+                + ", p95=" + merged.getValueAtPercentile(95) + ", p99=" + merged.getValueAtPercentile(99) + ", max="
+                + merged.max;
+    }
+
+    private Recorder merge() {
+
+        Recorder merged = new Recorder();
+        for (Recorder threadRecorder : recorders) {
+            threadRecorder.addTo(merged);
+        }
+        return merged;
+    }
+
+    private static int getBucketIndex(long value) {
+
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (exponent - LINEAR_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long getHighestValueInBucket(int index) {
+
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_BUCKET_BITS;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return (subBucket << shift) + (1L << shift) - 1;
+    }
+
+    /**
+     * Counts of a single thread. Its lock is only contended while the histogram is being read.
+     */
+    private static class Recorder {
+
+        private final long[] counts = new long[BUCKETS];
+        private long count;
+        private long total;
+        private long max;
+
+        synchronized void record(long value) {
+
+            counts[getBucketIndex(value)]++;
+            count++;
+            total += value;
+            max = Math.max(max, value);
+        }
+
+        synchronized void addTo(Recorder merged) {
+
+            for (int i = 0; i < BUCKETS; i++) {
+                merged.counts[i] += counts[i];
+            }
+            merged.count += count;
+            merged.total += total;
+            merged.max = Math.max(merged.max, max);
+        }
+
+        long getValueAtPercentile(double percentile) {
+
+            if (percentile <= 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be in the range (0, 100]: " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(getHighestValueInBucket(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.loadgen;
+
+import org.wso2.am.integration.test.utils.http.HTTPSClientUtils;
+
+import java.util.Map;
+
+/**
+ * A single request fired by the {@link ConstantArrivalRateLoadGenerator}.
+ */
+public interface LoadRequest {
+
+    /**
+     * Sends the request and waits for the response.
+     *
+     * @return HTTP status code of the response
+     * @throws Exception if the request could not be completed
+     */
+    int send() throws Exception;
+
+    /**
+     * Creates a request doing an HTTP GET over the pooled client of {@link HTTPSClientUtils}.
+     *
+     * @param url     request URL
+     * @param headers headers to be sent
+     * @return load request
+     */
+    static LoadRequest get(String url, Map<String, String> headers) {
+
+        return () -> HTTPSClientUtils.doGet(url, headers).getResponseCode();
+    }
+
+    /**
+     * Creates a request doing an HTTP POST over the pooled client of {@link HTTPSClientUtils}.
+     *
+     * @param url     request URL
+     * @param headers headers to be sent
+     * @param payload payload to be sent
+     * @return load request
+     */
+    static LoadRequest post(String url, Map<String, String> headers, String payload) {
+
+        return () -> HTTPSClientUtils.doPost(url, headers, payload).getResponseCode();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.loadgen;
+
+/**
+ * A stage of a load test during which the arrival rate changes linearly from the start rate to the end rate.
+ * A stage with equal start and end rates keeps a constant arrival rate.
+ */
+public class LoadStage {
+
+    private final double startRate;
+    private final double endRate;
+    private final long durationMillis;
+
+    /**
+     * @param startRate      requests per second at the beginning of the stage
+     * @param endRate        requests per second at the end of the stage
+     * @param durationMillis duration of the stage in milliseconds
+     */
+    public LoadStage(double startRate, double endRate, long durationMillis) {
+
+        if (startRate < 0 || endRate < 0) {
+            throw new IllegalArgumentException("Arrival rate can not be negative");
+        }
+        if (durationMillis <= 0) {
+            throw new IllegalArgumentException("Stage duration must be positive: " + durationMillis);
+        }
+        this.startRate = startRate;
+        this.endRate = endRate;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Creates a stage with a constant arrival rate.
+     *
+     * @param rate           requests per second
+     * @param durationMillis duration of the stage in milliseconds
+     * @return load stage
+     */
+    public static LoadStage constant(double rate, long durationMillis) {
+
+        return new LoadStage(rate, rate, durationMillis);
+    }
+
+    public double getStartRate() {
+
+        return startRate;
+    }
+
+    public double getEndRate() {
+
+        return endRate;
+    }
+
+    public long getDurationMillis() {
+
+        return durationMillis;
+    }
+
+    /**
+     * Returns when the request with the given index should be sent, so that the number of requests sent by any point
+     * of the stage matches the integral of the linearly changing arrival rate up to that point.
+     *
+     * @param index zero based index of the request within the stage
+     * @return offset from the beginning of the stage in nanoseconds, or -1 if the stage ends before the request
+     */
+    long getIntendedOffsetNanos(long index) {
+
+        double duration = durationMillis / 1000d;
+        if (index >= (startRate + endRate) / 2 * duration) {
+            return -1;
+        }
+        // Solve a * t^2 + b * t = index for t, where a * t^2 + b * t is the number of requests sent by time t
+        double a = (endRate - startRate) / (2 * duration);
+        double b = startRate;
+        double offset;
+        if (a == 0) {
+            offset = index / b;
+        } else {
+            offset = (-b + Math.sqrt(Math.max(0d, b * b + 4 * a * index))) / (2 * a);
+        }
+        return Math.min((long) (offset * 1_000_000_000d), durationMillis * 1_000_000L);
+    }
+}
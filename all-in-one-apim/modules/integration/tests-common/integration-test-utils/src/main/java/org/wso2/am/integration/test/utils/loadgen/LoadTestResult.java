@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.loadgen;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of a load test run by the {@link ConstantArrivalRateLoadGenerator}. Latencies are in microseconds.
+ * <p>
+ * The response time is measured from the moment a request was scheduled to be sent, not from the moment it was
+ * actually sent. When the system under test stalls, requests queued behind the stall are therefore charged with the
+ * time they waited, which corrects the coordinated omission a closed-loop driver suffers from. The plain service
+ * time, measured from the actual send, is reported separately.
+ */
+public class LoadTestResult {
+
+    private final LatencyHistogram responseTime = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final Map<Integer, LongAdder> statusCodeCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errorCounts = new ConcurrentHashMap<>();
+    private final LongAdder scheduledRequests = new LongAdder();
+    private volatile long durationNanos;
+
+    void recordScheduled() {
+
+        scheduledRequests.increment();
+    }
+
+    void recordResponse(int statusCode, long responseTimeMicros, long serviceTimeMicros) {
+
+        statusCodeCounts.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        responseTime.recordValue(responseTimeMicros);
+        serviceTime.recordValue(serviceTimeMicros);
+    }
+
+    void recordError(Throwable error, long responseTimeMicros) {
+
+        errorCounts.computeIfAbsent(error.getClass().getName(), name -> new LongAdder()).increment();
+        responseTime.recordValue(responseTimeMicros);
+    }
+
+    void setDurationNanos(long durationNanos) {
+
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * @return coordinated-omission corrected response times, in microseconds
+     */
+    public LatencyHistogram getResponseTime() {
+
+        return responseTime;
+    }
+
+    /**
+     * @return time from the actual send to the response, in microseconds
+     */
+    public LatencyHistogram getServiceTime() {
+
+        return serviceTime;
+    }
+
+    public long getScheduledRequests() {
+
+        return scheduledRequests.sum();
+    }
+
+    public long getCompletedRequests() {
+
+        long completed = 0;
+        for (LongAdder count : statusCodeCounts.values()) {
+            completed += count.sum();
+        }
+        return completed;
+    }
+
+    /**
+     * @return number of responses received per HTTP status code
+     */
+    public Map<Integer, Long> getStatusCodeCounts() {
+
+        Map<Integer, Long> counts = new TreeMap<>();
+        for (Map.Entry<Integer, LongAdder> entry : statusCodeCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public long getStatusCodeCount(int statusCode) {
+
+        LongAdder count = statusCodeCounts.get(statusCode);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @return number of requests that failed without a response, per exception type
+     */
+    public Map<String, Long> getErrorCounts() {
+
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : errorCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public long getErrorCount() {
+
+        long errors = 0;
+        for (LongAdder count : errorCounts.values()) {
+            errors += count.sum();
+        }
+        return errors;
+    }
+
+    /**
+     * @return completed requests per second over the whole run
+     */
+    public double getThroughput() {
+
+        if (durationNanos <= 0) {
+            return 0;
+        }
+        return getCompletedRequests() * 1_000_000_000d / durationNanos;
+    }
+
+    @Override
+    public String toString() {
+
+        return "scheduled=" + getScheduledRequests() + ", completed=" + getCompletedRequests() + ", errors="
+                + getErrorCounts() + ", throughput=" + String.format("%.1f", getThroughput()) + " req/s, status="
+                + getStatusCodeCounts() + ", responseTime(us)=[" + responseTime + "], serviceTime(us)=["
+                + serviceTime + "]";
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.monitor.utils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An HTTP request captured by the {@link WireCaptureServer}. The headers are kept as they were received on the wire,
+ * while the body is the decoded entity, i.e. without the chunked transfer encoding.
+ */
+public class CapturedMessage {
+
+    private final long connectionId;
+    private final String remoteAddress;
+    private final long receivedTime;
+    private final long completedTime;
+    private final String requestLine;
+    private final String rawHeaders;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final boolean chunked;
+
+    CapturedMessage(long connectionId, String remoteAddress, long receivedTime, long completedTime,
+                    String requestLine, String rawHeaders, Map<String, List<String>> headers, byte[] body,
+                    boolean chunked) {
+
+        this.connectionId = connectionId;
+        this.remoteAddress = remoteAddress;
+        this.receivedTime = receivedTime;
+        this.completedTime = completedTime;
+        this.requestLine = requestLine;
+        this.rawHeaders = rawHeaders;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+        this.chunked = chunked;
+    }
+
+    /**
+     * @return identifier of the connection the message was received on, in the order the connections were accepted
+     */
+    public long getConnectionId() {
+
+        return connectionId;
+    }
+
+    public String getRemoteAddress() {
+
+        return remoteAddress;
+    }
+
+    /**
+     * @return the time the first byte of the message was received, in milliseconds since the epoch
+     */
+    public long getReceivedTime() {
+
+        return receivedTime;
+    }
+
+    /**
+     * @return the time the last byte of the message was received, in milliseconds since the epoch
+     */
+    public long getCompletedTime() {
+
+        return completedTime;
+    }
+
+    public String getRequestLine() {
+
+        return requestLine;
+    }
+
+    public String getMethod() {
+
+        int end = requestLine.indexOf(' ');
+        return end < 0 ? requestLine : requestLine.substring(0, end);
+    }
+
+    public String getUri() {
+
+        String[] parts = requestLine.split(" ");
+        return parts.length > 1 ? parts[1] : "";
+    }
+
+    /**
+     * @return the request line and the headers as received, including the empty line that ends them
+     */
+    public String getRawHeaders() {
+
+        return rawHeaders;
+    }
+
+    /**
+     * @return the headers and trailers of the message, keyed by case insensitive name
+     */
+    public Map<String, List<String>> getHeaders() {
+
+        return headers;
+    }
+
+    /**
+     * @return the first value of the given header, or null if the message does not have the header
+     */
+    public String getHeader(String name) {
+
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    public byte[] getBody() {
+
+        return body.clone();
+    }
+
+    public int getBodyLength() {
+
+        return body.length;
+    }
+
+    public String getBodyAsString() {
+
+        return getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    public String getBodyAsString(Charset charset) {
+
+        return new String(body, charset);
+    }
+
+    public boolean isChunked() {
+
+        return chunked;
+    }
+
+    /**
+     * @return the raw headers followed by the body, which is the form captured by {@link WireMonitorServer}
+     */
+    @Override
+    public String toString() {
+
+        return rawHeaders + getBodyAsString();
+    }
+}
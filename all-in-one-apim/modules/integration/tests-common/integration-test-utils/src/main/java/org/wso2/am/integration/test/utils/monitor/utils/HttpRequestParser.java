@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.monitor.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Incremental parser of the HTTP/1.1 requests received on a single connection. Bytes are fed as they arrive, in
+ * buffers of any size, and each byte is looked at once, so the cost of parsing is linear in the message size. Both
+ * Content-Length delimited and chunked bodies are supported, as well as any number of requests per connection.
+ */
+class HttpRequestParser {
+
+    static final int MAX_HEAD_SIZE = 64 * 1024;
+    static final int MAX_BODY_SIZE = 64 * 1024 * 1024;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private enum State {
+        HEAD, BODY, CHUNK_SIZE, CHUNK_DATA, CHUNK_DATA_END, TRAILER
+    }
+
+    private final long connectionId;
+    private final String remoteAddress;
+    private final ByteArrayOutputStream head = new ByteArrayOutputStream(512);
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+    private State state = State.HEAD;
+    private int headTerminatorMatched;
+    private long remaining;
+    private long receivedTime;
+    private String requestLine;
+    private String rawHeaders;
+    private Map<String, List<String>> headers;
+    private boolean chunked;
+    private boolean continueRequested;
+
+    HttpRequestParser(long connectionId, String remoteAddress) {
+
+        this.connectionId = connectionId;
+        this.remoteAddress = remoteAddress;
+    }
+
+    /**
+     * Consumes all the bytes of the given buffer.
+     *
+     * @param in        received bytes
+     * @param completed list the requests completed by these bytes are added to
+     * @throws IOException if the bytes do not form a valid request
+     */
+    void parse(ByteBuffer in, List<CapturedMessage> completed) throws IOException {
+
+        while (in.hasRemaining()) {
+            switch (state) {
+                case HEAD:
+                    parseHead(in, completed);
+                    break;
+                case BODY:
+                case CHUNK_DATA:
+                    int length = (int) Math.min(remaining, in.remaining());
+                    if (body.size() + length > MAX_BODY_SIZE) {
+                        throw new IOException("Request body exceeds " + MAX_BODY_SIZE + " bytes");
+                    }
+                    body.write(in.array(), in.arrayOffset() + in.position(), length);
+                    in.position(in.position() + length);
+                    remaining -= length;
+                    if (remaining == 0) {
+                        if (state == State.BODY) {
+                            complete(completed);
+                        } else {
+                            state = State.CHUNK_DATA_END;
+                        }
+                    }
+                    break;
+                case CHUNK_SIZE:
+                    String sizeLine = readLine(in);
+                    if (sizeLine != null) {
+                        int extension = sizeLine.indexOf(';');
+                        String size = (extension < 0 ? sizeLine : sizeLine.substring(0, extension)).trim();
+                        try {
+                            remaining = Long.parseLong(size, 16);
+                        } catch (NumberFormatException e) {
+                            throw new IOException("Invalid chunk size: " + sizeLine);
+                        }
+                        state = remaining == 0 ? State.TRAILER : State.CHUNK_DATA;
+                    }
+                    break;
+                case CHUNK_DATA_END:
+                    String chunkEnd = readLine(in);
+                    if (chunkEnd != null) {
+                        if (!chunkEnd.isEmpty()) {
+                            throw new IOException("Chunk is not terminated by CRLF");
+                        }
+                        state = State.CHUNK_SIZE;
+                    }
+                    break;
+                case TRAILER:
+                    String trailer = readLine(in);
+                    if (trailer != null) {
+                        if (trailer.isEmpty()) {
+                            complete(completed);
+                        } else {
+                            addHeader(trailer);
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown parser state " + state);
+            }
+        }
+    }
+
+    private void parseHead(ByteBuffer in, List<CapturedMessage> completed) throws IOException {
+
+        while (in.hasRemaining()) {
+            byte b = in.get();
+            if (head.size() == 0) {
+                // Empty lines before a request line are ignored, as some clients send them after a request body
+                if (b == CR || b == LF) {
+                    continue;
+                }
+                receivedTime = System.currentTimeMillis();
+            }
+            head.write(b);
+            if (head.size() > MAX_HEAD_SIZE) {
+                throw new IOException("Request head exceeds " + MAX_HEAD_SIZE + " bytes");
+            }
+            boolean expected = (headTerminatorMatched % 2 == 0) ? b == CR : b == LF;
+            headTerminatorMatched = expected ? headTerminatorMatched + 1 : (b == CR ? 1 : 0);
+            if (headTerminatorMatched == 4) {
+                onHeadComplete(completed);
+                return;
+            }
+        }
+    }
+
+    private void onHeadComplete(List<CapturedMessage> completed) throws IOException {
+
+        rawHeaders = new String(head.toByteArray(), StandardCharsets.ISO_8859_1);
+        head.reset();
+        headTerminatorMatched = 0;
+        String[] lines = rawHeaders.split("\r\n");
+        requestLine = lines[0];
+        headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 1; i < lines.length; i++) {
+            if (!lines[i].isEmpty()) {
+                addHeader(lines[i]);
+            }
+        }
+
+        continueRequested = "100-continue".equalsIgnoreCase(getHeader("Expect"));
+        String transferEncoding = getHeader("Transfer-Encoding");
+        String contentLength = getHeader("Content-Length");
+        chunked = transferEncoding != null && transferEncoding.toLowerCase().contains("chunked");
+        if (chunked) {
+            state = State.CHUNK_SIZE;
+        } else if (contentLength != null) {
+            try {
+                remaining = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid Content-Length: " + contentLength);
+            }
+            if (remaining > MAX_BODY_SIZE) {
+                throw new IOException("Request body exceeds " + MAX_BODY_SIZE + " bytes");
+            }
+            state = State.BODY;
+            if (remaining == 0) {
+                complete(completed);
+            }
+        } else {
+            // A request without Content-Length or chunked encoding has no body
+            complete(completed);
+        }
+    }
+
+    private void addHeader(String headerLine) throws IOException {
+
+        int separator = headerLine.indexOf(':');
+        if (separator <= 0) {
+            throw new IOException("Invalid header: " + headerLine);
+        }
+        headers.computeIfAbsent(headerLine.substring(0, separator).trim(), name -> new ArrayList<>())
+                .add(headerLine.substring(separator + 1).trim());
+    }
+
+    private String getHeader(String name) {
+
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * @return the next line without the line terminator, or null if the line is not complete yet
+     */
+    private String readLine(ByteBuffer in) throws IOException {
+
+        while (in.hasRemaining()) {
+            byte b = in.get();
+            if (b == LF) {
+                byte[] bytes = line.toByteArray();
+                line.reset();
+                int length = bytes.length > 0 && bytes[bytes.length - 1] == CR ? bytes.length - 1 : bytes.length;
+                return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+            }
+            line.write(b);
+            if (line.size() > MAX_HEAD_SIZE) {
+                throw new IOException("Line exceeds " + MAX_HEAD_SIZE + " bytes");
+            }
+        }
+        return null;
+    }
+
+    private void complete(List<CapturedMessage> completed) {
+
+        completed.add(new CapturedMessage(connectionId, remoteAddress, receivedTime, System.currentTimeMillis(),
+                requestLine, rawHeaders, headers, body.toByteArray(), chunked));
+        body.reset();
+        state = State.HEAD;
+    }
+
+    /**
+     * @return whether the request being received expects a 100 Continue response, which clears the request
+     */
+    boolean takeContinueRequest() {
+
+        boolean requested = continueRequested;
+        continueRequested = false;
+        return requested;
+    }
+}
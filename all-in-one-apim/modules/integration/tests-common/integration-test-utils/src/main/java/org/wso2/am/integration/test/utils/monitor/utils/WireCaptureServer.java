@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.monitor.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Captures the HTTP requests sent to a port, e.g. by the gateway to a backend, so that tests can assert on what was
+ * sent on the wire. The server runs on a single selector thread and accepts any number of concurrent connections.
+ * Requests are framed by their Content-Length or chunked encoding, connections are kept alive unless the client asks
+ * otherwise, and each request is answered with {@code 202 Accepted}.
+ * <p>
+ * Captured requests are kept in arrival order in a buffer of bounded capacity, dropping the oldest requests when it
+ * is full, and can be queried while the server is running.
+ */
+public class WireCaptureServer implements Closeable {
+
+    public static final int DEFAULT_CAPACITY = 10000;
+    public static final long DEFAULT_IDLE_TIMEOUT = 30000;
+    private static final byte[] ACCEPTED_RESPONSE =
+            "HTTP/1.1 202 Accepted\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] CLOSE_RESPONSE = ("HTTP/1.1 202 Accepted\r\nContent-Length: 0\r\n"
+            + "Connection: close\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] CONTINUE_RESPONSE =
+            "HTTP/1.1 100 Continue\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final long SELECT_TIMEOUT = 1000;
+
+    private final Log log = LogFactory.getLog(WireCaptureServer.class);
+    private final int port;
+    private final int capacity;
+    private final Deque<CapturedMessage> messages = new ArrayDeque<>();
+    private long capturedCount;
+    private long evictedCount;
+    private volatile long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+    private volatile boolean running;
+    private volatile int openConnections;
+    private volatile int boundPort;
+    private long acceptedConnections;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread selectorThread;
+
+    public WireCaptureServer(int port) {
+
+        this(port, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param port     port to listen on, or 0 to listen on any free port
+     * @param capacity maximum number of captured requests kept
+     */
+    public WireCaptureServer(int port, int capacity) {
+
+        this.port = port;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Sets the time after which idle connections are closed, in milliseconds.
+     */
+    public void setIdleTimeout(long idleTimeout) {
+
+        this.idleTimeout = idleTimeout;
+    }
+
+    public synchronized void start() throws IOException {
+
+        if (running) {
+            return;
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.socket().setReuseAddress(true);
+        serverChannel.bind(new InetSocketAddress(port), 128);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        boundPort = serverChannel.socket().getLocalPort();
+        running = true;
+        selectorThread = new Thread(this::run, "wire-capture-" + getPort());
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        log.info("Wire capture server listening on port " + getPort());
+    }
+
+    /**
+     * @return the port the server listens on
+     */
+    public int getPort() {
+
+        return boundPort != 0 ? boundPort : port;
+    }
+
+    private void run() {
+
+        ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        List<CapturedMessage> completed = new ArrayList<>();
+        long lastIdleCheck = System.currentTimeMillis();
+        while (running) {
+            try {
+                selector.select(SELECT_TIMEOUT);
+            } catch (IOException e) {
+                log.error("Wire capture server selector failed", e);
+                break;
+            }
+            for (SelectionKey key : selector.selectedKeys()) {
+                if (!key.isValid()) {
+                    continue;
+                }
+                try {
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) {
+                            read(key, connection, readBuffer, completed);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            write(key, connection);
+                        }
+                    }
+                } catch (IOException e) {
+                    log.debug("Closing connection on error: " + e.getMessage());
+                    close(key);
+                }
+            }
+            selector.selectedKeys().clear();
+            long now = System.currentTimeMillis();
+            if (now - lastIdleCheck >= SELECT_TIMEOUT) {
+                closeIdleConnections(now);
+                lastIdleCheck = now;
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            close(key);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.debug("Error while closing selector", e);
+        }
+    }
+
+    private void accept() throws IOException {
+
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        long connectionId;
+        synchronized (messages) {
+            connectionId = ++acceptedConnections;
+        }
+        String remoteAddress = String.valueOf(channel.getRemoteAddress());
+        channel.register(selector, SelectionKey.OP_READ, new Connection(connectionId, remoteAddress));
+        openConnections++;
+        if (log.isDebugEnabled()) {
+            log.debug("Connection " + connectionId + " received from " + remoteAddress);
+        }
+    }
+
+    private void read(SelectionKey key, Connection connection, ByteBuffer readBuffer,
+                      List<CapturedMessage> completed) throws IOException {
+
+        readBuffer.clear();
+        int read = ((SocketChannel) key.channel()).read(readBuffer);
+        if (read < 0) {
+            close(key);
+            return;
+        }
+        connection.lastActivity = System.currentTimeMillis();
+        readBuffer.flip();
+        completed.clear();
+        connection.parser.parse(readBuffer, completed);
+        if (connection.parser.takeContinueRequest() && completed.isEmpty()) {
+            connection.pendingWrites.add(ByteBuffer.wrap(CONTINUE_RESPONSE));
+        }
+        for (CapturedMessage message : completed) {
+            boolean keepAlive = isKeepAlive(message);
+            connection.pendingWrites.add(ByteBuffer.wrap(keepAlive ? ACCEPTED_RESPONSE : CLOSE_RESPONSE));
+            if (!keepAlive) {
+                connection.closeAfterWrite = true;
+                // Bytes received after a request that closes the connection are not processed
+                break;
+            }
+        }
+        // Requests become visible once their responses are written or queued, so that a test that stops the
+        // server after seeing a request does not cut off the response
+        write(key, connection);
+        for (CapturedMessage message : completed) {
+            record(message);
+            if (!isKeepAlive(message)) {
+                break;
+            }
+        }
+    }
+
+    private void write(SelectionKey key, Connection connection) throws IOException {
+
+        SocketChannel channel = (SocketChannel) key.channel();
+        while (!connection.pendingWrites.isEmpty()) {
+            ByteBuffer buffer = connection.pendingWrites.peek();
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+            connection.pendingWrites.poll();
+        }
+        if (connection.closeAfterWrite) {
+            close(key);
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private static boolean isKeepAlive(CapturedMessage message) {
+
+        String connection = message.getHeader("Connection");
+        if (message.getRequestLine().endsWith("HTTP/1.0")) {
+            return "keep-alive".equalsIgnoreCase(connection);
+        }
+        return !"close".equalsIgnoreCase(connection);
+    }
+
+    private void closeIdleConnections(long now) {
+
+        for (SelectionKey key : selector.keys()) {
+            Object attachment = key.attachment();
+            if (attachment instanceof Connection && now - ((Connection) attachment).lastActivity > idleTimeout) {
+                log.debug("Closing idle connection " + ((Connection) attachment).id);
+                close(key);
+            }
+        }
+    }
+
+    private void close(SelectionKey key) {
+
+        if (key.attachment() instanceof Connection && key.isValid()) {
+            openConnections--;
+        }
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            log.debug("Error while closing channel", e);
+        }
+    }
+
+    private void record(CapturedMessage message) {
+
+        synchronized (messages) {
+            if (messages.size() >= capacity) {
+                messages.pollFirst();
+                evictedCount++;
+            }
+            messages.addLast(message);
+            capturedCount++;
+            messages.notifyAll();
+        }
+    }
+
+    /**
+     * @return a snapshot of the captured requests in arrival order
+     */
+    public List<CapturedMessage> getMessages() {
+
+        synchronized (messages) {
+            return new ArrayList<>(messages);
+        }
+    }
+
+    /**
+     * @return a snapshot of the captured requests matching the given filter, in arrival order
+     */
+    public List<CapturedMessage> getMessages(Predicate<CapturedMessage> filter) {
+
+        List<CapturedMessage> matching = new ArrayList<>();
+        synchronized (messages) {
+            for (CapturedMessage message : messages) {
+                if (filter.test(message)) {
+                    matching.add(message);
+                }
+            }
+        }
+        return matching;
+    }
+
+    /**
+     * Waits until the given number of requests is captured in total or the timeout elapses.
+     *
+     * @return true if the requests were captured in time
+     */
+    public boolean awaitMessages(long count, long timeoutMillis) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (messages) {
+            while (capturedCount < count) {
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) {
+                    return false;
+                }
+                messages.wait(wait);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Waits until a request matching the given filter is captured or the timeout elapses.
+     *
+     * @return the first captured request that matches, or null if none was captured in time
+     */
+    public CapturedMessage awaitMessage(Predicate<CapturedMessage> filter, long timeoutMillis)
+            throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (messages) {
+            while (true) {
+                for (CapturedMessage message : messages) {
+                    if (filter.test(message)) {
+                        return message;
+                    }
+                }
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) {
+                    return null;
+                }
+                messages.wait(wait);
+            }
+        }
+    }
+
+    /**
+     * @return the number of requests captured since the server started, including the dropped ones
+     */
+    public long getCapturedCount() {
+
+        synchronized (messages) {
+            return capturedCount;
+        }
+    }
+
+    /**
+     * @return the number of captured requests dropped since the buffer was full
+     */
+    public long getEvictedCount() {
+
+        synchronized (messages) {
+            return evictedCount;
+        }
+    }
+
+    public long getAcceptedConnections() {
+
+        synchronized (messages) {
+            return acceptedConnections;
+        }
+    }
+
+    public int getOpenConnections() {
+
+        return openConnections;
+    }
+
+    /**
+     * Drops the captured requests and resets the counters.
+     */
+    public void clear() {
+
+        synchronized (messages) {
+            messages.clear();
+            capturedCount = 0;
+            evictedCount = 0;
+        }
+    }
+
+    /**
+     * Stops the server and closes all connections. The captured requests can still be queried.
+     */
+    @Override
+    public synchronized void close() {
+
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(SELECT_TIMEOUT * 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            log.debug("Error while closing server channel", e);
+        }
+        log.info("Wire capture server on port " + getPort() + " stopped");
+    }
+
+    private static class Connection {
+
+        private final long id;
+        private final HttpRequestParser parser;
+        private final Deque<ByteBuffer> pendingWrites = new ArrayDeque<>();
+        private boolean closeAfterWrite;
+        private long lastActivity = System.currentTimeMillis();
+
+        Connection(long id, String remoteAddress) {
+
+            this.id = id;
+            this.parser = new HttpRequestParser(id, remoteAddress);
+        }
+    }
+}
@@ -18,15 +18,19 @@
 
 package org.wso2.am.integration.test.utils.monitor.utils;
 
+import java.io.IOException;
+
 /**
- * This class can be used to capture wire messages
+ * This class can be used to capture wire messages. It captures the first request sent to the port, on top of a
+ * {@link WireCaptureServer}; use the latter directly to capture any number of requests.
  */
 public class WireMonitorServer {
 	private static final int TIMEOUT_VALUE = 60000;
 	int READ_TIME_OUT = 30000;
-	public boolean isFinished = false;
+	public volatile boolean isFinished = false;
 	String response;
 	int port;
+	private WireCaptureServer captureServer;
 
 	/**
 	 * Start listening to a port
@@ -39,22 +43,35 @@ public class WireMonitorServer {
 
 	public void start() {
 		response = "";
-		Thread thread = new WireMonitor(port, this);
-		thread.start();
+		isFinished = false;
+		if (captureServer != null) {
+			captureServer.close();
+		}
+		captureServer = new WireCaptureServer(port);
+		captureServer.setIdleTimeout(READ_TIME_OUT);
+		try {
+			captureServer.start();
+		} catch (IOException ioException) {
+			throw new IllegalStateException("Wire monitor error occurred", ioException);
+		}
 	}
 
 
 	/**
-	 * Wait until response is received and returns
+	 * Wait until response is received and returns. The port is released once a message is captured.
 	 *
 	 * @return will return null if response is not received
 	 */
 	public String getCapturedMessage() {
-		Long time = System.currentTimeMillis();
-		while (!isFinished) {
-			// If wire monitor is not responding than 2min this will continue
-			if (System.currentTimeMillis() > (time + TIMEOUT_VALUE)) {
-				break;
+		if (!isFinished && captureServer != null) {
+			try {
+				if (captureServer.awaitMessages(1, TIMEOUT_VALUE)) {
+					response = captureServer.getMessages().get(0).toString();
+					setFinished(true);
+					captureServer.close();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
 			}
 		}
 		return response;
@@ -62,6 +79,9 @@ public class WireMonitorServer {
 
 	public void setReadTimeOut (int timeout) {
 		READ_TIME_OUT = timeout;
+		if (captureServer != null) {
+			captureServer.setIdleTimeout(timeout);
+		}
 	}
 
 	public void setFinished(boolean isFinished) {
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.readiness;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.am.integration.test.utils.loadgen.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Waits until an artifact becomes live by re-checking a readiness condition with exponential backoff. The first checks
+ * are only a few milliseconds apart, so artifacts that are deployed quickly resolve almost immediately, while the
+ * interval grows up to a cap for artifacts that take longer, which keeps the number of status calls low.
+ * <p>
+ * The time each artifact took to become ready is recorded per category, e.g. {@code api} or {@code keymanager}, so the
+ * same mechanism reports the deployment latency observed across a test run.
+ */
+public class DeploymentReadinessWaiter {
+
+    public static final String INITIAL_INTERVAL_PROPERTY = "deployment.readiness.initial.interval";
+    public static final String MAX_INTERVAL_PROPERTY = "deployment.readiness.max.interval";
+    public static final long NOT_READY = -1;
+    private static final long DEFAULT_INITIAL_INTERVAL = 50;
+    private static final long DEFAULT_MAX_INTERVAL = 1000;
+    private static final Log log = LogFactory.getLog(DeploymentReadinessWaiter.class);
+    private static final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    private final long timeoutMillis;
+    private final long initialIntervalMillis;
+    private final long maxIntervalMillis;
+
+    /**
+     * Creates a waiter with the backoff intervals configured through {@link #INITIAL_INTERVAL_PROPERTY} and
+     * {@link #MAX_INTERVAL_PROPERTY}.
+     *
+     * @param timeoutMillis maximum time to wait for the condition
+     */
+    public DeploymentReadinessWaiter(long timeoutMillis) {
+
+        this(timeoutMillis, Long.getLong(INITIAL_INTERVAL_PROPERTY, DEFAULT_INITIAL_INTERVAL),
+                Long.getLong(MAX_INTERVAL_PROPERTY, DEFAULT_MAX_INTERVAL));
+    }
+
+    public DeploymentReadinessWaiter(long timeoutMillis, long initialIntervalMillis, long maxIntervalMillis) {
+
+        if (initialIntervalMillis <= 0 || maxIntervalMillis < initialIntervalMillis) {
+            throw new IllegalArgumentException("Invalid backoff intervals: " + initialIntervalMillis + ", "
+                    + maxIntervalMillis);
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.initialIntervalMillis = initialIntervalMillis;
+        this.maxIntervalMillis = maxIntervalMillis;
+    }
+
+    /**
+     * Blocks until the condition is satisfied or the timeout elapses. A condition that throws is treated as not yet
+     * satisfied, since status endpoints are commonly unavailable while the artifact is still being deployed. The
+     * failure of the last check is logged along with the timeout.
+     *
+     * @param category    category the readiness latency is recorded under
+     * @param artifact    description of the awaited artifact, used for logging
+     * @param condition   condition that holds once the artifact is ready
+     * @return the time taken for the condition to be satisfied in milliseconds, or {@link #NOT_READY} if it was not
+     * satisfied within the timeout
+     */
+    public long await(String category, String artifact, ReadinessCondition condition) {
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + timeoutMillis * 1000000L;
+        long interval = initialIntervalMillis;
+        int attempts = 0;
+        Exception lastFailure = null;
+        while (true) {
+            attempts++;
+            try {
+                if (condition.isReady()) {
+                    long elapsed = (System.nanoTime() - startTime) / 1000000L;
+                    getLatencies(category).recordValue(elapsed);
+                    log.info(artifact + " ready in " + elapsed + " ms after " + attempts + " checks");
+                    return elapsed;
+                }
+                lastFailure = null;
+            } catch (Exception e) {
+                log.debug("Readiness check of " + artifact + " failed: " + e.getMessage());
+                lastFailure = e;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                log.warn(artifact + " not ready after " + timeoutMillis + " ms and " + attempts + " checks",
+                        lastFailure);
+                return NOT_READY;
+            }
+            try {
+                Thread.sleep(Math.min(interval, remaining / 1000000L + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for " + artifact);
+                return NOT_READY;
+            }
+            interval = Math.min(interval * 2, maxIntervalMillis);
+        }
+    }
+
+    /**
+     * Returns the readiness latencies, in milliseconds, recorded under the given category.
+     *
+     * @param category readiness category
+     * @return histogram of the latencies of the category
+     */
+    public static LatencyHistogram getLatencies(String category) {
+
+        return latencies.computeIfAbsent(category, key -> new LatencyHistogram());
+    }
+
+    /**
+     * @return the readiness latencies of all categories, sorted by category
+     */
+    public static Map<String, LatencyHistogram> getAllLatencies() {
+
+        return Collections.unmodifiableMap(new TreeMap<>(latencies));
+    }
+
+    /**
+     * Condition checked by {@link DeploymentReadinessWaiter}.
+     */
+    public interface ReadinessCondition {
+
+        boolean isReady() throws Exception;
+    }
+}
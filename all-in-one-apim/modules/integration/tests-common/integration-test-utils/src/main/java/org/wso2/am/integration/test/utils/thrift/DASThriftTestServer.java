@@ -35,24 +35,36 @@ import org.wso2.carbon.databridge.core.internal.authentication.AuthenticationHan
 import org.wso2.carbon.databridge.receiver.thrift.ThriftDataReceiver;
 import org.wso2.carbon.user.api.UserStoreException;
 
+import java.io.IOException;
 import java.net.SocketException;
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class is used to start a test thrift server to simulate DAS event receiver. It used to test APIM stat publishing
  * to DAS
+ * <p>
+ * Events are kept in a {@link StreamEventBuffer} per stream, which can be filled by any number of receiver threads and
+ * tracks the throughput and latency of the stream. The number of events kept per stream can be bounded with
+ * {@link #setRetentionLimit(int)}, and all events can additionally be streamed to disk with
+ * {@link #setSpoolDirectory(Path)}, so that the server can sink events at production rates.
  */
 public class DASThriftTestServer {
+    public static final String RETENTION_LIMIT_PROPERTY = "das.test.server.retention.limit";
     private Log log = LogFactory.getLog(DASThriftTestServer.class);
     private ThriftDataReceiver thriftDataReceiver;
     private InMemoryStreamDefinitionStore streamDefinitionStore;
     private AtomicInteger numberOfEventsReceived;
     private ReStarterThread reStarterThread;
-    private Map<String, List<Event>> dataTables = new HashMap<String, List<Event>>();
+    private final ConcurrentMap<String, StreamEventBuffer> streams = new ConcurrentHashMap<>();
+    private volatile int retentionLimit = Integer.getInteger(RETENTION_LIMIT_PROPERTY, StreamEventBuffer.UNBOUNDED);
+    private volatile EventSpoolWriter spoolWriter;
     private int tenantId;
     private String tenantDomain;
 
@@ -64,16 +76,53 @@ public class DASThriftTestServer {
         this.tenantDomain = tenantDomain;
     }
 
+    /**
+     * Sets the maximum number of events kept per stream, or {@link StreamEventBuffer#UNBOUNDED}. The limit applies to
+     * the streams created after this call, hence it should be set before the server is started.
+     */
+    public void setRetentionLimit(int retentionLimit) {
+        this.retentionLimit = retentionLimit;
+    }
+
+    /**
+     * Streams every received event to a file per stream in the given directory, in addition to keeping it in memory.
+     */
+    public void setSpoolDirectory(Path spoolDirectory) throws IOException {
+        EventSpoolWriter previous = spoolWriter;
+        spoolWriter = new EventSpoolWriter(spoolDirectory);
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
     public void clearTables() {
-        dataTables.clear();
+        streams.clear();
     }
 
+    /**
+     * @return a snapshot of the retained events of each stream
+     */
     public Map<String, List<Event>> getDataTables() {
+        Map<String, List<Event>> dataTables = new HashMap<String, List<Event>>();
+        for (Map.Entry<String, StreamEventBuffer> stream : streams.entrySet()) {
+            dataTables.put(stream.getKey(), stream.getValue().getEvents());
+        }
         return dataTables;
     }
 
+    public Set<String> getStreamIds() {
+        return streams.keySet();
+    }
+
+    /**
+     * @return the events and counters of the given stream, or null if no event of the stream was received
+     */
+    public StreamEventBuffer getStream(String streamId) {
+        return streams.get(streamId);
+    }
+
     public void resetTables() {
-        this.dataTables.clear();
+        this.streams.clear();
     }
 
     public void addStreamDefinition(StreamDefinition streamDefinition, int tenantId)
@@ -140,17 +189,25 @@ public class DASThriftTestServer {
              * @param credentials client credentials
              */
             public void receive(List<Event> eventList, Credentials credentials) {
+                EventSpoolWriter spool = spoolWriter;
                 for (Event event : eventList) {
                     String streamKey = event.getStreamId();
-                    if (!dataTables.containsKey(streamKey)) {
-                        dataTables.put(streamKey, new ArrayList<Event>());
+                    StreamEventBuffer stream = streams.get(streamKey);
+                    if (stream == null) {
+                        stream = streams.computeIfAbsent(streamKey, key -> new StreamEventBuffer(retentionLimit));
+                    }
+                    stream.add(event);
+                    if (spool != null) {
+                        spool.append(event);
+                    }
+                    if (log.isDebugEnabled()) {
+                        log.debug("===  " + event.toString());
                     }
-                    dataTables.get(streamKey).add(event);
-                    log.info("===  " + event.toString());
                 }
-                numberOfEventsReceived.addAndGet(eventList.size());
-                
-                log.info("Received events : " + numberOfEventsReceived);
+                int received = numberOfEventsReceived.addAndGet(eventList.size());
+                if (log.isDebugEnabled()) {
+                    log.debug("Received events : " + received);
+                }
             }
         });
 
@@ -173,6 +230,14 @@ public class DASThriftTestServer {
 
     public void stop() {
         thriftDataReceiver.stop();
+        EventSpoolWriter spool = spoolWriter;
+        if (spool != null) {
+            spool.close();
+            spoolWriter = null;
+        }
+        for (Map.Entry<String, StreamEventBuffer> stream : streams.entrySet()) {
+            log.info("Stream " + stream.getKey() + " : " + stream.getValue());
+        }
         log.info("DAS Test Thrift Server Stopped");
     }
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.thrift;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Streams the events received by the {@link DASThriftTestServer} to one file per stream, {@code <streamId>.log},
+ * with one event per line. The files are written by a single background thread, so the receiver threads only hand
+ * the events over.
+ */
+class EventSpoolWriter implements Closeable {
+
+    private static final Event END_OF_SPOOL = new Event();
+    private static final Log log = LogFactory.getLog(EventSpoolWriter.class);
+
+    private final Path directory;
+    private final BlockingQueue<Event> pending = new LinkedBlockingQueue<>();
+    private final Map<String, BufferedWriter> writers = new HashMap<>();
+    private final Thread writerThread;
+
+    EventSpoolWriter(Path directory) throws IOException {
+
+        this.directory = Files.createDirectories(directory);
+        this.writerThread = new Thread(this::drain, "das-test-server-spool");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    void append(Event event) {
+
+        pending.add(event);
+    }
+
+    private void drain() {
+
+        try {
+            while (true) {
+                Event event = pending.take();
+                if (event == END_OF_SPOOL) {
+                    return;
+                }
+                write(event);
+                if (pending.isEmpty()) {
+                    for (BufferedWriter writer : writers.values()) {
+                        writer.flush();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Unable to spool events to " + directory, e);
+        } finally {
+            for (BufferedWriter writer : writers.values()) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    log.debug("Error while closing event spool file", e);
+                }
+            }
+        }
+    }
+
+    private void write(Event event) throws IOException {
+
+        String streamId = event.getStreamId();
+        BufferedWriter writer = writers.get(streamId);
+        if (writer == null) {
+            writer = Files.newBufferedWriter(directory.resolve(streamId.replace(':', '_') + ".log"),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            writers.put(streamId, writer);
+        }
+        writer.write(event.toString());
+        writer.newLine();
+    }
+
+    /**
+     * Writes the events handed over so far and closes the spool files.
+     */
+    @Override
+    public void close() {
+
+        pending.add(END_OF_SPOOL);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.test.utils.thrift;
+
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Events received by the {@link DASThriftTestServer} for a single stream, along with the throughput and latency of
+ * the stream. Events are added without locking, so any number of receiver threads can add to the same stream.
+ * <p>
+ * When a retention limit is set only the latest events up to the limit are kept, while the counters still cover
+ * every event received.
+ */
+public class StreamEventBuffer {
+
+    public static final int UNBOUNDED = -1;
+
+    private final Queue<Event> events = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retained = new AtomicInteger();
+    private final int retentionLimit;
+    private final LongAdder received = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder latencySamples = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private final AtomicLong firstReceivedTime = new AtomicLong();
+    private final AtomicLong lastReceivedTime = new AtomicLong();
+
+    StreamEventBuffer(int retentionLimit) {
+
+        this.retentionLimit = retentionLimit;
+    }
+
+    void add(Event event) {
+
+        long now = System.nanoTime();
+        firstReceivedTime.compareAndSet(0, now);
+        lastReceivedTime.accumulateAndGet(now, Math::max);
+        received.increment();
+        // The event timestamp is set by the publisher, which runs on the same host in the integration tests
+        if (event.getTimeStamp() > 0) {
+            long latency = Math.max(0, System.currentTimeMillis() - event.getTimeStamp());
+            latencySamples.increment();
+            totalLatency.add(latency);
+            maxLatency.accumulateAndGet(latency, Math::max);
+        }
+        if (retentionLimit == 0) {
+            evicted.increment();
+            return;
+        }
+        events.offer(event);
+        if (retentionLimit != UNBOUNDED && retained.incrementAndGet() > retentionLimit) {
+            if (events.poll() != null) {
+                retained.decrementAndGet();
+                evicted.increment();
+            }
+        }
+    }
+
+    /**
+     * @return a snapshot of the retained events in the order they were received
+     */
+    public List<Event> getEvents() {
+
+        return new ArrayList<>(events);
+    }
+
+    public long getReceivedCount() {
+
+        return received.sum();
+    }
+
+    /**
+     * @return the number of events dropped due to the retention limit
+     */
+    public long getEvictedCount() {
+
+        return evicted.sum();
+    }
+
+    /**
+     * @return the events received per second between the first and the last event of the stream
+     */
+    public double getThroughput() {
+
+        long elapsedNanos = lastReceivedTime.get() - firstReceivedTime.get();
+        return elapsedNanos <= 0 ? 0 : received.sum() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return the average time from the event timestamp until the event was received, in milliseconds
+     */
+    public double getAverageLatencyMillis() {
+
+        long samples = latencySamples.sum();
+        return samples == 0 ? 0 : (double) totalLatency.sum() / samples;
+    }
+
+    /**
+     * @return the maximum time from the event timestamp until the event was received, in milliseconds
+     */
+    public long getMaxLatencyMillis() {
+
+        return maxLatency.get();
+    }
+
+    @Override
+    public String toString() {
+
+        return "received=" + getReceivedCount() + ", evicted=" + getEvictedCount() + ", throughput="
+                + String.format("%.1f", getThroughput()) + " events/s, latency avg="
+                + String.format("%.1f", getAverageLatencyMillis()) + "ms max=" + getMaxLatencyMillis() + "ms";
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.header;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpOptions;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import org.wso2.am.integration.clients.publisher.api.v1.dto.APIOperationsDTO;
+import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationDTO;
+import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationKeyDTO;
+import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationKeyGenerateRequestDTO;
+import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
+import org.wso2.am.integration.test.utils.bean.APIRequest;
+import org.wso2.am.integration.tests.api.lifecycle.APIManagerLifecycleBaseTest;
+import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
+import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.automation.engine.frameworkutils.FrameworkPathUtil;
+import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Checks that the CORS headers set by the CORS mediator, and by the preflight handler answering from its cache, are
+ * the headers the XPath based _cors_request_handler_ sequence set.
+ */
+@SetEnvironment(executionEnvironments = {ExecutionEnvironment.ALL})
+public class CORSPreflightCacheTestCase extends APIManagerLifecycleBaseTest {
+
+    private static final Log log = LogFactory.getLog(CORSPreflightCacheTestCase.class);
+
+    private static final String API_NAME = "CorsPreflightCacheTestAPI";
+    private static final String APPLICATION_NAME = "CorsPreflightCacheApp";
+    private static final String API_CONTEXT = "corsPreflightCacheTestAPI";
+    private static final String API_VERSION = "1.0.0";
+    private static final String API_END_POINT_POSTFIX_URL = "jaxrs_basic/services/customers/customerservice/";
+    private static final String CORS_SEQUENCE = "_cors_request_handler_.xml";
+    private static final String STATUS = "status";
+    private static final int REPEATS = 3;
+
+    private final Map<String, Map<String, String>> mediatorResponses = new LinkedHashMap<>();
+    private String applicationId;
+    private String apiId;
+    private String accessToken;
+    private ServerConfigurationManager serverConfigurationManager;
+
+    @Factory(dataProvider = "userModeDataProvider")
+    public CORSPreflightCacheTestCase(TestUserMode userMode) {
+
+        this.userMode = userMode;
+    }
+
+    @DataProvider
+    public static Object[][] userModeDataProvider() {
+
+        return new Object[][]{new Object[]{TestUserMode.SUPER_TENANT_ADMIN}};
+    }
+
+    @BeforeClass(alwaysRun = true)
+    public void setEnvironment() throws Exception {
+
+        super.init(userMode);
+        String apiEndPointUrl = backEndServerUrl.getWebAppURLHttps() + API_END_POINT_POSTFIX_URL;
+        APIRequest apiRequest = new APIRequest(API_NAME, API_CONTEXT, new URL(apiEndPointUrl), true);
+        apiRequest.setVersion(API_VERSION);
+        apiRequest.setTiersCollection(TIER_UNLIMITED);
+        apiRequest.setProvider(user.getUserName());
+        List<APIOperationsDTO> operationsDTOS = new ArrayList<>();
+        operationsDTOS.add(operation(APIMIntegrationConstants.HTTP_VERB_GET, "/customers/{id}"));
+        operationsDTOS.add(operation(APIMIntegrationConstants.HTTP_VERB_POST, "/customers"));
+        apiRequest.setOperationsDTOS(operationsDTOS);
+
+        applicationId = restAPIStore.createApplication(APPLICATION_NAME,
+                APIMIntegrationConstants.APPLICATION_TIER.DEFAULT_APP_POLICY_FIFTY_REQ_PER_MIN,
+                APIMIntegrationConstants.APPLICATION_TIER.UNLIMITED, ApplicationDTO.TokenTypeEnum.JWT).getData();
+        apiId = createPublishAndSubscribeToAPIUsingRest(apiRequest, restAPIPublisher, restAPIStore, applicationId,
+                APIMIntegrationConstants.API_TIER.UNLIMITED);
+        ArrayList<String> grantTypes = new ArrayList<>();
+        grantTypes.add(APIMIntegrationConstants.GRANT_TYPE.CLIENT_CREDENTIAL);
+        ApplicationKeyDTO applicationKeyDTO = restAPIStore.generateKeys(applicationId, "36000", "",
+                ApplicationKeyGenerateRequestDTO.KeyTypeEnum.PRODUCTION, null, grantTypes);
+        accessToken = applicationKeyDTO.getToken().getAccessToken();
+        waitForAPIDeploymentSync(user.getUserName(), API_NAME, API_VERSION, APIMIntegrationConstants.IS_API_EXISTS);
+    }
+
+    private static APIOperationsDTO operation(String verb, String target) {
+
+        APIOperationsDTO operationsDTO = new APIOperationsDTO();
+        operationsDTO.setVerb(verb);
+        operationsDTO.setTarget(target);
+        operationsDTO.setAuthType(APIMIntegrationConstants.RESOURCE_AUTH_TYPE_APPLICATION_AND_APPLICATION_USER);
+        operationsDTO.setThrottlingPolicy(APIMIntegrationConstants.RESOURCE_TIER.UNLIMITED);
+        return operationsDTO;
+    }
+
+    /**
+     * @return the requests the headers are compared for, by name
+     */
+    private Map<String, HttpRequestBase> requests() {
+
+        String url = getAPIInvocationURLHttps(API_CONTEXT, API_VERSION);
+        Map<String, HttpRequestBase> requests = new LinkedHashMap<>();
+        requests.put("preflight", preflight(url + "/customers/123", "http://localhost", "GET", null));
+        requests.put("preflight with headers", preflight(url + "/customers/123", "http://localhost", "GET",
+                "authorization,content-type"));
+        requests.put("preflight of another resource", preflight(url + "/customers", "https://example.org", "POST",
+                "ApiKey"));
+        HttpRequestBase withOrigin = preflight(url + "/customers/123", "http://localhost", "GET", null);
+        withOrigin.addHeader("Access-Control-Allow-Origin", "http://localhost");
+        requests.put("preflight setting the allowed origin", withOrigin);
+        requests.put("preflight of an unknown resource", preflight(url + "/orders", "http://localhost", "GET", null));
+        HttpGet get = new HttpGet(url + "/customers/123");
+        get.addHeader("Origin", "http://localhost");
+        get.addHeader("Authorization", "Bearer " + accessToken);
+        requests.put("request", get);
+        return requests;
+    }
+
+    private static HttpRequestBase preflight(String url, String origin, String method, String requestHeaders) {
+
+        HttpOptions options = new HttpOptions(url);
+        options.addHeader("Origin", origin);
+        options.addHeader("Access-Control-Request-Method", method);
+        if (requestHeaders != null) {
+            options.addHeader("Access-Control-Request-Headers", requestHeaders);
+        }
+        return options;
+    }
+
+    /**
+     * @return the status code and the Access-Control-* headers of the response to a request
+     */
+    private static Map<String, String> corsHeaders(HttpRequestBase request) throws Exception {
+
+        HttpClient httpclient = HttpClientBuilder.create().build();
+        HttpResponse response = httpclient.execute(request);
+        Map<String, String> headers = new TreeMap<>();
+        headers.put(STATUS, String.valueOf(response.getStatusLine().getStatusCode()));
+        for (Header header : response.getAllHeaders()) {
+            if (header.getName().toLowerCase().startsWith("access-control-")) {
+                headers.put(header.getName().toLowerCase(), header.getValue());
+            }
+        }
+        EntityUtils.consumeQuietly(response.getEntity());
+        return headers;
+    }
+
+    @Test(groups = {"wso2.am"}, description = "Checks that repeated preflights answered from the cache carry the " +
+            "headers of the first one")
+    public void testCachedPreflightHeaders() throws Exception {
+
+        for (Map.Entry<String, HttpRequestBase> request : requests().entrySet()) {
+            Map<String, String> first = corsHeaders(request.getValue());
+            log.info(request.getKey() + ": " + first);
+            for (int i = 1; i < REPEATS; i++) {
+                assertEquals(corsHeaders(request.getValue()), first,
+                        "CORS headers of the repeated " + request.getKey() + " mismatch.");
+            }
+            mediatorResponses.put(request.getKey(), first);
+        }
+        assertEquals(mediatorResponses.get("preflight").get(STATUS), String.valueOf(HTTP_RESPONSE_CODE_OK),
+                "Response code of the preflight mismatch.");
+    }
+
+    @Test(groups = {"wso2.am"}, description = "Checks that the headers match the ones the XPath based sequence set",
+            dependsOnMethods = "testCachedPreflightHeaders")
+    public void testHeadersOfSequence() throws Exception {
+
+        serverConfigurationManager = new ServerConfigurationManager(gatewayContextMgt);
+        File legacySequence = new File(getAMResourceLocation() + File.separator + "configFiles" + File.separator
+                + "cors" + File.separator + "legacy" + File.separator + CORS_SEQUENCE);
+        File deployedSequence = Paths.get(FrameworkPathUtil.getCarbonHome(), "repository", "deployment", "server",
+                "synapse-configs", "default", "sequences", CORS_SEQUENCE).toFile();
+        serverConfigurationManager.applyConfigurationWithoutRestart(legacySequence, deployedSequence, true);
+        serverConfigurationManager.restartGracefully();
+        waitForAPIDeploymentSync(user.getUserName(), API_NAME, API_VERSION, APIMIntegrationConstants.IS_API_EXISTS);
+
+        for (Map.Entry<String, HttpRequestBase> request : requests().entrySet()) {
+            Map<String, String> headers = corsHeaders(request.getValue());
+            log.info(request.getKey() + " with the sequence: " + headers);
+            assertEquals(mediatorResponses.get(request.getKey()), headers,
+                    "CORS headers of the " + request.getKey() + " differ from the ones of the sequence.");
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void destroy() throws Exception {
+
+        if (serverConfigurationManager != null) {
+            serverConfigurationManager.restoreToLastConfiguration(true);
+        }
+        if (applicationId != null) {
+            restAPIStore.deleteApplication(applicationId);
+        }
+        if (apiId != null) {
+            undeployAndDeleteAPIRevisionsUsingRest(apiId, restAPIPublisher);
+            restAPIPublisher.deleteAPI(apiId);
+        }
+        super.cleanUp();
+    }
+}
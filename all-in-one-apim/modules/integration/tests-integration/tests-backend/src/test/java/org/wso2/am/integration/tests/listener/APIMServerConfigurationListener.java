@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.wso2.am.framework.extensions.ServerConfiguration;
+import org.wso2.am.framework.extensions.ServerStateManager;
+import org.wso2.carbon.automation.engine.exceptions.AutomationFrameworkException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies the deployment.toml declared with {@link ServerConfiguration} before the first method of a test class
+ * runs, and returns the server to its original configuration and state when a class without the annotation follows.
+ * <p>
+ * The methods of the annotated classes are grouped by the fingerprint of their configuration, keeping the order
+ * within each group, so consecutive classes share a configuration and the server is restarted once per distinct
+ * deployment.toml of an xml test.
+ */
+public class APIMServerConfigurationListener implements IInvokedMethodListener, IMethodInterceptor {
+    private static final Log log = LogFactory.getLog(APIMServerConfigurationListener.class);
+    private static final String UNMANAGED = "";
+
+    private static final Map<Class<?>, String> classFingerprints = new ConcurrentHashMap<>();
+    private final ThreadLocal<Class<?>> currentClass = new ThreadLocal<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext iTestContext) {
+        if (!ServerStateManager.isAvailable()) {
+            return methods;
+        }
+        // Each group takes the position of its first method, unmanaged methods are groups of their own
+        Map<Object, List<IMethodInstance>> groups = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            String fingerprint = getFingerprint(method.getMethod().getRealClass());
+            Object key = UNMANAGED.equals(fingerprint) ? method : fingerprint;
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(method);
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        for (List<IMethodInstance> group : groups.values()) {
+            ordered.addAll(group);
+        }
+        return ordered;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod iInvokedMethod, ITestResult iTestResult) {
+        if (!ServerStateManager.isAvailable()) {
+            return;
+        }
+        Class<?> testClass = iInvokedMethod.getTestMethod().getRealClass();
+        if (testClass == currentClass.get()) {
+            return;
+        }
+        currentClass.set(testClass);
+        ServerConfiguration serverConfiguration = testClass.getAnnotation(ServerConfiguration.class);
+        try {
+            if (serverConfiguration != null) {
+                ServerStateManager.getInstance().applyConfiguration(ServerStateManager.resolve(serverConfiguration));
+            } else {
+                ServerStateManager.getInstance().restoreConfiguration();
+            }
+        } catch (AutomationFrameworkException e) {
+            String msg = "Unable to prepare the server configuration of " + testClass.getName();
+            log.error(msg, e);
+            throw new IllegalStateException(msg, e);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod iInvokedMethod, ITestResult iTestResult) {
+
+    }
+
+    private static String getFingerprint(Class<?> testClass) {
+        return classFingerprints.computeIfAbsent(testClass, type -> {
+            ServerConfiguration serverConfiguration = type.getAnnotation(ServerConfiguration.class);
+            if (serverConfiguration == null) {
+                return UNMANAGED;
+            }
+            try {
+                return ServerStateManager.fingerprint(ServerStateManager.resolve(serverConfiguration));
+            } catch (IOException e) {
+                // Left ungrouped, the failure surfaces when the configuration is applied
+                log.warn("Unable to read the server configuration of " + type.getName(), e);
+                return UNMANAGED;
+            }
+        });
+    }
+}
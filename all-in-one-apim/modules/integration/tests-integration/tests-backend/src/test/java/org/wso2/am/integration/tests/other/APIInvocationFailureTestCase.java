@@ -22,6 +22,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Factory;
 import org.testng.annotations.Test;
+import org.wso2.am.integration.clients.publisher.api.v1.dto.APIOperationsDTO;
 import org.wso2.am.integration.test.utils.base.APIMIntegrationBaseTest;
 import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
 import org.wso2.am.integration.test.utils.bean.APILifeCycleAction;
@@ -35,7 +36,9 @@ import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
 
 import javax.ws.rs.core.Response;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
@@ -74,6 +77,17 @@ public class APIInvocationFailureTestCase extends APIMIntegrationBaseTest {
         apiRequest.setVersion(APIVersion);
         apiRequest.setSandbox(url);
         apiRequest.setResourceMethod("GET");
+        List<APIOperationsDTO> operations = new ArrayList<>();
+        for (String verb : new String[]{APIMIntegrationConstants.HTTP_VERB_GET,
+                APIMIntegrationConstants.HTTP_VERB_POST}) {
+            APIOperationsDTO operation = new APIOperationsDTO();
+            operation.setVerb(verb);
+            operation.setTarget("/*");
+            operation.setAuthType(APIMIntegrationConstants.RESOURCE_AUTH_TYPE_APPLICATION_AND_APPLICATION_USER);
+            operation.setThrottlingPolicy(APIMIntegrationConstants.RESOURCE_TIER.UNLIMITED);
+            operations.add(operation);
+        }
+        apiRequest.setOperationsDTOS(operations);
 
         //add test api
         HttpResponse serviceResponse = restAPIPublisher.addAPI(apiRequest);
@@ -104,6 +118,23 @@ public class APIInvocationFailureTestCase extends APIMIntegrationBaseTest {
 
     }
 
+    @Test(groups = {"wso2.am"}, description = "Calling API with invalid token and an XML payload",
+            dependsOnMethods = "APIInvocationFailure")
+    public void APIInvocationFailureWithXMLPayload() throws Exception {
+
+        Map<String, String> requestHeaders = new HashMap<String, String>();
+        requestHeaders.put("Authorization", "Bearer xxxxxxxxxxxx");
+        requestHeaders.put("Content-Type", "application/xml");
+
+        HttpResponse response = HttpRequestUtil.doPost(new URL(getAPIInvocationURLHttp(APIContext, APIVersion)
+                + "/most_popular"), "<feed><entry>popular</entry></feed>", requestHeaders);
+        assertEquals(response.getResponseCode(), Response.Status.UNAUTHORIZED.getStatusCode(),
+                "Response code mismatched when api invocation");
+        assertTrue(response.getHeaders().get("Content-Type").contains("application/xml"),
+                "Fault response of an XML request is not XML: " + response.getHeaders().get("Content-Type"));
+        assertTrue(response.getData().contains("900901"), "Error code mismach");
+    }
+
     @AfterClass(alwaysRun = true)
     public void destroy() throws Exception {
         undeployAndDeleteAPIRevisionsUsingRest(apiID, restAPIPublisher);
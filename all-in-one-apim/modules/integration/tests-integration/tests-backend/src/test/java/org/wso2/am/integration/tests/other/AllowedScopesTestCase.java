@@ -25,6 +25,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Assert;
 import org.testng.annotations.*;
+import org.wso2.am.framework.extensions.ServerConfiguration;
 import org.wso2.am.integration.clients.publisher.api.v1.dto.APIDTO;
 import org.wso2.am.integration.clients.publisher.api.v1.dto.APIOperationsDTO;
 import org.wso2.am.integration.clients.publisher.api.v1.dto.APIScopeDTO;
@@ -43,7 +44,6 @@ import org.wso2.carbon.automation.engine.context.TestUserMode;
 import org.wso2.carbon.automation.test.utils.http.client.HttpRequestUtil;
 import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
 import org.wso2.carbon.integration.common.admin.client.UserManagementClient;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import javax.xml.xpath.XPathExpressionException;
@@ -59,8 +59,8 @@ import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
 
+@ServerConfiguration("configFiles/allowedScopes/deployment.toml")
 public class AllowedScopesTestCase extends APIManagerLifecycleBaseTest {
-    private ServerConfigurationManager serverConfigurationManager;
     private String apiEndPointUrl;
     private final String API_END_POINT_POSTFIX_URL = "jaxrs_basic/services/customers/customerservice/";
     private final String ALLOWED_SCOPES_API = "allowedScopesAPI";
@@ -92,10 +92,6 @@ public class AllowedScopesTestCase extends APIManagerLifecycleBaseTest {
     @BeforeClass(alwaysRun = true)
     public void setEnvironment() throws Exception {
         super.init(userMode);
-        serverConfigurationManager = new ServerConfigurationManager(gatewayContextWrk);
-        serverConfigurationManager.applyConfiguration(new File(
-                getAMResourceLocation() + File.separator + "configFiles" + File.separator + "allowedScopes"
-                        + File.separator + "deployment.toml"));
 
         userManagementClient = new UserManagementClient(
                 keyManagerContext.getContextUrls().getBackEndUrl(),
@@ -381,7 +377,6 @@ public class AllowedScopesTestCase extends APIManagerLifecycleBaseTest {
         restAPIStore.deleteApplication(applicationImportId);
         restAPIPublisher.deleteAPI(apiId);
         restAPIPublisher.deleteAPI(apiImportId);
-        serverConfigurationManager.restoreToLastConfiguration();
     }
 
     private void importApiDefinitionAndDeploy() throws Exception {
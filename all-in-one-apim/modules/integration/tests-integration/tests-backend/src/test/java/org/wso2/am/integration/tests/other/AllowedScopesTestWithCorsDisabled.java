@@ -24,6 +24,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Assert;
 import org.testng.annotations.*;
+import org.wso2.am.framework.extensions.ServerConfiguration;
 import org.wso2.am.integration.clients.publisher.api.v1.dto.APIDTO;
 import org.wso2.am.integration.clients.store.api.v1.dto.*;
 import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
@@ -32,7 +33,6 @@ import org.wso2.carbon.automation.engine.context.TestUserMode;
 import org.wso2.carbon.automation.test.utils.http.client.HttpRequestUtil;
 import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
 import org.wso2.carbon.integration.common.admin.client.UserManagementClient;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.BufferedWriter;
@@ -48,6 +48,7 @@ import javax.xml.xpath.XPathExpressionException;
 
 import static org.testng.Assert.assertEquals;
 
+@ServerConfiguration("configFiles/allowedScopesWithCorsDisabled/deployment.toml")
 public class AllowedScopesTestWithCorsDisabled extends APIManagerLifecycleBaseTest {
     private static final String EXAMPLE_API_CONTEXT = "exampleapi";
     private static final String PRODUCTS_CATALOG_1_METHOD = "/products/catalog/1";
@@ -56,7 +57,6 @@ public class AllowedScopesTestWithCorsDisabled extends APIManagerLifecycleBaseTe
     private static final String ORDERS = "/orders";
     private static final String WILDCARD = "/noexactmatch";
 
-    private ServerConfigurationManager serverConfigurationManager;
     private String apiImportId;
     private String applicationImportId;
 
@@ -76,7 +76,6 @@ public class AllowedScopesTestWithCorsDisabled extends APIManagerLifecycleBaseTe
     @BeforeClass(alwaysRun = true)
     public void setUp() throws Exception {
         super.init(userMode);
-        initializeServerConfiguration();
         initializeUserManagementClient();
         importApiDefinitionAndDeploy();
     }
@@ -178,17 +177,9 @@ public class AllowedScopesTestWithCorsDisabled extends APIManagerLifecycleBaseTe
     public void destroy() throws Exception {
         restAPIStore.deleteApplication(applicationImportId);
         restAPIPublisher.deleteAPI(apiImportId);
-        serverConfigurationManager.restoreToLastConfiguration();
         super.cleanUp();
     }
 
-    private void initializeServerConfiguration() throws Exception {
-        serverConfigurationManager = new ServerConfigurationManager(gatewayContextWrk);
-        File configFile = new File(getAMResourceLocation() +
-                "/configFiles/allowedScopesWithCorsDisabled/deployment.toml");
-        serverConfigurationManager.applyConfiguration(configFile);
-    }
-
     private void initializeUserManagementClient() throws AxisFault, XPathExpressionException {
         String backEndUrl = keyManagerContext.getContextUrls().getBackEndUrl();
         String username = keyManagerContext.getContextTenant().getTenantAdmin().getUserName();
@@ -22,17 +22,15 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Factory;
 import org.testng.annotations.Test;
+import org.wso2.am.framework.extensions.ServerConfiguration;
 import org.wso2.am.integration.clients.publisher.api.v1.dto.ScopeDTO;
-import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
 import org.wso2.am.integration.tests.api.lifecycle.APIManagerLifecycleBaseTest;
-import org.wso2.carbon.automation.engine.context.AutomationContext;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
+@ServerConfiguration("scopes/deployment.toml")
 public class SharedScopeTestWithRestart extends APIManagerLifecycleBaseTest {
 
     private String sharedScopeName = "TestSharedScopeWithRestart";
@@ -43,7 +41,6 @@ public class SharedScopeTestWithRestart extends APIManagerLifecycleBaseTest {
     private String updatedDescription2 = "This is a updated test shared scope with Restart(3)";
     private List<String> roles = new ArrayList<>();
     private String sharedScopeId;
-    private ServerConfigurationManager serverConfigurationManager;
 
     @Factory(dataProvider = "userModeDataProvider")
     public SharedScopeTestWithRestart(TestUserMode userMode) {
@@ -58,13 +55,6 @@ public class SharedScopeTestWithRestart extends APIManagerLifecycleBaseTest {
     @BeforeClass(alwaysRun = true)
     public void setEnvironment() throws Exception {
         super.init(userMode);
-        superTenantKeyManagerContext = new AutomationContext(APIMIntegrationConstants.AM_PRODUCT_GROUP_NAME,
-                APIMIntegrationConstants.AM_KEY_MANAGER_INSTANCE,
-                TestUserMode.SUPER_TENANT_ADMIN);
-        serverConfigurationManager = new ServerConfigurationManager(superTenantKeyManagerContext);
-        serverConfigurationManager.applyConfiguration(new File(
-                getAMResourceLocation() + File.separator + "scopes"
-                        + File.separator + "deployment.toml"));
     }
 
     @Test(groups = { "wso2.am" }, description = "Test add shared scope")
@@ -119,6 +109,5 @@ public class SharedScopeTestWithRestart extends APIManagerLifecycleBaseTest {
     @AfterClass(alwaysRun = true)
     public void destroy() throws Exception {
         super.cleanUp();
-        serverConfigurationManager.restoreToLastConfiguration();
     }
 }
@@ -18,6 +18,9 @@
 
 package org.wso2.am.integration.tests.streamingapis;
 
+import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
+import org.wso2.am.integration.test.utils.lease.ResourceLeaseService;
+
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
@@ -34,20 +37,20 @@ public class StreamingApiTestUtils {
     private static final String HMAC_SHA1_ALGORITHM = "HmacSHA1";
 
     /**
-     * Returns the available port, within the range of given lower and upper ports, in the given host.
+     * Returns the available port, within the range of given lower and upper ports, in the given host. The port is
+     * reserved through the {@link ResourceLeaseService}, so test JVMs running in parallel are not handed the same port.
      * @param lowerPortLimit    Lower port limit
-     * @param upperPortLimit    Upper port limit
+     * @param upperPortLimit    Upper port limit, exclusive
      * @param host              Host
-     * @return                  Available port
+     * @return                  Available port, or -1 if no port is available
      */
     public static int getAvailablePort(int lowerPortLimit, int upperPortLimit, String host) {
-        while (lowerPortLimit < upperPortLimit) {
-            if (isPortFree(lowerPortLimit, host)) {
-                return lowerPortLimit;
-            }
-            lowerPortLimit += 1;
+        try {
+            return ResourceLeaseService.getInstance().reservePort(lowerPortLimit, upperPortLimit - 1,
+                    port -> isPortFree(port, host));
+        } catch (APIManagerIntegrationTestException e) {
+            return -1;
         }
-        return -1;
     }
 
     private static boolean isPortFree(int port, String host) {
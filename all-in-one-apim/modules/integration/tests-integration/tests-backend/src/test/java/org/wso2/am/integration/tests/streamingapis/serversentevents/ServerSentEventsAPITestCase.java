@@ -54,6 +54,7 @@ import org.wso2.am.integration.test.utils.bean.APIRequest;
 import org.wso2.am.integration.test.utils.generic.APIMTestCaseUtils;
 import org.wso2.am.integration.test.utils.token.TokenUtils;
 import org.wso2.am.integration.tests.streamingapis.StreamingApiTestUtils;
+import org.wso2.am.integration.tests.streamingapis.serversentevents.client.MultiConnectionSseReceiver;
 import org.wso2.am.integration.tests.streamingapis.serversentevents.client.SimpleSseReceiver;
 import org.wso2.am.integration.tests.streamingapis.serversentevents.server.SseServlet;
 import org.wso2.carbon.apimgt.api.model.APIIdentifier;
@@ -89,6 +90,9 @@ public class ServerSentEventsAPITestCase extends APIMIntegrationBaseTest {
 
     private final Log log = LogFactory.getLog(ServerSentEventsAPITestCase.class);
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private static final int FAN_OUT_CONNECTIONS = 20;
+    private static final long FAN_OUT_EVENT_INTERVAL_MILLIS = 100;
+    private static final int FAN_OUT_PAYLOAD_SIZE = 1024;
 
     private String sseEventPublisherSource = TestConfigurationProvider.getResourceLocation() + File.separator +
             "artifacts" + File.separator + "AM" + File.separator + "configFiles" + File.separator + "streamingAPIs" +
@@ -115,6 +119,7 @@ public class ServerSentEventsAPITestCase extends APIMIntegrationBaseTest {
     private String apiEndpoint;
     private String consumerKey;
     private String consumerSecret;
+    private String accessToken;
 
     @Factory(dataProvider = "userModeDataProvider")
     public ServerSentEventsAPITestCase(TestUserMode userMode) {
@@ -220,7 +225,7 @@ public class ServerSentEventsAPITestCase extends APIMIntegrationBaseTest {
         grantTypes.add(APIMIntegrationConstants.GRANT_TYPE.CLIENT_CREDENTIAL);
         ApplicationKeyDTO applicationKeyDTO = restAPIStore.generateKeys(appId, "3600", null,
                 ApplicationKeyGenerateRequestDTO.KeyTypeEnum.PRODUCTION, null, grantTypes);
-        String accessToken = applicationKeyDTO.getToken().getAccessToken();
+        accessToken = applicationKeyDTO.getToken().getAccessToken();
         consumerKey = applicationKeyDTO.getConsumerKey();
         consumerSecret = applicationKeyDTO.getConsumerSecret();
         invokeSseApi(accessToken, 30000);
@@ -234,6 +239,40 @@ public class ServerSentEventsAPITestCase extends APIMIntegrationBaseTest {
         sseReceiver.setReceivedDataEventsCount(0);
     }
 
+    @Test(description = "Fan out SSE events to multiple subscribers", dependsOnMethods = "testInvokeSseApi")
+    public void testSseApiFanOut() throws Exception {
+        initializeSseServer(sseServerPort, new SseServlet(FAN_OUT_EVENT_INTERVAL_MILLIS, FAN_OUT_PAYLOAD_SIZE,
+                SseServlet.UNLIMITED_CONNECTIONS));
+        try {
+            startAndStopSseServer(20000);
+            Thread.sleep(5000);
+            WebTarget target = ClientBuilder.newClient().target(apiEndpoint + "/memory");
+            MultiConnectionSseReceiver fanOutReceiver = new MultiConnectionSseReceiver(target, accessToken,
+                    FAN_OUT_CONNECTIONS);
+            try {
+                fanOutReceiver.open();
+            } finally {
+                fanOutReceiver.close();
+            }
+            log.info("SSE fan out to " + fanOutReceiver.getOpenedConnectionsCount() + " connections, events sent: "
+                    + sseServlet.getEventsSent() + ", received: " + fanOutReceiver.getReceivedDataEventsCount()
+                    + ", missed: " + fanOutReceiver.getDroppedEventsCount() + ", skipped by the source: "
+                    + sseServlet.getEventsDropped() + ", latency (ms): " + fanOutReceiver.getLatencies());
+
+            Assert.assertEquals(fanOutReceiver.getOpenedConnectionsCount(), FAN_OUT_CONNECTIONS);
+            Assert.assertNotEquals(fanOutReceiver.getReceivedDataEventsCount(), 0);
+            // The source skips an event for a connection still writing the previous one, so only the events it
+            // delivered are expected, and the gaps seen by the subscribers must be explained by the events it
+            // skipped. The source stops publishing before the streams are closed, so both counts are final here
+            Assert.assertEquals(fanOutReceiver.getReceivedDataEventsCount(), sseServlet.getEventsSent(),
+                    "Events delivered by the backend were lost by the gateway");
+            Assert.assertTrue(fanOutReceiver.getDroppedEventsCount() <= sseServlet.getEventsDropped(),
+                    "Subscribers missed more events than the backend skipped");
+        } finally {
+            initializeSseServer(sseServerPort);
+        }
+    }
+
     public void testSseApiThrottling() throws Exception {
         InputStream inputStream = new FileInputStream(getAMResourceLocation() + File.separator +
                 "configFiles" + File.separator + "streamingAPIs" + File.separator + "serverSentEventsTest" +
@@ -332,11 +371,15 @@ public class ServerSentEventsAPITestCase extends APIMIntegrationBaseTest {
     }
 
     private void initializeSseServer(int port) {
+        initializeSseServer(port, new SseServlet());
+    }
+
+    private void initializeSseServer(int port, SseServlet servlet) {
         Server server = new Server(port);
         ServletHandler servletHandler = new ServletHandler();
         server.setHandler(servletHandler);
 
-        sseServlet = new SseServlet();
+        sseServlet = servlet;
         ServletHolder servletHolder = new ServletHolder(sseServlet);
         servletHandler.addServletWithMapping(servletHolder, "/memory");
 
@@ -350,14 +393,19 @@ public class ServerSentEventsAPITestCase extends APIMIntegrationBaseTest {
     }
 
     private void startAndStopSseServer(long stopAfterMillis) {
+        // The server and the servlet are captured, so that resetting them while this runs does not stop the new ones
+        final Server server = sseServer;
+        final SseServlet servlet = sseServlet;
         executorService.execute(new Runnable() {
             @Override
             public void run() {
                 try {
-                    sseServer.start();
+                    server.start();
                     log.info("SSE Server Started and will be stopped after: " + stopAfterMillis + "ms.");
                     Thread.sleep(stopAfterMillis);
-                    sseServer.stop();
+                    // Lets the events being written reach the receivers before their streams are closed
+                    servlet.stopPublishing();
+                    server.stop();
                     log.info("SSE Server Stopped.");
                 } catch (Exception e) {
                     log.error("Failed to start/stop the SSE server.", e);
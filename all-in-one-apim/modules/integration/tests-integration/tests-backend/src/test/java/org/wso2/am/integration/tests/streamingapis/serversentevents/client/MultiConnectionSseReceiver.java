@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.streamingapis.serversentevents.client;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.am.integration.test.utils.loadgen.LatencyHistogram;
+
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Response;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE receiver that subscribes to the target through several connections at once, to observe how events are fanned
+ * out through the gateway. It expects the event data layout of
+ * {@link org.wso2.am.integration.tests.streamingapis.serversentevents.server.SseServlet}, i.e.
+ * {@code <sequence> <sent time in epoch millis> <padding>}, and reports the end to end latency of the received events
+ * and the number of events missed by the connections.
+ */
+public class MultiConnectionSseReceiver extends SimpleSseReceiver {
+
+    private final Log log = LogFactory.getLog(MultiConnectionSseReceiver.class);
+    private final int connections;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicInteger openedConnections = new AtomicInteger();
+    private final Queue<Response> responses = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<long[]> lastSequence = new ThreadLocal<>();
+    private ExecutorService executorService;
+
+    public MultiConnectionSseReceiver(WebTarget target, String bearerToken, int connections) {
+        super(target, bearerToken);
+        if (connections <= 0) {
+            throw new IllegalArgumentException("Invalid connection count " + connections);
+        }
+        this.connections = connections;
+    }
+
+    /**
+     * Opens the connections and blocks until all of the event streams are closed.
+     */
+    @Override
+    public void open() {
+        executorService = Executors.newFixedThreadPool(connections);
+        CountDownLatch closed = new CountDownLatch(connections);
+        for (int i = 0; i < connections; i++) {
+            executorService.execute(() -> {
+                try {
+                    Response response = connect();
+                    if (response.getStatus() != 200) {
+                        log.warn("SSE connection failed with status " + response.getStatus());
+                        response.close();
+                        return;
+                    }
+                    responses.add(response);
+                    openedConnections.incrementAndGet();
+                    // Each connection is read by its own thread, which keeps the last sequence of the connection
+                    lastSequence.set(new long[] { -1 });
+                    process(response);
+                } catch (RuntimeException e) {
+                    log.error("SSE connection failed", e);
+                } finally {
+                    lastSequence.remove();
+                    closed.countDown();
+                }
+            });
+        }
+        try {
+            closed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Override
+    protected void onData(String data) {
+        String[] fields = data.split(" ", 3);
+        if (fields.length < 2) {
+            return;
+        }
+        long sequence;
+        long sentTime;
+        try {
+            sequence = Long.parseLong(fields[0]);
+            sentTime = Long.parseLong(fields[1]);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        latencies.recordValue(Math.max(0, System.currentTimeMillis() - sentTime));
+        long[] last = lastSequence.get();
+        if (last == null) {
+            return;
+        }
+        // Events published before the connection was opened are not counted as missed
+        if (last[0] >= 0 && sequence > last[0] + 1) {
+            droppedEvents.addAndGet(sequence - last[0] - 1);
+        }
+        last[0] = Math.max(last[0], sequence);
+    }
+
+    @Override
+    public boolean close(long l, TimeUnit timeUnit) {
+        Response response;
+        while ((response = responses.poll()) != null) {
+            response.close();
+        }
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        return true;
+    }
+
+    /**
+     * @return the end to end latencies of the received events in milliseconds
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return the number of events missed by the connections after they received their first event
+     */
+    public long getDroppedEventsCount() {
+        return droppedEvents.get();
+    }
+
+    public int getOpenedConnectionsCount() {
+        return openedConnections.get();
+    }
+}
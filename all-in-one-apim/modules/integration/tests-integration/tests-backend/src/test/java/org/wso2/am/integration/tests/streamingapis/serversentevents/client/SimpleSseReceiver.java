@@ -78,9 +78,7 @@ public class SimpleSseReceiver implements SseEventSource {
 
     @Override
     public void open() {
-        Invocation.Builder builder = target.request(MEDIA_TYPE_SSE)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken);
-        Response response = builder.get();
+        Response response = connect();
         // A client can be told to stop reconnecting using the HTTP 204 No Content response code.
         if (response.getStatus() == 204) {
             return;
@@ -89,14 +87,30 @@ public class SimpleSseReceiver implements SseEventSource {
         process(response);
     }
 
-    private void process(Response response) {
+    /**
+     * Opens an event stream connection to the target.
+     *
+     * @return response whose entity is the event stream
+     */
+    protected Response connect() {
+        Invocation.Builder builder = target.request(MEDIA_TYPE_SSE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + bearerToken);
+        return builder.get();
+    }
+
+    /**
+     * Reads the events of the given stream until it is closed.
+     *
+     * @param response response whose entity is the event stream
+     */
+    protected void process(Response response) {
         InputStream inputStream = (InputStream) response.getEntity();
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
             String line = reader.readLine();
             while (line != null) {
                 if (line.startsWith(DATA)) {
-                    log.info("Received data - " + line);
                     receivedDataEventsCount.incrementAndGet();
+                    onData(line.substring(DATA.length()).trim());
                 } else if (line.contains(REQUEST_IS_THROTTLED_SEGMENT)) {
                     processThrottledResponse();
                 }
@@ -107,6 +121,15 @@ public class SimpleSseReceiver implements SseEventSource {
         }
     }
 
+    /**
+     * Called for every data event received.
+     *
+     * @param data data of the event
+     */
+    protected void onData(String data) {
+        log.info("Received data - " + data);
+    }
+
     private void processThrottledResponse() {
         if (this.throttledResponseProcessor != null) {
             throttledResponseProcessor.accept(true);
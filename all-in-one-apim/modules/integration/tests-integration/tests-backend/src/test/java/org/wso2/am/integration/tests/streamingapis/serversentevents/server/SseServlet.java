@@ -25,18 +25,118 @@ import org.eclipse.jetty.servlets.EventSourceServlet;
 
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
-import java.util.Date;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.servlet.ServletException;
 import javax.servlet.annotation.WebInitParam;
 import javax.servlet.annotation.WebServlet;
 
+/**
+ * Server sent events source. A single scheduled task publishes an event at the configured rate and fans it out to
+ * every open connection, so a connection does not hold a container thread while it is open and the number of
+ * subscribers is bounded only by the configured connection limit.
+ * <p>
+ * The data of an event has the layout {@code <sequence> <sent time in epoch millis> <padding>}, which lets a
+ * receiver measure the end to end latency of the events and detect the events it did not receive. An event is
+ * skipped for a connection that has not yet consumed the previous one, and counted in {@link #getEventsDropped()}.
+ */
 @WebServlet(urlPatterns = "/memory", initParams = { @WebInitParam(name = "heartBeatPeriod", value = "5") }, asyncSupported = true)
 public class SseServlet extends EventSourceServlet {
 
+    public static final long DEFAULT_EVENT_INTERVAL_MILLIS = 3000;
+    public static final int DEFAULT_PAYLOAD_SIZE = 32;
+    public static final int UNLIMITED_CONNECTIONS = -1;
+    private static final long STOP_TIMEOUT_SECONDS = 10;
+
     private final Log log = LogFactory.getLog(SseServlet.class);
 
+    private final long eventIntervalMillis;
+    private final int maxConnections;
+    private final String padding;
+    private final Map<EventSource.Emitter, AtomicBoolean> emitters = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
     private AtomicInteger eventsSent = new AtomicInteger(0);
+    private final AtomicInteger eventsDropped = new AtomicInteger(0);
+    private final AtomicInteger rejectedConnections = new AtomicInteger(0);
+    private ScheduledExecutorService scheduler;
+    private ExecutorService writers;
+    private ScheduledFuture<?> publisher;
+
+    public SseServlet() {
+        this(DEFAULT_EVENT_INTERVAL_MILLIS, DEFAULT_PAYLOAD_SIZE, UNLIMITED_CONNECTIONS);
+    }
+
+    /**
+     * @param eventIntervalMillis time between two events
+     * @param payloadSize         minimum size of the data of an event in characters
+     * @param maxConnections      maximum number of open connections, or {@link #UNLIMITED_CONNECTIONS}
+     */
+    public SseServlet(long eventIntervalMillis, int payloadSize, int maxConnections) {
+        if (eventIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Invalid event interval " + eventIntervalMillis);
+        }
+        this.eventIntervalMillis = eventIntervalMillis;
+        this.maxConnections = maxConnections;
+        char[] paddingChars = new char[Math.max(0, payloadSize)];
+        Arrays.fill(paddingChars, 'x');
+        this.padding = new String(paddingChars);
+    }
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        // Writes to the connections are blocking, hence they are spread over a pool so that a slow connection only
+        // delays its own events
+        writers = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        publisher = scheduler.scheduleAtFixedRate(this::publish, eventIntervalMillis, eventIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops publishing events and waits for the events being written to complete, after which the counts of the
+     * sent and dropped events no longer change.
+     */
+    public void stopPublishing() throws InterruptedException {
+        if (publisher != null) {
+            publisher.cancel(false);
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        if (writers != null) {
+            writers.shutdown();
+            if (!writers.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("SSE events are still being written " + STOP_TIMEOUT_SECONDS + "s after publishing stopped");
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (publisher != null) {
+            publisher.cancel(false);
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (writers != null) {
+            writers.shutdownNow();
+        }
+        emitters.clear();
+        super.destroy();
+    }
 
     public int getEventsSent() {
         return eventsSent.get();
@@ -46,28 +146,76 @@ public class SseServlet extends EventSourceServlet {
         this.eventsSent.set(eventsSent);
     }
 
+    /**
+     * @return the number of events skipped for connections that were still consuming the previous event
+     */
+    public int getEventsDropped() {
+        return eventsDropped.get();
+    }
+
+    /**
+     * @return the number of connections closed since the connection limit was reached
+     */
+    public int getRejectedConnections() {
+        return rejectedConnections.get();
+    }
+
+    public int getOpenConnections() {
+        return emitters.size();
+    }
+
+    private void publish() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        final String data = sequence.incrementAndGet() + " " + System.currentTimeMillis() + " " + padding;
+        for (Map.Entry<EventSource.Emitter, AtomicBoolean> entry : emitters.entrySet()) {
+            final EventSource.Emitter emitter = entry.getKey();
+            final AtomicBoolean writing = entry.getValue();
+            if (!writing.compareAndSet(false, true)) {
+                eventsDropped.incrementAndGet();
+                continue;
+            }
+            writers.execute(() -> {
+                try {
+                    emitter.data(data);
+                    eventsSent.incrementAndGet();
+                } catch (IOException e) {
+                    log.debug("Dropping SSE connection: " + e.getMessage());
+                    emitters.remove(emitter);
+                } finally {
+                    writing.set(false);
+                }
+            });
+        }
+    }
+
     @Override
     protected EventSource newEventSource(HttpServletRequest httpServletRequest) {
         return new EventSource() {
 
+            private Emitter emitter;
+
             @Override
             public void onOpen(final Emitter emitter) throws IOException {
-                log.info("SSE Servlet opened");
-                while (true) {
-                    log.info("Propagating event...");
-                    try {
-                        Thread.sleep(3000);
-                        emitter.data("new server event " + new Date().toString());
-                        eventsSent.incrementAndGet();
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
+                if (maxConnections != UNLIMITED_CONNECTIONS && emitters.size() >= maxConnections) {
+                    rejectedConnections.incrementAndGet();
+                    emitter.close();
+                    return;
+                }
+                this.emitter = emitter;
+                emitters.put(emitter, new AtomicBoolean());
+                if (log.isDebugEnabled()) {
+                    log.debug("SSE Servlet opened, open connections: " + emitters.size());
                 }
             }
 
             @Override
             public void onClose() {
-                log.info("SSE Servlet closed");
+                if (emitter != null) {
+                    emitters.remove(emitter);
+                }
+                log.debug("SSE Servlet closed");
             }
         };
     }
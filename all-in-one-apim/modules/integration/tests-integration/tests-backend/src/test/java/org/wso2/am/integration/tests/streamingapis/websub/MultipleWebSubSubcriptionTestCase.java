@@ -43,10 +43,13 @@ import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
 import org.wso2.am.integration.test.utils.bean.APILifeCycleAction;
 import org.wso2.am.integration.test.utils.bean.APIRequest;
 import org.wso2.am.integration.test.utils.generic.APIMTestCaseUtils;
+import org.wso2.am.integration.test.utils.http.HTTPSClientUtils;
 import org.wso2.am.integration.tests.streamingapis.StreamingApiTestUtils;
+import org.wso2.am.integration.tests.streamingapis.websub.client.ConcurrentWebhookPublisher;
 import org.wso2.am.integration.tests.streamingapis.websub.client.WebhookSender;
 import org.wso2.am.integration.tests.streamingapis.websub.server.CallbackServerServlet;
 import org.wso2.am.integration.tests.streamingapis.websub.server.CallbackServerServlet2;
+import org.wso2.am.integration.tests.streamingapis.websub.server.InstrumentedCallbackServerServlet;
 import org.wso2.carbon.apimgt.api.model.APIIdentifier;
 import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
 import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
@@ -69,9 +72,15 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.assertTrue;
 
@@ -84,6 +93,9 @@ public class MultipleWebSubSubcriptionTestCase extends APIMIntegrationBaseTest {
     private final String DEFAULT_TOPIC = "_default";
     private final String SUBSCRIBE = "subscribe";
     private final String UNSUBSCRIBE = "unsubscribe";
+    private final String FAN_OUT_SUBSCRIBERS_PROPERTY = "websub.fanout.subscribers";
+    private final int DEFAULT_FAN_OUT_SUBSCRIBERS = 10;
+    private final long FAN_OUT_DELIVERY_TIMEOUT_MILLIS = 30000;
 
     private String apiName = "WebSubMultipleSubAPI";
     private String applicationName1 = "WebSubultipleSubApplication1";
@@ -262,6 +274,74 @@ public class MultipleWebSubSubcriptionTestCase extends APIMIntegrationBaseTest {
         webhookSender.setWebhooksSent(0);
     }
 
+    @Test(description = "Publish webhooks concurrently to many subscribers while their leases are being renewed",
+            dependsOnMethods = "testInvokeWebSubApi")
+    public void testWebSubFanOutWithLeaseRenewals() throws Exception {
+        // A few subscribers are enough to verify the fan out, set the property to run it as a load test
+        int subscribers = Integer.getInteger(FAN_OUT_SUBSCRIBERS_PROPERTY, DEFAULT_FAN_OUT_SUBSCRIBERS);
+        int noOfEventsToSend = 10;
+        int port = getCallBackServletPort(8070, 8080);
+        InstrumentedCallbackServerServlet fanOutServlet = new InstrumentedCallbackServerServlet();
+        ServletHandler servletHandler = new ServletHandler();
+        servletHandler.addServletWithMapping(new ServletHolder(fanOutServlet), "/receiver/*");
+        Server fanOutCallbackServer = new Server(port);
+        fanOutCallbackServer.setHandler(servletHandler);
+        fanOutCallbackServer.start();
+
+        List<String> callbackUrls = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            callbackUrls.add("http://" + serverHost + ":" + port + "/receiver/" + i);
+        }
+        int sent;
+        boolean delivered;
+        try {
+            handleCallbackSubscriptions(SUBSCRIBE, callbackUrls, accessToken1);
+            Thread.sleep(5000);
+
+            // Renew the leases of a slice of the subscribers every second while the webhooks are being delivered
+            int renewalBatchSize = Math.max(1, subscribers / 10);
+            AtomicInteger renewalOffset = new AtomicInteger();
+            ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor();
+            leaseRenewer.scheduleWithFixedDelay(() -> {
+                int from = renewalOffset.getAndAdd(renewalBatchSize) % subscribers;
+                List<String> batch = callbackUrls.subList(from, Math.min(subscribers, from + renewalBatchSize));
+                try {
+                    handleCallbackSubscriptions(SUBSCRIBE, batch, accessToken1);
+                } catch (Exception e) {
+                    log.error("Failed to renew the leases of " + batch.size() + " subscribers", e);
+                }
+            }, 0, 1, TimeUnit.SECONDS);
+
+            String payloadUrl = apiEndpoint.replaceAll(":([0-9]+)/", ":" + TOPIC_PORT + "/") +
+                    "/webhooks_events_receiver_resource?topic=" + DEFAULT_TOPIC;
+            try (ConcurrentWebhookPublisher publisher = new ConcurrentWebhookPublisher(payloadUrl, topicSecret, 8)) {
+                sent = publisher.publish(noOfEventsToSend);
+                delivered = fanOutServlet.awaitDeliveries(sent * subscribers, FAN_OUT_DELIVERY_TIMEOUT_MILLIS);
+                log.info("Published " + sent + " webhooks to " + subscribers + " subscribers, publish (us) "
+                        + publisher.getPublishTimes() + ", delivered " + fanOutServlet.getDeliveries() + " at "
+                        + String.format("%.1f", fanOutServlet.getDeliveryThroughput()) + " deliveries/s"
+                        + ", publish to delivery (us) " + fanOutServlet.getDeliveryLatencies()
+                        + ", lease renewals " + renewalOffset.get());
+            } finally {
+                leaseRenewer.shutdownNow();
+            }
+        } finally {
+            try {
+                handleCallbackSubscriptions(UNSUBSCRIBE, callbackUrls, accessToken1);
+            } finally {
+                fanOutCallbackServer.stop();
+            }
+        }
+
+        Assert.assertEquals(sent, noOfEventsToSend);
+        Assert.assertTrue(delivered, "Only " + fanOutServlet.getDeliveries() + " of " + sent * subscribers
+                + " webhooks were delivered");
+        for (int i = 0; i < subscribers; i++) {
+            Assert.assertEquals(fanOutServlet.getDeliveries("/" + i), sent,
+                    "Unexpected number of webhooks delivered to subscriber " + i);
+        }
+    }
+
     private void initializeCallbackReceiver(int port, Servlet servlet) {
         Server server = new Server(port);
         ServletHandler servletHandler = new ServletHandler();
@@ -292,10 +372,31 @@ public class MultipleWebSubSubcriptionTestCase extends APIMIntegrationBaseTest {
                                                    String hubTopic, String hubSecret, String hubLeaseSeconds,
                                                    String bearerToken)
             throws UnsupportedEncodingException, MalformedURLException, AutomationFrameworkException {
+        String url = getSubscriptionUrl(hubMode, webSubApiUrl, callbackUrl, hubTopic, hubSecret, hubLeaseSeconds);
+        HttpRequestUtil.doPost(new URL(url), "", Collections.singletonMap("Authorization", "Bearer " + bearerToken));
+    }
+
+    /**
+     * Sends the subscription requests of the given callbacks concurrently over the pooled client and waits for them
+     * to complete.
+     */
+    private void handleCallbackSubscriptions(String hubMode, List<String> callbackUrls, String bearerToken)
+            throws UnsupportedEncodingException {
+        Map<String, String> headers = Collections.singletonMap("Authorization", "Bearer " + bearerToken);
+        List<CompletableFuture<HttpResponse>> responses = new ArrayList<>(callbackUrls.size());
+        for (String callbackUrl : callbackUrls) {
+            String url = getSubscriptionUrl(hubMode, apiEndpoint, callbackUrl, DEFAULT_TOPIC, topicSecret, "50000000");
+            responses.add(HTTPSClientUtils.doPostAsync(url, headers, ""));
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+    }
+
+    private static String getSubscriptionUrl(String hubMode, String webSubApiUrl, String callbackUrl, String hubTopic,
+                                             String hubSecret, String hubLeaseSeconds)
+            throws UnsupportedEncodingException {
         String encodedUrl = URLEncoder.encode(callbackUrl, StandardCharsets.UTF_8.toString());
-        String url = webSubApiUrl + "?hub.callback=" + encodedUrl + "&hub.mode=" + hubMode + "&hub.secret=" +
+        return webSubApiUrl + "?hub.callback=" + encodedUrl + "&hub.mode=" + hubMode + "&hub.secret=" +
                 hubSecret + "&hub.lease_seconds=" + hubLeaseSeconds + "&hub.topic=" + hubTopic;
-        HttpRequestUtil.doPost(new URL(url), "", Collections.singletonMap("Authorization", "Bearer " + bearerToken));
     }
 
     @AfterClass(alwaysRun = true)
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.streamingapis.websub.client;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.am.integration.test.utils.http.HTTPSClientUtils;
+import org.wso2.am.integration.test.utils.loadgen.LatencyHistogram;
+import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Publishes webhooks to a WebSub topic from a number of concurrent threads. Unlike {@link WebhookSender}, which opens
+ * a new connection per webhook, the webhooks are posted over the pooled client of {@link HTTPSClientUtils}, so the
+ * connections to the gateway are kept alive between webhooks. The HMAC signature of a payload is computed once, when
+ * the payload is created, with a {@link Mac} initialized once per publishing thread.
+ * <p>
+ * Every payload carries its sequence number and the {@link System#nanoTime()} it was published at, see
+ * {@link #SEQUENCE_FIELD} and {@link #PUBLISHED_AT_FIELD}, so that callback servers running in the same JVM can measure
+ * the publish-to-delivery latency.
+ */
+public class ConcurrentWebhookPublisher implements AutoCloseable {
+
+    public static final String SEQUENCE_FIELD = "seq";
+    public static final String PUBLISHED_AT_FIELD = "publishedAt";
+    private static final String HMAC_SHA1_ALGORITHM = "HmacSHA1";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Log log = LogFactory.getLog(ConcurrentWebhookPublisher.class);
+    private final String payloadUrl;
+    private final SecretKeySpec signingKey;
+    private final ExecutorService executor;
+    private final ThreadLocal<Mac> macs;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger webhooksSent = new AtomicInteger();
+    private final AtomicInteger webhooksFailed = new AtomicInteger();
+    private final LatencyHistogram publishTimes = new LatencyHistogram();
+
+    /**
+     * @param payloadUrl  webhook URL of the topic
+     * @param secret      secret shared with the hub
+     * @param concurrency number of webhooks posted at a time
+     */
+    public ConcurrentWebhookPublisher(String payloadUrl, String secret, int concurrency) {
+
+        this.payloadUrl = payloadUrl;
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_SHA1_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::createMac);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "webhook-publisher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Publishes the given number of webhooks and waits until all of them are acknowledged by the gateway.
+     *
+     * @param webhooks number of webhooks to publish
+     * @return number of webhooks accepted by the gateway
+     * @throws InterruptedException if interrupted while waiting for the webhooks to be acknowledged
+     */
+    public int publish(int webhooks) throws InterruptedException {
+
+        int sentBefore = webhooksSent.get();
+        List<Future<?>> pending = new ArrayList<>(webhooks);
+        for (int i = 0; i < webhooks; i++) {
+            pending.add(executor.submit(this::publishOne));
+        }
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                webhooksFailed.incrementAndGet();
+                log.error("Unable to publish webhook to " + payloadUrl, e.getCause());
+            }
+        }
+        return webhooksSent.get() - sentBefore;
+    }
+
+    private void publishOne() {
+
+        long seq = sequence.incrementAndGet();
+        long publishedAt = System.nanoTime();
+        String body = "{\"" + SEQUENCE_FIELD + "\" : " + seq + ", \"" + PUBLISHED_AT_FIELD + "\" : " + publishedAt
+                + "}";
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Accept", "application/json");
+        headers.put("x-hub-signature", "sha1=" + sign(body));
+        try {
+            HttpResponse response = HTTPSClientUtils.doPost(payloadUrl, headers, body);
+            publishTimes.recordValue((System.nanoTime() - publishedAt) / 1000L);
+            if (response.getResponseCode() == 200) {
+                webhooksSent.incrementAndGet();
+            } else {
+                webhooksFailed.incrementAndGet();
+                log.error("Webhook " + seq + " was rejected with status " + response.getResponseCode());
+            }
+        } catch (Exception e) {
+            webhooksFailed.incrementAndGet();
+            log.error("Unable to publish webhook " + seq + " to " + payloadUrl, e);
+        }
+    }
+
+    private String sign(String body) {
+
+        byte[] signature = macs.get().doFinal(body.getBytes(StandardCharsets.UTF_8));
+        char[] hex = new char[signature.length * 2];
+        for (int i = 0; i < signature.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(signature[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[signature[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    private Mac createMac() {
+
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA1_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize " + HMAC_SHA1_ALGORITHM, e);
+        }
+    }
+
+    public int getWebhooksSent() {
+
+        return webhooksSent.get();
+    }
+
+    public int getWebhooksFailed() {
+
+        return webhooksFailed.get();
+    }
+
+    /**
+     * @return the time taken by the gateway to acknowledge the webhooks, in microseconds
+     */
+    public LatencyHistogram getPublishTimes() {
+
+        return publishTimes;
+    }
+
+    @Override
+    public void close() {
+
+        executor.shutdownNow();
+    }
+}
@@ -93,6 +93,16 @@ public class CallbackServerServlet extends HttpServlet {
         signature = req.getHeader("x-hub-signature");
         setLinkHeader(req.getHeader("link"));
         callbacksReceived.incrementAndGet();
+        onCallbackReceived(req, message);
+    }
+
+    /**
+     * Invoked after a callback is recorded, so that subclasses can inspect the delivered content.
+     *
+     * @param req     callback request
+     * @param message content of the callback
+     */
+    protected void onCallbackReceived(HttpServletRequest req, String message) {
     }
 
     @Override
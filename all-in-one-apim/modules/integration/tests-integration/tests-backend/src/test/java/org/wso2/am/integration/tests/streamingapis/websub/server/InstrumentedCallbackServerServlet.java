@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.streamingapis.websub.server;
+
+import org.wso2.am.integration.test.utils.loadgen.LatencyHistogram;
+import org.wso2.am.integration.tests.streamingapis.websub.client.ConcurrentWebhookPublisher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Callback server that hosts any number of subscribers, one per path under the servlet mapping, e.g.
+ * {@code /receiver/42}, and timestamps the deliveries of webhooks published by {@link ConcurrentWebhookPublisher}.
+ * For each such delivery the publish-to-delivery latency is recorded and the delivery is counted against its
+ * subscriber. Other callbacks, e.g. the ones sent by the hub on subscription, are only counted by the parent.
+ */
+public class InstrumentedCallbackServerServlet extends CallbackServerServlet {
+
+    private static final Pattern PUBLISHED_AT_PATTERN =
+            Pattern.compile("\"" + ConcurrentWebhookPublisher.PUBLISHED_AT_FIELD + "\"\\s*:\\s*(\\d+)");
+
+    private final LatencyHistogram deliveryLatencies = new LatencyHistogram();
+    private final Map<String, AtomicInteger> deliveriesBySubscriber = new ConcurrentHashMap<>();
+    private final AtomicInteger deliveries = new AtomicInteger();
+    private final AtomicLong firstDeliveryTime = new AtomicLong();
+    private final AtomicLong lastDeliveryTime = new AtomicLong();
+
+    @Override
+    protected void onCallbackReceived(HttpServletRequest req, String message) {
+
+        long receivedAt = System.nanoTime();
+        Matcher matcher = message == null ? null : PUBLISHED_AT_PATTERN.matcher(message);
+        if (matcher == null || !matcher.find()) {
+            return;
+        }
+        deliveryLatencies.recordValue(Math.max(0, receivedAt - Long.parseLong(matcher.group(1))) / 1000L);
+        String subscriber = req.getPathInfo() == null ? "" : req.getPathInfo();
+        deliveriesBySubscriber.computeIfAbsent(subscriber, key -> new AtomicInteger()).incrementAndGet();
+        firstDeliveryTime.compareAndSet(0, receivedAt);
+        lastDeliveryTime.accumulateAndGet(receivedAt, Math::max);
+        deliveries.incrementAndGet();
+    }
+
+    /**
+     * Waits until the given number of webhook deliveries is received or the timeout elapses.
+     *
+     * @return true if the deliveries were received in time
+     */
+    public boolean awaitDeliveries(int expected, long timeoutMillis) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (deliveries.get() < expected) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(100);
+        }
+        return true;
+    }
+
+    /**
+     * @return the time from publishing a webhook until it was delivered to a subscriber, in microseconds
+     */
+    public LatencyHistogram getDeliveryLatencies() {
+
+        return deliveryLatencies;
+    }
+
+    public int getDeliveries() {
+
+        return deliveries.get();
+    }
+
+    /**
+     * @return the number of webhooks delivered to the given subscriber path, e.g. {@code /42}
+     */
+    public int getDeliveries(String subscriber) {
+
+        AtomicInteger count = deliveriesBySubscriber.get(subscriber);
+        return count == null ? 0 : count.get();
+    }
+
+    public int getSubscribersReached() {
+
+        return deliveriesBySubscriber.size();
+    }
+
+    /**
+     * @return the webhook deliveries received per second between the first and the last delivery
+     */
+    public double getDeliveryThroughput() {
+
+        long elapsedNanos = lastDeliveryTime.get() - firstDeliveryTime.get();
+        return elapsedNanos <= 0 ? 0 : deliveries.get() * 1e9 / elapsedNanos;
+    }
+}
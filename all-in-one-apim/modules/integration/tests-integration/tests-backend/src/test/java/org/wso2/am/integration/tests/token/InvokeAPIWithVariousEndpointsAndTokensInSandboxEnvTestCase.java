@@ -25,6 +25,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Factory;
 import org.testng.annotations.Test;
+import org.wso2.am.framework.extensions.ServerConfiguration;
 import org.wso2.am.integration.clients.publisher.api.v1.dto.APIOperationsDTO;
 import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationDTO;
 import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationKeyDTO;
@@ -39,9 +40,7 @@ import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
 import org.wso2.carbon.automation.test.utils.http.client.HttpRequestUtil;
 import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 
-import java.io.File;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -51,9 +50,9 @@ import java.util.Map;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
+@ServerConfiguration("configFiles/tokenTest/apiInvokeCombinationsTest/deployment.toml")
 @SetEnvironment(executionEnvironments = { ExecutionEnvironment.STANDALONE })
 public class InvokeAPIWithVariousEndpointsAndTokensInSandboxEnvTestCase extends APIManagerLifecycleBaseTest {
-    private ServerConfigurationManager serverConfigurationManager;
     private static final Log log = LogFactory.getLog(InvokeAPIWithVariousEndpointsAndTokensTestCase.class);
     private List<APIOperationsDTO> apiOperationsDTOList;
     private final String apiTier = APIMIntegrationConstants.API_TIER.UNLIMITED;
@@ -84,12 +83,6 @@ public class InvokeAPIWithVariousEndpointsAndTokensInSandboxEnvTestCase extends
         super.init(userMode);
         log.info("Test starting user mode: " + userMode);
 
-        serverConfigurationManager = new ServerConfigurationManager(gatewayContextWrk);
-        serverConfigurationManager.applyConfiguration(new File(
-                getAMResourceLocation() + File.separator + "configFiles" + File.separator +
-                "tokenTest" + File.separator + "apiInvokeCombinationsTest" + File.separator +
-                "deployment.toml"));
-
         // Create an application to subscribe to the APIs
         String applicationName = "InvokeAPIWithVariousEndpointsAndTokens";
         String applicationDescription = "Application for Invoke API with various endpoints and tokens";
@@ -296,7 +289,6 @@ public class InvokeAPIWithVariousEndpointsAndTokensInSandboxEnvTestCase extends
         undeployAndDeleteAPIRevisionsUsingRest(apiId2, restAPIPublisher);
         restAPIPublisher.deleteAPI(apiId1);
         restAPIPublisher.deleteAPI(apiId2);
-        serverConfigurationManager.restoreToLastConfiguration();
         super.cleanUp();
     }
 }
@@ -110,11 +110,10 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
         testName = method.getName();
         benchmarkUtils.setTenancy(userMode);
         LocalTime startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         apiUUID = createAnApi("NewAPI", "sampleContext");
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
         apiIdList.add(apiUUID);
     }
 
@@ -127,14 +126,13 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
         benchmarkUtils.setTenancy(userMode);
         apiUUID = createAnApi("NAME_" + testName, "Context_" + testName);
         LocalTime startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         HttpResponse response = restAPIPublisher
                 .changeAPILifeCycleStatus(apiUUID, APILifeCycleAction.PUBLISH.getAction(), null);
         assertEquals(response.getResponseCode(), Response.Status.OK.getStatusCode(),
                 "API publish Response code is invalid " + apiUUID);
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
 //        benchmarkUtils.deleteRestAPI(apiUUID);
         apiIdList.add(apiUUID);
     }
@@ -158,11 +156,10 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
         }
         waitForAPIDeployment();
         LocalTime startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         restAPIPublisher.getAPIs(0, noOfAPISRetrieved);
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
         apiIdList.add(apiUUID);
     }
 
@@ -176,11 +173,10 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
         benchmarkUtils.setTenancy(userMode);
         int noOfAPISRetrieved = 10;
         startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         restAPIStore.getAPIs(0, noOfAPISRetrieved);
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
     }
 
     @Test
@@ -193,13 +189,12 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
         apiUUID = createAnApi("NAME_" + testName, "Context_" + testName);
         apiIdList.add(apiUUID);
         startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         HttpResponse response = restAPIPublisher.getAPI(apiUUID);
         assertEquals(response.getResponseCode(), Response.Status.OK.getStatusCode(),
                 "API get Response is not as expected");
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
     }
 
     @Test
@@ -215,12 +210,11 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
                 .changeAPILifeCycleStatus(apiUUID, APILifeCycleAction.PUBLISH.getAction(), null);
         apiIdList.add(apiUUID);
         startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         APIDTO apidto = restAPIStore.getAPI(apiUUID);
         assertTrue(StringUtils.isNotEmpty(apidto.getId()));
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
     }
 
     @Test
@@ -231,15 +225,14 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
         testName = method.getName();
         benchmarkUtils.setTenancy(userMode);
         startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         HttpResponse applicationResponse = restAPIStore.createApplication("Test_Application_" + testName,
                 "Test Application For Benchmark",
                 APIMIntegrationConstants.APPLICATION_TIER.UNLIMITED,
                 ApplicationDTO.TokenTypeEnum.JWT);
         applicationID = applicationResponse.getData();
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
         restAPIStore.deleteApplication(applicationID);
     }
 
@@ -259,11 +252,10 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
                 ApplicationDTO.TokenTypeEnum.JWT);
         applicationID = applicationResponse.getData();
         startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         restAPIStore.subscribeToAPI(apiUUID, applicationID, TIER_UNLIMITED);
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
         apiIdList.add(apiUUID);
         restAPIStore.deleteApplication(applicationID);
     }
@@ -288,13 +280,12 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
         applicationID = applicationResponse.getData();
         restAPIStore.subscribeToAPI(apiUUID, applicationID, TIER_UNLIMITED);
         startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         ApplicationKeyDTO apiKeyDTO = restAPIStore
                 .generateKeys(applicationID, "3600", null, ApplicationKeyGenerateRequestDTO.KeyTypeEnum.PRODUCTION, null,
                         grantTypes);
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
         apiIdList.add(apiUUID);
         restAPIStore.deleteApplication(applicationID);
     }
@@ -327,6 +318,7 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
                         grantTypes);
         String accessToken = apiKeyDTO.getToken().getAccessToken();
         startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         requestHeaders = new HashMap<String, String>();
         requestHeaders.put("Authorization", "Bearer " + accessToken);
         requestHeaders.put("activityID", System.getProperty("testName"));
@@ -334,10 +326,8 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
                 HTTPSClientUtils.doGet(getAPIInvocationURLHttps(context, API_VERSION_1_0_0) + "", requestHeaders);
         assertEquals(invokeResponse.getResponseCode(),
                 200, "Response code mismatched");
-//        Validate the JDBC query counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
-        benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
         restAPIStore.deleteApplication(applicationID);
     }
 
@@ -356,17 +346,29 @@ public class BenchmarkTestCase extends APIMIntegrationBaseTest {
         grantTypes.add(APIMIntegrationConstants.GRANT_TYPE.CLIENT_CREDENTIAL);
         restAPIPublisher.changeAPILifeCycleStatus(apiUUID, APILifeCycleAction.PUBLISH.getAction(), null);
         startTime = benchmarkUtils.getCurrentTimeStampAndSetCorrelationID(testName);
+        long scenarioStartTime = System.currentTimeMillis();
         String revisionUUID = createAPIRevisionAndDeployUsingRest(apiUUID, restAPIPublisher);
         Assert.notNull(revisionUUID);
-//        Validate the JDBC query counts executed from correlation log
+        long wallClockTime = System.currentTimeMillis() - scenarioStartTime;
+        validateScenario(startTime, wallClockTime);
+    }
+
+    /**
+     * Validates the JDBC query and external API request counts, the wall-clock time and the per-call latencies the
+     * correlation log recorded for the current scenario since the given time.
+     */
+    private void validateScenario(LocalTime startTime, long wallClockTime)
+            throws InterruptedException, IOException, ParseException, APIManagerIntegrationTestException {
+
         benchmarkUtils.validateBenchmarkResults(testName, JDBC_METRIC, startTime, scenario, providerName);
-//        Validate external api request counts executed from correlation log
         benchmarkUtils.validateBenchmarkResults(testName, EXTERNAL_API_METRIC, startTime, scenario, providerName);
+        benchmarkUtils.validateLatencyResults(testName, startTime, scenario, providerName, wallClockTime);
     }
 
     @AfterMethod()
-    public void resetScenarioName() {
+    public void resetScenarioName() throws APIManagerIntegrationTestException {
 
+        benchmarkUtils.untrackCorrelationID(System.getProperty("testName"));
         System.setProperty("testName", "");
     }
 
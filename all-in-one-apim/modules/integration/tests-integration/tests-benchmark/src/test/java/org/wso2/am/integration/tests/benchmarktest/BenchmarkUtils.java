@@ -20,10 +20,8 @@ package org.wso2.am.integration.tests.benchmarktest;
 
 import static junit.framework.Assert.assertFalse;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
@@ -33,9 +31,8 @@ import java.io.Writer;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -43,6 +40,7 @@ import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
 import org.wso2.am.integration.test.utils.base.APIMIntegrationBaseTest;
+import org.wso2.am.integration.test.utils.loadgen.LatencyHistogram;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
 import org.wso2.carbon.automation.engine.frameworkutils.enums.OperatingSystems;
 
@@ -79,7 +77,7 @@ public class BenchmarkUtils extends APIMIntegrationBaseTest {
         } else {
             logAttribute = testType;
         }
-        int noOfLinesExecuted = 0;
+        CorrelationLogAnalyzer analyzer = CorrelationLogAnalyzer.getInstance(IN_FILE_PATH);
         int loop = 0;
         int previous;
         if (testType == "jdbc") {
@@ -90,65 +88,24 @@ public class BenchmarkUtils extends APIMIntegrationBaseTest {
                 Thread.sleep(2000);
             } while (previous != fetchNoOflines(startTime, logAttribute, correlationID) && loop < 10);
         }
-        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(IN_FILE_PATH));
-             // lines executed are logged in to a file starting with test method name,
-             Writer writer = new BufferedWriter(
-                     new OutputStreamWriter(new FileOutputStream(OUT_FILE_PATH + logFile + "_" + testType + "_" + tenantName + ".log"), "utf-8"))
-        ) {
-            String readLine;
-            while ((readLine = bufferedReader.readLine()) != null) {
-                String logLine = readLine.toLowerCase();
-                // lines executed will be captured with log Attribute
-                if (logLine.contains("|" + logAttribute + "|")) {
-                    String regex = "(\\d{2}:\\d{2}:\\d{2})";
-                    Matcher matcher = Pattern.compile(regex).matcher(logLine);
-                    if (matcher.find()) {
-                        LocalTime logtime = LocalTime.parse(matcher.group(1));
-                        if (logtime.isAfter(startTime)) {
-                            logLine.substring(logLine.indexOf("|" + logAttribute + "|") + 3, logLine.length());
-                            if (logLine.contains("|" + correlationID + "|")) {
-                                noOfLinesExecuted++;
-                                writer.write(logLine);
-                                writer.write(System.lineSeparator());
-                            }
-                        }
-                    }
-                }
+        List<CorrelationLogAnalyzer.LogEntry> entries = analyzer.getEntries(correlationID, logAttribute, startTime);
+        // lines executed are logged in to a file starting with test method name,
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(OUT_FILE_PATH + logFile + "_" + testType + "_" + tenantName + ".log"), "utf-8"))) {
+            for (CorrelationLogAnalyzer.LogEntry entry : entries) {
+                writer.write(entry.getLine());
+                writer.write(System.lineSeparator());
             }
         } catch (IOException e) {
-            String errorMsg = "Error while reading/writing benchmark test log files";
+            String errorMsg = "Error while writing benchmark test log files";
             throw new APIManagerIntegrationTestException(errorMsg, e);
         }
-        return noOfLinesExecuted;
+        return entries.size();
     }
 
     public static int fetchNoOflines(LocalTime startTime, String logAttribute, String correlationID) throws APIManagerIntegrationTestException {
 
-        int noOfLinesExecuted = 0;
-        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(IN_FILE_PATH));) {
-            String readLine;
-            while ((readLine = bufferedReader.readLine()) != null) {
-                String logLine = readLine.toLowerCase();
-                // lines executed will be captured with log Attribute
-                if (logLine.contains("|" + logAttribute + "|")) {
-                    String regex = "(\\d{2}:\\d{2}:\\d{2})";
-                    Matcher matcher = Pattern.compile(regex).matcher(logLine);
-                    if (matcher.find()) {
-                        LocalTime logtime = LocalTime.parse(matcher.group(1));
-                        if (logtime.isAfter(startTime)) {
-                            logLine.substring(logLine.indexOf("|" + logAttribute + "|") + 3, logLine.length());
-                            if (logLine.contains("|" + correlationID + "|")) {
-                                noOfLinesExecuted++;
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            String errorMsg = "Error while reading correlation log files";
-            throw new APIManagerIntegrationTestException(errorMsg, e);
-        }
-        return noOfLinesExecuted;
+        return CorrelationLogAnalyzer.getInstance(IN_FILE_PATH).count(correlationID, logAttribute, startTime);
     }
 
     public static LocalTime getCurrentTimeStampAndSetCorrelationID(String testName) throws InterruptedException {
@@ -157,10 +114,28 @@ public class BenchmarkUtils extends APIMIntegrationBaseTest {
         LocalDateTime ldt = LocalDateTime.now();
         LocalTime currentTime = LocalTime.parse(DateTimeFormatter.ofPattern("HH:mm:ss", Locale.ENGLISH).format(ldt));
         Thread.sleep(1000);
-        System.setProperty("testName", testName + "_" + currentTime);
+        String correlationID = testName + "_" + currentTime;
+        try {
+            CorrelationLogAnalyzer.getInstance(IN_FILE_PATH).track(correlationID);
+        } catch (APIManagerIntegrationTestException e) {
+            throw new IllegalStateException("Error while tailing the correlation log", e);
+        }
+        System.setProperty("testName", correlationID);
         return currentTime;
     }
 
+    /**
+     * Releases the correlation log lines collected for the given correlation ID, once its scenario is validated.
+     *
+     * @param correlationID correlation ID set by {@link #getCurrentTimeStampAndSetCorrelationID(String)}
+     */
+    public static void untrackCorrelationID(String correlationID) throws APIManagerIntegrationTestException {
+
+        if (correlationID != null && !correlationID.isEmpty()) {
+            CorrelationLogAnalyzer.getInstance(IN_FILE_PATH).untrack(correlationID);
+        }
+    }
+
     public static void validateBenchmark(int benchmark, int actualCount, String testType) {
 
         boolean exceedsLimit = false;
@@ -249,4 +224,119 @@ public class BenchmarkUtils extends APIMIntegrationBaseTest {
         validateBenchmark(benchmark, actualCount, testType);
     }
 
+    public static LatencyHistogram extractLatencyFromLog(String testType, LocalTime startTime)
+            throws APIManagerIntegrationTestException {
+
+        String correlationID = System.getProperty("testName");
+        if (correlationID == null) {
+            correlationID = "";
+        }
+        String logAttribute = testType;
+        if (testType == "http") {
+            logAttribute = "http-in-request";
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (CorrelationLogAnalyzer.LogEntry entry : CorrelationLogAnalyzer.getInstance(IN_FILE_PATH)
+                .getEntries(correlationID, logAttribute, startTime)) {
+            if (entry.getDuration() != CorrelationLogAnalyzer.UNKNOWN_DURATION) {
+                histogram.recordValue(entry.getDuration());
+            }
+        }
+        return histogram;
+    }
+
+    public static JSONObject getLatencyBenchmark(String scenario) throws IOException, ParseException {
+
+        String tenantName;
+        if (tenant != SUPER_TENANT) {
+            tenantName = "tenant";
+        } else {
+            tenantName = tenant;
+        }
+        String resourceLocation = getSystemResourceLocation() + "benchmark-values" + File.separator
+                + "benchmark-values-latency-" + tenantName + ".json";
+        JSONParser parser = new JSONParser();
+        JSONObject latencyBenchmark = null;
+        try (FileReader reader = new FileReader(resourceLocation)) {
+            JSONArray a = (JSONArray) parser.parse(reader);
+            for (Object o : a) {
+                latencyBenchmark = (JSONObject) ((JSONObject) o).get(scenario);
+            }
+        }
+        return latencyBenchmark;
+    }
+
+    public static void validateLatency(String scenario, String measurement, long benchmark, long actual) {
+
+        assertFalse("Exceeded the latency benchmark of " + scenario + " " + measurement + "! Benchmark value is "
+                + benchmark + "ms But took " + actual + "ms", actual > benchmark);
+    }
+
+    public static void writeLatencyResultsToFile(String testName, String provider, long wallClockTime,
+                                                 LatencyHistogram jdbcLatency, LatencyHistogram httpLatency)
+            throws IOException {
+
+        String tenantName;
+        if (tenant != SUPER_TENANT) {
+            tenantName = provider;
+        } else {
+            tenantName = tenant;
+        }
+        try (BufferedWriter bw = new BufferedWriter(new FileWriter(OUT_FILE_PATH + "Results_latency.log", true))) {
+            bw.append(testName + "  :  " + tenantName + "  :  Wall-clock time is " + wallClockTime + "ms");
+            bw.newLine();
+            bw.append("    jdbc (ms)  :  " + jdbcLatency);
+            bw.newLine();
+            bw.append("    http (ms)  :  " + httpLatency);
+            bw.newLine();
+        }
+    }
+
+    /**
+     * Appends the result of a benchmark run to Results_&lt;fileName&gt;.log.
+     *
+     * @param fileName name of the log, e.g. "websocket" for Results_websocket.log
+     * @param testName name of the test, and the scenario it ran if the test runs several
+     * @param provider user the test ran as
+     * @param result   result of the run, written with its toString()
+     */
+    public static void writeResultsToFile(String fileName, String testName, String provider, Object result)
+            throws IOException {
+
+        try (BufferedWriter bw = new BufferedWriter(new FileWriter(OUT_FILE_PATH + "Results_" + fileName + ".log",
+                true))) {
+            bw.append(testName + "  :  " + provider + "  :  " + result);
+            bw.newLine();
+        }
+    }
+
+    /**
+     * Validates the wall-clock time of a scenario and the p99 latency of the JDBC and HTTP calls it made against the
+     * thresholds in benchmark-values-latency-*.json. Scenarios without thresholds are only recorded.
+     */
+    public static void validateLatencyResults(String testName, LocalTime startTime, String scenario, String provider,
+                                              long wallClockTime)
+            throws IOException, ParseException, APIManagerIntegrationTestException {
+
+        LatencyHistogram jdbcLatency = extractLatencyFromLog("jdbc", startTime);
+        LatencyHistogram httpLatency = extractLatencyFromLog("http", startTime);
+        writeLatencyResultsToFile(testName, provider, wallClockTime, jdbcLatency, httpLatency);
+        JSONObject latencyBenchmark = getLatencyBenchmark(scenario);
+        if (latencyBenchmark == null) {
+            return;
+        }
+        validateLatency(scenario, "wall-clock time", getLatencyThreshold(latencyBenchmark, "WALL_CLOCK"),
+                wallClockTime);
+        validateLatency(scenario, "JDBC p99", getLatencyThreshold(latencyBenchmark, "JDBC_P99"),
+                jdbcLatency.getValueAtPercentile(99));
+        validateLatency(scenario, "HTTP p99", getLatencyThreshold(latencyBenchmark, "HTTP_P99"),
+                httpLatency.getValueAtPercentile(99));
+    }
+
+    private static long getLatencyThreshold(JSONObject latencyBenchmark, String measurement) {
+
+        String threshold = (String) latencyBenchmark.get(measurement);
+        return threshold == null ? Long.MAX_VALUE : Long.parseLong(threshold);
+    }
+
 }
\ No newline at end of file
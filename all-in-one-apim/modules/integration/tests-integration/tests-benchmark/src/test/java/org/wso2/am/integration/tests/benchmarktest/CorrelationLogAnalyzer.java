@@ -0,0 +1,319 @@
+/*
+ *Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *WSO2 LLC. licenses this file to you under the Apache License,
+ *Version 2.0 (the "License"); you may not use this file except
+ *in compliance with the License.
+ *You may obtain a copy of the License at
+ *
+ *http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *Unless required by applicable law or agreed to in writing,
+ *software distributed under the License is distributed on an
+ *"AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *KIND, either express or implied.  See the License for the
+ *specific language governing permissions and limitations
+ *under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.wso2.am.integration.test.utils.APIManagerIntegrationTestException;
+
+/**
+ * Tails the carbon correlation log and incrementally indexes the lines of the correlation IDs registered through
+ * {@link #track(String)}. The analyzer remembers the byte offset it has consumed so far, so every refresh only reads
+ * the bytes appended since the previous one instead of re-reading the whole log.
+ * <p>
+ * Correlation log lines have the layout
+ * {@code timestamp|correlationId|thread|duration|callType|...}, e.g.
+ * {@code 2021-04-28 13:30:25,853|createRestApi_13:30:22|http-nio-9443-exec-1|2|JDBC|...}, where the fourth field is
+ * the time taken by the call in milliseconds.
+ */
+public class CorrelationLogAnalyzer {
+
+    public static final long UNKNOWN_DURATION = -1;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int TIMESTAMP_TIME_OFFSET = 11;
+    private static final int TIMESTAMP_TIME_LENGTH = 8;
+    private static final byte FIELD_SEPARATOR = '|';
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final Map<Path, CorrelationLogAnalyzer> analyzers = new ConcurrentHashMap<>();
+
+    private final Path logFile;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private final Map<String, List<LogEntry>> index = new ConcurrentHashMap<>();
+    private long offset;
+
+    private CorrelationLogAnalyzer(Path logFile) throws IOException {
+
+        this.logFile = logFile;
+        // Lines written before the analyzer was created can not belong to a correlation ID tracked afterwards, since
+        // the benchmark correlation IDs carry the time they were generated. Start tailing from the current end.
+        this.offset = Files.exists(logFile) ? Files.size(logFile) : 0;
+    }
+
+    /**
+     * Returns the shared analyzer of the given correlation log file.
+     *
+     * @param logFilePath path of the correlation log
+     * @return analyzer tailing the given file
+     * @throws APIManagerIntegrationTestException if the log file can not be accessed
+     */
+    public static CorrelationLogAnalyzer getInstance(String logFilePath) throws APIManagerIntegrationTestException {
+
+        Path path = Paths.get(logFilePath).toAbsolutePath().normalize();
+        CorrelationLogAnalyzer analyzer = analyzers.get(path);
+        if (analyzer != null) {
+            return analyzer;
+        }
+        synchronized (analyzers) {
+            analyzer = analyzers.get(path);
+            if (analyzer == null) {
+                try {
+                    analyzer = new CorrelationLogAnalyzer(path);
+                } catch (IOException e) {
+                    throw new APIManagerIntegrationTestException("Error while opening correlation log " + path, e);
+                }
+                analyzers.put(path, analyzer);
+            }
+            return analyzer;
+        }
+    }
+
+    /**
+     * Starts collecting the log lines of the given correlation ID. Lines of correlation IDs that are not tracked are
+     * skipped while tailing, which keeps the index small regardless of the log size.
+     *
+     * @param correlationID correlation ID to collect lines for
+     */
+    public void track(String correlationID) {
+
+        index.putIfAbsent(correlationID.toLowerCase(Locale.ENGLISH), Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    /**
+     * Stops collecting lines of the given correlation ID and releases the lines collected so far.
+     *
+     * @param correlationID correlation ID to forget
+     */
+    public void untrack(String correlationID) {
+
+        index.remove(correlationID.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Returns the lines of the given correlation ID and metric type logged after the given time. The log is tailed
+     * before the lookup so that lines appended since the last call are taken into account.
+     *
+     * @param correlationID correlation ID of the lines
+     * @param metric        metric type of the lines, e.g. {@code jdbc} or {@code http-in-request}
+     * @param startTime     lines logged at or before this time are ignored
+     * @return matching log entries in the order they were logged
+     * @throws APIManagerIntegrationTestException if the log file can not be read
+     */
+    public List<LogEntry> getEntries(String correlationID, String metric, LocalTime startTime)
+            throws APIManagerIntegrationTestException {
+
+        refresh();
+        List<LogEntry> entries = index.get(correlationID.toLowerCase(Locale.ENGLISH));
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        String metricToken = "|" + metric.toLowerCase(Locale.ENGLISH) + "|";
+        List<LogEntry> matches = new ArrayList<>();
+        synchronized (entries) {
+            for (LogEntry entry : entries) {
+                if (entry.getTime().isAfter(startTime) && entry.getLine().contains(metricToken)) {
+                    matches.add(entry);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of lines of the given correlation ID and metric type logged after the given time.
+     *
+     * @see #getEntries(String, String, LocalTime)
+     */
+    public int count(String correlationID, String metric, LocalTime startTime)
+            throws APIManagerIntegrationTestException {
+
+        return getEntries(correlationID, metric, startTime).size();
+    }
+
+    /**
+     * Reads the bytes appended to the log since the previous refresh and indexes the complete lines among them.
+     *
+     * @throws APIManagerIntegrationTestException if the log file can not be read
+     */
+    public synchronized void refresh() throws APIManagerIntegrationTestException {
+
+        if (!Files.exists(logFile)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < offset) {
+                // The log was rolled over or truncated, continue from the beginning of the new file.
+                offset = 0;
+                partialLine.reset();
+            }
+            channel.position(offset);
+            while (offset < size) {
+                readBuffer.clear();
+                int read = channel.read(readBuffer);
+                if (read <= 0) {
+                    break;
+                }
+                consume(readBuffer.array(), read);
+                offset += read;
+            }
+        } catch (IOException e) {
+            throw new APIManagerIntegrationTestException("Error while reading correlation log " + logFile, e);
+        }
+    }
+
+    private void consume(byte[] bytes, int length) {
+
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != LINE_SEPARATOR) {
+                continue;
+            }
+            if (partialLine.size() > 0) {
+                partialLine.write(bytes, lineStart, i - lineStart);
+                byte[] line = partialLine.toByteArray();
+                partialLine.reset();
+                indexLine(line, 0, line.length);
+            } else {
+                indexLine(bytes, lineStart, i - lineStart);
+            }
+            lineStart = i + 1;
+        }
+        if (lineStart < length) {
+            partialLine.write(bytes, lineStart, length - lineStart);
+        }
+    }
+
+    private void indexLine(byte[] bytes, int start, int length) {
+
+        int end = start + length;
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        int idStart = indexOf(bytes, FIELD_SEPARATOR, start, end) + 1;
+        if (idStart <= 0) {
+            return;
+        }
+        int idEnd = indexOf(bytes, FIELD_SEPARATOR, idStart, end);
+        if (idEnd < 0) {
+            return;
+        }
+        // Only the correlation ID field is decoded for lines that are not tracked.
+        String correlationID = new String(bytes, idStart, idEnd - idStart, StandardCharsets.UTF_8)
+                .toLowerCase(Locale.ENGLISH);
+        List<LogEntry> entries = index.get(correlationID);
+        if (entries == null || idStart - 1 - start < TIMESTAMP_TIME_OFFSET + TIMESTAMP_TIME_LENGTH) {
+            return;
+        }
+        LocalTime time;
+        try {
+            time = LocalTime.parse(new String(bytes, start + TIMESTAMP_TIME_OFFSET, TIMESTAMP_TIME_LENGTH,
+                    StandardCharsets.US_ASCII));
+        } catch (DateTimeParseException e) {
+            return;
+        }
+        String line = new String(bytes, start, end - start, StandardCharsets.UTF_8).toLowerCase(Locale.ENGLISH);
+        entries.add(new LogEntry(time, line, parseDuration(line, idEnd - start)));
+    }
+
+    /**
+     * Parses the duration field which follows the thread name field, i.e. the fourth field of the line.
+     */
+    private static long parseDuration(String line, int correlationIdEnd) {
+
+        int threadEnd = line.indexOf(FIELD_SEPARATOR, correlationIdEnd + 1);
+        if (threadEnd < 0) {
+            return UNKNOWN_DURATION;
+        }
+        int durationEnd = line.indexOf(FIELD_SEPARATOR, threadEnd + 1);
+        if (durationEnd < 0) {
+            return UNKNOWN_DURATION;
+        }
+        try {
+            return Long.parseLong(line.substring(threadEnd + 1, durationEnd).trim());
+        } catch (NumberFormatException e) {
+            return UNKNOWN_DURATION;
+        }
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A single indexed correlation log line.
+     */
+    public static class LogEntry {
+
+        private final LocalTime time;
+        private final String line;
+        private final long duration;
+
+        LogEntry(LocalTime time, String line, long duration) {
+
+            this.time = time;
+            this.line = line;
+            this.duration = duration;
+        }
+
+        public LocalTime getTime() {
+
+            return time;
+        }
+
+        /**
+         * @return the log line in lower case
+         */
+        public String getLine() {
+
+            return line;
+        }
+
+        /**
+         * @return the time taken by the logged call in milliseconds, or {@link #UNKNOWN_DURATION} if the line does not
+         * carry a duration field
+         */
+        public long getDuration() {
+
+            return duration;
+        }
+    }
+}
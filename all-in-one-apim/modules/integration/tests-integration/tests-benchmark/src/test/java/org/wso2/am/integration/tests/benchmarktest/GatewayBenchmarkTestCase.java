@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Server;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationDTO;
+import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationKeyDTO;
+import org.wso2.am.integration.clients.store.api.v1.dto.ApplicationKeyGenerateRequestDTO;
+import org.wso2.am.integration.test.utils.base.APIMIntegrationBaseTest;
+import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
+import org.wso2.am.integration.test.utils.bean.APILifeCycleAction;
+import org.wso2.am.integration.test.utils.bean.APIRequest;
+import org.wso2.am.integration.test.utils.loadgen.ConstantArrivalRateLoadGenerator;
+import org.wso2.am.integration.test.utils.loadgen.LoadRequest;
+import org.wso2.am.integration.test.utils.loadgen.LoadStage;
+import org.wso2.am.integration.test.utils.loadgen.LoadTestResult;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base of the benchmarks that measure the gateway through a single API. Before the tests it publishes the API to be
+ * measured, subscribes an application to it and generates a production access token, and after them it restores the
+ * server and deletes what it created.
+ * <p>
+ * The benchmarks run for the super tenant only, as what they measure is a cost of the gateway and not of a tenant.
+ */
+public abstract class GatewayBenchmarkTestCase extends APIMIntegrationBaseTest {
+
+    protected static final String API_VERSION = "1.0.0";
+    private static final String TOKEN_VALIDITY_SECONDS = "36000";
+
+    private final String apiName;
+    private final String apiContext;
+    private final String applicationName;
+    private Server backendServer;
+    protected String apiId;
+    protected String applicationId;
+    protected String accessToken;
+
+    /**
+     * Called before running the load after the warm-up, e.g. to check the responses the warm-up left the gateway
+     * returning.
+     */
+    protected interface WarmUpListener {
+
+        void warmedUp() throws Exception;
+    }
+
+    protected GatewayBenchmarkTestCase(TestUserMode userMode, String apiName, String apiContext,
+                                       String applicationName) {
+
+        this.userMode = userMode;
+        this.apiName = apiName;
+        this.apiContext = apiContext;
+        this.applicationName = applicationName;
+    }
+
+    @DataProvider
+    public static Object[][] userModeDataProvider() {
+
+        return new Object[][]{
+                new Object[]{TestUserMode.SUPER_TENANT_ADMIN}
+        };
+    }
+
+    @BeforeClass(alwaysRun = true)
+    public void setEnvironment() throws Exception {
+
+        super.init(userMode);
+        APIRequest apiRequest = createAPIRequest(apiName, apiContext);
+        apiRequest.setVersion(API_VERSION);
+        apiRequest.setProvider(user.getUserName());
+        apiRequest.setApiTier(APIMIntegrationConstants.API_TIER.UNLIMITED);
+        HttpResponse addAPIResponse = restAPIPublisher.addAPI(apiRequest);
+        apiId = addAPIResponse.getData();
+        createAPIRevisionAndDeployUsingRest(apiId, restAPIPublisher);
+        restAPIPublisher.changeAPILifeCycleStatus(apiId, APILifeCycleAction.PUBLISH.getAction(), null);
+        waitForBenchmarkAPIDeployment();
+
+        HttpResponse applicationResponse = restAPIStore.createApplication(applicationName, "",
+                getApplicationTier(), ApplicationDTO.TokenTypeEnum.JWT);
+        applicationId = applicationResponse.getData();
+        restAPIStore.subscribeToAPI(apiId, applicationId, getSubscriptionTier());
+        List<String> grantTypes = new ArrayList<>();
+        grantTypes.add(APIMIntegrationConstants.GRANT_TYPE.CLIENT_CREDENTIAL);
+        ApplicationKeyDTO applicationKeyDTO = restAPIStore.generateKeys(applicationId, TOKEN_VALIDITY_SECONDS, null,
+                ApplicationKeyGenerateRequestDTO.KeyTypeEnum.PRODUCTION, null, grantTypes);
+        accessToken = applicationKeyDTO.getToken().getAccessToken();
+    }
+
+    /**
+     * Creates the API to be measured, starting its backend if the benchmark brings its own. The version, provider
+     * and API tier are set by the caller.
+     */
+    protected abstract APIRequest createAPIRequest(String name, String context) throws Exception;
+
+    /**
+     * @return the tier of the application subscribed to the API
+     */
+    protected String getApplicationTier() {
+
+        return APIMIntegrationConstants.APPLICATION_TIER.UNLIMITED;
+    }
+
+    /**
+     * @return the tier the application subscribes to the API with
+     */
+    protected String getSubscriptionTier() {
+
+        return APIMIntegrationConstants.API_TIER.UNLIMITED;
+    }
+
+    /**
+     * Restores the configuration the server was started with, if the benchmark changed it. Called before the API
+     * and the application are deleted.
+     */
+    protected void restoreServerConfiguration() throws Exception {
+
+    }
+
+    /**
+     * Starts a backend on a free port, which is stopped after the tests.
+     *
+     * @return URI of the backend
+     */
+    protected URI startBackend(Handler handler) throws Exception {
+
+        backendServer = new Server(0);
+        backendServer.setHandler(handler);
+        backendServer.start();
+        return backendServer.getURI();
+    }
+
+    /**
+     * Waits until the API is deployed in the gateway, e.g. after the server has been restarted.
+     */
+    protected void waitForBenchmarkAPIDeployment() throws Exception {
+
+        waitForAPIDeploymentSync(user.getUserName(), apiName, API_VERSION, APIMIntegrationConstants.IS_API_EXISTS);
+    }
+
+    /**
+     * Runs the request at a constant rate, first to warm the gateway up and then to measure it, sampling the CPU
+     * time the gateway consumes during the measured run.
+     */
+    protected GatewayLoadResult runSampledLoad(LoadRequest request, int concurrency, double rate, long warmupMillis,
+                                               long durationMillis, WarmUpListener warmUpListener) throws Exception {
+
+        ConstantArrivalRateLoadGenerator loadGenerator = new ConstantArrivalRateLoadGenerator(concurrency);
+        loadGenerator.run(request, LoadStage.constant(rate, warmupMillis));
+        if (warmUpListener != null) {
+            warmUpListener.warmedUp();
+        }
+
+        try (GatewayCpuSampler cpuSampler = new GatewayCpuSampler(new URI(gatewayUrlsWrk.getWebAppURLHttp())
+                .getHost(), portOffset, user.getUserName(), user.getPassword())) {
+            int processors = cpuSampler.getAvailableProcessors();
+            long cpuStart = cpuSampler.sampleProcessCpuTime();
+            long start = System.nanoTime();
+            LoadTestResult loadTestResult = loadGenerator.run(request, LoadStage.constant(rate, durationMillis));
+            long sampledNanos = System.nanoTime() - start;
+            long cpuEnd = cpuSampler.sampleProcessCpuTime();
+            long cpuNanos = cpuStart == GatewayCpuSampler.UNAVAILABLE || cpuEnd == GatewayCpuSampler.UNAVAILABLE
+                    ? GatewayCpuSampler.UNAVAILABLE : cpuEnd - cpuStart;
+            return new GatewayLoadResult(loadTestResult, cpuNanos, sampledNanos, processors);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void destroy() throws Exception {
+
+        restoreServerConfiguration();
+        if (applicationId != null) {
+            restAPIStore.deleteApplication(applicationId);
+        }
+        if (apiId != null) {
+            undeployAndDeleteAPIRevisionsUsingRest(apiId, restAPIPublisher);
+            restAPIPublisher.deleteAPI(apiId);
+        }
+        if (backendServer != null) {
+            backendServer.stop();
+        }
+    }
+}
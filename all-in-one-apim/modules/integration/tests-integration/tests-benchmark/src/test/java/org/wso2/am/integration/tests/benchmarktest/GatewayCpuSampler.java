@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Samples the CPU time consumed by the gateway process through the {@link GatewayJmxConnection}.
+ */
+public class GatewayCpuSampler implements AutoCloseable {
+
+    public static final long UNAVAILABLE = -1;
+    private static final Log log = LogFactory.getLog(GatewayCpuSampler.class);
+
+    private final GatewayJmxConnection connection;
+    private final com.sun.management.OperatingSystemMXBean operatingSystemMXBean;
+
+    /**
+     * Connects to the JMX connector of the gateway. Sampling is disabled when the connector is not reachable, or
+     * when the gateway JVM does not report its process CPU time.
+     */
+    public GatewayCpuSampler(String host, int portOffset, String username, String password) {
+
+        connection = new GatewayJmxConnection(host, portOffset, username, password, "Gateway CPU usage");
+        operatingSystemMXBean = connection.getPlatformMXBean(ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME,
+                com.sun.management.OperatingSystemMXBean.class);
+    }
+
+    /**
+     * @return the CPU time consumed by the gateway process so far in nanoseconds, or {@link #UNAVAILABLE}
+     */
+    public long sampleProcessCpuTime() {
+
+        if (operatingSystemMXBean == null) {
+            return UNAVAILABLE;
+        }
+        try {
+            long cpuTime = operatingSystemMXBean.getProcessCpuTime();
+            return cpuTime < 0 ? UNAVAILABLE : cpuTime;
+        } catch (RuntimeException e) {
+            log.warn("Unable to sample the gateway CPU time: " + e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * @return the number of processors available to the gateway, or 1 if it is not known
+     */
+    public int getAvailableProcessors() {
+
+        if (operatingSystemMXBean == null) {
+            return 1;
+        }
+        try {
+            return operatingSystemMXBean.getAvailableProcessors();
+        } catch (RuntimeException e) {
+            return 1;
+        }
+    }
+
+    @Override
+    public void close() {
+
+        connection.close();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * Connection to the JMX connector of the gateway, through which the benchmarks read the platform MXBeans of the
+ * gateway JVM.
+ * <p>
+ * The connector URL defaults to the Carbon JMX ports and can be overridden through {@link #JMX_URL_PROPERTY}.
+ */
+public class GatewayJmxConnection implements AutoCloseable {
+
+    public static final String JMX_URL_PROPERTY = "benchmark.jmx.url";
+    private static final int RMI_REGISTRY_PORT = 9999;
+    private static final int RMI_SERVER_PORT = 11111;
+    private static final Log log = LogFactory.getLog(GatewayJmxConnection.class);
+
+    private final String url;
+    private final JMXConnector connector;
+    private final MBeanServerConnection connection;
+
+    /**
+     * Connects to the JMX connector of the gateway. The connection is unavailable when the connector is not
+     * reachable, e.g. when JMX is disabled in the gateway.
+     *
+     * @param reported what is not reported when the connector is not reachable, e.g. "Gateway heap usage"
+     */
+    public GatewayJmxConnection(String host, int portOffset, String username, String password, String reported) {
+
+        url = System.getProperty(JMX_URL_PROPERTY, "service:jmx:rmi://" + host + ":"
+                + (RMI_SERVER_PORT + portOffset) + "/jndi/rmi://" + host + ":" + (RMI_REGISTRY_PORT + portOffset)
+                + "/jmxrmi");
+        JMXConnector jmxConnector = null;
+        MBeanServerConnection mBeanServerConnection = null;
+        try {
+            Map<String, Object> environment = new HashMap<>();
+            environment.put(JMXConnector.CREDENTIALS, new String[]{username, password});
+            jmxConnector = JMXConnectorFactory.connect(new JMXServiceURL(url), environment);
+            mBeanServerConnection = jmxConnector.getMBeanServerConnection();
+        } catch (IOException | SecurityException e) {
+            log.warn(reported + " will not be reported, unable to connect to " + url + ": " + e.getMessage());
+        }
+        this.connector = jmxConnector;
+        this.connection = mBeanServerConnection;
+    }
+
+    /**
+     * @param name the object name of the MXBean, e.g. {@link ManagementFactory#MEMORY_MXBEAN_NAME}
+     * @param type the MXBean interface
+     * @return a proxy of the platform MXBean of the gateway JVM, or null if it is not available
+     */
+    public <T> T getPlatformMXBean(String name, Class<T> type) {
+
+        if (connection == null) {
+            return null;
+        }
+        try {
+            return ManagementFactory.newPlatformMXBeanProxy(connection, name, type);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Unable to read " + name + " from " + url + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+
+        if (connector != null) {
+            try {
+                connector.close();
+            } catch (IOException e) {
+                log.debug("Error while closing JMX connector", e);
+            }
+        }
+    }
+}
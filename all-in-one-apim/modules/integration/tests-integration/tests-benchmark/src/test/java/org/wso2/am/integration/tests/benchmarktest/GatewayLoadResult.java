@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest;
+
+import org.wso2.am.integration.test.utils.loadgen.LoadTestResult;
+
+/**
+ * Outcome of a load run of {@link GatewayBenchmarkTestCase#runSampledLoad}, with the CPU time the gateway consumed
+ * during it.
+ */
+public class GatewayLoadResult {
+
+    private final LoadTestResult loadTestResult;
+    private final long cpuNanos;
+    private final long sampledNanos;
+    private final int processors;
+
+    public GatewayLoadResult(LoadTestResult loadTestResult, long cpuNanos, long sampledNanos, int processors) {
+
+        this.loadTestResult = loadTestResult;
+        this.cpuNanos = cpuNanos;
+        this.sampledNanos = sampledNanos;
+        this.processors = processors;
+    }
+
+    public LoadTestResult getLoadTestResult() {
+
+        return loadTestResult;
+    }
+
+    /**
+     * @return the CPU time the gateway consumed during the run in nanoseconds, or
+     * {@link GatewayCpuSampler#UNAVAILABLE}
+     */
+    public long getCpuNanos() {
+
+        return cpuNanos;
+    }
+
+    /**
+     * @return the wall-clock time over which the CPU time was sampled in nanoseconds
+     */
+    public long getSampledNanos() {
+
+        return sampledNanos;
+    }
+
+    /**
+     * @return the number of processors available to the gateway
+     */
+    public int getProcessors() {
+
+        return processors;
+    }
+}
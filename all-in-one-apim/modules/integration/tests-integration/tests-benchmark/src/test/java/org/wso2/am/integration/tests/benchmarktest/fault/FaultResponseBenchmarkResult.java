@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.fault;
+
+import org.wso2.am.integration.test.utils.loadgen.LoadTestResult;
+
+/**
+ * Rate, latency and gateway CPU cost at which the gateway rejected requests in one run, and the change over the run
+ * with the sequences it is compared to.
+ */
+public class FaultResponseBenchmarkResult {
+
+    private final String variant;
+    private final LoadTestResult loadTestResult;
+    private final int rejectionStatusCode;
+    private final long gatewayCpuNanos;
+    private final long sampledNanos;
+    private final int gatewayProcessors;
+    private FaultResponseBenchmarkResult baseline;
+
+    /**
+     * @param rejectionStatusCode status code of a rejected request
+     * @param gatewayCpuNanos     CPU time the gateway consumed during the run, or -1 if it could not be sampled
+     * @param sampledNanos        wall clock time between the two CPU samples
+     */
+    public FaultResponseBenchmarkResult(String variant, LoadTestResult loadTestResult, int rejectionStatusCode,
+                                        long gatewayCpuNanos, long sampledNanos, int gatewayProcessors) {
+
+        this.variant = variant;
+        this.loadTestResult = loadTestResult;
+        this.rejectionStatusCode = rejectionStatusCode;
+        this.gatewayCpuNanos = gatewayCpuNanos;
+        this.sampledNanos = sampledNanos;
+        this.gatewayProcessors = gatewayProcessors;
+    }
+
+    public void setBaseline(FaultResponseBenchmarkResult baseline) {
+
+        this.baseline = baseline;
+    }
+
+    public LoadTestResult getLoadTestResult() {
+
+        return loadTestResult;
+    }
+
+    public long getRejectedRequests() {
+
+        return loadTestResult.getStatusCodeCount(rejectionStatusCode);
+    }
+
+    /**
+     * @return rejected requests per second
+     */
+    public double getRejectedThroughput() {
+
+        long completed = loadTestResult.getCompletedRequests();
+        if (completed == 0) {
+            return 0;
+        }
+        return loadTestResult.getThroughput() * getRejectedRequests() / completed;
+    }
+
+    /**
+     * @return gateway CPU time per completed request in microseconds, or -1 if the CPU time could not be sampled
+     */
+    public double getCpuMicrosPerRequest() {
+
+        long completed = loadTestResult.getCompletedRequests();
+        if (gatewayCpuNanos < 0 || completed == 0) {
+            return -1;
+        }
+        return gatewayCpuNanos / 1000.0 / completed;
+    }
+
+    /**
+     * @return average utilization of the gateway's processors during the run in percent, or -1 if not sampled
+     */
+    public double getCpuUtilization() {
+
+        if (gatewayCpuNanos < 0 || sampledNanos <= 0) {
+            return -1;
+        }
+        return 100.0 * gatewayCpuNanos / sampledNanos / gatewayProcessors;
+    }
+
+    private long percentile(double percentile) {
+
+        return loadTestResult.getResponseTime().getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder result = new StringBuilder(String.format(
+                "%s: rejected=%d (%d) rejected/s=%.1f p50=%.2fms p99=%.2fms cpu=%.1f%% cpu/request=%.1fus",
+                variant, getRejectedRequests(), rejectionStatusCode, getRejectedThroughput(),
+                percentile(50) / 1000.0, percentile(99) / 1000.0, getCpuUtilization(), getCpuMicrosPerRequest()));
+        if (baseline != null) {
+            if (baseline.getRejectedThroughput() > 0) {
+                result.append(String.format(" vs %s: rejected/s=%+.1f%%", baseline.variant,
+                        100.0 * (getRejectedThroughput() / baseline.getRejectedThroughput() - 1)));
+            }
+            result.append(String.format(" p99=%+.2fms", (percentile(99) - baseline.percentile(99)) / 1000.0));
+            if (getCpuMicrosPerRequest() >= 0 && baseline.getCpuMicrosPerRequest() >= 0) {
+                result.append(String.format(" cpu/request=%+.1fus",
+                        getCpuMicrosPerRequest() - baseline.getCpuMicrosPerRequest()));
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.fault;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
+import org.wso2.am.integration.test.utils.bean.APIRequest;
+import org.wso2.am.integration.test.utils.http.HTTPSClientUtils;
+import org.wso2.am.integration.test.utils.loadgen.LoadRequest;
+import org.wso2.am.integration.test.utils.loadgen.LoadTestResult;
+import org.wso2.am.integration.tests.benchmarktest.BenchmarkUtils;
+import org.wso2.am.integration.tests.benchmarktest.GatewayBenchmarkTestCase;
+import org.wso2.am.integration.tests.benchmarktest.GatewayLoadResult;
+import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
+import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.automation.engine.frameworkutils.FrameworkPathUtil;
+import org.wso2.carbon.automation.test.utils.http.client.HttpResponse;
+import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Measures the rate at which the gateway rejects requests, which is bounded by the cost of rendering the error
+ * response in the default fault sequences. Unauthenticated requests are answered by the _auth_failure_handler_
+ * sequence and requests over the quota of a 10PerMin application by the _throttle_out_handler_ sequence. Each is
+ * measured first with the shipped sequences, which render the response with the fault response class mediator, and
+ * then, after a restart, with the payloadFactory and XPath based sequences they replaced. Each run reports the
+ * rejected requests per second, the response time percentiles and the gateway CPU time per request.
+ * <p>
+ * The runs are configured through the {@value #RATE_PROPERTY}, {@value #DURATION_PROPERTY} and
+ * {@value #WARMUP_PROPERTY} system properties.
+ */
+@SetEnvironment(executionEnvironments = {ExecutionEnvironment.STANDALONE})
+public class FaultResponseBenchmarkTestCase extends GatewayBenchmarkTestCase {
+
+    public static final String RATE_PROPERTY = "benchmark.fault.rate";
+    public static final String DURATION_PROPERTY = "benchmark.fault.duration";
+    public static final String WARMUP_PROPERTY = "benchmark.fault.warmup";
+    private static final double DEFAULT_RATE = 2000;
+    private static final long DEFAULT_DURATION_MILLIS = 30000;
+    private static final long DEFAULT_WARMUP_MILLIS = 10000;
+    private static final int CONCURRENCY = 200;
+    private static final String API_NAME = "FaultResponseBenchmarkAPI";
+    private static final String API_CONTEXT = "faultresponsebenchmark";
+    private static final String API_END_POINT_POSTFIX_URL = "am/sample/pizzashack/v1/api/menu";
+    private static final String APPLICATION_NAME = "FaultResponseBenchmarkApplication";
+    private static final String LEGACY_SEQUENCES_DIRECTORY = "legacyFaultSequences";
+    private static final String RESULTS_FILE_NAME = "fault_response";
+
+    /**
+     * Kinds of rejected requests, each answered by one of the default fault sequences.
+     */
+    enum RejectionScenario {
+
+        AUTH_FAILURE("_auth_failure_handler_", 401),
+        THROTTLE_OUT("_throttle_out_handler_", 429);
+
+        private final String sequence;
+        private final int statusCode;
+
+        RejectionScenario(String sequence, int statusCode) {
+
+            this.sequence = sequence;
+            this.statusCode = statusCode;
+        }
+    }
+
+    private final Log log = LogFactory.getLog(FaultResponseBenchmarkTestCase.class);
+    private final double rate = Double.parseDouble(System.getProperty(RATE_PROPERTY, String.valueOf(DEFAULT_RATE)));
+    private final long durationMillis = Long.getLong(DURATION_PROPERTY, DEFAULT_DURATION_MILLIS);
+    private final long warmupMillis = Long.getLong(WARMUP_PROPERTY, DEFAULT_WARMUP_MILLIS);
+    private final Map<RejectionScenario, FaultResponseBenchmarkResult> compiledResults =
+            new EnumMap<>(RejectionScenario.class);
+    private ServerConfigurationManager serverConfigurationManager;
+
+    @Factory(dataProvider = "userModeDataProvider", dataProviderClass = GatewayBenchmarkTestCase.class)
+    public FaultResponseBenchmarkTestCase(TestUserMode userMode) {
+
+        super(userMode, API_NAME, API_CONTEXT, APPLICATION_NAME);
+    }
+
+    @DataProvider
+    public static Object[][] rejectionScenarios() {
+
+        return new Object[][]{
+                new Object[]{RejectionScenario.AUTH_FAILURE},
+                new Object[]{RejectionScenario.THROTTLE_OUT}
+        };
+    }
+
+    @Override
+    protected APIRequest createAPIRequest(String name, String context) throws Exception {
+
+        APIRequest apiRequest = new APIRequest(name, context,
+                new URL(gatewayUrlsWrk.getWebAppURLHttp() + API_END_POINT_POSTFIX_URL));
+        apiRequest.setTiersCollection(APIMIntegrationConstants.API_TIER.UNLIMITED);
+        return apiRequest;
+    }
+
+    /**
+     * Every request over the first ten of a minute is throttled out by the application policy.
+     */
+    @Override
+    protected String getApplicationTier() {
+
+        return APIMIntegrationConstants.APPLICATION_TIER.TEN_PER_MIN;
+    }
+
+    @Test(description = "Measure the rejection rate with the fault response class mediator",
+            dataProvider = "rejectionScenarios")
+    public void testCompiledFaultResponses(RejectionScenario scenario) throws Exception {
+
+        FaultResponseBenchmarkResult result = runBenchmark("testCompiledFaultResponses", scenario,
+                "fault response mediator");
+        compiledResults.put(scenario, result);
+    }
+
+    @Test(description = "Measure the rejection rate with the payloadFactory based fault sequences",
+            dataProvider = "rejectionScenarios", dependsOnMethods = "testCompiledFaultResponses")
+    public void testLegacyFaultResponses(RejectionScenario scenario) throws Exception {
+
+        if (serverConfigurationManager == null) {
+            applyLegacySequences();
+        }
+        FaultResponseBenchmarkResult legacy = runBenchmark("testLegacyFaultResponses", scenario,
+                "payloadFactory sequences");
+        FaultResponseBenchmarkResult compiled = compiledResults.get(scenario);
+        if (compiled != null) {
+            compiled.setBaseline(legacy);
+            log.info("Fault response benchmark " + scenario + " " + compiled);
+            BenchmarkUtils.writeResultsToFile(RESULTS_FILE_NAME, "comparison", user.getUserName(), compiled);
+        }
+    }
+
+    private void applyLegacySequences() throws Exception {
+
+        serverConfigurationManager = new ServerConfigurationManager(gatewayContextMgt);
+        for (RejectionScenario scenario : RejectionScenario.values()) {
+            File legacySequence = new File(getAMResourceLocation() + File.separator + "configFiles"
+                    + File.separator + LEGACY_SEQUENCES_DIRECTORY + File.separator + scenario.sequence + ".xml");
+            File deployedSequence = Paths.get(FrameworkPathUtil.getCarbonHome(), "repository", "deployment",
+                    "server", "synapse-configs", "default", "sequences", scenario.sequence + ".xml").toFile();
+            serverConfigurationManager.applyConfigurationWithoutRestart(legacySequence, deployedSequence, true);
+        }
+        serverConfigurationManager.restartGracefully();
+        waitForBenchmarkAPIDeployment();
+    }
+
+    private FaultResponseBenchmarkResult runBenchmark(String testName, RejectionScenario scenario, String variant)
+            throws Exception {
+
+        String invocationUrl = getAPIInvocationURLHttp(API_CONTEXT, API_VERSION);
+        String token = scenario == RejectionScenario.AUTH_FAILURE ? "invalid-" + accessToken : accessToken;
+        Map<String, String> headers = Collections.singletonMap("Authorization", "Bearer " + token);
+        // Lets the gateway compile the hot paths, and uses up the quota of the application
+        GatewayLoadResult loadResult = runSampledLoad(LoadRequest.get(invocationUrl, headers), CONCURRENCY, rate,
+                warmupMillis, durationMillis, () -> assertRejected(invocationUrl, headers, scenario));
+        LoadTestResult loadTestResult = loadResult.getLoadTestResult();
+
+        FaultResponseBenchmarkResult result = new FaultResponseBenchmarkResult(scenario + " " + variant,
+                loadTestResult, scenario.statusCode, loadResult.getCpuNanos(), loadResult.getSampledNanos(),
+                loadResult.getProcessors());
+        log.info("Fault response benchmark rate=" + rate + "/s duration=" + durationMillis + "ms " + result);
+        BenchmarkUtils.writeResultsToFile(RESULTS_FILE_NAME, testName, user.getUserName(), result);
+
+        Assert.assertEquals(loadTestResult.getErrorCount(), 0, "Requests failed: " + loadTestResult);
+        // A throttled application gets ten requests through at the start of every minute
+        Assert.assertEquals(loadTestResult.getStatusCodeCount(scenario.statusCode)
+                        + loadTestResult.getStatusCodeCount(200), loadTestResult.getCompletedRequests(),
+                "Unexpected responses: " + loadTestResult);
+        Assert.assertTrue(result.getRejectedRequests() > 0, "No request was rejected: " + loadTestResult);
+        return result;
+    }
+
+    private static void assertRejected(String invocationUrl, Map<String, String> headers,
+                                       RejectionScenario scenario) throws Exception {
+
+        HttpResponse rejected = HTTPSClientUtils.doGet(invocationUrl, headers);
+        Assert.assertEquals(rejected.getResponseCode(), scenario.statusCode,
+                "The request was not rejected: " + rejected.getData());
+        JSONObject body = new JSONObject(rejected.getData());
+        Assert.assertTrue(body.has("code") && body.has("message") && body.has("description"),
+                "Unexpected " + scenario.sequence + " response: " + rejected.getData());
+    }
+
+    @Override
+    protected void restoreServerConfiguration() throws Exception {
+
+        if (serverConfigurationManager != null) {
+            // Restores the shipped sequences and restarts the server with them
+            serverConfigurationManager.restoreToLastConfiguration(true);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.jwt;
+
+import org.wso2.am.integration.test.utils.loadgen.LoadTestResult;
+
+/**
+ * Gateway latency and CPU cost of one backend JWT configuration, and its overhead over the run without backend JWTs.
+ */
+public class BackendJwtBenchmarkResult {
+
+    private final String variant;
+    private final LoadTestResult loadTestResult;
+    private final long gatewayCpuNanos;
+    private final long sampledNanos;
+    private final int gatewayProcessors;
+    private final long requestsWithJwt;
+    private final int verifiedJwts;
+    private final int sampledJwts;
+    private BackendJwtBenchmarkResult baseline;
+
+    /**
+     * @param gatewayCpuNanos CPU time the gateway consumed during the run, or -1 if it could not be sampled
+     * @param sampledNanos    wall clock time between the two CPU samples
+     */
+    public BackendJwtBenchmarkResult(String variant, LoadTestResult loadTestResult, long gatewayCpuNanos,
+                                     long sampledNanos, int gatewayProcessors, long requestsWithJwt,
+                                     int verifiedJwts, int sampledJwts) {
+
+        this.variant = variant;
+        this.loadTestResult = loadTestResult;
+        this.gatewayCpuNanos = gatewayCpuNanos;
+        this.sampledNanos = sampledNanos;
+        this.gatewayProcessors = gatewayProcessors;
+        this.requestsWithJwt = requestsWithJwt;
+        this.verifiedJwts = verifiedJwts;
+        this.sampledJwts = sampledJwts;
+    }
+
+    public void setBaseline(BackendJwtBenchmarkResult baseline) {
+
+        this.baseline = baseline;
+    }
+
+    public String getVariant() {
+
+        return variant;
+    }
+
+    public LoadTestResult getLoadTestResult() {
+
+        return loadTestResult;
+    }
+
+    public long getRequestsWithJwt() {
+
+        return requestsWithJwt;
+    }
+
+    public int getVerifiedJwts() {
+
+        return verifiedJwts;
+    }
+
+    public int getSampledJwts() {
+
+        return sampledJwts;
+    }
+
+    /**
+     * @return gateway CPU time per completed request in microseconds, or -1 if the CPU time could not be sampled
+     */
+    public double getCpuMicrosPerRequest() {
+
+        long completed = loadTestResult.getCompletedRequests();
+        if (gatewayCpuNanos < 0 || completed == 0) {
+            return -1;
+        }
+        return gatewayCpuNanos / 1000.0 / completed;
+    }
+
+    /**
+     * @return average utilization of the gateway's processors during the run in percent, or -1 if not sampled
+     */
+    public double getCpuUtilization() {
+
+        if (gatewayCpuNanos < 0 || sampledNanos <= 0) {
+            return -1;
+        }
+        return 100.0 * gatewayCpuNanos / sampledNanos / gatewayProcessors;
+    }
+
+    private long percentile(double percentile) {
+
+        return loadTestResult.getResponseTime().getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder result = new StringBuilder(String.format(
+                "%s: p50=%.2fms p90=%.2fms p99=%.2fms throughput=%.1f/s cpu=%.1f%% cpu/request=%.1fus "
+                        + "jwts=%d verified=%d/%d", variant, percentile(50) / 1000.0, percentile(90) / 1000.0,
+                percentile(99) / 1000.0, loadTestResult.getThroughput(), getCpuUtilization(),
+                getCpuMicrosPerRequest(), requestsWithJwt, verifiedJwts, sampledJwts));
+        if (baseline != null) {
+            result.append(String.format(" overhead: p50=%+.2fms p99=%+.2fms", (percentile(50)
+                    - baseline.percentile(50)) / 1000.0, (percentile(99) - baseline.percentile(99)) / 1000.0));
+            if (getCpuMicrosPerRequest() >= 0 && baseline.getCpuMicrosPerRequest() >= 0) {
+                result.append(String.format(" cpu/request=%+.1fus",
+                        getCpuMicrosPerRequest() - baseline.getCpuMicrosPerRequest()));
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.jwt;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
+import org.wso2.am.integration.test.utils.bean.APIRequest;
+import org.wso2.am.integration.test.utils.jwt.JwtVerifier;
+import org.wso2.am.integration.test.utils.loadgen.LoadRequest;
+import org.wso2.am.integration.test.utils.loadgen.LoadTestResult;
+import org.wso2.am.integration.tests.benchmarktest.BenchmarkUtils;
+import org.wso2.am.integration.tests.benchmarktest.GatewayBenchmarkTestCase;
+import org.wso2.am.integration.tests.benchmarktest.GatewayLoadResult;
+import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
+import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures what backend JWT generation costs the gateway. An API backed by a trivial backend is invoked at a fixed
+ * arrival rate, first with backend JWTs disabled and then with {@code [apim.jwt]} enabled for each combination of
+ * signing algorithm and claim set, restarting the server for each. Each run reports the response time percentiles,
+ * the gateway CPU time per request and the overhead of both over the run without backend JWTs. A sample of the JWTs
+ * the backend received is verified in parallel with a {@link JwtVerifier}.
+ * <p>
+ * The runs are configured through the {@value #SIGNING_ALGORITHMS_PROPERTY}, {@value #CLAIM_SETS_PROPERTY},
+ * {@value #RATE_PROPERTY}, {@value #DURATION_PROPERTY} and {@value #WARMUP_PROPERTY} system properties.
+ */
+@SetEnvironment(executionEnvironments = {ExecutionEnvironment.STANDALONE})
+public class BackendJwtBenchmarkTestCase extends GatewayBenchmarkTestCase {
+
+    public static final String SIGNING_ALGORITHMS_PROPERTY = "benchmark.jwt.signingAlgorithms";
+    public static final String CLAIM_SETS_PROPERTY = "benchmark.jwt.claimSets";
+    public static final String RATE_PROPERTY = "benchmark.jwt.rate";
+    public static final String DURATION_PROPERTY = "benchmark.jwt.duration";
+    public static final String WARMUP_PROPERTY = "benchmark.jwt.warmup";
+    private static final String DEFAULT_SIGNING_ALGORITHMS = "SHA256withRSA,NONE";
+    private static final String DEFAULT_CLAIM_SETS = "DEFAULT,USER";
+    private static final double DEFAULT_RATE = 200;
+    private static final long DEFAULT_DURATION_MILLIS = 30000;
+    private static final long DEFAULT_WARMUP_MILLIS = 10000;
+    private static final int CONCURRENCY = 50;
+    private static final int JWT_SAMPLE_SIZE = 500;
+    private static final String JWT_HEADER = "X-JWT-Assertion";
+    private static final String API_NAME = "BackendJwtBenchmarkAPI";
+    private static final String API_CONTEXT = "backendjwtbenchmark";
+    private static final String APPLICATION_NAME = "BackendJwtBenchmarkApplication";
+    private static final String RESULTS_FILE_NAME = "backend_jwt";
+
+    /**
+     * Claims put in the backend JWT, on top of the claims of the subscription.
+     */
+    enum ClaimSet {
+
+        DEFAULT("enable_user_claims = false"),
+        USER("enable_user_claims = true");
+
+        private final String configuration;
+
+        ClaimSet(String configuration) {
+
+            this.configuration = configuration;
+        }
+    }
+
+    private final Log log = LogFactory.getLog(BackendJwtBenchmarkTestCase.class);
+    private final double rate = Double.parseDouble(System.getProperty(RATE_PROPERTY, String.valueOf(DEFAULT_RATE)));
+    private final long durationMillis = Long.getLong(DURATION_PROPERTY, DEFAULT_DURATION_MILLIS);
+    private final long warmupMillis = Long.getLong(WARMUP_PROPERTY, DEFAULT_WARMUP_MILLIS);
+    private final List<BackendJwtBenchmarkResult> results = new ArrayList<>();
+    private JwtCapturingHandler backendHandler;
+    private ServerConfigurationManager serverConfigurationManager;
+
+    @Factory(dataProvider = "userModeDataProvider", dataProviderClass = GatewayBenchmarkTestCase.class)
+    public BackendJwtBenchmarkTestCase(TestUserMode userMode) {
+
+        super(userMode, API_NAME, API_CONTEXT, APPLICATION_NAME);
+    }
+
+    @Override
+    protected APIRequest createAPIRequest(String name, String context) throws Exception {
+
+        backendHandler = new JwtCapturingHandler(JWT_HEADER, JWT_SAMPLE_SIZE);
+        URL endpointUrl = new URL("http://localhost:" + startBackend(backendHandler).getPort() + "/");
+        APIRequest apiRequest = new APIRequest(name, context, endpointUrl);
+        apiRequest.setTiersCollection(APIMIntegrationConstants.API_TIER.UNLIMITED);
+        return apiRequest;
+    }
+
+    @Test(description = "Measure the gateway with backend JWT generation disabled")
+    public void testWithoutBackendJwt(Method method) throws Exception {
+
+        BackendJwtBenchmarkResult result = runBenchmark(method.getName(), "backend JWT disabled");
+        Assert.assertEquals(result.getRequestsWithJwt(), 0, "The backend received JWTs while they are disabled");
+        results.add(result);
+    }
+
+    @DataProvider
+    public Object[][] backendJwtConfigurations() {
+
+        List<Object[]> configurations = new ArrayList<>();
+        for (String algorithm : System.getProperty(SIGNING_ALGORITHMS_PROPERTY, DEFAULT_SIGNING_ALGORITHMS)
+                .split(",")) {
+            for (String claimSet : System.getProperty(CLAIM_SETS_PROPERTY, DEFAULT_CLAIM_SETS).split(",")) {
+                configurations.add(new Object[]{algorithm.trim(),
+                        ClaimSet.valueOf(claimSet.trim().toUpperCase(Locale.ENGLISH))});
+            }
+        }
+        return configurations.toArray(new Object[0][]);
+    }
+
+    @Test(description = "Measure the gateway with backend JWT generation enabled",
+            dataProvider = "backendJwtConfigurations", dependsOnMethods = "testWithoutBackendJwt")
+    public void testWithBackendJwt(String signingAlgorithm, ClaimSet claimSet) throws Exception {
+
+        String variant = "backend JWT signing_algorithm=" + signingAlgorithm + " claims=" + claimSet;
+        applyBackendJwtConfiguration(signingAlgorithm, claimSet);
+        BackendJwtBenchmarkResult result;
+        try {
+            result = runBenchmark("testWithBackendJwt", variant);
+        } finally {
+            // The next configuration, or the final restore, restarts the server
+            serverConfigurationManager.restoreToLastConfiguration(false);
+        }
+        results.add(result);
+
+        Assert.assertTrue(result.getRequestsWithJwt() > 0, "The backend did not receive JWTs: " + result);
+        if (!"NONE".equalsIgnoreCase(signingAlgorithm)) {
+            Assert.assertEquals(result.getVerifiedJwts(), result.getSampledJwts(),
+                    "Backend JWTs with an invalid signature were received: " + result);
+        }
+    }
+
+    private void applyBackendJwtConfiguration(String signingAlgorithm, ClaimSet claimSet) throws Exception {
+
+        File original = new File(getAMResourceLocation() + File.separator + "configFiles" + File.separator
+                + "originalFile" + File.separator + "deployment.toml");
+        File configuration = new File(System.getProperty("java.io.tmpdir"), "backend-jwt-benchmark"
+                + File.separator + signingAlgorithm + "-" + claimSet + File.separator + "deployment.toml");
+        String backendJwt = System.lineSeparator() + "[apim.jwt]" + System.lineSeparator()
+                + "enable = true" + System.lineSeparator()
+                + "encoding = \"base64\"" + System.lineSeparator()
+                + "header = \"" + JWT_HEADER + "\"" + System.lineSeparator()
+                + "signing_algorithm = \"" + signingAlgorithm + "\"" + System.lineSeparator()
+                + claimSet.configuration + System.lineSeparator();
+        FileUtils.writeStringToFile(configuration,
+                FileUtils.readFileToString(original, StandardCharsets.UTF_8) + backendJwt, StandardCharsets.UTF_8);
+
+        serverConfigurationManager = new ServerConfigurationManager(gatewayContextMgt);
+        serverConfigurationManager.applyConfiguration(configuration);
+        waitForBenchmarkAPIDeployment();
+    }
+
+    private BackendJwtBenchmarkResult runBenchmark(String testName, String variant) throws Exception {
+
+        String invocationUrl = getAPIInvocationURLHttp(API_CONTEXT, API_VERSION);
+        Map<String, String> headers = Collections.singletonMap("Authorization", "Bearer " + accessToken);
+        // Lets the gateway compile the hot paths and fill its token and JWT caches before measuring
+        GatewayLoadResult loadResult = runSampledLoad(LoadRequest.get(invocationUrl, headers), CONCURRENCY, rate,
+                warmupMillis, durationMillis, backendHandler::reset);
+        LoadTestResult loadTestResult = loadResult.getLoadTestResult();
+
+        List<String> sample = backendHandler.getSample();
+        int verified = 0;
+        for (boolean valid : JwtVerifier.forTrustStore().verifyAll(sample)) {
+            if (valid) {
+                verified++;
+            }
+        }
+        BackendJwtBenchmarkResult result = new BackendJwtBenchmarkResult(variant, loadTestResult,
+                loadResult.getCpuNanos(), loadResult.getSampledNanos(), loadResult.getProcessors(),
+                backendHandler.getRequestsWithJwt(), verified, sample.size());
+        if (!results.isEmpty()) {
+            result.setBaseline(results.get(0));
+        }
+        log.info("Backend JWT benchmark rate=" + rate + "/s duration=" + durationMillis + "ms " + result);
+        BenchmarkUtils.writeResultsToFile(RESULTS_FILE_NAME, testName, user.getUserName(), result);
+
+        Assert.assertEquals(loadTestResult.getErrorCount(), 0, "Requests failed: " + loadTestResult);
+        Assert.assertEquals(loadTestResult.getStatusCodeCount(200), loadTestResult.getCompletedRequests(),
+                "Requests were not successful: " + loadTestResult);
+        return result;
+    }
+
+    @Override
+    protected void restoreServerConfiguration() throws Exception {
+
+        if (serverConfigurationManager != null) {
+            // Restarts the server with the configuration it was started with
+            serverConfigurationManager = new ServerConfigurationManager(gatewayContextMgt);
+            serverConfigurationManager.restartGracefully();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.jwt;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Backend of the backend JWT benchmark. It answers every request with a small fixed payload, so the measured latency
+ * is dominated by the gateway, and keeps a bounded sample of the JWTs the gateway passed in, for verification once a
+ * run is over.
+ */
+public class JwtCapturingHandler extends AbstractHandler {
+
+    private static final byte[] PAYLOAD = "{\"status\":\"ok\"}".getBytes();
+
+    private final String jwtHeader;
+    private final int sampleSize;
+    private final ConcurrentLinkedQueue<String> sample = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger sampled = new AtomicInteger();
+    private final LongAdder requestsWithJwt = new LongAdder();
+    private final LongAdder requestsWithoutJwt = new LongAdder();
+
+    /**
+     * @param jwtHeader  header the gateway sends the backend JWT in
+     * @param sampleSize number of JWTs kept per run
+     */
+    public JwtCapturingHandler(String jwtHeader, int sampleSize) {
+
+        this.jwtHeader = jwtHeader;
+        this.sampleSize = sampleSize;
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+
+        String jwt = request.getHeader(jwtHeader);
+        if (jwt == null) {
+            requestsWithoutJwt.increment();
+        } else {
+            requestsWithJwt.increment();
+            if (sampled.get() < sampleSize && sampled.incrementAndGet() <= sampleSize) {
+                sample.add(jwt);
+            }
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("application/json");
+        response.setContentLength(PAYLOAD.length);
+        response.getOutputStream().write(PAYLOAD);
+        baseRequest.setHandled(true);
+    }
+
+    /**
+     * Clears the counters and the sample, at the start of a run.
+     */
+    public void reset() {
+
+        sample.clear();
+        sampled.set(0);
+        requestsWithJwt.reset();
+        requestsWithoutJwt.reset();
+    }
+
+    public List<String> getSample() {
+
+        return new ArrayList<>(sample);
+    }
+
+    public long getRequestsWithJwt() {
+
+        return requestsWithJwt.sum();
+    }
+
+    public long getRequestsWithoutJwt() {
+
+        return requestsWithoutJwt.sum();
+    }
+}
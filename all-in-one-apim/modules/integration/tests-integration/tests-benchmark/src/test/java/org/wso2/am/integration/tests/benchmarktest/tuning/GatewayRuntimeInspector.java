@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.tuning;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.am.integration.tests.benchmarktest.GatewayJmxConnection;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.RuntimeMXBean;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Reads the system properties and the maximum heap the gateway JVM was started with through the
+ * {@link GatewayJmxConnection}.
+ */
+public class GatewayRuntimeInspector implements AutoCloseable {
+
+    public static final long UNAVAILABLE = -1;
+    private static final Log log = LogFactory.getLog(GatewayRuntimeInspector.class);
+
+    private final GatewayJmxConnection connection;
+    private final RuntimeMXBean runtimeMXBean;
+    private final MemoryMXBean memoryMXBean;
+
+    /**
+     * Connects to the JMX connector of the gateway. Nothing is reported when the connector is not reachable.
+     */
+    public GatewayRuntimeInspector(String host, int portOffset, String username, String password) {
+
+        connection = new GatewayJmxConnection(host, portOffset, username, password, "Gateway JVM settings");
+        runtimeMXBean = connection.getPlatformMXBean(ManagementFactory.RUNTIME_MXBEAN_NAME, RuntimeMXBean.class);
+        memoryMXBean = connection.getPlatformMXBean(ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+    }
+
+    /**
+     * @return the system properties of the gateway JVM, or an empty map if they could not be read
+     */
+    public Map<String, String> getSystemProperties() {
+
+        if (runtimeMXBean == null) {
+            return Collections.emptyMap();
+        }
+        try {
+            return runtimeMXBean.getSystemProperties();
+        } catch (RuntimeException e) {
+            log.warn("Unable to read the gateway system properties: " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * @return the maximum heap of the gateway in bytes, or {@link #UNAVAILABLE}
+     */
+    public long getMaxHeap() {
+
+        if (memoryMXBean == null) {
+            return UNAVAILABLE;
+        }
+        try {
+            return memoryMXBean.getHeapMemoryUsage().getMax();
+        } catch (RuntimeException e) {
+            log.warn("Unable to read the gateway heap size: " + e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    @Override
+    public void close() {
+
+        connection.close();
+    }
+}
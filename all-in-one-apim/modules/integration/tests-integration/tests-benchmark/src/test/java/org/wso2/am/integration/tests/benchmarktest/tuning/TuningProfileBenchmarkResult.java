@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.tuning;
+
+import org.wso2.am.integration.test.utils.loadgen.LoadTestResult;
+
+import java.util.Map;
+
+/**
+ * Throughput, latency and gateway CPU cost of one run, the pool, buffer and heap sizes the gateway ran with, and the
+ * change over the run with the configuration it is compared to.
+ */
+public class TuningProfileBenchmarkResult {
+
+    private final String variant;
+    private final Map<String, String> settings;
+    private final LoadTestResult loadTestResult;
+    private final long gatewayCpuNanos;
+    private TuningProfileBenchmarkResult baseline;
+
+    /**
+     * @param settings        sizes the gateway ran with, by name
+     * @param gatewayCpuNanos CPU time the gateway consumed during the run, or -1 if it could not be sampled
+     */
+    public TuningProfileBenchmarkResult(String variant, Map<String, String> settings, LoadTestResult loadTestResult,
+                                        long gatewayCpuNanos) {
+
+        this.variant = variant;
+        this.settings = settings;
+        this.loadTestResult = loadTestResult;
+        this.gatewayCpuNanos = gatewayCpuNanos;
+    }
+
+    public void setBaseline(TuningProfileBenchmarkResult baseline) {
+
+        this.baseline = baseline;
+    }
+
+    public LoadTestResult getLoadTestResult() {
+
+        return loadTestResult;
+    }
+
+    /**
+     * @return gateway CPU time per completed request in microseconds, or -1 if the CPU time could not be sampled
+     */
+    public double getCpuMicrosPerRequest() {
+
+        long completed = loadTestResult.getCompletedRequests();
+        if (gatewayCpuNanos < 0 || completed == 0) {
+            return -1;
+        }
+        return gatewayCpuNanos / 1000.0 / completed;
+    }
+
+    private long percentile(double percentile) {
+
+        return loadTestResult.getResponseTime().getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder result = new StringBuilder(String.format(
+                "%s %s: requests/s=%.1f errors=%d p50=%.2fms p99=%.2fms cpu/request=%.1fus",
+                variant, settings, loadTestResult.getThroughput(), loadTestResult.getErrorCount(),
+                percentile(50) / 1000.0, percentile(99) / 1000.0, getCpuMicrosPerRequest()));
+        if (baseline != null) {
+            if (baseline.loadTestResult.getThroughput() > 0) {
+                result.append(String.format(" vs %s: requests/s=%+.1f%%", baseline.variant,
+                        100.0 * (loadTestResult.getThroughput() / baseline.loadTestResult.getThroughput() - 1)));
+            }
+            result.append(String.format(" p99=%+.2fms", (percentile(99) - baseline.percentile(99)) / 1000.0));
+            if (getCpuMicrosPerRequest() >= 0 && baseline.getCpuMicrosPerRequest() >= 0) {
+                result.append(String.format(" cpu/request=%+.1fus",
+                        getCpuMicrosPerRequest() - baseline.getCpuMicrosPerRequest()));
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.tuning;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
+import org.wso2.am.integration.test.utils.bean.APIRequest;
+import org.wso2.am.integration.test.utils.loadgen.LoadRequest;
+import org.wso2.am.integration.test.utils.loadgen.LoadTestResult;
+import org.wso2.am.integration.tests.benchmarktest.BenchmarkUtils;
+import org.wso2.am.integration.tests.benchmarktest.GatewayBenchmarkTestCase;
+import org.wso2.am.integration.tests.benchmarktest.GatewayLoadResult;
+import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
+import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.automation.engine.frameworkutils.FrameworkPathUtil;
+import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shows the effect of a tuning profile on the gateway. The same load is run first with the default configuration and
+ * then, after a restart, with the tuning profile selected in deployment.toml. Each run reports the worker pool,
+ * buffer, Tomcat thread and heap sizes the gateway ran with, its throughput, the response time percentiles and the
+ * gateway CPU time per request. The worker pool, buffer and Tomcat thread sizes rendered into passthru-http.properties
+ * and catalina-server.xml are checked against the ones tuning.sh derives for the profile from the CPU cores of the
+ * host, which the server shares with the test, and against the tuning.* system properties of the gateway JVM when
+ * they can be read over JMX.
+ * <p>
+ * The runs are configured through the {@value #PROFILE_PROPERTY}, {@value #RATE_PROPERTY},
+ * {@value #DURATION_PROPERTY} and {@value #WARMUP_PROPERTY} system properties.
+ */
+@SetEnvironment(executionEnvironments = {ExecutionEnvironment.STANDALONE})
+public class TuningProfileBenchmarkTestCase extends GatewayBenchmarkTestCase {
+
+    public static final String PROFILE_PROPERTY = "benchmark.tuning.profile";
+    public static final String RATE_PROPERTY = "benchmark.tuning.rate";
+    public static final String DURATION_PROPERTY = "benchmark.tuning.duration";
+    public static final String WARMUP_PROPERTY = "benchmark.tuning.warmup";
+    private static final String DEFAULT_PROFILE = "gateway-throughput";
+    private static final double DEFAULT_RATE = 1000;
+    private static final long DEFAULT_DURATION_MILLIS = 60000;
+    private static final long DEFAULT_WARMUP_MILLIS = 15000;
+    private static final int CONCURRENCY = 200;
+    private static final String API_NAME = "TuningProfileBenchmarkAPI";
+    private static final String API_CONTEXT = "tuningprofilebenchmark";
+    private static final String API_END_POINT_POSTFIX_URL = "am/sample/pizzashack/v1/api/menu";
+    private static final String APPLICATION_NAME = "TuningProfileBenchmarkApplication";
+    private static final String RESULTS_FILE_NAME = "tuning_profile";
+    private static final String WORKER_POOL_SIZE_CORE = "worker_pool_size_core";
+    private static final String WORKER_POOL_SIZE_MAX = "worker_pool_size_max";
+    private static final String IO_BUFFER_SIZE = "io_buffer_size";
+    private static final String CPU_CORES_VARIABLE = "TUNING_CPU_CORES";
+    private static final Pattern MAX_THREADS = Pattern.compile("maxThreads=\"(\\d+)\"");
+
+    /**
+     * The sizes tuning.sh derives for each profile. The IO buffer of the gateway-throughput profile depends on the
+     * memory of the host, hence either of its sizes is accepted.
+     */
+    enum TuningProfile {
+
+        GATEWAY_THROUGHPUT("gateway-throughput", 100, 100, 1600, 25, 50, 250, 16384, 32768),
+        LOW_MEMORY("low-memory", 20, 20, 100, 25, 25, 100, 8192, 8192),
+        CONTROL_PLANE("control-plane", 10, 20, 100, 100, 150, 800, 16384, 16384);
+
+        private final String profileName;
+        private final int workersPerCore;
+        private final int minWorkers;
+        private final int maxWorkers;
+        private final int threadsPerCore;
+        private final int minThreads;
+        private final int maxThreads;
+        private final int smallIoBuffer;
+        private final int largeIoBuffer;
+
+        TuningProfile(String profileName, int workersPerCore, int minWorkers, int maxWorkers, int threadsPerCore,
+                      int minThreads, int maxThreads, int smallIoBuffer, int largeIoBuffer) {
+
+            this.profileName = profileName;
+            this.workersPerCore = workersPerCore;
+            this.minWorkers = minWorkers;
+            this.maxWorkers = maxWorkers;
+            this.threadsPerCore = threadsPerCore;
+            this.minThreads = minThreads;
+            this.maxThreads = maxThreads;
+            this.smallIoBuffer = smallIoBuffer;
+            this.largeIoBuffer = largeIoBuffer;
+        }
+
+        static TuningProfile forName(String name) {
+
+            for (TuningProfile tuningProfile : values()) {
+                if (tuningProfile.profileName.equals(name)) {
+                    return tuningProfile;
+                }
+            }
+            throw new IllegalArgumentException("Unknown tuning profile " + name);
+        }
+
+        int getCoreWorkers(int cores) {
+
+            return clamp(cores * workersPerCore, minWorkers, maxWorkers);
+        }
+
+        int getMaxWorkers(int cores) {
+
+            int workers = getCoreWorkers(cores);
+            return this == GATEWAY_THROUGHPUT ? workers + workers / 4 : workers * 2;
+        }
+
+        int getThreads(int cores) {
+
+            return clamp(cores * threadsPerCore, minThreads, maxThreads);
+        }
+
+        boolean isIoBufferSize(int size) {
+
+            return size == smallIoBuffer || size == largeIoBuffer;
+        }
+
+        private static int clamp(int value, int min, int max) {
+
+            return Math.max(min, Math.min(max, value));
+        }
+    }
+
+    private final Log log = LogFactory.getLog(TuningProfileBenchmarkTestCase.class);
+    private final String profile = System.getProperty(PROFILE_PROPERTY, DEFAULT_PROFILE);
+    private final double rate = Double.parseDouble(System.getProperty(RATE_PROPERTY, String.valueOf(DEFAULT_RATE)));
+    private final long durationMillis = Long.getLong(DURATION_PROPERTY, DEFAULT_DURATION_MILLIS);
+    private final long warmupMillis = Long.getLong(WARMUP_PROPERTY, DEFAULT_WARMUP_MILLIS);
+    private ServerConfigurationManager serverConfigurationManager;
+    private TuningProfileBenchmarkResult defaultResult;
+
+    @Factory(dataProvider = "userModeDataProvider", dataProviderClass = GatewayBenchmarkTestCase.class)
+    public TuningProfileBenchmarkTestCase(TestUserMode userMode) {
+
+        super(userMode, API_NAME, API_CONTEXT, APPLICATION_NAME);
+    }
+
+    @Override
+    protected APIRequest createAPIRequest(String name, String context) throws Exception {
+
+        APIRequest apiRequest = new APIRequest(name, context,
+                new URL(gatewayUrlsWrk.getWebAppURLHttp() + API_END_POINT_POSTFIX_URL));
+        apiRequest.setTiersCollection(APIMIntegrationConstants.API_TIER.UNLIMITED);
+        return apiRequest;
+    }
+
+    @Test(description = "Measure the gateway with the default pool, buffer and heap sizes")
+    public void testDefaultConfiguration() throws Exception {
+
+        defaultResult = runBenchmark("testDefaultConfiguration", "default");
+    }
+
+    @Test(description = "Measure the gateway with the tuning profile", dependsOnMethods = "testDefaultConfiguration")
+    public void testTuningProfile() throws Exception {
+
+        applyTuningProfile();
+        assertRenderedSizes();
+        TuningProfileBenchmarkResult result = runBenchmark("testTuningProfile", profile);
+        result.setBaseline(defaultResult);
+        log.info("Tuning profile benchmark " + result);
+        BenchmarkUtils.writeResultsToFile(RESULTS_FILE_NAME, "comparison", user.getUserName(), result);
+    }
+
+    @Test(description = "Check the tuning system properties the gateway was started with",
+            dependsOnMethods = "testTuningProfile")
+    public void testTuningProfileSystemProperties() throws Exception {
+
+        Map<String, String> systemProperties;
+        try (GatewayRuntimeInspector inspector = new GatewayRuntimeInspector(
+                new URI(getAPIInvocationURLHttp(API_CONTEXT, API_VERSION)).getHost(), portOffset,
+                user.getUserName(), user.getPassword())) {
+            systemProperties = inspector.getSystemProperties();
+        }
+        if (systemProperties.isEmpty()) {
+            throw new SkipException("The system properties of the gateway could not be read over JMX");
+        }
+        Assert.assertEquals(systemProperties.get("tuning.profile"), profile,
+                "The server was not started with the tuning profile");
+        Properties passThroughProperties = readPassThroughProperties();
+        for (String name : new String[]{WORKER_POOL_SIZE_CORE, WORKER_POOL_SIZE_MAX, IO_BUFFER_SIZE}) {
+            Assert.assertEquals(passThroughProperties.getProperty(name), systemProperties.get("tuning." + name),
+                    "The " + name + " of the profile was not rendered into passthru-http.properties");
+        }
+    }
+
+    /**
+     * Checks the sizes rendered into passthru-http.properties and catalina-server.xml against the ones tuning.sh
+     * derives for the profile, for the CPU cores it detects or the ones {@value #CPU_CORES_VARIABLE} overrides them
+     * with.
+     */
+    private void assertRenderedSizes() throws Exception {
+
+        TuningProfile tuningProfile = TuningProfile.forName(profile);
+        String coresOverride = System.getenv(CPU_CORES_VARIABLE);
+        int cores = coresOverride != null && !coresOverride.isEmpty() ? Integer.parseInt(coresOverride.trim())
+                : Runtime.getRuntime().availableProcessors();
+        Properties passThroughProperties = readPassThroughProperties();
+        Assert.assertEquals(passThroughProperties.getProperty(WORKER_POOL_SIZE_CORE),
+                String.valueOf(tuningProfile.getCoreWorkers(cores)),
+                "Unexpected " + WORKER_POOL_SIZE_CORE + " for " + profile + " on " + cores + " cores");
+        Assert.assertEquals(passThroughProperties.getProperty(WORKER_POOL_SIZE_MAX),
+                String.valueOf(tuningProfile.getMaxWorkers(cores)),
+                "Unexpected " + WORKER_POOL_SIZE_MAX + " for " + profile + " on " + cores + " cores");
+        String ioBufferSize = passThroughProperties.getProperty(IO_BUFFER_SIZE);
+        Assert.assertTrue(ioBufferSize != null && tuningProfile.isIoBufferSize(Integer.parseInt(ioBufferSize.trim())),
+                "Unexpected " + IO_BUFFER_SIZE + " " + ioBufferSize + " for " + profile);
+        List<String> maxThreads = readMaxThreads();
+        Assert.assertFalse(maxThreads.isEmpty(), "No connector was rendered into catalina-server.xml");
+        for (String threads : maxThreads) {
+            Assert.assertEquals(threads, String.valueOf(tuningProfile.getThreads(cores)),
+                    "Unexpected maxThreads for " + profile + " on " + cores + " cores");
+        }
+    }
+
+    /**
+     * Selects the tuning profile in the [server] section of deployment.toml and restarts the server with it.
+     */
+    private void applyTuningProfile() throws Exception {
+
+        Path deploymentToml = Paths.get(FrameworkPathUtil.getCarbonHome(), "repository", "conf", "deployment.toml");
+        List<String> lines = new ArrayList<>(Files.readAllLines(deploymentToml, StandardCharsets.UTF_8));
+        String profileLine = "tuning_profile = \"" + profile + "\"";
+        int serverSection = -1;
+        for (int i = 0; i < lines.size(); i++) {
+            if ("[server]".equals(lines.get(i).trim())) {
+                serverSection = i;
+                break;
+            }
+        }
+        if (serverSection < 0) {
+            lines.add(0, "[server]");
+            serverSection = 0;
+        }
+        lines.add(serverSection + 1, profileLine);
+        File tunedToml = File.createTempFile("deployment", ".toml");
+        tunedToml.deleteOnExit();
+        Files.write(tunedToml.toPath(), lines, StandardCharsets.UTF_8);
+
+        serverConfigurationManager = new ServerConfigurationManager(gatewayContextMgt);
+        serverConfigurationManager.applyConfigurationWithoutRestart(tunedToml, deploymentToml.toFile(), true);
+        serverConfigurationManager.restartGracefully();
+        waitForBenchmarkAPIDeployment();
+    }
+
+    private static Properties readPassThroughProperties() throws Exception {
+
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(Paths.get(FrameworkPathUtil.getCarbonHome(),
+                "repository", "conf", "passthru-http.properties"))) {
+            properties.load(inputStream);
+        }
+        return properties;
+    }
+
+    /**
+     * @return the maxThreads of the Tomcat connectors rendered into catalina-server.xml
+     */
+    private static List<String> readMaxThreads() throws Exception {
+
+        String catalinaServer = new String(Files.readAllBytes(Paths.get(FrameworkPathUtil.getCarbonHome(),
+                "repository", "conf", "tomcat", "catalina-server.xml")), StandardCharsets.UTF_8);
+        List<String> maxThreads = new ArrayList<>();
+        Matcher matcher = MAX_THREADS.matcher(catalinaServer);
+        while (matcher.find()) {
+            maxThreads.add(matcher.group(1));
+        }
+        return maxThreads;
+    }
+
+    /**
+     * @return the pool, buffer and heap sizes the gateway runs with, as rendered into its configuration files
+     */
+    private Map<String, String> readSettings(GatewayRuntimeInspector inspector) throws Exception {
+
+        Map<String, String> settings = new LinkedHashMap<>();
+        Properties passThroughProperties = readPassThroughProperties();
+        for (String name : new String[]{WORKER_POOL_SIZE_CORE, WORKER_POOL_SIZE_MAX, IO_BUFFER_SIZE}) {
+            settings.put(name, passThroughProperties.getProperty(name));
+        }
+        settings.put("maxThreads", String.join("/", readMaxThreads()));
+        long maxHeap = inspector.getMaxHeap();
+        settings.put("heap", maxHeap == GatewayRuntimeInspector.UNAVAILABLE ? "?" : (maxHeap >> 20) + "MB");
+        return settings;
+    }
+
+    private TuningProfileBenchmarkResult runBenchmark(String testName, String variant) throws Exception {
+
+        String invocationUrl = getAPIInvocationURLHttp(API_CONTEXT, API_VERSION);
+        String host = new URI(invocationUrl).getHost();
+        Map<String, String> headers = Collections.singletonMap("Authorization", "Bearer " + accessToken);
+        Map<String, String> settings;
+        try (GatewayRuntimeInspector inspector = new GatewayRuntimeInspector(host, portOffset, user.getUserName(),
+                user.getPassword())) {
+            settings = readSettings(inspector);
+        }
+        // Lets the gateway compile the hot paths and grow its worker pool
+        GatewayLoadResult loadResult = runSampledLoad(LoadRequest.get(invocationUrl, headers), CONCURRENCY, rate,
+                warmupMillis, durationMillis, null);
+        LoadTestResult loadTestResult = loadResult.getLoadTestResult();
+
+        TuningProfileBenchmarkResult result = new TuningProfileBenchmarkResult(variant, settings, loadTestResult,
+                loadResult.getCpuNanos());
+        log.info("Tuning profile benchmark rate=" + rate + "/s duration=" + durationMillis + "ms " + result);
+        BenchmarkUtils.writeResultsToFile(RESULTS_FILE_NAME, testName, user.getUserName(), result);
+
+        Assert.assertEquals(loadTestResult.getErrorCount(), 0, "Requests failed: " + loadTestResult);
+        Assert.assertEquals(loadTestResult.getStatusCodeCount(200), loadTestResult.getCompletedRequests(),
+                "Unexpected responses: " + loadTestResult);
+        return result;
+    }
+
+    @Override
+    protected void restoreServerConfiguration() throws Exception {
+
+        if (serverConfigurationManager != null) {
+            // Restores the deployment.toml without a tuning profile and restarts the server with it
+            serverConfigurationManager.restoreToLastConfiguration(true);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.websocket;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+
+import java.util.Arrays;
+
+/**
+ * Client side of a benchmark session. Every message carries the time it was sent, so the round trip through the
+ * gateway is measured when the backend echoes it back.
+ */
+@WebSocket
+public class BenchmarkClientSocket {
+
+    static final int THROTTLED_CLOSE_STATUS = 4003;
+    private static final String THROTTLED_MESSAGE_PREFIX = "Error code: " + THROTTLED_CLOSE_STATUS;
+    private static final char TIMESTAMP_SEPARATOR = '|';
+    private static final Log log = LogFactory.getLog(BenchmarkClientSocket.class);
+
+    private final WebSocketBenchmarkResult result;
+    private final String padding;
+    private final long connectStartTime;
+    private volatile Session session;
+    private volatile boolean closing;
+
+    BenchmarkClientSocket(WebSocketBenchmarkResult result, int messageSize) {
+
+        this.result = result;
+        // The timestamp takes up to 19 characters of the message
+        char[] paddingChars = new char[Math.max(0, messageSize - 20)];
+        Arrays.fill(paddingChars, 'x');
+        this.padding = new String(paddingChars);
+        this.connectStartTime = System.nanoTime();
+    }
+
+    @OnWebSocketConnect
+    public void onConnect(Session session) {
+
+        this.session = session;
+        result.getConnectTimes().recordValue((System.nanoTime() - connectStartTime) / 1000000L);
+    }
+
+    @OnWebSocketMessage
+    public void onText(String message) {
+
+        if (message.startsWith(THROTTLED_MESSAGE_PREFIX)) {
+            result.getThrottledFrames().incrementAndGet();
+            return;
+        }
+        int separator = message.indexOf(TIMESTAMP_SEPARATOR);
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            long sentTime = Long.parseLong(message.substring(0, separator));
+            result.getRoundTripTimes().recordValue((System.nanoTime() - sentTime) / 1000L);
+            result.getReceivedMessages().incrementAndGet();
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring unexpected message " + message);
+        }
+    }
+
+    @OnWebSocketClose
+    public void onClose(int statusCode, String reason) {
+
+        if (statusCode == THROTTLED_CLOSE_STATUS || (reason != null && reason.contains("throttled"))) {
+            result.getThrottledCloses().incrementAndGet();
+        } else if (!closing) {
+            result.getUnexpectedCloses().incrementAndGet();
+            log.debug("Session closed by the gateway with status " + statusCode + ": " + reason);
+        }
+        session = null;
+    }
+
+    @OnWebSocketError
+    public void onError(Throwable cause) {
+
+        result.getErrors().incrementAndGet();
+        log.debug("Session error: " + cause.getMessage());
+    }
+
+    /**
+     * Sends a message stamped with the current time, unless the session is not open.
+     */
+    void send() {
+
+        Session currentSession = session;
+        if (currentSession == null || !currentSession.isOpen()) {
+            return;
+        }
+        currentSession.getRemote().sendStringByFuture(System.nanoTime() + String.valueOf(TIMESTAMP_SEPARATOR)
+                + padding);
+        result.getSentMessages().incrementAndGet();
+    }
+
+    boolean isConnected() {
+
+        Session currentSession = session;
+        return currentSession != null && currentSession.isOpen();
+    }
+
+    void close() {
+
+        closing = true;
+        Session currentSession = session;
+        if (currentSession != null) {
+            currentSession.close();
+        }
+    }
+}
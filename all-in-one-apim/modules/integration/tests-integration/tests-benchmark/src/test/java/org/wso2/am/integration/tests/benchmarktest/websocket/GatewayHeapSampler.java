@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.websocket;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.am.integration.tests.benchmarktest.GatewayJmxConnection;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Samples the heap of the gateway through its JMX connector, after requesting a garbage collection so that the
+ * sample reflects the live objects, e.g. the state held for open WebSocket connections.
+ */
+public class GatewayHeapSampler implements AutoCloseable {
+
+    public static final long UNAVAILABLE = -1;
+    private static final Log log = LogFactory.getLog(GatewayHeapSampler.class);
+
+    private final GatewayJmxConnection connection;
+    private final MemoryMXBean memoryMXBean;
+
+    /**
+     * Connects to the JMX connector of the gateway. Sampling is disabled when the connector is not reachable, e.g.
+     * when JMX is disabled in the gateway.
+     */
+    public GatewayHeapSampler(String host, int portOffset, String username, String password) {
+
+        connection = new GatewayJmxConnection(host, portOffset, username, password, "Gateway heap usage");
+        memoryMXBean = connection.getPlatformMXBean(ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+    }
+
+    /**
+     * @return the heap used by the gateway after a garbage collection in bytes, or {@link #UNAVAILABLE}
+     */
+    public long sampleUsedHeap() {
+
+        if (memoryMXBean == null) {
+            return UNAVAILABLE;
+        }
+        try {
+            memoryMXBean.gc();
+            return memoryMXBean.getHeapMemoryUsage().getUsed();
+        } catch (RuntimeException e) {
+            log.warn("Unable to sample the gateway heap: " + e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    @Override
+    public void close() {
+
+        connection.close();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.websocket;
+
+import org.wso2.am.integration.test.utils.loadgen.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measurements of a WebSocket benchmark run.
+ */
+public class WebSocketBenchmarkResult {
+
+    public static final long UNKNOWN_HEAP = -1;
+
+    private final int sessions;
+    private final LatencyHistogram connectTimes = new LatencyHistogram();
+    private final LatencyHistogram roundTripTimes = new LatencyHistogram();
+    private final AtomicInteger connectFailures = new AtomicInteger();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final AtomicLong throttledFrames = new AtomicLong();
+    private final AtomicInteger throttledCloses = new AtomicInteger();
+    private final AtomicInteger unexpectedCloses = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+    private long heapPerConnection = UNKNOWN_HEAP;
+    private long durationMillis;
+
+    WebSocketBenchmarkResult(int sessions) {
+
+        this.sessions = sessions;
+    }
+
+    public int getSessions() {
+
+        return sessions;
+    }
+
+    public int getConnectedSessions() {
+
+        return connectTimes.getCount();
+    }
+
+    /**
+     * @return the time taken to complete the WebSocket handshake through the gateway, in milliseconds
+     */
+    public LatencyHistogram getConnectTimes() {
+
+        return connectTimes;
+    }
+
+    /**
+     * @return the round trip time of the messages through the gateway, in microseconds
+     */
+    public LatencyHistogram getRoundTripTimes() {
+
+        return roundTripTimes;
+    }
+
+    public AtomicInteger getConnectFailures() {
+
+        return connectFailures;
+    }
+
+    public AtomicLong getSentMessages() {
+
+        return sentMessages;
+    }
+
+    public AtomicLong getReceivedMessages() {
+
+        return receivedMessages;
+    }
+
+    /**
+     * @return the number of throttled out frame notifications received
+     */
+    public AtomicLong getThrottledFrames() {
+
+        return throttledFrames;
+    }
+
+    /**
+     * @return the number of sessions the gateway closed since they were throttled out
+     */
+    public AtomicInteger getThrottledCloses() {
+
+        return throttledCloses;
+    }
+
+    /**
+     * @return the number of sessions closed by the gateway for reasons other than throttling
+     */
+    public AtomicInteger getUnexpectedCloses() {
+
+        return unexpectedCloses;
+    }
+
+    public AtomicInteger getErrors() {
+
+        return errors;
+    }
+
+    /**
+     * @return the heap retained by the gateway per open connection in bytes, or {@link #UNKNOWN_HEAP} if the heap of
+     * the gateway could not be sampled
+     */
+    public long getHeapPerConnection() {
+
+        return heapPerConnection;
+    }
+
+    void setHeapPerConnection(long heapPerConnection) {
+
+        this.heapPerConnection = heapPerConnection;
+    }
+
+    public long getDurationMillis() {
+
+        return durationMillis;
+    }
+
+    void setDurationMillis(long durationMillis) {
+
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * @return the rate of the echoed messages received per second
+     */
+    public double getThroughput() {
+
+        return durationMillis <= 0 ? 0 : receivedMessages.get() * 1000.0 / durationMillis;
+    }
+
+    @Override
+    public String toString() {
+
+        return "sessions=" + getConnectedSessions() + "/" + sessions + ", connectFailures=" + connectFailures
+                + ", connect (ms) " + connectTimes + ", round trip (us) " + roundTripTimes + ", sent=" + sentMessages
+                + ", received=" + receivedMessages + ", throughput=" + String.format("%.1f", getThroughput())
+                + " msg/s, throttledFrames=" + throttledFrames + ", throttledCloses=" + throttledCloses
+                + ", unexpectedCloses=" + unexpectedCloses + ", errors=" + errors + ", heapPerConnection="
+                + (heapPerConnection == UNKNOWN_HEAP ? "unknown" : heapPerConnection + " bytes");
+    }
+}
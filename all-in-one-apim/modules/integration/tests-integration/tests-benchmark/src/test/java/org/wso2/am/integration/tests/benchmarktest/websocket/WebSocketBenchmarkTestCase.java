@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.websocket;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.eclipse.jetty.websocket.server.WebSocketHandler;
+import org.eclipse.jetty.websocket.servlet.WebSocketServletFactory;
+import org.testng.Assert;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
+import org.wso2.am.integration.test.utils.base.APIMIntegrationConstants;
+import org.wso2.am.integration.test.utils.bean.APIRequest;
+import org.wso2.am.integration.tests.benchmarktest.BenchmarkUtils;
+import org.wso2.am.integration.tests.benchmarktest.GatewayBenchmarkTestCase;
+import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
+import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Measures the capacity of the WebSocket gateway by driving concurrent sessions through the ws and wss inbound
+ * endpoints of a WebSocket API backed by an echo server. Each run reports the connection setup time, the message round
+ * trip percentiles, the sessions closed by throttling and the gateway heap retained per connection.
+ * <p>
+ * The load is configured through the {@value #SESSIONS_PROPERTY}, {@value #MESSAGE_RATE_PROPERTY},
+ * {@value #MESSAGE_SIZE_PROPERTY} and {@value #DURATION_PROPERTY} system properties.
+ */
+@SetEnvironment(executionEnvironments = {ExecutionEnvironment.STANDALONE})
+public class WebSocketBenchmarkTestCase extends GatewayBenchmarkTestCase {
+
+    public static final String SESSIONS_PROPERTY = "benchmark.ws.sessions";
+    public static final String MESSAGE_RATE_PROPERTY = "benchmark.ws.messageRate";
+    public static final String MESSAGE_SIZE_PROPERTY = "benchmark.ws.messageSize";
+    public static final String DURATION_PROPERTY = "benchmark.ws.duration";
+    private static final int DEFAULT_SESSIONS = 200;
+    private static final double DEFAULT_MESSAGE_RATE = 2;
+    private static final int DEFAULT_MESSAGE_SIZE = 512;
+    private static final long DEFAULT_DURATION_MILLIS = 30000;
+    private static final String API_NAME = "WebSocketBenchmarkAPI";
+    private static final String API_CONTEXT = "wsbenchmark";
+    private static final String APPLICATION_NAME = "WebSocketBenchmarkApplication";
+    private static final String RESULTS_FILE_NAME = "websocket";
+
+    private final Log log = LogFactory.getLog(WebSocketBenchmarkTestCase.class);
+    private final int sessions = Integer.getInteger(SESSIONS_PROPERTY, DEFAULT_SESSIONS);
+    private final double messageRate = Double.parseDouble(System.getProperty(MESSAGE_RATE_PROPERTY,
+            String.valueOf(DEFAULT_MESSAGE_RATE)));
+    private final int messageSize = Integer.getInteger(MESSAGE_SIZE_PROPERTY, DEFAULT_MESSAGE_SIZE);
+    private final long durationMillis = Long.getLong(DURATION_PROPERTY, DEFAULT_DURATION_MILLIS);
+
+    @Factory(dataProvider = "userModeDataProvider", dataProviderClass = GatewayBenchmarkTestCase.class)
+    public WebSocketBenchmarkTestCase(TestUserMode userMode) {
+
+        super(userMode, API_NAME, API_CONTEXT, APPLICATION_NAME);
+    }
+
+    @Override
+    protected APIRequest createAPIRequest(String name, String context) throws Exception {
+
+        int backendPort = startBackend(new WebSocketHandler() {
+            @Override
+            public void configure(WebSocketServletFactory factory) {
+
+                factory.register(BenchmarkEchoSocket.class);
+            }
+        }).getPort();
+        URI endpointUri = new URI("ws://" + InetAddress.getLocalHost().getHostName() + ":" + backendPort);
+        APIRequest apiRequest = new APIRequest(name, context, endpointUri, endpointUri);
+        apiRequest.setTiersCollection(APIMIntegrationConstants.API_TIER.ASYNC_UNLIMITED);
+        apiRequest.setType("WS");
+        return apiRequest;
+    }
+
+    @Override
+    protected String getSubscriptionTier() {
+
+        return APIMIntegrationConstants.API_TIER.ASYNC_UNLIMITED;
+    }
+
+    @Test(description = "Drive concurrent sessions through the ws inbound endpoint")
+    public void testWebSocketGatewayCapacity(Method method) throws Exception {
+
+        runBenchmark(method.getName(), "ws", getWebSocketAPIInvocationURL(API_CONTEXT, API_VERSION));
+    }
+
+    @Test(description = "Drive concurrent sessions through the wss inbound endpoint",
+            dependsOnMethods = "testWebSocketGatewayCapacity")
+    public void testSecureWebSocketGatewayCapacity(Method method) throws Exception {
+
+        runBenchmark(method.getName(), "wss", getSecureWebSocketAPIInvocationURL(API_CONTEXT, API_VERSION));
+    }
+
+    private void runBenchmark(String testName, String transport, String apiEndpoint) throws Exception {
+
+        URI uri = new URI(apiEndpoint);
+        Map<String, String> headers = Collections.singletonMap("Authorization", "Bearer " + accessToken);
+        String scenario = transport + " sessions=" + sessions + " rate=" + messageRate + "/s size=" + messageSize
+                + " duration=" + durationMillis + "ms";
+        WebSocketBenchmarkResult result;
+        try (GatewayHeapSampler heapSampler = new GatewayHeapSampler(uri.getHost(), portOffset, user.getUserName(),
+                user.getPassword())) {
+            result = new WebSocketLoadDriver(uri, headers, heapSampler).run(sessions, messageRate, messageSize,
+                    durationMillis);
+        }
+        log.info("WebSocket benchmark " + scenario + " : " + result);
+        BenchmarkUtils.writeResultsToFile(RESULTS_FILE_NAME, testName + " " + scenario, user.getUserName(), result);
+
+        Assert.assertEquals(result.getConnectedSessions(), sessions, "Not all sessions could be opened: " + result);
+        Assert.assertTrue(result.getReceivedMessages().get() > 0, "No messages were echoed: " + result);
+        Assert.assertEquals(result.getThrottledCloses().get(), 0,
+                "Sessions of an unlimited subscription were throttled out: " + result);
+    }
+}
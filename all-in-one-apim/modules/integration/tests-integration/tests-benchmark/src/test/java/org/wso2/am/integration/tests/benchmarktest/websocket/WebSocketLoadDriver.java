@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.benchmarktest.websocket;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drives a number of concurrent WebSocket sessions through the gateway. The sessions are opened first, then each of
+ * them sends messages of the given size at the given rate for the duration of the run, with the first message of
+ * each session at a random offset so that the sessions do not send in lock step.
+ */
+public class WebSocketLoadDriver {
+
+    private static final long CONNECT_TIMEOUT_SECONDS = 60;
+    private static final long DRAIN_MILLIS = 2000;
+    private static final int MAX_PENDING_CONNECTS = 200;
+    private static final Log log = LogFactory.getLog(WebSocketLoadDriver.class);
+
+    private final URI uri;
+    private final Map<String, String> headers;
+    private final GatewayHeapSampler heapSampler;
+
+    /**
+     * @param uri         ws or wss URI of the API
+     * @param headers     headers of the upgrade request, e.g. the authorization header
+     * @param heapSampler sampler of the gateway heap, or null to skip heap measurements
+     */
+    public WebSocketLoadDriver(URI uri, Map<String, String> headers, GatewayHeapSampler heapSampler) {
+
+        this.uri = uri;
+        this.headers = headers;
+        this.heapSampler = heapSampler;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param sessions       number of concurrent sessions
+     * @param messageRate    messages sent per second by each session
+     * @param messageSize    size of each message in characters
+     * @param durationMillis time the sessions send messages for
+     * @return measurements of the run
+     * @throws Exception if the WebSocket client can not be started
+     */
+    public WebSocketBenchmarkResult run(int sessions, double messageRate, int messageSize, long durationMillis)
+            throws Exception {
+
+        WebSocketBenchmarkResult result = new WebSocketBenchmarkResult(sessions);
+        WebSocketClient client = "wss".equalsIgnoreCase(uri.getScheme())
+                ? new WebSocketClient(new SslContextFactory(true)) : new WebSocketClient();
+        List<BenchmarkClientSocket> sockets = new ArrayList<>(sessions);
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()));
+        client.start();
+        try {
+            long heapBefore = sampleHeap();
+            connect(client, sessions, messageSize, result, sockets);
+            long heapAfter = sampleHeap();
+            if (heapBefore != GatewayHeapSampler.UNAVAILABLE && heapAfter != GatewayHeapSampler.UNAVAILABLE
+                    && result.getConnectedSessions() > 0) {
+                result.setHeapPerConnection(Math.max(0, heapAfter - heapBefore) / result.getConnectedSessions());
+            }
+
+            long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / messageRate);
+            long startTime = System.currentTimeMillis();
+            for (BenchmarkClientSocket socket : sockets) {
+                senders.scheduleAtFixedRate(socket::send, ThreadLocalRandom.current().nextLong(periodNanos),
+                        periodNanos, TimeUnit.NANOSECONDS);
+            }
+            Thread.sleep(durationMillis);
+            senders.shutdownNow();
+            result.setDurationMillis(System.currentTimeMillis() - startTime);
+            // Let the messages in flight come back before the sessions are closed
+            Thread.sleep(DRAIN_MILLIS);
+        } finally {
+            senders.shutdownNow();
+            for (BenchmarkClientSocket socket : sockets) {
+                socket.close();
+            }
+            client.stop();
+        }
+        return result;
+    }
+
+    private void connect(WebSocketClient client, int sessions, int messageSize, WebSocketBenchmarkResult result,
+                         List<BenchmarkClientSocket> sockets) throws InterruptedException {
+
+        List<Future<Session>> pending = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            BenchmarkClientSocket socket = new BenchmarkClientSocket(result, messageSize);
+            ClientUpgradeRequest request = new ClientUpgradeRequest();
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                request.setHeader(header.getKey(), header.getValue());
+            }
+            try {
+                pending.add(client.connect(socket, uri, request));
+                sockets.add(socket);
+            } catch (Exception e) {
+                result.getConnectFailures().incrementAndGet();
+                log.debug("Unable to connect to " + uri, e);
+            }
+            // Handshakes are opened in batches, so the gateway is not flooded with connection attempts
+            if (pending.size() >= MAX_PENDING_CONNECTS) {
+                awaitConnects(pending, result);
+            }
+        }
+        awaitConnects(pending, result);
+        sockets.removeIf(socket -> !socket.isConnected());
+    }
+
+    private void awaitConnects(List<Future<Session>> pending, WebSocketBenchmarkResult result)
+            throws InterruptedException {
+
+        for (Future<Session> connect : pending) {
+            try {
+                connect.get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                connect.cancel(true);
+                result.getConnectFailures().incrementAndGet();
+                log.debug("Unable to connect to " + uri + ": " + e.getMessage());
+            }
+        }
+        pending.clear();
+    }
+
+    private long sampleHeap() {
+
+        return heapSampler == null ? GatewayHeapSampler.UNAVAILABLE : heapSampler.sampleUsedHeap();
+    }
+}
@@ -143,6 +143,9 @@ public class APIMCarbonServerExtension extends ExecutionListenerExtension {
                     WebAppDeploymentUtil.copyWebApp(relativeResourcePath + File.separator + "war" + File.separator
                                     + APIMIntegrationConstants.AM_MONITORING_WEB_APP_NAME + ".war",
                             webappsPath + APIMIntegrationConstants.AM_MONITORING_WEB_APP_NAME);
+                    WebAppDeploymentUtil.copyWebApp(relativeResourcePath + File.separator + "war" + File.separator
+                                    + APIMIntegrationConstants.PERF_BACKEND_WEB_APP_NAME + ".war",
+                            webappsPath + APIMIntegrationConstants.PERF_BACKEND_WEB_APP_NAME);
 
                     log.info("Web Apps Deployed");
                 } catch (IOException e) {
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.integration.tests.server.mgt;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.am.framework.extensions.ServerStateManager;
+import org.wso2.am.framework.extensions.StartupPhase;
+import org.wso2.am.framework.extensions.StartupProfiler;
+import org.wso2.am.framework.extensions.StartupTimeline;
+import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
+import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Compares the startup time of the server without and with the class data sharing archive recorded by a training
+ * run of the startup script. The timelines of both starts are written to the cds directory of the startup profile
+ * reports.
+ * <p>
+ * That the server mapped the archive is checked in the class loading log the startup script writes to the
+ * {@value #CDS_LOG_VARIABLE} file, which the server inherits from the test. The startup times are only bounded
+ * loosely, as a single restart on a shared build host is too noisy to measure the gain of the archive.
+ */
+@SetEnvironment(executionEnvironments = {ExecutionEnvironment.STANDALONE})
+public class CDSArchiveStartupTestCase {
+
+    private static final Log log = LogFactory.getLog(CDSArchiveStartupTestCase.class);
+    private static final String STARTUP_SCRIPT = "api-manager.sh";
+    private static final String TRAIN_OPTION = "--cds-train";
+    private static final String WARMUP_PROPERTY = "cds.train.warmup";
+    private static final long TRAINING_TIMEOUT_MINUTES = 15;
+    private static final String CDS_LOG_VARIABLE = "CDS_LOG";
+    private static final String ARCHIVED_CLASS_SOURCE = "source: shared objects file (top)";
+    private static final double STARTUP_TOLERANCE = 1.5;
+
+    private ServerStateManager serverStateManager;
+    private File archiveDirectory;
+    private Path reportDirectory;
+    private File classLoadLog;
+    private long startupWithoutArchive = StartupTimeline.UNKNOWN;
+
+    @BeforeClass(alwaysRun = true)
+    public void setEnvironment() {
+
+        if (!ServerStateManager.isAvailable()) {
+            throw new SkipException("The server is not started by this run");
+        }
+        if (Integer.parseInt(System.getProperty("java.specification.version").replaceFirst("^1\\.", "")) < 13) {
+            throw new SkipException("Class data sharing archives require JDK 13 or later");
+        }
+        serverStateManager = ServerStateManager.getInstance();
+        archiveDirectory = Paths.get(serverStateManager.getCarbonHome().getPath(), "repository", "resources", "cds")
+                .toFile();
+        reportDirectory = new StartupProfiler().getReportDirectory().resolve("cds");
+        String cdsLog = System.getenv(CDS_LOG_VARIABLE);
+        assertTrue(cdsLog != null && !cdsLog.isEmpty(), CDS_LOG_VARIABLE + " is not set, the class loading of the "
+                + "server cannot be checked");
+        classLoadLog = new File(cdsLog);
+    }
+
+    @Test(groups = "wso2.all", description = "Measures the startup of the server without a class data sharing archive")
+    public void testStartupWithoutArchive() throws Exception {
+
+        StartupProfiler startupProfiler = new StartupProfiler(reportDirectory.resolve("without-archive"));
+        serverStateManager.restartServer("to start without a class data sharing archive", () -> {
+            FileUtils.deleteDirectory(archiveDirectory);
+            startupProfiler.markLaunch();
+        });
+        startupWithoutArchive = startupProfiler.profile(serverStateManager.getCarbonHome().getPath())
+                .getDurationMillis(StartupPhase.TOTAL);
+        assertNotEquals(startupWithoutArchive, StartupTimeline.UNKNOWN, "Startup time without the archive is unknown");
+    }
+
+    @Test(groups = "wso2.all", description = "Records the class data sharing archive with a training run and measures "
+            + "the startup of the server mapping it", dependsOnMethods = "testStartupWithoutArchive")
+    public void testStartupWithArchive() throws Exception {
+
+        StartupProfiler startupProfiler = new StartupProfiler(reportDirectory.resolve("with-archive"));
+        serverStateManager.restartServer("to record a class data sharing archive", () -> {
+            train();
+            FileUtils.deleteQuietly(classLoadLog);
+            startupProfiler.markLaunch();
+        });
+        assertTrue(new File(archiveDirectory, "default.jsa").isFile(), "Training run did not record an archive, see "
+                + reportDirectory.resolve("training.log"));
+        assertTrue(countArchivedClasses() > 0, "The server did not load any class from the archive, see "
+                + classLoadLog);
+
+        long startupWithArchive = startupProfiler.profile(serverStateManager.getCarbonHome().getPath())
+                .getDurationMillis(StartupPhase.TOTAL);
+        assertNotEquals(startupWithArchive, StartupTimeline.UNKNOWN, "Startup time with the archive is unknown");
+        log.info(String.format("Server started in %dms without and in %dms with the class data sharing archive "
+                        + "(%+.1f%%)", startupWithoutArchive, startupWithArchive,
+                100.0 * (startupWithArchive - startupWithoutArchive) / startupWithoutArchive));
+        assertTrue(startupWithArchive <= startupWithoutArchive * STARTUP_TOLERANCE, "Server started in "
+                + startupWithArchive + "ms with the archive against " + startupWithoutArchive + "ms without it");
+    }
+
+    /**
+     * @return the number of classes the server loaded from the archive, according to its class loading log
+     */
+    private long countArchivedClasses() throws IOException {
+
+        if (!classLoadLog.isFile()) {
+            return 0;
+        }
+        try (Stream<String> lines = Files.lines(classLoadLog.toPath())) {
+            return lines.filter(line -> line.contains(ARCHIVED_CLASS_SOURCE)).count();
+        }
+    }
+
+    /**
+     * Runs the startup script with the training option and the arguments the server is started with, and waits for
+     * the server to stop itself once the archive is recorded.
+     */
+    private void train() throws IOException {
+
+        List<String> command = new ArrayList<>();
+        command.add("sh");
+        command.add(Paths.get(serverStateManager.getCarbonHome().getPath(), "bin", STARTUP_SCRIPT).toString());
+        command.add(TRAIN_OPTION);
+        for (Map.Entry<String, String> parameter : serverStateManager.getStartupParameters().entrySet()) {
+            command.add(parameter.getValue() == null || parameter.getValue().isEmpty() ? parameter.getKey()
+                    : parameter.getKey() + "=" + parameter.getValue());
+        }
+        Files.createDirectories(reportDirectory);
+        ProcessBuilder processBuilder = new ProcessBuilder(command)
+                .directory(serverStateManager.getCarbonHome())
+                .redirectErrorStream(true)
+                .redirectOutput(reportDirectory.resolve("training.log").toFile());
+        processBuilder.environment().put("CDS_TRAIN_WARMUP", System.getProperty(WARMUP_PROPERTY, "10"));
+        log.info("Recording the class data sharing archive with " + command);
+        Process process = processBuilder.start();
+        try {
+            if (!process.waitFor(TRAINING_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                process.destroyForcibly();
+                throw new IOException("Training run did not complete within " + TRAINING_TIMEOUT_MINUTES
+                        + " minutes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new IOException("Interrupted while waiting for the training run", e);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void destroy() throws IOException {
+
+        if (archiveDirectory != null) {
+            FileUtils.deleteDirectory(archiveDirectory);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.apimgt.samples.utils.Constants;
+import org.wso2.carbon.apimgt.samples.utils.seeding.BulkSeeder;
+import org.wso2.carbon.apimgt.samples.utils.seeding.SeedReport;
+import org.wso2.carbon.apimgt.samples.utils.seeding.SeedSpec;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * This class is used to seed a large data set of APIs, applications and subscriptions for scale testing the
+ * publisher and the developer portal. The data set is described by the properties file given as the first argument,
+ * or by the bundled seed.properties if no argument is given.
+ */
+public class CreateBulkSeedData {
+
+    private static String clientTrustStore =
+            System.getProperty("user.dir") + File.separator + ".." + File.separator + "repository" + File.separator
+                    + "resources" + File.separator + "security" + File.separator + "client-truststore.jks";
+
+    /**
+     * This main method will be called when running the bulk data seeding.
+     *
+     * @throws IOException          throws if the seed spec or the seeding journal could not be read.
+     * @throws InterruptedException throws if the seeding is interrupted.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        if (StringUtils.isEmpty(System.getProperty(Constants.JAVAX_NET_SSL_TRUST_STORE))) {
+            System.setProperty(Constants.JAVAX_NET_SSL_TRUST_STORE, clientTrustStore);
+        }
+        if (StringUtils.isEmpty(System.getProperty(Constants.JAVAX_NET_SSL_TRUST_STORE_PASSWORD))) {
+            System.setProperty(Constants.JAVAX_NET_SSL_TRUST_STORE_PASSWORD, Constants.WSO2_CARBON);
+        }
+        if (StringUtils.isEmpty(System.getProperty(Constants.JAVAX_NET_SSL_TRUST_STORE_TYPE))) {
+            System.setProperty(Constants.JAVAX_NET_SSL_TRUST_STORE_TYPE, Constants.JKS);
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = args.length > 0 ? new FileInputStream(args[0])
+                : CreateBulkSeedData.class.getClassLoader().getResourceAsStream("seed.properties")) {
+            properties.load(in);
+        }
+        SeedReport report = new BulkSeeder(new SeedSpec(properties)).run();
+        if (report.getFailed() > 0) {
+            System.out.println(report.getFailed() + " steps failed. Run the seeding again with the same spec and "
+                    + "journal to retry them.");
+            System.exit(1);
+        }
+    }
+}
@@ -140,16 +140,52 @@ public class SampleUtils {
             throws ApiException {
 
         APICollectionApi api = new APICollectionApi();
-        API body = new API();
         ApiClient apiClient = new ApiClient(tenantDomain, adminUsername, adminPassword);
         api.setApiClient(apiClient);
 
+        String[] splitData = context.split("/");
+        String filePrefix = splitData[splitData.length - 1];
+        API body = buildApi(apiName, version, context, adminUsername + "-AT-" + tenantDomain, visibilityEnum,
+                visibleRoles, visibleTenants, subscriptionAvailabilityEnum, tags, filePrefix);
+
+        API response;
+        try {
+            response = api.apisPost(body, Constants.APPLICATION_JSON);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+        return response.getId();
+    }
+
+    /**
+     * This method is used to build the API object that is sent to the publisher to create an API.
+     *
+     * @param apiName   API name.
+     * @param version   API version.
+     * @param context   API context.
+     * @param provider  provider of the API, in the {@code <username>-AT-<tenant domain>} form for tenants.
+     * @param visibilityEnum    visibility of the API.
+     * @param visibleRoles  visible roles of the API.
+     * @param visibleTenants    visible tenants of the API.
+     * @param subscriptionAvailabilityEnum  subscription visible tenants if the API.
+     * @param tags  tags that need to be added to the API.
+     * @param template  name of the API definition and endpoint config resources, e.g. stocks.
+     * @return the API object.
+     * @throws ApiException throws if the API definition or the endpoint config could not be read.
+     */
+    public static API buildApi(String apiName, String version, String context, String provider,
+            API.VisibilityEnum visibilityEnum, List<String> visibleRoles, List<String> visibleTenants,
+            API.SubscriptionAvailabilityEnum subscriptionAvailabilityEnum, List<String> tags, String template)
+            throws ApiException {
+
+        API body = new API();
         body.setName(apiName);
         body.setContext(context);
         body.setVersion(version);
         body.setVisibility(visibilityEnum);
         body.setDescription(Constants.API_DESCRIPTION);
-        body.setProvider(adminUsername + "-AT-" + tenantDomain);
+        body.setProvider(provider);
         body.setTransport(new ArrayList<String>() {{
             add(Constants.PROTOCOL_HTTPS);
         }});
@@ -163,35 +199,20 @@ public class SampleUtils {
         body.setBusinessInformation(new APIBusinessInformation());
         body.setCorsConfiguration(new APICorsConfiguration());
         body.setTags(tags);
-        String endpointConfig;
-
-        String[] splitData = context.split("/");
-        String filePrefix = splitData[splitData.length - 1];
-
         try {
-            endpointConfig = getJsonContent(Constants.ENDPOINT_DEFINITION + filePrefix + Constants.JSON_EXTENSION);
+            body.setEndpointConfig(getJsonContent(Constants.ENDPOINT_DEFINITION + template + Constants.JSON_EXTENSION));
         } catch (IOException e) {
             throw new ApiException("Could not read End point definition");
         }
-
-        body.setEndpointConfig(endpointConfig);
         try {
-            body.setApiDefinition(getJsonContent(Constants.API_DEFINITION + filePrefix + Constants.JSON_EXTENSION));
+            body.setApiDefinition(getJsonContent(Constants.API_DEFINITION + template + Constants.JSON_EXTENSION));
         } catch (IOException e) {
             throw new ApiException("Could not read API definition file");
         }
         List<String> tierList = new ArrayList<String>();
         tierList.add(Constants.TIERS_UNLIMITED);
         body.setTiers(tierList);
-
-        API response;
-        try {
-            response = api.apisPost(body, Constants.APPLICATION_JSON);
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
-        }
-        return response.getId();
+        return body;
     }
 
     /**
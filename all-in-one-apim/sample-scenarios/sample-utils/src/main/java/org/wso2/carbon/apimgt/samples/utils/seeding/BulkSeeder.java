@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.apimgt.samples.utils.seeding;
+
+import com.squareup.okhttp.ConnectionPool;
+import org.wso2.carbon.apimgt.samples.utils.Constants;
+import org.wso2.carbon.apimgt.samples.utils.SampleUtils;
+import org.wso2.carbon.apimgt.samples.utils.publisher.rest.client.ApiClient;
+import org.wso2.carbon.apimgt.samples.utils.publisher.rest.client.ApiException;
+import org.wso2.carbon.apimgt.samples.utils.publisher.rest.client.api.APICollectionApi;
+import org.wso2.carbon.apimgt.samples.utils.publisher.rest.client.api.APIIndividualApi;
+import org.wso2.carbon.apimgt.samples.utils.publisher.rest.client.model.API;
+import org.wso2.carbon.apimgt.samples.utils.publisher.rest.client.model.APIInfo;
+import org.wso2.carbon.apimgt.samples.utils.publisher.rest.client.model.APIList;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.api.ApplicationCollectionApi;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.api.ApplicationIndividualApi;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.api.SubscriptionCollectionApi;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.api.SubscriptionIndividualApi;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.model.Application;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.model.ApplicationInfo;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.model.ApplicationList;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.model.Subscription;
+import org.wso2.carbon.apimgt.samples.utils.store.rest.client.model.SubscriptionList;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seeds the APIs, applications and subscriptions described by a {@link SeedSpec} through the publisher and store
+ * REST APIs, with at most {@link SeedSpec#getConcurrency()} requests in flight.
+ * <p>
+ * A publisher and a store client is created once per tenant and shared by the worker threads, so the client
+ * registration and token requests done when a client is created are not repeated for every artifact. An API is
+ * published right after it is created, without waiting for the gateway, since nothing is invoked while seeding.
+ * <p>
+ * Every completed step is recorded in a {@link SeedJournal}, and an artifact that already exists on the server is
+ * looked up instead of failing the run, so running the same spec again resumes an interrupted run.
+ */
+public class BulkSeeder {
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final long PROGRESS_INTERVAL_SECONDS = 10;
+    private static final long CONNECTION_KEEP_ALIVE_MILLIS = 5 * 60 * 1000;
+
+    private final SeedSpec spec;
+    private final SeedReport report = new SeedReport();
+    private final Map<String, ApiClient> publisherClients = new ConcurrentHashMap<>();
+    private final Map<String, org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient> storeClients =
+            new ConcurrentHashMap<>();
+    private final AtomicInteger reportedErrors = new AtomicInteger();
+    private SeedJournal journal;
+
+    public BulkSeeder(SeedSpec spec) {
+
+        this.spec = spec;
+    }
+
+    /**
+     * Seeds the APIs, then the applications, then the subscriptions between them.
+     *
+     * @return the counts and creation rates of the run
+     * @throws IOException          if the journal could not be read or written
+     * @throws InterruptedException if the run was interrupted
+     */
+    public SeedReport run() throws IOException, InterruptedException {
+
+        ExecutorService workers = Executors.newFixedThreadPool(spec.getConcurrency());
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(() -> System.out.print(report), PROGRESS_INTERVAL_SECONDS,
+                PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        try (SeedJournal seedJournal = new SeedJournal(Paths.get(spec.getJournal()))) {
+            journal = seedJournal;
+            System.out.println("Seeding " + spec.getApiCount() + " APIs");
+            runAll(workers, SeedReport.Kind.API, spec.getApiCount(), this::seedApi);
+            if (spec.isPublish()) {
+                report.get(SeedReport.Kind.API_PUBLISH).finish();
+            }
+            System.out.println("Seeding " + spec.getApplicationCount() + " applications");
+            runAll(workers, SeedReport.Kind.APPLICATION, spec.getApplicationCount(), this::seedApplication);
+            System.out.println("Seeding " + spec.getSubscriptionCount() + " subscriptions");
+            List<SubscriptionPair> pairs = planSubscriptions();
+            runAll(workers, SeedReport.Kind.SUBSCRIPTION, pairs.size(), i -> seedSubscription(pairs.get(i)));
+        } finally {
+            progress.shutdownNow();
+            workers.shutdownNow();
+        }
+        System.out.println("Seeding completed");
+        System.out.print(report);
+        return report;
+    }
+
+    private interface IndexedStep {
+
+        void run(int index) throws Exception;
+    }
+
+    private void runAll(ExecutorService workers, SeedReport.Kind kind, int count, IndexedStep step)
+            throws InterruptedException {
+
+        SeedReport.Counters counters = report.get(kind);
+        counters.start();
+        // Bounds the queued steps, so seeding a large data set does not queue every step up front
+        Semaphore permits = new Semaphore(spec.getConcurrency() * 2);
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            final int index = i;
+            workers.execute(() -> {
+                try {
+                    step.run(index);
+                } catch (Exception e) {
+                    counters.failed();
+                    if (reportedErrors.incrementAndGet() <= MAX_REPORTED_ERRORS) {
+                        System.out.println("Failed to seed " + kind + " " + index + ": " + describe(e));
+                    }
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        // Every step has finished once all the permits are back
+        permits.acquire(spec.getConcurrency() * 2);
+        permits.release(spec.getConcurrency() * 2);
+        counters.finish();
+    }
+
+    private void seedApi(int index) throws ApiException, IOException {
+
+        String name = spec.getApiName(index);
+        String tenant = spec.getTenantOfApi(index);
+        ApiClient client = getPublisherClient(tenant);
+        SeedReport.Counters apis = report.get(SeedReport.Kind.API);
+
+        String apiId = journal.get(SeedJournal.Step.API_CREATED, name);
+        if (apiId != null) {
+            apis.resumed();
+        } else {
+            String[] credentials = spec.getTenantCredentials(tenant);
+            String provider = SeedSpec.SUPER_TENANT_DOMAIN.equals(tenant) ? credentials[0]
+                    : credentials[0] + "-AT-" + tenant;
+            API body = SampleUtils.buildApi(name, spec.getApiVersion(), spec.getApiContext(index), provider,
+                    spec.getApiVisibility(index),
+                    spec.getApiVisibility(index) == API.VisibilityEnum.RESTRICTED ? spec.getVisibleRoles()
+                            : new ArrayList<String>(), new ArrayList<String>(),
+                    API.SubscriptionAvailabilityEnum.CURRENT_TENANT, spec.getApiTags(index), spec.getApiTemplate());
+            try {
+                apiId = new APICollectionApi(client).apisPost(body, Constants.APPLICATION_JSON).getId();
+                apis.created();
+            } catch (ApiException e) {
+                apiId = isConflict(e.getCode(), e.getResponseBody()) ? findApi(client, name) : null;
+                if (apiId == null) {
+                    throw e;
+                }
+                apis.existing();
+            }
+            journal.record(SeedJournal.Step.API_CREATED, name, apiId);
+        }
+
+        if (!spec.isPublish()) {
+            return;
+        }
+        SeedReport.Counters publishes = report.get(SeedReport.Kind.API_PUBLISH);
+        publishes.start();
+        if (journal.get(SeedJournal.Step.API_PUBLISHED, name) != null) {
+            publishes.resumed();
+            return;
+        }
+        APIIndividualApi individualApi = new APIIndividualApi(client);
+        try {
+            individualApi.apisChangeLifecyclePost(Constants.PUBLISHED, apiId, null, null, null);
+            publishes.created();
+        } catch (ApiException e) {
+            // Publishing an API published by an interrupted run is not a valid lifecycle transition
+            if (!"PUBLISHED".equalsIgnoreCase(individualApi.apisApiIdGet(apiId, null, null, null).getStatus())) {
+                throw e;
+            }
+            publishes.existing();
+        }
+        journal.record(SeedJournal.Step.API_PUBLISHED, name, apiId);
+    }
+
+    private void seedApplication(int index)
+            throws org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiException, IOException {
+
+        String name = spec.getApplicationName(index);
+        SeedReport.Counters applications = report.get(SeedReport.Kind.APPLICATION);
+        if (journal.get(SeedJournal.Step.APPLICATION_CREATED, name) != null) {
+            applications.resumed();
+            return;
+        }
+        org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient client =
+                getStoreClient(spec.getTenantOfApplication(index));
+        Application application = new Application();
+        application.setName(name);
+        application.setDescription("Application seeded for scale testing");
+        application.setThrottlingTier(spec.getApplicationTier());
+        String applicationId;
+        try {
+            applicationId = new ApplicationIndividualApi(client)
+                    .applicationsPost(application, Constants.APPLICATION_JSON).getApplicationId();
+            applications.created();
+        } catch (org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiException e) {
+            applicationId = isConflict(e.getCode(), e.getResponseBody()) ? findApplication(client, name) : null;
+            if (applicationId == null) {
+                throw e;
+            }
+            applications.existing();
+        }
+        journal.record(SeedJournal.Step.APPLICATION_CREATED, name, applicationId);
+    }
+
+    private void seedSubscription(SubscriptionPair pair)
+            throws org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiException, IOException {
+
+        String key = pair.applicationName + "/" + pair.apiName;
+        SeedReport.Counters subscriptions = report.get(SeedReport.Kind.SUBSCRIPTION);
+        if (journal.get(SeedJournal.Step.SUBSCRIPTION_CREATED, key) != null) {
+            subscriptions.resumed();
+            return;
+        }
+        String applicationId = journal.get(SeedJournal.Step.APPLICATION_CREATED, pair.applicationName);
+        String apiId = journal.get(SeedJournal.Step.API_PUBLISHED, pair.apiName);
+        if (applicationId == null || apiId == null) {
+            throw new IllegalStateException("Application " + pair.applicationName + " or API " + pair.apiName
+                    + " has not been seeded");
+        }
+        org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient client = getStoreClient(pair.tenant);
+        Subscription subscription = new Subscription();
+        subscription.setApplicationId(applicationId);
+        subscription.setApiIdentifier(apiId);
+        subscription.setTier(spec.getSubscriptionTier());
+        subscription.setStatus(Subscription.StatusEnum.UNBLOCKED);
+        String subscriptionId;
+        try {
+            subscriptionId = new SubscriptionIndividualApi(client)
+                    .subscriptionsPost(subscription, Constants.APPLICATION_JSON).getSubscriptionId();
+            subscriptions.created();
+        } catch (org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiException e) {
+            subscriptionId = isConflict(e.getCode(), e.getResponseBody())
+                    ? findSubscription(client, apiId, applicationId) : null;
+            if (subscriptionId == null) {
+                throw e;
+            }
+            subscriptions.existing();
+        }
+        journal.record(SeedJournal.Step.SUBSCRIPTION_CREATED, key, subscriptionId);
+    }
+
+    private static class SubscriptionPair {
+
+        private final String tenant;
+        private final String applicationName;
+        private final String apiName;
+
+        SubscriptionPair(String tenant, String applicationName, String apiName) {
+
+            this.tenant = tenant;
+            this.applicationName = applicationName;
+            this.apiName = apiName;
+        }
+    }
+
+    /**
+     * Pairs the applications with the APIs of the same tenant. Subscription {@code k} belongs to tenant
+     * {@code k % tenants}, and the {@code j}th subscription of a tenant pairs application {@code j % apps} with API
+     * {@code j / apps}, so every pair is distinct and each application gets an equal share. The pairs only depend on
+     * the spec, so a resumed run creates the subscriptions an earlier run missed rather than a different set.
+     */
+    private List<SubscriptionPair> planSubscriptions() {
+
+        Map<String, List<String>> applications = new LinkedHashMap<>();
+        Map<String, List<String>> apis = new LinkedHashMap<>();
+        for (String tenant : spec.getTenants()) {
+            applications.put(tenant, new ArrayList<String>());
+            apis.put(tenant, new ArrayList<String>());
+        }
+        for (int i = 0; i < spec.getApplicationCount(); i++) {
+            applications.get(spec.getTenantOfApplication(i)).add(spec.getApplicationName(i));
+        }
+        for (int i = 0; i < spec.getApiCount(); i++) {
+            apis.get(spec.getTenantOfApi(i)).add(spec.getApiName(i));
+        }
+
+        List<SubscriptionPair> pairs = new ArrayList<>(spec.getSubscriptionCount());
+        int tenants = spec.getTenants().size();
+        int unavailable = 0;
+        for (int k = 0; k < spec.getSubscriptionCount(); k++) {
+            String tenant = spec.getTenants().get(k % tenants);
+            List<String> tenantApplications = applications.get(tenant);
+            List<String> tenantApis = apis.get(tenant);
+            int j = k / tenants;
+            if (tenantApplications.isEmpty() || j / tenantApplications.size() >= tenantApis.size()) {
+                unavailable++;
+                continue;
+            }
+            pairs.add(new SubscriptionPair(tenant, tenantApplications.get(j % tenantApplications.size()),
+                    tenantApis.get(j / tenantApplications.size())));
+        }
+        if (unavailable > 0) {
+            System.out.println(unavailable + " subscriptions are skipped since the tenants do not have enough "
+                    + "applications and APIs to form distinct pairs");
+        }
+        return pairs;
+    }
+
+    private ApiClient getPublisherClient(String tenant) {
+
+        return publisherClients.computeIfAbsent(tenant, domain -> {
+            String[] credentials = spec.getTenantCredentials(domain);
+            ApiClient client = SeedSpec.SUPER_TENANT_DOMAIN.equals(domain) ? new ApiClient()
+                    : new ApiClient(domain, credentials[0], credentials[1]);
+            client.getHttpClient().setConnectionPool(
+                    new ConnectionPool(spec.getConcurrency(), CONNECTION_KEEP_ALIVE_MILLIS));
+            return client;
+        });
+    }
+
+    private org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient getStoreClient(String tenant) {
+
+        return storeClients.computeIfAbsent(tenant, domain -> {
+            String[] credentials = spec.getTenantCredentials(domain);
+            org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient client =
+                    SeedSpec.SUPER_TENANT_DOMAIN.equals(domain)
+                            ? new org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient()
+                            : new org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient(domain,
+                            credentials[0], credentials[1]);
+            client.getHttpClient().setConnectionPool(
+                    new ConnectionPool(spec.getConcurrency(), CONNECTION_KEEP_ALIVE_MILLIS));
+            return client;
+        });
+    }
+
+    private static boolean isConflict(int code, String responseBody) {
+
+        return code == 409 || (responseBody != null && responseBody.contains("already exists"));
+    }
+
+    private String findApi(ApiClient client, String name) throws ApiException {
+
+        APIList apis = new APICollectionApi(client).apisGet(10, 0, "name:" + name, Constants.APPLICATION_JSON, null);
+        if (apis.getList() != null) {
+            for (APIInfo api : apis.getList()) {
+                if (name.equals(api.getName()) && spec.getApiVersion().equals(api.getVersion())) {
+                    return api.getId();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String findApplication(org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient client,
+                                          String name)
+            throws org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiException {
+
+        ApplicationList applications = new ApplicationCollectionApi(client)
+                .applicationsGet(null, name, 10, 0, Constants.APPLICATION_JSON, null);
+        if (applications.getList() != null) {
+            for (ApplicationInfo application : applications.getList()) {
+                if (name.equals(application.getName())) {
+                    return application.getApplicationId();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String findSubscription(org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiClient client,
+                                           String apiId, String applicationId)
+            throws org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiException {
+
+        SubscriptionList subscriptions = new SubscriptionCollectionApi(client)
+                .subscriptionsGet(apiId, applicationId, null, 0, 1, Constants.APPLICATION_JSON, null);
+        if (subscriptions.getList() != null && !subscriptions.getList().isEmpty()) {
+            return subscriptions.getList().get(0).getSubscriptionId();
+        }
+        return null;
+    }
+
+    private static String describe(Exception e) {
+
+        if (e instanceof ApiException) {
+            return e.getMessage() + " " + ((ApiException) e).getResponseBody();
+        }
+        if (e instanceof org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiException) {
+            return e.getMessage() + " "
+                    + ((org.wso2.carbon.apimgt.samples.utils.store.rest.client.ApiException) e).getResponseBody();
+        }
+        return e.toString();
+    }
+}
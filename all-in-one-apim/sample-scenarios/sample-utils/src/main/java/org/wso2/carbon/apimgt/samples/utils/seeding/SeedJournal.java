@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.apimgt.samples.utils.seeding;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append only record of the steps completed by the {@link BulkSeeder}, one tab separated
+ * {@code <step> <key> <id>} line per step. A seeding run that is stopped, or fails part way, is resumed by running
+ * it again with the same journal, which skips every step already recorded.
+ */
+class SeedJournal implements Closeable {
+
+    enum Step {
+        API_CREATED, API_PUBLISHED, APPLICATION_CREATED, SUBSCRIPTION_CREATED
+    }
+
+    private final Map<Step, Map<String, String>> completed = new ConcurrentHashMap<>();
+    private final BufferedWriter writer;
+
+    SeedJournal(Path file) throws IOException {
+
+        for (Step step : Step.values()) {
+            completed.put(step, new ConcurrentHashMap<String, String>());
+        }
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\t");
+                    // A line cut short by a crash is ignored, and the step it records is done again
+                    if (fields.length == 3) {
+                        try {
+                            completed.get(Step.valueOf(fields[0])).put(fields[1], fields[2]);
+                        } catch (IllegalArgumentException ignored) {
+                        }
+                    }
+                }
+            }
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * @return the id recorded for the step, or null if the step has not been completed
+     */
+    String get(Step step, String key) {
+
+        return completed.get(step).get(key);
+    }
+
+    int count(Step step) {
+
+        return completed.get(step).size();
+    }
+
+    synchronized void record(Step step, String key, String id) throws IOException {
+
+        completed.get(step).put(key, id);
+        writer.write(step.name() + "\t" + key + "\t" + id);
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+
+        writer.close();
+    }
+}
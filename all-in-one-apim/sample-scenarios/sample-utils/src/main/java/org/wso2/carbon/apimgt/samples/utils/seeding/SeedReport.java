@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.apimgt.samples.utils.seeding;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome of a {@link BulkSeeder} run: how many artifacts of each kind were created, found from an earlier run or
+ * failed, and the rate they were created at.
+ */
+public class SeedReport {
+
+    public enum Kind {
+        API, API_PUBLISH, APPLICATION, SUBSCRIPTION
+    }
+
+    /**
+     * Counters of a single kind of artifact.
+     */
+    public static class Counters {
+
+        private final LongAdder created = new LongAdder();
+        private final LongAdder resumed = new LongAdder();
+        private final LongAdder existing = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final AtomicLong startTime = new AtomicLong();
+        private final AtomicLong endTime = new AtomicLong();
+
+        void start() {
+
+            startTime.compareAndSet(0, System.nanoTime());
+        }
+
+        void finish() {
+
+            endTime.set(System.nanoTime());
+        }
+
+        void created() {
+
+            created.increment();
+        }
+
+        void resumed() {
+
+            resumed.increment();
+        }
+
+        void existing() {
+
+            existing.increment();
+        }
+
+        void failed() {
+
+            failed.increment();
+        }
+
+        /**
+         * @return the artifacts created by this run
+         */
+        public long getCreated() {
+
+            return created.sum();
+        }
+
+        /**
+         * @return the artifacts skipped since the journal records them as done by an earlier run
+         */
+        public long getResumed() {
+
+            return resumed.sum();
+        }
+
+        /**
+         * @return the artifacts that already existed on the server without being recorded in the journal
+         */
+        public long getExisting() {
+
+            return existing.sum();
+        }
+
+        public long getFailed() {
+
+            return failed.sum();
+        }
+
+        public double getElapsedSeconds() {
+
+            long start = startTime.get();
+            if (start == 0) {
+                return 0;
+            }
+            long end = endTime.get() == 0 ? System.nanoTime() : endTime.get();
+            return (end - start) / 1e9;
+        }
+
+        /**
+         * @return the artifacts created per second
+         */
+        public double getRate() {
+
+            double elapsed = getElapsedSeconds();
+            return elapsed == 0 ? 0 : getCreated() / elapsed;
+        }
+
+        @Override
+        public String toString() {
+
+            return String.format("created=%d, resumed=%d, existing=%d, failed=%d in %.1fs (%.1f/s)", getCreated(),
+                    getResumed(), getExisting(), getFailed(), getElapsedSeconds(), getRate());
+        }
+    }
+
+    private final Map<Kind, Counters> counters = new EnumMap<>(Kind.class);
+
+    SeedReport() {
+
+        for (Kind kind : Kind.values()) {
+            counters.put(kind, new Counters());
+        }
+    }
+
+    public Counters get(Kind kind) {
+
+        return counters.get(kind);
+    }
+
+    public long getFailed() {
+
+        long failed = 0;
+        for (Counters kindCounters : counters.values()) {
+            failed += kindCounters.getFailed();
+        }
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<Kind, Counters> entry : counters.entrySet()) {
+            report.append(String.format("%-14s %s%n", entry.getKey(), entry.getValue()));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.wso2.carbon.apimgt.samples.utils.seeding;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.apimgt.samples.utils.Constants;
+import org.wso2.carbon.apimgt.samples.utils.publisher.rest.client.model.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Declarative description of a data set to seed, read from a properties file.
+ *
+ * <pre>
+ * concurrency=16
+ * journal=seed-journal.log
+ * tenants=carbon.super,finance.abc.com
+ * tenant.finance.abc.com.username=John
+ * tenant.finance.abc.com.password=123123
+ * apis.count=20000
+ * apis.prefix=SeedAPI
+ * apis.version=1.0.0
+ * apis.template=stocks
+ * apis.tags=finance,retail,health
+ * apis.tagsPerApi=2
+ * apis.visibility=PUBLIC:80,RESTRICTED:15,PRIVATE:5
+ * apis.visibleRoles=Internal/subscriber
+ * apis.publish=true
+ * applications.count=2000
+ * applications.prefix=SeedApp
+ * applications.tier=Unlimited
+ * subscriptions.count=100000
+ * subscriptions.tier=Unlimited
+ * </pre>
+ *
+ * Every artifact is derived from its index, so the same spec always describes the same data set. The APIs,
+ * applications and subscriptions are spread over the tenants round robin, and subscriptions only pair an
+ * application with a published API of the same tenant.
+ */
+public class SeedSpec {
+
+    public static final String SUPER_TENANT_DOMAIN = "carbon.super";
+
+    private final int concurrency;
+    private final String journal;
+    private final List<String> tenants;
+    private final Map<String, String[]> tenantCredentials = new LinkedHashMap<>();
+    private final int apiCount;
+    private final String apiPrefix;
+    private final String apiVersion;
+    private final String apiTemplate;
+    private final List<String> tags;
+    private final int tagsPerApi;
+    private final List<API.VisibilityEnum> visibilityCycle = new ArrayList<>();
+    private final List<String> visibleRoles;
+    private final boolean publish;
+    private final int applicationCount;
+    private final String applicationPrefix;
+    private final String applicationTier;
+    private final int subscriptionCount;
+    private final String subscriptionTier;
+
+    public SeedSpec(Properties properties) {
+
+        concurrency = getInt(properties, "concurrency", 16);
+        journal = properties.getProperty("journal", "seed-journal.log");
+        tenants = getList(properties, "tenants", SUPER_TENANT_DOMAIN);
+        for (String tenant : tenants) {
+            String defaultUser = SUPER_TENANT_DOMAIN.equals(tenant) ? Constants.ADMIN_USERNAME : null;
+            String defaultPassword = SUPER_TENANT_DOMAIN.equals(tenant) ? Constants.ADMIN_PASSWORD : null;
+            String username = properties.getProperty("tenant." + tenant + ".username", defaultUser);
+            String password = properties.getProperty("tenant." + tenant + ".password", defaultPassword);
+            if (username == null || password == null) {
+                throw new IllegalArgumentException("Credentials of the tenant " + tenant + " are not given");
+            }
+            tenantCredentials.put(tenant, new String[] { username, password });
+        }
+        apiCount = getInt(properties, "apis.count", 0);
+        apiPrefix = properties.getProperty("apis.prefix", "SeedAPI");
+        apiVersion = properties.getProperty("apis.version", "1.0.0");
+        apiTemplate = properties.getProperty("apis.template", "stocks");
+        tags = getList(properties, "apis.tags", "");
+        tagsPerApi = Math.min(getInt(properties, "apis.tagsPerApi", 1), tags.size());
+        visibleRoles = getList(properties, "apis.visibleRoles", "Internal/subscriber");
+        publish = Boolean.parseBoolean(properties.getProperty("apis.publish", "true"));
+        applicationCount = getInt(properties, "applications.count", 0);
+        applicationPrefix = properties.getProperty("applications.prefix", "SeedApp");
+        applicationTier = properties.getProperty("applications.tier", Constants.TIERS_UNLIMITED);
+        subscriptionCount = getInt(properties, "subscriptions.count", 0);
+        subscriptionTier = properties.getProperty("subscriptions.tier", Constants.TIERS_UNLIMITED);
+
+        // The visibility mix is laid out as a cycle of 100 slots, so every run assigns the same visibility to an API
+        for (String entry : getList(properties, "apis.visibility", "PUBLIC:100")) {
+            String[] weight = entry.split(":");
+            API.VisibilityEnum visibility = API.VisibilityEnum.valueOf(weight[0].trim().toUpperCase(Locale.ENGLISH));
+            int share = weight.length > 1 ? Integer.parseInt(weight[1].trim()) : 1;
+            for (int i = 0; i < share; i++) {
+                visibilityCycle.add(visibility);
+            }
+        }
+        if (visibilityCycle.isEmpty()) {
+            visibilityCycle.add(API.VisibilityEnum.PUBLIC);
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        if (subscriptionCount > 0 && !publish) {
+            throw new IllegalArgumentException("Subscriptions need published APIs, set apis.publish=true");
+        }
+    }
+
+    private static int getInt(Properties properties, String key, int defaultValue) {
+
+        String value = properties.getProperty(key);
+        return StringUtils.isBlank(value) ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static List<String> getList(Properties properties, String key, String defaultValue) {
+
+        List<String> values = new ArrayList<>();
+        for (String value : properties.getProperty(key, defaultValue).split(",")) {
+            if (StringUtils.isNotBlank(value)) {
+                values.add(value.trim());
+            }
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    public int getConcurrency() {
+
+        return concurrency;
+    }
+
+    public String getJournal() {
+
+        return journal;
+    }
+
+    public List<String> getTenants() {
+
+        return tenants;
+    }
+
+    /**
+     * @return the admin username and password of the tenant
+     */
+    public String[] getTenantCredentials(String tenant) {
+
+        return tenantCredentials.get(tenant);
+    }
+
+    public int getApiCount() {
+
+        return apiCount;
+    }
+
+    public boolean isPublish() {
+
+        return publish;
+    }
+
+    public int getApplicationCount() {
+
+        return applicationCount;
+    }
+
+    public int getSubscriptionCount() {
+
+        return subscriptionCount;
+    }
+
+    public String getApplicationTier() {
+
+        return applicationTier;
+    }
+
+    public String getSubscriptionTier() {
+
+        return subscriptionTier;
+    }
+
+    public String getApiVersion() {
+
+        return apiVersion;
+    }
+
+    public String getApiTemplate() {
+
+        return apiTemplate;
+    }
+
+    public List<String> getVisibleRoles() {
+
+        return visibleRoles;
+    }
+
+    String getTenantOfApi(int index) {
+
+        return tenants.get(index % tenants.size());
+    }
+
+    String getApiName(int index) {
+
+        return apiPrefix + "_" + index;
+    }
+
+    String getApiContext(int index) {
+
+        String tenant = getTenantOfApi(index);
+        String context = "/" + apiPrefix.toLowerCase(Locale.ENGLISH) + index + "/" + apiTemplate;
+        return SUPER_TENANT_DOMAIN.equals(tenant) ? context : "/t/" + tenant + context;
+    }
+
+    API.VisibilityEnum getApiVisibility(int index) {
+
+        return visibilityCycle.get(index % visibilityCycle.size());
+    }
+
+    List<String> getApiTags(int index) {
+
+        List<String> apiTags = new ArrayList<>(tagsPerApi);
+        for (int i = 0; i < tagsPerApi; i++) {
+            apiTags.add(tags.get((index + i) % tags.size()));
+        }
+        return apiTags;
+    }
+
+    String getTenantOfApplication(int index) {
+
+        return tenants.get(index % tenants.size());
+    }
+
+    String getApplicationName(int index) {
+
+        return applicationPrefix + "_" + index;
+    }
+}
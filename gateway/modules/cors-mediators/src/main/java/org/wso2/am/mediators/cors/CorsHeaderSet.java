@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.mediators.cors;
+
+import org.apache.synapse.MessageContext;
+
+import java.util.Map;
+
+/**
+ * The CORS configuration the CORS request handler resolved for a request, i.e. the values of the
+ * {@code Access-Control-*} message context properties, and the logic the _cors_request_handler_ sequence used to
+ * turn them into response headers.
+ */
+public final class CorsHeaderSet {
+
+    static final String CORS_ENABLED = "CORSConfiguration.Enabled";
+    static final String ALLOW_ORIGIN = "Access-Control-Allow-Origin";
+    static final String ALLOW_METHODS = "Access-Control-Allow-Methods";
+    static final String ALLOW_HEADERS = "Access-Control-Allow-Headers";
+    static final String ALLOW_CREDENTIALS = "Access-Control-Allow-Credentials";
+    static final String EXPOSE_HEADERS = "Access-Control-Expose-Headers";
+
+    private final boolean enabled;
+    private final String allowOrigin;
+    private final String allowMethods;
+    private final String allowHeaders;
+    private final String allowCredentials;
+    private final String exposeHeaders;
+
+    CorsHeaderSet(boolean enabled, String allowOrigin, String allowMethods, String allowHeaders,
+                  String allowCredentials, String exposeHeaders) {
+
+        this.enabled = enabled;
+        this.allowOrigin = allowOrigin;
+        this.allowMethods = allowMethods;
+        this.allowHeaders = allowHeaders;
+        this.allowCredentials = allowCredentials;
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    /**
+     * Reads the CORS configuration the CORS request handler set on a message.
+     */
+    public static CorsHeaderSet fromContext(MessageContext synCtx) {
+
+        return new CorsHeaderSet("true".equals(getProperty(synCtx, CORS_ENABLED)),
+                getProperty(synCtx, ALLOW_ORIGIN),
+                getProperty(synCtx, ALLOW_METHODS),
+                getProperty(synCtx, ALLOW_HEADERS),
+                getProperty(synCtx, ALLOW_CREDENTIALS),
+                getProperty(synCtx, EXPOSE_HEADERS));
+    }
+
+    /**
+     * @return the value of a property as a string, or an empty string if it is not set, as {@code $ctx:} resolves it
+     */
+    static String getProperty(MessageContext synCtx, String property) {
+
+        Object value = synCtx.getProperty(property);
+        return value == null ? "" : value.toString();
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Sets the CORS headers of a response. A header that is already set is kept, and the headers that only answer a
+     * preflight are set for OPTIONS requests only.
+     *
+     * @param transportHeaders transport headers of the message
+     * @param preflight        whether the request is an OPTIONS request
+     */
+    public void apply(Map<String, Object> transportHeaders, boolean preflight) {
+
+        if (!enabled) {
+            return;
+        }
+        setIfAbsent(transportHeaders, ALLOW_ORIGIN, allowOrigin);
+        if (preflight) {
+            setIfAbsent(transportHeaders, ALLOW_METHODS, allowMethods);
+            setIfAbsent(transportHeaders, ALLOW_HEADERS, allowHeaders);
+        }
+        if (!allowCredentials.isEmpty()) {
+            setIfAbsent(transportHeaders, ALLOW_CREDENTIALS, allowCredentials);
+        }
+        if (preflight) {
+            setIfAbsent(transportHeaders, EXPOSE_HEADERS, exposeHeaders);
+        }
+    }
+
+    private static void setIfAbsent(Map<String, Object> transportHeaders, String header, String value) {
+
+        Object current = transportHeaders.get(header);
+        if (current == null || current.toString().isEmpty()) {
+            transportHeaders.put(header, value);
+        }
+    }
+}
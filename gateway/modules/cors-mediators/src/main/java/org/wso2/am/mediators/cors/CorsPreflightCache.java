@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.mediators.cors;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The CORS header sets the preflight requests of one API were answered with, keyed by the resource path, origin,
+ * requested method and requested headers. The path carries the path parameters and query string of the request, so
+ * the cache holds the {@code maxEntries} most recently used keys and evicts the least recently used one beyond that.
+ */
+public final class CorsPreflightCache {
+
+    private static final char SEPARATOR = '\n';
+
+    private final Map<String, CorsHeaderSet> headerSets;
+
+    public CorsPreflightCache(final int maxEntries) {
+
+        headerSets = Collections.synchronizedMap(new LinkedHashMap<String, CorsHeaderSet>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CorsHeaderSet> eldest) {
+
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * @param path           sub request path of the preflight
+     * @param origin         value of the Origin header
+     * @param method         value of the Access-Control-Request-Method header
+     * @param requestHeaders value of the Access-Control-Request-Headers header, or null
+     * @return the key of the preflight
+     */
+    public static String key(String path, String origin, String method, String requestHeaders) {
+
+        StringBuilder key = new StringBuilder(path.length() + origin.length() + 32);
+        key.append(path).append(SEPARATOR).append(origin).append(SEPARATOR).append(method);
+        if (requestHeaders != null) {
+            key.append(SEPARATOR).append(requestHeaders);
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the header set of a preflight, or null if it is not cached
+     */
+    public CorsHeaderSet get(String key) {
+
+        return headerSets.get(key);
+    }
+
+    public void put(String key, CorsHeaderSet headerSet) {
+
+        headerSets.put(key, headerSet);
+    }
+
+    public int size() {
+
+        return headerSets.size();
+    }
+
+    /**
+     * A preflight that missed the cache. The {@link CorsHeadersMediator} completes it with the header set the
+     * preflight is answered with.
+     */
+    public static final class PendingPreflight {
+
+        private final CorsPreflightCache cache;
+        private final String key;
+
+        PendingPreflight(CorsPreflightCache cache, String key) {
+
+            this.cache = cache;
+            this.key = key;
+        }
+
+        void complete(CorsHeaderSet headerSet) {
+
+            cache.put(key, headerSet);
+        }
+    }
+}
@@ -137,6 +137,7 @@ fi
 
 # ----- Process the input command ----------------------------------------------
 args=""
+CDS_TRAIN=false
 for c in $*
 do
     if [ "$c" = "--debug" ] || [ "$c" = "-debug" ] || [ "$c" = "debug" ]; then
@@ -156,6 +157,9 @@ do
           CMD="restart"
     elif [ "$c" = "--test" ] || [ "$c" = "-test" ] || [ "$c" = "test" ]; then
           CMD="test"
+    elif [ "$c" = "--cds-train" ] || [ "$c" = "-cds-train" ]; then
+          CDS_TRAIN=true
+          args="$args $c"
     else
         args="$args $c"
     fi
@@ -285,7 +289,12 @@ fi
 START_EXIT_STATUS=121
 status=$START_EXIT_STATUS
 
+# heap and pool sizes of the tuning profile selected in deployment.toml
+. "$CARBON_HOME"/bin/tuning.sh
+TUNING_HEAP=false
+
 if [ -z "$JVM_MEM_OPTS" ]; then
+   TUNING_HEAP=true
    java_version=$("$JAVACMD" -version 2>&1 | awk -F '"' '/version/ {print $2}')
    JVM_MEM_OPTS="-Xms256m -Xmx1024m"
    if [ "$java_version" \< "1.8" ]; then
@@ -313,11 +322,19 @@ cleanup() {
 }
 trap 'cleanup' EXIT INT
 
+# class data sharing archive of the profile, recorded with the --cds-train option
+. "$CARBON_HOME"/bin/cds.sh
+
 while [ "$status" = "$START_EXIT_STATUS" ]
 do
+    tuning_configure $TUNING_HEAP
+    cds_configure $CDS_TRAIN $*
+    CDS_TRAIN=false
     $JAVACMD \
     -Xbootclasspath/a:"$CARBON_XBOOTCLASSPATH" \
     $JVM_MEM_OPTS \
+    $TUNING_OPTS \
+    $CDS_OPTS \
     -XX:+HeapDumpOnOutOfMemoryError \
     -XX:HeapDumpPath="$CARBON_HOME/repository/logs/heap-dump.hprof" \
     $JAVA_OPTS \
@@ -0,0 +1,178 @@
+#!/bin/sh
+# ----------------------------------------------------------------------------
+#  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+#
+#  Licensed under the Apache License, Version 2.0 (the "License");
+#  you may not use this file except in compliance with the License.
+#  You may obtain a copy of the License at
+#
+#      http://www.apache.org/licenses/LICENSE-2.0
+#
+#  Unless required by applicable law or agreed to in writing, software
+#  distributed under the License is distributed on an "AS IS" BASIS,
+#  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  See the License for the specific language governing permissions and
+#  limitations under the License.
+
+# ----------------------------------------------------------------------------
+# Hardware aware tuning profiles, sourced by the server startup script.
+#
+# A profile is selected in deployment.toml:
+#
+#   [server]
+#   tuning_profile = "gateway-throughput"
+#
+#   gateway-throughput  worker pools sized for API traffic, half of the memory
+#                       as a fixed size heap
+#   low-memory          small pools and buffers, a heap of at most 1 GB
+#   control-plane       small worker pools, large Tomcat and database pools
+#
+# The pool, buffer and heap sizes are derived from the CPU cores and the
+# memory available to the server, which honour the cgroup limits of a
+# container. TUNING_CPU_CORES and TUNING_MEMORY_MB override the detection.
+#
+# The sizes are passed to the server as tuning.* system properties, which the
+# profiles of infer.json map onto the configuration rendered from the
+# templates. The heap is only derived when JVM_MEM_OPTS is not set.
+# ----------------------------------------------------------------------------
+
+tuning_profile_name() {
+    if [ -r "$CARBON_HOME/repository/conf/deployment.toml" ]; then
+        awk '
+            /^[ \t]*\[/ { section = $0; gsub(/[ \t]/, "", section); next }
+            section == "[server]" && /^[ \t]*tuning_profile[ \t]*=/ {
+                value = $0
+                sub(/^[^=]*=[ \t]*/, "", value)
+                sub(/[ \t]*(#.*)?$/, "", value)
+                gsub(/["\047]/, "", value)
+                print value
+                exit
+            }' "$CARBON_HOME/repository/conf/deployment.toml"
+    fi
+}
+
+tuning_cpu_cores() {
+    if [ -n "$TUNING_CPU_CORES" ]; then
+        echo "$TUNING_CPU_CORES"
+        return
+    fi
+    cores=`nproc 2>/dev/null || getconf _NPROCESSORS_ONLN 2>/dev/null || sysctl -n hw.ncpu 2>/dev/null || echo 1`
+    quota=""
+    period=""
+    if [ -r /sys/fs/cgroup/cpu.max ]; then
+        read quota period < /sys/fs/cgroup/cpu.max
+    elif [ -r /sys/fs/cgroup/cpu/cpu.cfs_quota_us ]; then
+        quota=`cat /sys/fs/cgroup/cpu/cpu.cfs_quota_us`
+        period=`cat /sys/fs/cgroup/cpu/cpu.cfs_period_us`
+    fi
+    case "$quota" in
+        ""|max|-*)
+            ;;
+        *)
+            limit=$(( (quota + period - 1) / period ))
+            if [ "$limit" -lt "$cores" ]; then
+                cores=$limit
+            fi
+            ;;
+    esac
+    if [ "$cores" -lt 1 ]; then
+        cores=1
+    fi
+    echo "$cores"
+}
+
+tuning_memory_mb() {
+    if [ -n "$TUNING_MEMORY_MB" ]; then
+        echo "$TUNING_MEMORY_MB"
+        return
+    fi
+    if [ -r /proc/meminfo ]; then
+        memory=`awk '/^MemTotal:/ { printf "%d", $2 / 1024 }' /proc/meminfo`
+    else
+        memory=`sysctl -n hw.memsize 2>/dev/null | awk '{ printf "%d", $1 / 1048576 }'`
+    fi
+    limit=""
+    if [ -r /sys/fs/cgroup/memory.max ]; then
+        limit=`cat /sys/fs/cgroup/memory.max`
+    elif [ -r /sys/fs/cgroup/memory/memory.limit_in_bytes ]; then
+        limit=`cat /sys/fs/cgroup/memory/memory.limit_in_bytes`
+    fi
+    case "$limit" in
+        ""|max)
+            ;;
+        *)
+            limit=`echo "$limit" | awk '{ printf "%d", $1 / 1048576 }'`
+            if [ -z "$memory" ] || [ "$limit" -lt "$memory" ]; then
+                memory=$limit
+            fi
+            ;;
+    esac
+    echo "${memory:-2048}"
+}
+
+tuning_clamp() {
+    value=$1
+    if [ "$value" -lt "$2" ]; then
+        value=$2
+    fi
+    if [ "$value" -gt "$3" ]; then
+        value=$3
+    fi
+    echo "$value"
+}
+
+# Sets TUNING_OPTS to the system properties of the selected profile, and the
+# heap size when $1 is true. TUNING_OPTS is empty when no profile is selected.
+tuning_configure() {
+    TUNING_OPTS=""
+    profile=`tuning_profile_name`
+    if [ -z "$profile" ]; then
+        return 0
+    fi
+    cores=`tuning_cpu_cores`
+    memory=`tuning_memory_mb`
+    case "$profile" in
+        gateway-throughput)
+            heap=`tuning_clamp $((memory / 2)) 512 16384`
+            initial_heap=$heap
+            workers=`tuning_clamp $((cores * 100)) 100 1600`
+            max_workers=$((workers + workers / 4))
+            if [ "$memory" -ge 4096 ]; then
+                io_buffer=32768
+            else
+                io_buffer=16384
+            fi
+            threads=`tuning_clamp $((cores * 25)) 50 250`
+            db_connections=`tuning_clamp $((cores * 10)) 20 50`
+            ;;
+        low-memory)
+            heap=`tuning_clamp $((memory / 2)) 256 1024`
+            initial_heap=256
+            workers=`tuning_clamp $((cores * 20)) 20 100`
+            max_workers=$((workers * 2))
+            io_buffer=8192
+            threads=`tuning_clamp $((cores * 25)) 25 100`
+            db_connections=`tuning_clamp $((cores * 5)) 10 25`
+            ;;
+        control-plane)
+            heap=`tuning_clamp $((memory * 3 / 5)) 1024 16384`
+            initial_heap=$((heap / 2))
+            workers=`tuning_clamp $((cores * 10)) 20 100`
+            max_workers=$((workers * 2))
+            io_buffer=16384
+            threads=`tuning_clamp $((cores * 100)) 150 800`
+            db_connections=`tuning_clamp $((cores * 20)) 50 200`
+            ;;
+        *)
+            echo "Error: unknown tuning profile $profile, use gateway-throughput, low-memory or control-plane"
+            exit 1
+            ;;
+    esac
+    TUNING_OPTS="-Dtuning.profile=$profile -Dtuning.worker_pool_size_core=$workers"
+    TUNING_OPTS="$TUNING_OPTS -Dtuning.worker_pool_size_max=$max_workers -Dtuning.io_buffer_size=$io_buffer"
+    TUNING_OPTS="$TUNING_OPTS -Dtuning.max_threads=$threads -Dtuning.db_max_active=$db_connections"
+    if [ "$1" = true ]; then
+        TUNING_OPTS="$TUNING_OPTS -Xms${initial_heap}m -Xmx${heap}m"
+    fi
+    echo "Using tuning profile $profile for $cores cores and ${memory}MB of memory: $TUNING_OPTS"
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.am.mediators.fault;
+
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.soap.SOAP11Constants;
+import org.apache.axiom.soap.SOAPEnvelope;
+import org.apache.axiom.soap.SOAPFactory;
+import org.apache.axiom.soap.SOAPFault;
+import org.apache.axiom.soap.SOAPFaultCode;
+import org.apache.axiom.soap.SOAPFaultDetail;
+import org.apache.axiom.soap.SOAPFaultReason;
+import org.apache.synapse.MessageContext;
+
+import javax.xml.namespace.QName;
+
+/**
+ * A SOAP 1.1 fault, as the {@code makefault} mediator of the default sequences builds it, with a fixed fault code and
+ * the reason and detail taken from message context properties.
+ */
+public final class SoapFaultTemplate {
+
+    private final String faultCode;
+    private final QName faultCodeName;
+    private final String reason;
+    private final String reasonProperty;
+    private final String detailProperty;
+
+    /**
+     * @param faultCode      local name of the fault code, e.g. Server
+     * @param reason         constant reason, used when reasonProperty is null
+     * @param reasonProperty property the reason is read from
+     * @param detailProperty property the detail is read from, or null for a fault without a detail
+     */
+    public SoapFaultTemplate(String faultCode, String reason, String reasonProperty, String detailProperty) {
+
+        this.faultCode = faultCode;
+        this.faultCodeName = new QName(SOAP11Constants.SOAP_ENVELOPE_NAMESPACE_URI, faultCode,
+                SOAP11Constants.SOAP_DEFAULT_NAMESPACE_PREFIX);
+        this.reason = reason;
+        this.reasonProperty = reasonProperty;
+        this.detailProperty = detailProperty;
+    }
+
+    public String getFaultCode() {
+
+        return faultCode;
+    }
+
+    /**
+     * Builds the fault envelope for a message.
+     *
+     * @param synCtx message the properties are read from
+     * @return a new envelope holding the fault
+     */
+    public SOAPEnvelope render(MessageContext synCtx) {
+
+        SOAPFactory factory = OMAbstractFactory.getSOAP11Factory();
+        SOAPEnvelope envelope = factory.getDefaultEnvelope();
+        SOAPFault fault = factory.createSOAPFault(envelope.getBody());
+        SOAPFaultCode code = factory.createSOAPFaultCode(fault);
+        code.setText(faultCodeName);
+        SOAPFaultReason faultReason = factory.createSOAPFaultReason(fault);
+        faultReason.setText(reasonProperty != null ? FaultTemplate.getProperty(synCtx, reasonProperty) : reason);
+        if (detailProperty != null) {
+            SOAPFaultDetail detail = factory.createSOAPFaultDetail(fault);
+            detail.setText(FaultTemplate.getProperty(synCtx, detailProperty));
+        }
+        return envelope;
+    }
+}